@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Header of a file, made of its first {@link #MAX_LENGTH} bytes at most.
+ * <p>
+ * When a file is read, each registered importer is asked whether it handles the file from its header only: the
+ * header is read once and the whole file is then only read by the selected importer.
+ */
+public final class FileHeader {
+
+    public static final int MAX_LENGTH = 64 * 1024;
+
+    private FileHeader() {
+    }
+
+    /**
+     * Wrap the stream so that its header can be read and the stream be reset to its beginning afterward
+     */
+    public static InputStream markable(InputStream inputStream) {
+        return inputStream.markSupported() ? inputStream : new BufferedInputStream(inputStream, MAX_LENGTH);
+    }
+
+    /**
+     * Read the header of a markable stream, which is then reset to its beginning
+     */
+    public static byte[] read(InputStream markableInputStream) throws IOException {
+        markableInputStream.mark(MAX_LENGTH);
+        byte[] header = markableInputStream.readNBytes(MAX_LENGTH);
+        markableInputStream.reset();
+        return header;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.commons;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileHeaderTest {
+
+    @Test
+    void testReadHeaderAndResetStream() throws IOException {
+        byte[] bytes = new byte[FileHeader.MAX_LENGTH + 10];
+        Arrays.fill(bytes, (byte) 1);
+        // a stream which does not support mark
+        InputStream inputStream = new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+        InputStream markableInputStream = FileHeader.markable(inputStream);
+        assertTrue(markableInputStream.markSupported());
+
+        byte[] header = FileHeader.read(markableInputStream);
+        assertEquals(FileHeader.MAX_LENGTH, header.length);
+        assertArrayEquals(bytes, markableInputStream.readAllBytes());
+    }
+
+    @Test
+    void testReadShortFile() throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(new byte[] {1, 2, 3});
+        assertSame(inputStream, FileHeader.markable(inputStream));
+        assertArrayEquals(new byte[] {1, 2, 3}, FileHeader.read(inputStream));
+        assertArrayEquals(new byte[] {1, 2, 3}, inputStream.readAllBytes());
+    }
+}
@@ -9,6 +9,7 @@ package com.powsybl.openrao.data.crac.api;
 import com.powsybl.commons.util.ServiceLoaderCache;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.FileHeader;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
 import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
@@ -573,6 +574,15 @@ public interface Crac extends Identifiable<Crac> {
      */
     RaUsageLimitsAdder newRaUsageLimits(String instantName);
 
+    /**
+     * Get a {@link CracSnapshot} of the current content of the Crac, which assigns dense integer indices to its
+     * instants, states, CNECs and remedial actions. The Crac itself can still be modified, but the snapshot is not
+     * updated if it is.
+     */
+    default CracSnapshot snapshot() {
+        return new CracSnapshot(this);
+    }
+
     /**
      * Get the CRAC format
      *
@@ -581,8 +591,7 @@ public interface Crac extends Identifiable<Crac> {
      * @return the CRAC format (if found)
      */
     static String getCracFormat(String filename, InputStream inputStream) throws IOException {
-        byte[] bytes = getBytesFromInputStream(inputStream);
-        return findImporter(filename, bytes).getFormat();
+        return findImporter(filename, FileHeader.read(FileHeader.markable(inputStream))).getFormat();
     }
 
     /**
@@ -595,13 +604,14 @@ public interface Crac extends Identifiable<Crac> {
      * @return CracCreationContext object
      */
     static CracCreationContext readWithContext(String filename, InputStream inputStream, Network network, OffsetDateTime offsetDateTime, CracCreationParameters cracCreationParameters) throws IOException {
-        byte[] bytes = getBytesFromInputStream(inputStream);
-        return findImporter(filename, bytes).importData(new ByteArrayInputStream(bytes), cracCreationParameters, network, offsetDateTime);
+        InputStream markableInputStream = FileHeader.markable(inputStream);
+        byte[] header = FileHeader.read(markableInputStream);
+        return findImporter(filename, header).importData(markableInputStream, cracCreationParameters, network, offsetDateTime);
     }
 
-    private static Importer findImporter(String filename, byte[] bytes) {
+    private static Importer findImporter(String filename, byte[] header) {
         return new ServiceLoaderCache<>(Importer.class).getServices().stream()
-            .filter(importer -> importer.exists(filename, new ByteArrayInputStream(bytes)))
+            .filter(importer -> importer.exists(filename, new ByteArrayInputStream(header)))
             .findAny()
             .orElseThrow(() -> new OpenRaoException("No suitable CRAC importer found."));
     }
@@ -643,12 +653,6 @@ public interface Crac extends Identifiable<Crac> {
         return read(filename, inputStream, network, null, CracCreationParameters.load());
     }
 
-    private static byte[] getBytesFromInputStream(InputStream inputStream) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        org.apache.commons.io.IOUtils.copy(inputStream, baos);
-        return baos.toByteArray();
-    }
-
     /**
      * Write CRAC data into a file
      *
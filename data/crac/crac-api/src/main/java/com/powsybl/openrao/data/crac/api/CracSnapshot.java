@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.api;
+
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Read-only snapshot of a Crac, which assigns a dense index to each of its instants, states, CNECs and remedial
+ * actions. The indices range from 0 to the number of elements of the given type minus one, so results can be
+ * stored in arrays rather than in maps keyed by the Crac objects.
+ * <p>
+ * The indices are deterministic: instants are sorted by order, states by instant then by id, and CNECs and remedial
+ * actions by id. The range actions come before the network actions in the remedial actions indices, so the index of
+ * a range action is also its position among the range actions.
+ * <p>
+ * Lookups are done by identity: an object that does not come from the Crac, even if it is equal to one of its
+ * elements, is not indexed, and neither are the elements added to the Crac after the snapshot was taken. Their index
+ * is -1.
+ */
+public final class CracSnapshot {
+
+    private final Crac crac;
+    private final Index<Instant> instants;
+    private final Index<State> states;
+    private final Index<FlowCnec> flowCnecs;
+    private final Index<AngleCnec> angleCnecs;
+    private final Index<VoltageCnec> voltageCnecs;
+    private final Index<RemedialAction<?>> remedialActions;
+    private final int numberOfRangeActions;
+
+    public CracSnapshot(Crac crac) {
+        this.crac = crac;
+        this.instants = new Index<>(crac.getSortedInstants());
+        this.states = new Index<>(crac.getStates().stream()
+            .sorted(Comparator.comparing(State::getInstant).thenComparing(State::getId))
+            .toList());
+        this.flowCnecs = new Index<>(sortById(crac.getFlowCnecs()));
+        this.angleCnecs = new Index<>(sortById(crac.getAngleCnecs()));
+        this.voltageCnecs = new Index<>(sortById(crac.getVoltageCnecs()));
+        List<RangeAction<?>> rangeActions = sortById(crac.getRangeActions());
+        this.remedialActions = new Index<>(Stream.concat(rangeActions.stream(), sortById(crac.getNetworkActions()).stream()).toList());
+        this.numberOfRangeActions = rangeActions.size();
+    }
+
+    private static <T extends Identifiable<?>> List<T> sortById(Collection<T> identifiables) {
+        return identifiables.stream().sorted(Comparator.comparing(Identifiable::getId)).toList();
+    }
+
+    public Crac getCrac() {
+        return crac;
+    }
+
+    public int getNumberOfInstants() {
+        return instants.size();
+    }
+
+    public int getInstantIndex(Instant instant) {
+        return instants.indexOf(instant);
+    }
+
+    public Instant getInstant(int index) {
+        return instants.get(index);
+    }
+
+    public int getNumberOfStates() {
+        return states.size();
+    }
+
+    public int getStateIndex(State state) {
+        return states.indexOf(state);
+    }
+
+    public State getState(int index) {
+        return states.get(index);
+    }
+
+    public int getNumberOfFlowCnecs() {
+        return flowCnecs.size();
+    }
+
+    public int getFlowCnecIndex(FlowCnec flowCnec) {
+        return flowCnecs.indexOf(flowCnec);
+    }
+
+    public FlowCnec getFlowCnec(int index) {
+        return flowCnecs.get(index);
+    }
+
+    public int getNumberOfAngleCnecs() {
+        return angleCnecs.size();
+    }
+
+    public int getAngleCnecIndex(AngleCnec angleCnec) {
+        return angleCnecs.indexOf(angleCnec);
+    }
+
+    public AngleCnec getAngleCnec(int index) {
+        return angleCnecs.get(index);
+    }
+
+    public int getNumberOfVoltageCnecs() {
+        return voltageCnecs.size();
+    }
+
+    public int getVoltageCnecIndex(VoltageCnec voltageCnec) {
+        return voltageCnecs.indexOf(voltageCnec);
+    }
+
+    public VoltageCnec getVoltageCnec(int index) {
+        return voltageCnecs.get(index);
+    }
+
+    public int getNumberOfRemedialActions() {
+        return remedialActions.size();
+    }
+
+    /**
+     * Number of range actions, whose indices range from 0 to this number minus one
+     */
+    public int getNumberOfRangeActions() {
+        return numberOfRangeActions;
+    }
+
+    public int getRemedialActionIndex(RemedialAction<?> remedialAction) {
+        return remedialActions.indexOf(remedialAction);
+    }
+
+    public RemedialAction<?> getRemedialAction(int index) {
+        return remedialActions.get(index);
+    }
+
+    public RangeAction<?> getRangeAction(int index) {
+        Objects.checkIndex(index, numberOfRangeActions);
+        return (RangeAction<?>) remedialActions.get(index);
+    }
+
+    public NetworkAction getNetworkAction(int index) {
+        Objects.checkIndex(index, remedialActions.size() - numberOfRangeActions);
+        return (NetworkAction) remedialActions.get(numberOfRangeActions + index);
+    }
+
+    /**
+     * Dense index of a list of elements
+     */
+    private static final class Index<T> {
+        private final List<T> elements;
+        private final Map<T, Integer> indexPerElement = new IdentityHashMap<>();
+
+        private Index(List<T> elements) {
+            this.elements = elements;
+            for (int index = 0; index < elements.size(); index++) {
+                indexPerElement.put(elements.get(index), index);
+            }
+        }
+
+        private int size() {
+            return elements.size();
+        }
+
+        private T get(int index) {
+            return elements.get(index);
+        }
+
+        private int indexOf(T element) {
+            Integer index = indexPerElement.get(element);
+            return index == null ? -1 : index;
+        }
+    }
+}
@@ -24,6 +24,12 @@ public interface Importer {
      */
     String getFormat();
 
+    /**
+     * Check whether the data is a CRAC of this format.
+     *
+     * @param filename    CRAC file name
+     * @param inputStream header of the CRAC data, made of its first {@link com.powsybl.openrao.commons.FileHeader#MAX_LENGTH} bytes at most
+     */
     boolean exists(String filename, InputStream inputStream);
 
     /**
@@ -12,6 +12,7 @@ import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
 import com.powsybl.openrao.data.crac.api.ContingencyAdder;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracSnapshot;
 import com.powsybl.openrao.data.crac.api.Identifiable;
 import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.InstantKind;
@@ -43,6 +44,7 @@ import com.powsybl.openrao.data.crac.api.usagerule.OnContingencyState;
 import com.powsybl.openrao.data.crac.api.usagerule.UsageMethod;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -71,6 +73,14 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
     private final Map<Instant, RaUsageLimits> raUsageLimitsPerInstant = new HashMap<>();
     private Instant lastInstantAdded = null;
 
+    // indices of the CNECs and remedial actions per state and snapshot of the Crac, built on demand and invalidated when the Crac is modified
+    private volatile Map<State, Set<FlowCnec>> flowCnecsPerState;
+    private volatile Map<State, Set<AngleCnec>> angleCnecsPerState;
+    private volatile Map<State, Set<VoltageCnec>> voltageCnecsPerState;
+    private final Map<State, Map<UsageMethod, Set<RangeAction<?>>>> rangeActionsPerStateAndUsageMethod = new ConcurrentHashMap<>();
+    private final Map<State, Map<UsageMethod, Set<NetworkAction>>> networkActionsPerStateAndUsageMethod = new ConcurrentHashMap<>();
+    private volatile CracSnapshot cracSnapshot;
+
     public CracImpl(String id, String name) {
         super(id, name);
     }
@@ -187,6 +197,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         }
         lastInstantAdded = instant;
         instants.put(instantId, instant);
+        cracSnapshot = null;
         return this;
     }
 
@@ -353,6 +364,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         } else {
             State state = new PreventiveState(getPreventiveInstant());
             states.put(state.getId(), state);
+            cracSnapshot = null;
             return state;
         }
     }
@@ -370,6 +382,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
             }
             State state = new PostContingencyState(getContingency(contingency.getId()), instant);
             states.put(state.getId(), state);
+            cracSnapshot = null;
             return state;
         }
     }
@@ -383,6 +396,7 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         stateIds.stream()
                 .filter(stateId -> !isStateUsedWithinCrac(stateId))
                 .forEach(states::remove);
+        cracSnapshot = null;
     }
 
     /**
@@ -512,11 +526,17 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         return new HashSet<>(flowCnecs.values());
     }
 
+    /**
+     * Gather all the FlowCnecs of a specified State, in an unmodifiable set
+     */
     @Override
     public Set<FlowCnec> getFlowCnecs(State state) {
-        return flowCnecs.values().stream()
-                .filter(cnec -> cnec.getState().equals(state))
-                .collect(Collectors.toSet());
+        Map<State, Set<FlowCnec>> index = flowCnecsPerState;
+        if (index == null) {
+            index = indexPerState(flowCnecs.values());
+            flowCnecsPerState = index;
+        }
+        return index.getOrDefault(state, Collections.emptySet());
     }
 
     @Override
@@ -529,11 +549,17 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         return new HashSet<>(angleCnecs.values());
     }
 
+    /**
+     * Gather all the AngleCnecs of a specified State, in an unmodifiable set
+     */
     @Override
     public Set<AngleCnec> getAngleCnecs(State state) {
-        return angleCnecs.values().stream()
-            .filter(cnec -> cnec.getState().equals(state))
-            .collect(Collectors.toSet());
+        Map<State, Set<AngleCnec>> index = angleCnecsPerState;
+        if (index == null) {
+            index = indexPerState(angleCnecs.values());
+            angleCnecsPerState = index;
+        }
+        return index.getOrDefault(state, Collections.emptySet());
     }
 
     @Override
@@ -546,11 +572,24 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         return new HashSet<>(voltageCnecs.values());
     }
 
+    /**
+     * Gather all the VoltageCnecs of a specified State, in an unmodifiable set
+     */
     @Override
     public Set<VoltageCnec> getVoltageCnecs(State state) {
-        return voltageCnecs.values().stream()
-            .filter(cnec -> cnec.getState().equals(state))
-            .collect(Collectors.toSet());
+        Map<State, Set<VoltageCnec>> index = voltageCnecsPerState;
+        if (index == null) {
+            index = indexPerState(voltageCnecs.values());
+            voltageCnecsPerState = index;
+        }
+        return index.getOrDefault(state, Collections.emptySet());
+    }
+
+    private static <T extends Cnec<?>> Map<State, Set<T>> indexPerState(Collection<T> cnecs) {
+        Map<State, Set<T>> index = new HashMap<>();
+        cnecs.forEach(cnec -> index.computeIfAbsent(cnec.getState(), state -> new HashSet<>()).add(cnec));
+        index.replaceAll((state, cnecsOfState) -> Collections.unmodifiableSet(cnecsOfState));
+        return index;
     }
 
     @Override
@@ -573,6 +612,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         flowCnecsToRemove.forEach(flowCnecToRemove ->
             flowCnecs.remove(flowCnecToRemove.getId())
         );
+        flowCnecsPerState = null;
+        cracSnapshot = null;
         safeRemoveNetworkElements(networkElementsToRemove);
         safeRemoveStates(statesToRemove);
     }
@@ -591,6 +632,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         angleCnecsToRemove.forEach(angleCnecToRemove ->
             angleCnecs.remove(angleCnecToRemove.getId())
         );
+        angleCnecsPerState = null;
+        cracSnapshot = null;
         safeRemoveNetworkElements(networkElementsToRemove);
         safeRemoveStates(statesToRemove);
     }
@@ -608,20 +651,28 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         voltageCnecsToRemove.forEach(voltageCnecToRemove ->
             voltageCnecs.remove(voltageCnecToRemove.getId())
         );
+        voltageCnecsPerState = null;
+        cracSnapshot = null;
         safeRemoveNetworkElements(networkElementsToRemove);
         safeRemoveStates(statesToRemove);
     }
 
     void addFlowCnec(FlowCnec flowCnec) {
         flowCnecs.put(flowCnec.getId(), flowCnec);
+        flowCnecsPerState = null;
+        cracSnapshot = null;
     }
 
     void addAngleCnec(AngleCnec angleCnec) {
         angleCnecs.put(angleCnec.getId(), angleCnec);
+        angleCnecsPerState = null;
+        cracSnapshot = null;
     }
 
     void addVoltageCnec(VoltageCnec voltageCnec) {
         voltageCnecs.put(voltageCnec.getId(), voltageCnec);
+        voltageCnecsPerState = null;
+        cracSnapshot = null;
     }
 
     // endregion
@@ -655,6 +706,22 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         removeNetworkAction(remedialActionId);
     }
 
+    private static <T extends RemedialAction<?>> Map<UsageMethod, Set<T>> indexPerUsageMethod(Collection<T> remedialActions, State state) {
+        Map<UsageMethod, Set<T>> index = new EnumMap<>(UsageMethod.class);
+        remedialActions.forEach(remedialAction -> index.computeIfAbsent(remedialAction.getUsageMethod(state), usageMethod -> new HashSet<>()).add(remedialAction));
+        index.replaceAll((usageMethod, remedialActionsWithUsageMethod) -> Collections.unmodifiableSet(remedialActionsWithUsageMethod));
+        return index;
+    }
+
+    private static <T> Set<T> getRemedialActions(Map<UsageMethod, Set<T>> remedialActionsPerUsageMethod, UsageMethod... usageMethods) {
+        if (usageMethods.length == 1) {
+            return remedialActionsPerUsageMethod.getOrDefault(usageMethods[0], Collections.emptySet());
+        }
+        Set<T> remedialActions = new HashSet<>();
+        Arrays.stream(usageMethods).distinct().forEach(usageMethod -> remedialActions.addAll(remedialActionsPerUsageMethod.getOrDefault(usageMethod, Collections.emptySet())));
+        return Collections.unmodifiableSet(remedialActions);
+    }
+
     private Set<State> getAssociatedStates(RemedialAction<?> remedialAction) {
         return remedialAction.getUsageRules().stream()
                 .filter(OnContingencyState.class::isInstance)
@@ -736,25 +803,13 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         return rangeActionsSet;
     }
 
+    /**
+     * Gather all the range actions of a specified state with one of the specified usage methods, in an unmodifiable set
+     */
     @Override
     public Set<RangeAction<?>> getRangeActions(State state, UsageMethod... usageMethods) {
-        Set<RangeAction<?>> pstRangeActionsSet = pstRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction<?>> hvdcRangeActionsSet = hvdcRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction<?>> injectionRangeActionSet = injectionRangeActions.values().stream()
-                .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-                .collect(Collectors.toSet());
-        Set<RangeAction<?>> counterTradeRangeActionSet = counterTradeRangeActions.values().stream()
-            .filter(rangeAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> rangeAction.getUsageMethod(state).equals(usageMethod)))
-            .collect(Collectors.toSet());
-        Set<RangeAction<?>> rangeActionsSet = new HashSet<>(pstRangeActionsSet);
-        rangeActionsSet.addAll(hvdcRangeActionsSet);
-        rangeActionsSet.addAll(injectionRangeActionSet);
-        rangeActionsSet.addAll(counterTradeRangeActionSet);
-        return rangeActionsSet;
+        Map<UsageMethod, Set<RangeAction<?>>> index = rangeActionsPerStateAndUsageMethod.computeIfAbsent(state, s -> indexPerUsageMethod(getRangeActions(), s));
+        return getRemedialActions(index, usageMethods);
     }
 
     @Override
@@ -796,6 +851,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         pstRangeActions.remove(id);
+        rangeActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -812,6 +869,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         hvdcRangeActions.remove(id);
+        rangeActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -829,6 +888,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(rangeActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         injectionRangeActions.remove(id);
+        rangeActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -836,18 +897,26 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     void addPstRangeAction(PstRangeAction pstRangeAction) {
         pstRangeActions.put(pstRangeAction.getId(), pstRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
     }
 
     void addHvdcRangeAction(HvdcRangeAction hvdcRangeAction) {
         hvdcRangeActions.put(hvdcRangeAction.getId(), hvdcRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
     }
 
     void addInjectionRangeAction(InjectionRangeAction injectionRangeAction) {
         injectionRangeActions.put(injectionRangeAction.getId(), injectionRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
     }
 
     void addCounterTradeRangeAction(CounterTradeRangeAction counterTradeRangeAction) {
         counterTradeRangeActions.put(counterTradeRangeAction.getId(), counterTradeRangeAction);
+        rangeActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
     }
 
     // endregion
@@ -860,11 +929,13 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         return new HashSet<>(networkActions.values());
     }
 
+    /**
+     * Gather all the network actions of a specified state with one of the specified usage methods, in an unmodifiable set
+     */
     @Override
     public Set<NetworkAction> getNetworkActions(State state, UsageMethod... usageMethods) {
-        return networkActions.values().stream()
-            .filter(networkAction -> Arrays.stream(usageMethods).anyMatch(usageMethod -> networkAction.getUsageMethod(state).equals(usageMethod)))
-            .collect(Collectors.toSet());
+        Map<UsageMethod, Set<NetworkAction>> index = networkActionsPerStateAndUsageMethod.computeIfAbsent(state, s -> indexPerUsageMethod(networkActions.values(), s));
+        return getRemedialActions(index, usageMethods);
     }
 
     @Override
@@ -893,6 +964,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         Set<String> associatedStatesIds = getAssociatedStates(networkActionToRemove).stream().map(State::getId).collect(Collectors.toSet());
 
         networkActions.remove(id);
+        networkActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
 
         safeRemoveNetworkElements(associatedNetworkElementsIds);
         safeRemoveStates(associatedStatesIds);
@@ -900,6 +973,8 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
 
     void addNetworkAction(NetworkAction networkAction) {
         networkActions.put(networkAction.getId(), networkAction);
+        networkActionsPerStateAndUsageMethod.clear();
+        cracSnapshot = null;
     }
     // endregion
 
@@ -922,6 +997,19 @@ public class CracImpl extends AbstractIdentifiable<Crac> implements Crac {
         return new RaUsageLimitsAdderImpl(this, instantName);
     }
 
+    /**
+     * The snapshot is shared by the successive calls, until the Crac is modified
+     */
+    @Override
+    public CracSnapshot snapshot() {
+        CracSnapshot currentSnapshot = cracSnapshot;
+        if (currentSnapshot == null) {
+            currentSnapshot = new CracSnapshot(this);
+            cracSnapshot = currentSnapshot;
+        }
+        return currentSnapshot;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
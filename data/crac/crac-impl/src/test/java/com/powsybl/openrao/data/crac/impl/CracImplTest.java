@@ -915,6 +915,94 @@ class CracImplTest {
         assertEquals(Set.of(na2, na4), crac.getNetworkActions(state2, UsageMethod.AVAILABLE, UsageMethod.FORCED));
     }
 
+    @Test
+    void testStateIndicesAreUpdatedWhenCracIsModified() {
+        crac.newContingency().withId("co1").withContingencyElement("neCo", getRandomTypeContingency()).add();
+        FlowCnec cnec1 = crac.newFlowCnec()
+            .withId("cnec1")
+            .withNetworkElement("ne1")
+            .withInstant(CURATIVE_INSTANT_ID)
+            .withContingency("co1")
+            .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).add()
+            .add();
+        State curativeState = crac.getState("co1", curativeInstant);
+        assertEquals(Set.of(cnec1), crac.getFlowCnecs(curativeState));
+        assertEquals(Set.of(), crac.getAngleCnecs(curativeState));
+        assertEquals(Set.of(), crac.getVoltageCnecs(curativeState));
+
+        FlowCnec cnec2 = crac.newFlowCnec()
+            .withId("cnec2")
+            .withNetworkElement("ne1")
+            .withInstant(CURATIVE_INSTANT_ID)
+            .withContingency("co1")
+            .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).add()
+            .add();
+        assertEquals(Set.of(cnec1, cnec2), crac.getFlowCnecs(curativeState));
+
+        NetworkActionAdder na1Adder = crac.newNetworkAction().withId("na1").withOperator("operator");
+        na1Adder.newOnContingencyStateUsageRule().withUsageMethod(UsageMethod.AVAILABLE).withContingency("co1").withInstant(CURATIVE_INSTANT_ID).add();
+        na1Adder.newSwitchAction().withNetworkElement("ne2").withActionType(ActionType.OPEN).add();
+        NetworkAction na1 = na1Adder.add();
+        PstRangeAction pst1 = crac.newPstRangeAction()
+            .withId("pst1")
+            .withNetworkElement("pst")
+            .withInitialTap(0)
+            .withTapToAngleConversionMap(Map.of(-1, -1., 0, 0., 1, 1.))
+            .newOnContingencyStateUsageRule().withUsageMethod(UsageMethod.FORCED).withContingency("co1").withInstant(CURATIVE_INSTANT_ID).add()
+            .add();
+        assertEquals(Set.of(na1), crac.getNetworkActions(curativeState, UsageMethod.AVAILABLE));
+        assertEquals(Set.of(pst1), crac.getRangeActions(curativeState, UsageMethod.FORCED));
+        assertEquals(Set.of(), crac.getRangeActions(curativeState, UsageMethod.AVAILABLE));
+
+        PstRangeAction pst2 = crac.newPstRangeAction()
+            .withId("pst2")
+            .withNetworkElement("pst")
+            .withInitialTap(0)
+            .withTapToAngleConversionMap(Map.of(-1, -1., 0, 0., 1, 1.))
+            .newOnContingencyStateUsageRule().withUsageMethod(UsageMethod.AVAILABLE).withContingency("co1").withInstant(CURATIVE_INSTANT_ID).add()
+            .add();
+        assertEquals(Set.of(pst2), crac.getRangeActions(curativeState, UsageMethod.AVAILABLE));
+        assertEquals(Set.of(pst1, pst2), crac.getPotentiallyAvailableRangeActions(curativeState));
+
+        crac.removeFlowCnec("cnec1");
+        crac.removePstRangeAction("pst1");
+        crac.removeNetworkAction("na1");
+        assertEquals(Set.of(cnec2), crac.getFlowCnecs(curativeState));
+        assertEquals(Set.of(pst2), crac.getPotentiallyAvailableRangeActions(curativeState));
+        assertEquals(Set.of(), crac.getPotentiallyAvailableNetworkActions(curativeState));
+    }
+
+    @Test
+    void testStateIndicesAreUnmodifiable() {
+        crac.newContingency().withId("co1").withContingencyElement("neCo", getRandomTypeContingency()).add();
+        crac.newFlowCnec()
+            .withId("cnec1")
+            .withNetworkElement("ne1")
+            .withInstant(CURATIVE_INSTANT_ID)
+            .withContingency("co1")
+            .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).add()
+            .add();
+        crac.newPstRangeAction()
+            .withId("pst1")
+            .withNetworkElement("pst")
+            .withInitialTap(0)
+            .withTapToAngleConversionMap(Map.of(-1, -1., 0, 0., 1, 1.))
+            .newOnContingencyStateUsageRule().withUsageMethod(UsageMethod.AVAILABLE).withContingency("co1").withInstant(CURATIVE_INSTANT_ID).add()
+            .add();
+        State curativeState = crac.getState("co1", curativeInstant);
+
+        Set<FlowCnec> flowCnecs = crac.getFlowCnecs(curativeState);
+        assertThrows(UnsupportedOperationException.class, flowCnecs::clear);
+        Set<RangeAction<?>> availableRangeActions = crac.getRangeActions(curativeState, UsageMethod.AVAILABLE);
+        assertThrows(UnsupportedOperationException.class, availableRangeActions::clear);
+        Set<RangeAction<?>> potentiallyAvailableRangeActions = crac.getPotentiallyAvailableRangeActions(curativeState);
+        assertThrows(UnsupportedOperationException.class, potentiallyAvailableRangeActions::clear);
+        Set<NetworkAction> networkActions = crac.getPotentiallyAvailableNetworkActions(curativeState);
+        assertThrows(UnsupportedOperationException.class, networkActions::clear);
+        assertEquals(1, crac.getFlowCnecs(curativeState).size());
+        assertEquals(1, crac.getPotentiallyAvailableRangeActions(curativeState).size());
+    }
+
     @Test
     void testPstRangeActionAdder() {
         PstRangeActionAdder pstRangeActionAdder = crac.newPstRangeAction();
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.impl;
+
+import com.powsybl.contingency.ContingencyElementType;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.CracSnapshot;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.usagerule.UsageMethod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CracSnapshotTest {
+    private CracImpl crac;
+
+    @BeforeEach
+    void setUp() {
+        crac = new CracImpl("crac")
+            .newInstant("preventive", InstantKind.PREVENTIVE)
+            .newInstant("outage", InstantKind.OUTAGE)
+            .newInstant("curative", InstantKind.CURATIVE);
+        crac.newContingency().withId("co1").withContingencyElement("neCo", ContingencyElementType.LINE).add();
+        addFlowCnec("cnec-b", "preventive", null);
+        addFlowCnec("cnec-a", "curative", "co1");
+        addFlowCnec("cnec-c", "outage", "co1");
+        addPstRangeAction("pst-b");
+        addPstRangeAction("pst-a");
+        crac.newNetworkAction().withId("na")
+            .newSwitchAction().withNetworkElement("switch").withActionType(ActionType.OPEN).add()
+            .newOnInstantUsageRule().withInstant("preventive").withUsageMethod(UsageMethod.AVAILABLE).add()
+            .add();
+    }
+
+    private void addFlowCnec(String id, String instantId, String contingencyId) {
+        crac.newFlowCnec()
+            .withId(id)
+            .withNetworkElement("ne")
+            .withInstant(instantId)
+            .withContingency(contingencyId)
+            .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).add()
+            .add();
+    }
+
+    private void addPstRangeAction(String id) {
+        crac.newPstRangeAction()
+            .withId(id)
+            .withNetworkElement("pst")
+            .withInitialTap(0)
+            .withTapToAngleConversionMap(Map.of(-1, -1., 0, 0., 1, 1.))
+            .newOnInstantUsageRule().withInstant("preventive").withUsageMethod(UsageMethod.AVAILABLE).add()
+            .add();
+    }
+
+    @Test
+    void testDenseIndices() {
+        CracSnapshot snapshot = crac.snapshot();
+        assertSame(crac, snapshot.getCrac());
+
+        assertEquals(3, snapshot.getNumberOfInstants());
+        assertEquals(crac.getSortedInstants(), IntStream.range(0, 3).mapToObj(snapshot::getInstant).toList());
+        assertEquals(2, snapshot.getInstantIndex(crac.getInstant("curative")));
+
+        assertEquals(3, snapshot.getNumberOfStates());
+        State preventiveState = crac.getPreventiveState();
+        State outageState = crac.getState("co1", crac.getInstant("outage"));
+        State curativeState = crac.getState("co1", crac.getInstant("curative"));
+        assertEquals(0, snapshot.getStateIndex(preventiveState));
+        assertEquals(1, snapshot.getStateIndex(outageState));
+        assertEquals(2, snapshot.getStateIndex(curativeState));
+        assertSame(curativeState, snapshot.getState(2));
+
+        assertEquals(3, snapshot.getNumberOfFlowCnecs());
+        assertEquals(0, snapshot.getFlowCnecIndex(crac.getFlowCnec("cnec-a")));
+        assertEquals(2, snapshot.getFlowCnecIndex(crac.getFlowCnec("cnec-c")));
+        assertSame(crac.getFlowCnec("cnec-b"), snapshot.getFlowCnec(1));
+        assertEquals(0, snapshot.getNumberOfAngleCnecs());
+        assertEquals(0, snapshot.getNumberOfVoltageCnecs());
+
+        assertEquals(3, snapshot.getNumberOfRemedialActions());
+        assertEquals(2, snapshot.getNumberOfRangeActions());
+        assertEquals(0, snapshot.getRemedialActionIndex(crac.getRangeAction("pst-a")));
+        assertEquals(1, snapshot.getRemedialActionIndex(crac.getRangeAction("pst-b")));
+        assertEquals(2, snapshot.getRemedialActionIndex(crac.getNetworkAction("na")));
+        assertSame(crac.getRangeAction("pst-b"), snapshot.getRangeAction(1));
+        assertSame(crac.getNetworkAction("na"), snapshot.getNetworkAction(0));
+        assertSame(crac.getNetworkAction("na"), snapshot.getRemedialAction(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getRangeAction(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getNetworkAction(1));
+    }
+
+    @Test
+    void testLookupOfUnknownElements() {
+        CracSnapshot snapshot = crac.snapshot();
+
+        FlowCnec unknownCnec = Mockito.mock(FlowCnec.class);
+        assertEquals(-1, snapshot.getFlowCnecIndex(unknownCnec));
+        NetworkAction unknownNetworkAction = Mockito.mock(NetworkAction.class);
+        assertEquals(-1, snapshot.getRemedialActionIndex(unknownNetworkAction));
+
+        // lookups are done by identity, a state equal to the one of the Crac but that is another object is not indexed
+        State curativeState = crac.getState("co1", crac.getInstant("curative"));
+        State equalState = new PostContingencyState(crac.getContingency("co1"), crac.getInstant("curative"));
+        assertEquals(curativeState, equalState);
+        assertEquals(2, snapshot.getStateIndex(curativeState));
+        assertEquals(-1, snapshot.getStateIndex(equalState));
+    }
+
+    @Test
+    void testSnapshotIsSharedUntilCracIsModified() {
+        CracSnapshot snapshot = crac.snapshot();
+        assertSame(snapshot, crac.snapshot());
+
+        addPstRangeAction("pst-c");
+        assertEquals(-1, snapshot.getRemedialActionIndex(crac.getRangeAction("pst-c")));
+        CracSnapshot newSnapshot = crac.snapshot();
+        assertNotSame(snapshot, newSnapshot);
+        assertEquals(3, newSnapshot.getNumberOfRangeActions());
+        assertEquals(2, newSnapshot.getRemedialActionIndex(crac.getRangeAction("pst-c")));
+        assertEquals(3, newSnapshot.getRemedialActionIndex(crac.getNetworkAction("na")));
+
+        crac.removeFlowCnec("cnec-a");
+        CracSnapshot lastSnapshot = crac.snapshot();
+        assertNotSame(newSnapshot, lastSnapshot);
+        assertEquals(2, lastSnapshot.getNumberOfFlowCnecs());
+        assertEquals(0, lastSnapshot.getFlowCnecIndex(crac.getFlowCnec("cnec-b")));
+    }
+}
@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.contingency.ContingencyElementType;
+import com.powsybl.iidm.network.Country;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.ContingencyAdder;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracFactory;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.RemedialActionAdder;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnecAdder;
+import com.powsybl.openrao.data.crac.api.cnec.CnecAdder;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnecAdder;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnecAdder;
+import com.powsybl.openrao.data.crac.api.networkaction.ActionType;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkActionAdder;
+import com.powsybl.openrao.data.crac.api.networkaction.SingleNetworkElementActionAdder;
+import com.powsybl.openrao.data.crac.api.range.RangeType;
+import com.powsybl.openrao.data.crac.api.rangeaction.*;
+import com.powsybl.openrao.data.crac.api.threshold.ThresholdAdder;
+import com.powsybl.openrao.data.crac.api.usagerule.UsageMethod;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+import static com.powsybl.openrao.data.crac.io.binary.BinarySerializationConstants.*;
+
+/**
+ * Reads a Crac written in the binary format described in {@link BinarySerializationConstants}, and creates it with
+ * the adders of the given {@link CracFactory}.
+ */
+final class BinaryCracReader {
+
+    private final CracFactory cracFactory;
+    private DataInputStream input;
+    private String[] strings;
+    private Map<String, String> networkElementsNamesPerId;
+    private Crac crac;
+
+    // usage rules columns, and position of the first usage rule of each remedial action
+    private int[] firstUsageRule;
+    private byte[] usageRuleTypes;
+    private String[] usageRuleInstants;
+    private String[] usageRuleMethods;
+    private String[] usageRuleContingencies;
+    private String[] usageRuleCnecs;
+    private String[] usageRuleCountries;
+
+    BinaryCracReader(CracFactory cracFactory) {
+        this.cracFactory = cracFactory;
+    }
+
+    static boolean hasBinaryHeader(InputStream inputStream) throws IOException {
+        return Arrays.equals(MAGIC, inputStream.readNBytes(MAGIC.length));
+    }
+
+    Crac read(InputStream inputStream) throws IOException {
+        DataInputStream header = new DataInputStream(inputStream);
+        if (!hasBinaryHeader(header)) {
+            throw new OpenRaoException("Input is not a binary CRAC");
+        }
+        try {
+            int version = header.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new OpenRaoException(String.format("Binary CRAC version %d is not supported, expected version %d", version, FORMAT_VERSION));
+            }
+            boolean compressed = (header.readByte() & COMPRESSED_FLAG) != 0;
+            input = new DataInputStream(new BufferedInputStream(compressed ? new InflaterInputStream(inputStream) : inputStream));
+
+            readStringTable();
+            crac = cracFactory.create(readString(), readString());
+            readInstants();
+            readRaUsageLimits();
+            readNetworkElementsNames();
+            readContingencies();
+            readFlowCnecs();
+            readAngleCnecs();
+            readVoltageCnecs();
+            readRemedialActions();
+        } catch (EOFException e) {
+            throw new OpenRaoException("Binary CRAC is truncated", e);
+        } catch (ZipException e) {
+            throw new OpenRaoException(String.format("Binary CRAC could not be decompressed: %s", e.getMessage()), e);
+        }
+        return crac;
+    }
+
+    private void readStringTable() throws IOException {
+        strings = new String[readSize()];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readSize()];
+            input.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void readInstants() throws IOException {
+        int numberOfInstants = readSize();
+        for (int i = 0; i < numberOfInstants; i++) {
+            crac.newInstant(readString(), readEnum(InstantKind.class));
+        }
+    }
+
+    private void readRaUsageLimits() throws IOException {
+        int numberOfInstants = readSize();
+        for (int i = 0; i < numberOfInstants; i++) {
+            crac.newRaUsageLimits(readString())
+                .withMaxRa(input.readInt())
+                .withMaxTso(input.readInt())
+                .withMaxTopoPerTso(readLimitsPerTso())
+                .withMaxPstPerTso(readLimitsPerTso())
+                .withMaxRaPerTso(readLimitsPerTso())
+                .withMaxElementaryActionPerTso(readLimitsPerTso())
+                .add();
+        }
+    }
+
+    private Map<String, Integer> readLimitsPerTso() throws IOException {
+        int size = readSize();
+        Map<String, Integer> limitsPerTso = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            limitsPerTso.put(readString(), input.readInt());
+        }
+        return limitsPerTso;
+    }
+
+    private void readNetworkElementsNames() throws IOException {
+        int size = readSize();
+        networkElementsNamesPerId = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            networkElementsNamesPerId.put(readString(), readString());
+        }
+    }
+
+    private void readContingencies() throws IOException {
+        int numberOfContingencies = readSize();
+        for (int i = 0; i < numberOfContingencies; i++) {
+            ContingencyAdder contingencyAdder = crac.newContingency().withId(readString());
+            String name = readString();
+            if (name != null) {
+                contingencyAdder.withName(name);
+            }
+            int numberOfElements = readSize();
+            for (int j = 0; j < numberOfElements; j++) {
+                contingencyAdder.withContingencyElement(readString(), readEnum(ContingencyElementType.class));
+            }
+            contingencyAdder.add();
+        }
+    }
+
+    private void readFlowCnecs() throws IOException {
+        int numberOfCnecs = readSize();
+        List<FlowCnecAdder> adders = new ArrayList<>(numberOfCnecs);
+        for (int i = 0; i < numberOfCnecs; i++) {
+            adders.add(crac.newFlowCnec());
+        }
+        readCommonCnecColumns(adders);
+        for (FlowCnecAdder adder : adders) {
+            String networkElementId = readString();
+            withNetworkElement(networkElementId, adder::withNetworkElement, adder::withNetworkElement);
+        }
+        readOptionalDoubleColumn(adders, (adder, iMax) -> adder.withIMax(iMax, TwoSides.ONE));
+        readOptionalDoubleColumn(adders, (adder, iMax) -> adder.withIMax(iMax, TwoSides.TWO));
+        readOptionalDoubleColumn(adders, (adder, nominalVoltage) -> adder.withNominalVoltage(nominalVoltage, TwoSides.ONE));
+        readOptionalDoubleColumn(adders, (adder, nominalVoltage) -> adder.withNominalVoltage(nominalVoltage, TwoSides.TWO));
+
+        int[] thresholdCounts = readThresholdCounts(numberOfCnecs);
+        ThresholdColumns thresholds = readThresholdColumns(Arrays.stream(thresholdCounts).sum());
+        TwoSides[] sides = new TwoSides[thresholds.size()];
+        for (int i = 0; i < sides.length; i++) {
+            sides[i] = readEnum(TwoSides.class);
+        }
+        int threshold = 0;
+        for (int i = 0; i < numberOfCnecs; i++) {
+            for (int j = 0; j < thresholdCounts[i]; j++, threshold++) {
+                thresholds.apply(threshold, adders.get(i).newThreshold()).withSide(sides[threshold]).add();
+            }
+            adders.get(i).add();
+        }
+    }
+
+    private void readAngleCnecs() throws IOException {
+        int numberOfCnecs = readSize();
+        List<AngleCnecAdder> adders = new ArrayList<>(numberOfCnecs);
+        for (int i = 0; i < numberOfCnecs; i++) {
+            adders.add(crac.newAngleCnec());
+        }
+        readCommonCnecColumns(adders);
+        for (AngleCnecAdder adder : adders) {
+            withNetworkElement(readString(), adder::withExportingNetworkElement, adder::withExportingNetworkElement);
+        }
+        for (AngleCnecAdder adder : adders) {
+            withNetworkElement(readString(), adder::withImportingNetworkElement, adder::withImportingNetworkElement);
+        }
+        int[] thresholdCounts = readThresholdCounts(numberOfCnecs);
+        ThresholdColumns thresholds = readThresholdColumns(Arrays.stream(thresholdCounts).sum());
+        int threshold = 0;
+        for (int i = 0; i < numberOfCnecs; i++) {
+            for (int j = 0; j < thresholdCounts[i]; j++, threshold++) {
+                thresholds.apply(threshold, adders.get(i).newThreshold()).add();
+            }
+            adders.get(i).add();
+        }
+    }
+
+    private void readVoltageCnecs() throws IOException {
+        int numberOfCnecs = readSize();
+        List<VoltageCnecAdder> adders = new ArrayList<>(numberOfCnecs);
+        for (int i = 0; i < numberOfCnecs; i++) {
+            adders.add(crac.newVoltageCnec());
+        }
+        readCommonCnecColumns(adders);
+        for (VoltageCnecAdder adder : adders) {
+            withNetworkElement(readString(), adder::withNetworkElement, adder::withNetworkElement);
+        }
+        int[] thresholdCounts = readThresholdCounts(numberOfCnecs);
+        ThresholdColumns thresholds = readThresholdColumns(Arrays.stream(thresholdCounts).sum());
+        int threshold = 0;
+        for (int i = 0; i < numberOfCnecs; i++) {
+            for (int j = 0; j < thresholdCounts[i]; j++, threshold++) {
+                thresholds.apply(threshold, adders.get(i).newThreshold()).add();
+            }
+            adders.get(i).add();
+        }
+    }
+
+    private void readCommonCnecColumns(List<? extends CnecAdder<?>> adders) throws IOException {
+        for (CnecAdder<?> adder : adders) {
+            adder.withId(readString());
+        }
+        for (CnecAdder<?> adder : adders) {
+            adder.withName(readString());
+        }
+        for (CnecAdder<?> adder : adders) {
+            adder.withOperator(readString());
+        }
+        for (CnecAdder<?> adder : adders) {
+            adder.withBorder(readString());
+        }
+        for (CnecAdder<?> adder : adders) {
+            adder.withInstant(readString());
+        }
+        for (CnecAdder<?> adder : adders) {
+            adder.withContingency(readString());
+        }
+        for (CnecAdder<?> adder : adders) {
+            byte flags = input.readByte();
+            adder.withOptimized((flags & OPTIMIZED) != 0);
+            adder.withMonitored((flags & MONITORED) != 0);
+        }
+        for (CnecAdder<?> adder : adders) {
+            adder.withReliabilityMargin(input.readDouble());
+        }
+    }
+
+    private <T> void readOptionalDoubleColumn(List<T> adders, OptionalDoubleSetter<T> setter) throws IOException {
+        boolean[] present = new boolean[adders.size()];
+        for (int i = 0; i < present.length; i++) {
+            present[i] = input.readBoolean();
+        }
+        for (int i = 0; i < present.length; i++) {
+            if (present[i]) {
+                setter.set(adders.get(i), input.readDouble());
+            }
+        }
+    }
+
+    private int[] readThresholdCounts(int numberOfCnecs) throws IOException {
+        int[] thresholdCounts = new int[numberOfCnecs];
+        for (int i = 0; i < numberOfCnecs; i++) {
+            thresholdCounts[i] = readSize();
+        }
+        return thresholdCounts;
+    }
+
+    private ThresholdColumns readThresholdColumns(int numberOfThresholds) throws IOException {
+        ThresholdColumns thresholds = new ThresholdColumns(numberOfThresholds);
+        for (int i = 0; i < numberOfThresholds; i++) {
+            thresholds.units[i] = readEnum(Unit.class);
+        }
+        input.readFully(thresholds.presences);
+        for (int i = 0; i < numberOfThresholds; i++) {
+            thresholds.mins[i] = input.readDouble();
+        }
+        for (int i = 0; i < numberOfThresholds; i++) {
+            thresholds.maxs[i] = input.readDouble();
+        }
+        return thresholds;
+    }
+
+    private void readRemedialActions() throws IOException {
+        int numberOfPstRangeActions = readSize();
+        int numberOfHvdcRangeActions = readSize();
+        int numberOfInjectionRangeActions = readSize();
+        int numberOfCounterTradeRangeActions = readSize();
+        int numberOfNetworkActions = readSize();
+        readUsageRules(numberOfPstRangeActions + numberOfHvdcRangeActions + numberOfInjectionRangeActions + numberOfCounterTradeRangeActions + numberOfNetworkActions);
+
+        int remedialAction = 0;
+        for (int i = 0; i < numberOfPstRangeActions; i++, remedialAction++) {
+            readPstRangeAction(remedialAction);
+        }
+        for (int i = 0; i < numberOfHvdcRangeActions; i++, remedialAction++) {
+            HvdcRangeActionAdder adder = readStandardRangeAction(crac.newHvdcRangeAction(), remedialAction);
+            withNetworkElement(readString(), adder::withNetworkElement, adder::withNetworkElement);
+            adder.add();
+        }
+        for (int i = 0; i < numberOfInjectionRangeActions; i++, remedialAction++) {
+            InjectionRangeActionAdder adder = readStandardRangeAction(crac.newInjectionRangeAction(), remedialAction);
+            int numberOfKeys = readSize();
+            for (int j = 0; j < numberOfKeys; j++) {
+                String networkElementId = readString();
+                double key = input.readDouble();
+                withNetworkElement(networkElementId, id -> adder.withNetworkElementAndKey(key, id), (id, name) -> adder.withNetworkElementAndKey(key, id, name));
+            }
+            adder.add();
+        }
+        for (int i = 0; i < numberOfCounterTradeRangeActions; i++, remedialAction++) {
+            readStandardRangeAction(crac.newCounterTradeRangeAction(), remedialAction)
+                .withExportingCountry(readEnum(Country.class))
+                .withImportingCountry(readEnum(Country.class))
+                .add();
+        }
+        for (int i = 0; i < numberOfNetworkActions; i++, remedialAction++) {
+            readNetworkAction(remedialAction);
+        }
+    }
+
+    private void readUsageRules(int numberOfRemedialActions) throws IOException {
+        firstUsageRule = new int[numberOfRemedialActions + 1];
+        for (int i = 0; i < numberOfRemedialActions; i++) {
+            firstUsageRule[i + 1] = firstUsageRule[i] + readSize();
+        }
+        int numberOfUsageRules = firstUsageRule[numberOfRemedialActions];
+        usageRuleTypes = new byte[numberOfUsageRules];
+        input.readFully(usageRuleTypes);
+        usageRuleInstants = readStringColumn(numberOfUsageRules);
+        usageRuleMethods = readStringColumn(numberOfUsageRules);
+        usageRuleContingencies = readStringColumn(numberOfUsageRules);
+        usageRuleCnecs = readStringColumn(numberOfUsageRules);
+        usageRuleCountries = readStringColumn(numberOfUsageRules);
+    }
+
+    private String[] readStringColumn(int size) throws IOException {
+        String[] column = new String[size];
+        for (int i = 0; i < size; i++) {
+            column[i] = readString();
+        }
+        return column;
+    }
+
+    private <T extends RemedialActionAdder<T>> T readRemedialAction(T adder, int remedialAction) throws IOException {
+        adder.withId(readString()).withName(readString()).withOperator(readString());
+        if (input.readBoolean()) {
+            adder.withActivationCost(input.readDouble());
+        }
+        if (input.readBoolean()) {
+            adder.withSpeed(input.readInt());
+        }
+        for (int i = firstUsageRule[remedialAction]; i < firstUsageRule[remedialAction + 1]; i++) {
+            addUsageRule(adder, i);
+        }
+        return adder;
+    }
+
+    private <T extends RemedialActionAdder<T>> void addUsageRule(T adder, int usageRule) {
+        UsageMethod usageMethod = UsageMethod.valueOf(usageRuleMethods[usageRule]);
+        switch (usageRuleTypes[usageRule]) {
+            case ON_INSTANT -> adder.newOnInstantUsageRule()
+                .withInstant(usageRuleInstants[usageRule])
+                .withUsageMethod(usageMethod)
+                .add();
+            case ON_CONTINGENCY_STATE -> adder.newOnContingencyStateUsageRule()
+                .withInstant(usageRuleInstants[usageRule])
+                .withContingency(usageRuleContingencies[usageRule])
+                .withUsageMethod(usageMethod)
+                .add();
+            case ON_CONSTRAINT -> adder.newOnConstraintUsageRule()
+                .withInstant(usageRuleInstants[usageRule])
+                .withCnec(usageRuleCnecs[usageRule])
+                .withUsageMethod(usageMethod)
+                .add();
+            case ON_FLOW_CONSTRAINT_IN_COUNTRY -> adder.newOnFlowConstraintInCountryUsageRule()
+                .withInstant(usageRuleInstants[usageRule])
+                .withContingency(usageRuleContingencies[usageRule])
+                .withCountry(Country.valueOf(usageRuleCountries[usageRule]))
+                .withUsageMethod(usageMethod)
+                .add();
+            default -> throw new OpenRaoException(String.format("Unknown usage rule type %d in binary CRAC", usageRuleTypes[usageRule]));
+        }
+    }
+
+    private <T extends RemedialActionAdder<T>> void readRangeActionFields(T adder, VariationCostSetter<T> variationCostSetter, Function<String, T> groupIdSetter) throws IOException {
+        if (input.readBoolean()) {
+            variationCostSetter.set(input.readDouble(), VariationDirection.UP);
+        }
+        if (input.readBoolean()) {
+            variationCostSetter.set(input.readDouble(), VariationDirection.DOWN);
+        }
+        String groupId = readString();
+        if (groupId != null) {
+            groupIdSetter.apply(groupId);
+        }
+    }
+
+    private <T extends StandardRangeActionAdder<T>> T readStandardRangeAction(T adder, int remedialAction) throws IOException {
+        readRemedialAction(adder, remedialAction);
+        readRangeActionFields(adder, adder::withVariationCost, adder::withGroupId);
+        adder.withInitialSetpoint(input.readDouble());
+        int numberOfRanges = readSize();
+        for (int i = 0; i < numberOfRanges; i++) {
+            adder.newRange().withMin(input.readDouble()).withMax(input.readDouble()).add();
+        }
+        return adder;
+    }
+
+    private void readPstRangeAction(int remedialAction) throws IOException {
+        PstRangeActionAdder adder = readRemedialAction(crac.newPstRangeAction(), remedialAction);
+        readRangeActionFields(adder, adder::withVariationCost, adder::withGroupId);
+        withNetworkElement(readString(), adder::withNetworkElement, adder::withNetworkElement);
+        adder.withInitialTap(input.readInt());
+        int mapSize = readSize();
+        Map<Integer, Double> tapToAngleConversionMap = new HashMap<>();
+        for (int i = 0; i < mapSize; i++) {
+            tapToAngleConversionMap.put(input.readInt(), input.readDouble());
+        }
+        adder.withTapToAngleConversionMap(tapToAngleConversionMap);
+        int numberOfRanges = readSize();
+        for (int i = 0; i < numberOfRanges; i++) {
+            adder.newTapRange().withMinTap(input.readInt()).withMaxTap(input.readInt()).withRangeType(readEnum(RangeType.class)).add();
+        }
+        adder.add();
+    }
+
+    private void readNetworkAction(int remedialAction) throws IOException {
+        NetworkActionAdder adder = readRemedialAction(crac.newNetworkAction(), remedialAction);
+        int numberOfElementaryActions = readSize();
+        for (int i = 0; i < numberOfElementaryActions; i++) {
+            byte type = input.readByte();
+            switch (type) {
+                case TERMINALS_CONNECTION_ACTION -> withSingleNetworkElement(adder.newTerminalsConnectionAction())
+                    .withActionType(input.readBoolean() ? ActionType.OPEN : ActionType.CLOSE).add();
+                case SWITCH_ACTION -> withSingleNetworkElement(adder.newSwitchAction())
+                    .withActionType(input.readBoolean() ? ActionType.OPEN : ActionType.CLOSE).add();
+                case PHASE_TAP_CHANGER_TAP_POSITION_ACTION -> withSingleNetworkElement(adder.newPhaseTapChangerTapPositionAction())
+                    .withTapPosition(input.readInt()).add();
+                case GENERATOR_ACTION -> withSingleNetworkElement(adder.newGeneratorAction())
+                    .withActivePowerValue(input.readDouble()).add();
+                case LOAD_ACTION -> withSingleNetworkElement(adder.newLoadAction())
+                    .withActivePowerValue(input.readDouble()).add();
+                case DANGLING_LINE_ACTION -> withSingleNetworkElement(adder.newDanglingLineAction())
+                    .withActivePowerValue(input.readDouble()).add();
+                case SHUNT_COMPENSATOR_POSITION_ACTION -> withSingleNetworkElement(adder.newShuntCompensatorPositionAction())
+                    .withSectionCount(input.readInt()).add();
+                case SWITCH_PAIR -> {
+                    var switchPairAdder = adder.newSwitchPair();
+                    withNetworkElement(readString(), switchPairAdder::withSwitchToOpen, switchPairAdder::withSwitchToOpen);
+                    withNetworkElement(readString(), switchPairAdder::withSwitchToClose, switchPairAdder::withSwitchToClose);
+                    switchPairAdder.add();
+                }
+                default -> throw new OpenRaoException(String.format("Unknown elementary action type %d in binary CRAC", type));
+            }
+        }
+        adder.add();
+    }
+
+    private <T extends SingleNetworkElementActionAdder<T>> T withSingleNetworkElement(T adder) throws IOException {
+        withNetworkElement(readString(), adder::withNetworkElement, adder::withNetworkElement);
+        return adder;
+    }
+
+    /**
+     * Sets a network element on an adder, with its name if it differs from its id
+     */
+    private void withNetworkElement(String networkElementId, Function<String, ?> withId, NetworkElementSetter withIdAndName) {
+        String name = networkElementsNamesPerId.get(networkElementId);
+        if (name == null) {
+            withId.apply(networkElementId);
+        } else {
+            withIdAndName.set(networkElementId, name);
+        }
+    }
+
+    private <E extends Enum<E>> E readEnum(Class<E> enumClass) throws IOException {
+        String name = readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(enumClass, name);
+        } catch (IllegalArgumentException e) {
+            throw new OpenRaoException(String.format("Unknown %s value %s in binary CRAC", enumClass.getSimpleName(), name), e);
+        }
+    }
+
+    private String readString() throws IOException {
+        int index = input.readInt();
+        if (index == NULL_STRING) {
+            return null;
+        }
+        if (index < 0 || index >= strings.length) {
+            throw new OpenRaoException(String.format("String index %d is out of the string table of the binary CRAC (%d strings)", index, strings.length));
+        }
+        return strings[index];
+    }
+
+    /**
+     * Read a number of elements, which is checked so that a corrupted file does not lead to a negative array size
+     */
+    private int readSize() throws IOException {
+        int size = input.readInt();
+        if (size < 0) {
+            throw new OpenRaoException(String.format("Negative size %d in binary CRAC", size));
+        }
+        return size;
+    }
+
+    @FunctionalInterface
+    private interface NetworkElementSetter {
+        Object set(String networkElementId, String networkElementName);
+    }
+
+    @FunctionalInterface
+    private interface OptionalDoubleSetter<T> {
+        void set(T adder, double value);
+    }
+
+    @FunctionalInterface
+    private interface VariationCostSetter<T> {
+        T set(Double variationCost, VariationDirection variationDirection);
+    }
+
+    /**
+     * Thresholds read column by column, applied afterward to the thresholds adders of their CNECs
+     */
+    private static final class ThresholdColumns {
+        private final Unit[] units;
+        private final byte[] presences;
+        private final double[] mins;
+        private final double[] maxs;
+
+        private ThresholdColumns(int size) {
+            units = new Unit[size];
+            presences = new byte[size];
+            mins = new double[size];
+            maxs = new double[size];
+        }
+
+        private int size() {
+            return units.length;
+        }
+
+        private <T extends ThresholdAdder<T>> T apply(int threshold, T adder) {
+            adder.withUnit(units[threshold]);
+            if ((presences[threshold] & MIN_PRESENT) != 0) {
+                adder.withMin(mins[threshold]);
+            }
+            if ((presences[threshold] & MAX_PRESENT) != 0) {
+                adder.withMax(maxs[threshold]);
+            }
+            return adder;
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.powsybl.action.*;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyElement;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Identifiable;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.NetworkElement;
+import com.powsybl.openrao.data.crac.api.RaUsageLimits;
+import com.powsybl.openrao.data.crac.api.RemedialAction;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.Cnec;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import com.powsybl.openrao.data.crac.api.networkaction.NetworkAction;
+import com.powsybl.openrao.data.crac.api.networkaction.SwitchPair;
+import com.powsybl.openrao.data.crac.api.range.StandardRange;
+import com.powsybl.openrao.data.crac.api.range.TapRange;
+import com.powsybl.openrao.data.crac.api.rangeaction.*;
+import com.powsybl.openrao.data.crac.api.threshold.BranchThreshold;
+import com.powsybl.openrao.data.crac.api.threshold.Threshold;
+import com.powsybl.openrao.data.crac.api.usagerule.*;
+import com.powsybl.iidm.network.TwoSides;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+
+import static com.powsybl.openrao.data.crac.io.binary.BinarySerializationConstants.*;
+
+/**
+ * Writes a Crac in the binary format described in {@link BinarySerializationConstants}.
+ * <p>
+ * The body is written in memory first, as the string table which precedes it is only complete once the whole Crac
+ * has been browsed.
+ */
+final class BinaryCracWriter {
+
+    private final Crac crac;
+    private final Map<String, Integer> stringIndices = new LinkedHashMap<>();
+    private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+    private final DataOutputStream body = new DataOutputStream(bodyBytes);
+
+    BinaryCracWriter(Crac crac) {
+        this.crac = crac;
+    }
+
+    void write(OutputStream outputStream, boolean compressed) throws IOException {
+        writeBody();
+        body.flush();
+
+        DataOutputStream header = new DataOutputStream(outputStream);
+        header.write(MAGIC);
+        header.writeInt(FORMAT_VERSION);
+        header.writeByte(compressed ? COMPRESSED_FLAG : 0);
+        header.flush();
+
+        DeflaterOutputStream deflaterOutputStream = compressed ? new DeflaterOutputStream(outputStream) : null;
+        DataOutputStream content = new DataOutputStream(compressed ? deflaterOutputStream : outputStream);
+        content.writeInt(stringIndices.size());
+        for (String string : stringIndices.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            content.writeInt(bytes.length);
+            content.write(bytes);
+        }
+        bodyBytes.writeTo(content);
+        content.flush();
+        if (deflaterOutputStream != null) {
+            deflaterOutputStream.finish();
+        }
+    }
+
+    private void writeBody() throws IOException {
+        writeString(crac.getId());
+        writeString(crac.getName());
+        writeInstants();
+        writeRaUsageLimits();
+        writeNetworkElementsNames();
+        writeContingencies();
+
+        writeFlowCnecs(sortById(crac.getFlowCnecs()));
+        writeAngleCnecs(sortById(crac.getAngleCnecs()));
+        writeVoltageCnecs(sortById(crac.getVoltageCnecs()));
+
+        List<PstRangeAction> pstRangeActions = sortById(crac.getPstRangeActions());
+        List<HvdcRangeAction> hvdcRangeActions = sortById(crac.getHvdcRangeActions());
+        List<InjectionRangeAction> injectionRangeActions = sortById(crac.getInjectionRangeActions());
+        List<CounterTradeRangeAction> counterTradeRangeActions = sortById(crac.getCounterTradeRangeActions());
+        List<NetworkAction> networkActions = sortById(crac.getNetworkActions());
+
+        body.writeInt(pstRangeActions.size());
+        body.writeInt(hvdcRangeActions.size());
+        body.writeInt(injectionRangeActions.size());
+        body.writeInt(counterTradeRangeActions.size());
+        body.writeInt(networkActions.size());
+        writeUsageRules(Stream.of(pstRangeActions, hvdcRangeActions, injectionRangeActions, counterTradeRangeActions, networkActions)
+            .<RemedialAction<?>>flatMap(List::stream).toList());
+
+        for (PstRangeAction pstRangeAction : pstRangeActions) {
+            writePstRangeAction(pstRangeAction);
+        }
+        for (HvdcRangeAction hvdcRangeAction : hvdcRangeActions) {
+            writeStandardRangeAction(hvdcRangeAction);
+            writeString(hvdcRangeAction.getNetworkElement().getId());
+        }
+        for (InjectionRangeAction injectionRangeAction : injectionRangeActions) {
+            writeInjectionRangeAction(injectionRangeAction);
+        }
+        for (CounterTradeRangeAction counterTradeRangeAction : counterTradeRangeActions) {
+            writeStandardRangeAction(counterTradeRangeAction);
+            writeEnum(counterTradeRangeAction.getExportingCountry());
+            writeEnum(counterTradeRangeAction.getImportingCountry());
+        }
+        for (NetworkAction networkAction : networkActions) {
+            writeNetworkAction(networkAction);
+        }
+    }
+
+    private static <T extends Identifiable<?>> List<T> sortById(Collection<T> identifiables) {
+        return identifiables.stream().sorted(Comparator.comparing(Identifiable::getId)).toList();
+    }
+
+    private void writeInstants() throws IOException {
+        List<Instant> instants = crac.getSortedInstants();
+        body.writeInt(instants.size());
+        for (Instant instant : instants) {
+            writeString(instant.getId());
+            writeEnum(instant.getKind());
+        }
+    }
+
+    private void writeRaUsageLimits() throws IOException {
+        List<Map.Entry<Instant, RaUsageLimits>> raUsageLimitsPerInstant = crac.getRaUsageLimitsPerInstant().entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .toList();
+        body.writeInt(raUsageLimitsPerInstant.size());
+        for (Map.Entry<Instant, RaUsageLimits> entry : raUsageLimitsPerInstant) {
+            RaUsageLimits raUsageLimits = entry.getValue();
+            writeString(entry.getKey().getId());
+            body.writeInt(raUsageLimits.getMaxRa());
+            body.writeInt(raUsageLimits.getMaxTso());
+            writeLimitsPerTso(raUsageLimits.getMaxTopoPerTso());
+            writeLimitsPerTso(raUsageLimits.getMaxPstPerTso());
+            writeLimitsPerTso(raUsageLimits.getMaxRaPerTso());
+            writeLimitsPerTso(raUsageLimits.getMaxElementaryActionsPerTso());
+        }
+    }
+
+    private void writeLimitsPerTso(Map<String, Integer> limitsPerTso) throws IOException {
+        Map<String, Integer> sortedLimitsPerTso = new TreeMap<>(limitsPerTso);
+        body.writeInt(sortedLimitsPerTso.size());
+        for (Map.Entry<String, Integer> entry : sortedLimitsPerTso.entrySet()) {
+            writeString(entry.getKey());
+            body.writeInt(entry.getValue());
+        }
+    }
+
+    private void writeNetworkElementsNames() throws IOException {
+        Map<String, String> networkElementsNamesPerId = new TreeMap<>();
+        List<NetworkElement> networkElements = new ArrayList<>();
+        for (Cnec<?> cnec : crac.getCnecs()) {
+            networkElements.addAll(cnec.getNetworkElements());
+        }
+        for (RemedialAction<?> remedialAction : crac.getRemedialActions()) {
+            networkElements.addAll(remedialAction.getNetworkElements());
+        }
+        networkElements.stream()
+            .filter(networkElement -> !networkElement.getId().equals(networkElement.getName()))
+            .forEach(networkElement -> networkElementsNamesPerId.put(networkElement.getId(), networkElement.getName()));
+        body.writeInt(networkElementsNamesPerId.size());
+        for (Map.Entry<String, String> entry : networkElementsNamesPerId.entrySet()) {
+            writeString(entry.getKey());
+            writeString(entry.getValue());
+        }
+    }
+
+    private void writeContingencies() throws IOException {
+        List<Contingency> contingencies = crac.getContingencies().stream().sorted(Comparator.comparing(Contingency::getId)).toList();
+        body.writeInt(contingencies.size());
+        for (Contingency contingency : contingencies) {
+            writeString(contingency.getId());
+            writeString(contingency.getName().orElse(null));
+            body.writeInt(contingency.getElements().size());
+            for (ContingencyElement contingencyElement : contingency.getElements()) {
+                writeString(contingencyElement.getId());
+                writeEnum(contingencyElement.getType());
+            }
+        }
+    }
+
+    private void writeFlowCnecs(List<FlowCnec> flowCnecs) throws IOException {
+        writeCommonCnecColumns(flowCnecs);
+        writeStringColumn(flowCnecs, flowCnec -> flowCnec.getNetworkElement().getId());
+        writeDoubleColumns(flowCnecs, flowCnec -> new Double[]{
+            flowCnec.getIMax(TwoSides.ONE), flowCnec.getIMax(TwoSides.TWO),
+            flowCnec.getNominalVoltage(TwoSides.ONE), flowCnec.getNominalVoltage(TwoSides.TWO)});
+        List<List<BranchThreshold>> thresholds = flowCnecs.stream().map(flowCnec -> sortThresholds(flowCnec.getThresholds())).toList();
+        List<BranchThreshold> allThresholds = writeThresholdCounts(thresholds);
+        writeThresholdColumns(allThresholds);
+        for (BranchThreshold threshold : allThresholds) {
+            writeEnum(threshold.getSide());
+        }
+    }
+
+    private void writeAngleCnecs(List<AngleCnec> angleCnecs) throws IOException {
+        writeCommonCnecColumns(angleCnecs);
+        writeStringColumn(angleCnecs, angleCnec -> angleCnec.getExportingNetworkElement().getId());
+        writeStringColumn(angleCnecs, angleCnec -> angleCnec.getImportingNetworkElement().getId());
+        writeThresholdColumns(writeThresholdCounts(angleCnecs.stream().map(angleCnec -> sortThresholds(angleCnec.getThresholds())).toList()));
+    }
+
+    private void writeVoltageCnecs(List<VoltageCnec> voltageCnecs) throws IOException {
+        writeCommonCnecColumns(voltageCnecs);
+        writeStringColumn(voltageCnecs, voltageCnec -> voltageCnec.getNetworkElement().getId());
+        writeThresholdColumns(writeThresholdCounts(voltageCnecs.stream().map(voltageCnec -> sortThresholds(voltageCnec.getThresholds())).toList()));
+    }
+
+    private void writeCommonCnecColumns(List<? extends Cnec<?>> cnecs) throws IOException {
+        body.writeInt(cnecs.size());
+        writeStringColumn(cnecs, Cnec::getId);
+        writeStringColumn(cnecs, Cnec::getName);
+        writeStringColumn(cnecs, Cnec::getOperator);
+        writeStringColumn(cnecs, Cnec::getBorder);
+        writeStringColumn(cnecs, cnec -> cnec.getState().getInstant().getId());
+        writeStringColumn(cnecs, cnec -> cnec.getState().getContingency().map(Contingency::getId).orElse(null));
+        for (Cnec<?> cnec : cnecs) {
+            body.writeByte((cnec.isOptimized() ? OPTIMIZED : 0) | (cnec.isMonitored() ? MONITORED : 0));
+        }
+        for (Cnec<?> cnec : cnecs) {
+            body.writeDouble(cnec.getReliabilityMargin());
+        }
+    }
+
+    private <T> void writeStringColumn(List<T> elements, Function<T, String> column) throws IOException {
+        for (T element : elements) {
+            writeString(column.apply(element));
+        }
+    }
+
+    /**
+     * Writes optional doubles column by column, each column being preceded by the presence flags of its values
+     */
+    private <T> void writeDoubleColumns(List<T> elements, Function<T, Double[]> columns) throws IOException {
+        List<Double[]> rows = elements.stream().map(columns).toList();
+        int numberOfColumns = rows.isEmpty() ? 0 : rows.get(0).length;
+        for (int column = 0; column < numberOfColumns; column++) {
+            for (Double[] row : rows) {
+                body.writeBoolean(row[column] != null);
+            }
+            for (Double[] row : rows) {
+                if (row[column] != null) {
+                    body.writeDouble(row[column]);
+                }
+            }
+        }
+    }
+
+    private static <T extends Threshold> List<T> sortThresholds(Set<T> thresholds) {
+        return thresholds.stream()
+            .sorted(Comparator.comparing((T threshold) -> threshold.getUnit())
+                .thenComparing(threshold -> threshold.min().orElse(Double.NaN))
+                .thenComparing(threshold -> threshold.max().orElse(Double.NaN))
+                .thenComparing(threshold -> threshold instanceof BranchThreshold branchThreshold ? branchThreshold.getSide() : TwoSides.ONE))
+            .toList();
+    }
+
+    private <T extends Threshold> List<T> writeThresholdCounts(List<List<T>> thresholdsPerCnec) throws IOException {
+        for (List<T> thresholds : thresholdsPerCnec) {
+            body.writeInt(thresholds.size());
+        }
+        return thresholdsPerCnec.stream().flatMap(List::stream).toList();
+    }
+
+    private void writeThresholdColumns(List<? extends Threshold> thresholds) throws IOException {
+        for (Threshold threshold : thresholds) {
+            writeEnum(threshold.getUnit());
+        }
+        for (Threshold threshold : thresholds) {
+            body.writeByte((threshold.min().isPresent() ? MIN_PRESENT : 0) | (threshold.max().isPresent() ? MAX_PRESENT : 0));
+        }
+        for (Threshold threshold : thresholds) {
+            body.writeDouble(threshold.min().orElse(Double.NaN));
+        }
+        for (Threshold threshold : thresholds) {
+            body.writeDouble(threshold.max().orElse(Double.NaN));
+        }
+    }
+
+    private void writeUsageRules(List<RemedialAction<?>> remedialActions) throws IOException {
+        List<List<UsageRule>> usageRulesPerRemedialAction = remedialActions.stream()
+            .map(remedialAction -> remedialAction.getUsageRules().stream().sorted(Comparator.comparing(BinaryCracWriter::getUsageRuleKey)).toList())
+            .toList();
+        for (List<UsageRule> usageRules : usageRulesPerRemedialAction) {
+            body.writeInt(usageRules.size());
+        }
+        List<UsageRule> usageRules = usageRulesPerRemedialAction.stream().flatMap(List::stream).toList();
+        for (UsageRule usageRule : usageRules) {
+            body.writeByte(getUsageRuleType(usageRule));
+        }
+        writeStringColumn(usageRules, usageRule -> usageRule.getInstant().getId());
+        writeStringColumn(usageRules, usageRule -> usageRule.getUsageMethod().name());
+        writeStringColumn(usageRules, BinaryCracWriter::getUsageRuleContingencyId);
+        writeStringColumn(usageRules, usageRule -> usageRule instanceof OnConstraint<?> onConstraint ? onConstraint.getCnec().getId() : null);
+        writeStringColumn(usageRules, usageRule -> usageRule instanceof OnFlowConstraintInCountry onFlowConstraintInCountry ? onFlowConstraintInCountry.getCountry().name() : null);
+    }
+
+    private static byte getUsageRuleType(UsageRule usageRule) {
+        if (usageRule instanceof OnInstant) {
+            return ON_INSTANT;
+        } else if (usageRule instanceof OnContingencyState) {
+            return ON_CONTINGENCY_STATE;
+        } else if (usageRule instanceof OnConstraint<?>) {
+            return ON_CONSTRAINT;
+        } else if (usageRule instanceof OnFlowConstraintInCountry) {
+            return ON_FLOW_CONSTRAINT_IN_COUNTRY;
+        }
+        throw new OpenRaoException(String.format("Usage rule of type %s cannot be exported in binary format", usageRule.getClass().getSimpleName()));
+    }
+
+    private static String getUsageRuleContingencyId(UsageRule usageRule) {
+        if (usageRule instanceof OnContingencyState onContingencyState) {
+            return onContingencyState.getContingency().getId();
+        } else if (usageRule instanceof OnFlowConstraintInCountry onFlowConstraintInCountry) {
+            return onFlowConstraintInCountry.getContingency().map(Contingency::getId).orElse(null);
+        }
+        return null;
+    }
+
+    private static String getUsageRuleKey(UsageRule usageRule) {
+        return String.join(";", String.valueOf(getUsageRuleType(usageRule)), usageRule.getInstant().getId(), usageRule.getUsageMethod().name(),
+            String.valueOf(getUsageRuleContingencyId(usageRule)),
+            usageRule instanceof OnConstraint<?> onConstraint ? onConstraint.getCnec().getId() : "",
+            usageRule instanceof OnFlowConstraintInCountry onFlowConstraintInCountry ? onFlowConstraintInCountry.getCountry().name() : "");
+    }
+
+    private void writeRemedialAction(RemedialAction<?> remedialAction) throws IOException {
+        writeString(remedialAction.getId());
+        writeString(remedialAction.getName());
+        writeString(remedialAction.getOperator());
+        writeOptionalDouble(remedialAction.getActivationCost());
+        Optional<Integer> speed = remedialAction.getSpeed();
+        body.writeBoolean(speed.isPresent());
+        if (speed.isPresent()) {
+            body.writeInt(speed.get());
+        }
+    }
+
+    private void writeRangeAction(RangeAction<?> rangeAction) throws IOException {
+        writeRemedialAction(rangeAction);
+        writeOptionalDouble(rangeAction.getVariationCost(VariationDirection.UP));
+        writeOptionalDouble(rangeAction.getVariationCost(VariationDirection.DOWN));
+        writeString(rangeAction.getGroupId().orElse(null));
+    }
+
+    private void writeStandardRangeAction(StandardRangeAction<?> standardRangeAction) throws IOException {
+        writeRangeAction(standardRangeAction);
+        body.writeDouble(standardRangeAction.getInitialSetpoint());
+        body.writeInt(standardRangeAction.getRanges().size());
+        for (StandardRange range : standardRangeAction.getRanges()) {
+            body.writeDouble(range.getMin());
+            body.writeDouble(range.getMax());
+        }
+    }
+
+    private void writePstRangeAction(PstRangeAction pstRangeAction) throws IOException {
+        writeRangeAction(pstRangeAction);
+        writeString(pstRangeAction.getNetworkElement().getId());
+        body.writeInt(pstRangeAction.getInitialTap());
+        Map<Integer, Double> tapToAngleConversionMap = new TreeMap<>(pstRangeAction.getTapToAngleConversionMap());
+        body.writeInt(tapToAngleConversionMap.size());
+        for (Map.Entry<Integer, Double> entry : tapToAngleConversionMap.entrySet()) {
+            body.writeInt(entry.getKey());
+            body.writeDouble(entry.getValue());
+        }
+        body.writeInt(pstRangeAction.getRanges().size());
+        for (TapRange range : pstRangeAction.getRanges()) {
+            body.writeInt(range.getMinTap());
+            body.writeInt(range.getMaxTap());
+            writeEnum(range.getRangeType());
+        }
+    }
+
+    private void writeInjectionRangeAction(InjectionRangeAction injectionRangeAction) throws IOException {
+        writeStandardRangeAction(injectionRangeAction);
+        List<Map.Entry<NetworkElement, Double>> distributionKeys = injectionRangeAction.getInjectionDistributionKeys().entrySet().stream()
+            .sorted(Comparator.comparing(entry -> entry.getKey().getId()))
+            .toList();
+        body.writeInt(distributionKeys.size());
+        for (Map.Entry<NetworkElement, Double> entry : distributionKeys) {
+            writeString(entry.getKey().getId());
+            body.writeDouble(entry.getValue());
+        }
+    }
+
+    private void writeNetworkAction(NetworkAction networkAction) throws IOException {
+        writeRemedialAction(networkAction);
+        List<Action> elementaryActions = networkAction.getElementaryActions().stream().sorted(Comparator.comparing(Action::getId)).toList();
+        body.writeInt(elementaryActions.size());
+        for (Action elementaryAction : elementaryActions) {
+            writeElementaryAction(elementaryAction);
+        }
+    }
+
+    private void writeElementaryAction(Action elementaryAction) throws IOException {
+        if (elementaryAction instanceof TerminalsConnectionAction terminalsConnectionAction) {
+            body.writeByte(TERMINALS_CONNECTION_ACTION);
+            writeString(terminalsConnectionAction.getElementId());
+            body.writeBoolean(terminalsConnectionAction.isOpen());
+        } else if (elementaryAction instanceof SwitchAction switchAction) {
+            body.writeByte(SWITCH_ACTION);
+            writeString(switchAction.getSwitchId());
+            body.writeBoolean(switchAction.isOpen());
+        } else if (elementaryAction instanceof PhaseTapChangerTapPositionAction phaseTapChangerTapPositionAction) {
+            body.writeByte(PHASE_TAP_CHANGER_TAP_POSITION_ACTION);
+            writeString(phaseTapChangerTapPositionAction.getTransformerId());
+            body.writeInt(phaseTapChangerTapPositionAction.getTapPosition());
+        } else if (elementaryAction instanceof GeneratorAction generatorAction) {
+            body.writeByte(GENERATOR_ACTION);
+            writeString(generatorAction.getGeneratorId());
+            body.writeDouble(generatorAction.getActivePowerValue().getAsDouble());
+        } else if (elementaryAction instanceof LoadAction loadAction) {
+            body.writeByte(LOAD_ACTION);
+            writeString(loadAction.getLoadId());
+            body.writeDouble(loadAction.getActivePowerValue().getAsDouble());
+        } else if (elementaryAction instanceof DanglingLineAction danglingLineAction) {
+            body.writeByte(DANGLING_LINE_ACTION);
+            writeString(danglingLineAction.getDanglingLineId());
+            body.writeDouble(danglingLineAction.getActivePowerValue().getAsDouble());
+        } else if (elementaryAction instanceof ShuntCompensatorPositionAction shuntCompensatorPositionAction) {
+            body.writeByte(SHUNT_COMPENSATOR_POSITION_ACTION);
+            writeString(shuntCompensatorPositionAction.getShuntCompensatorId());
+            body.writeInt(shuntCompensatorPositionAction.getSectionCount());
+        } else if (elementaryAction instanceof SwitchPair switchPair) {
+            body.writeByte(SWITCH_PAIR);
+            writeString(switchPair.getSwitchToOpen().getId());
+            writeString(switchPair.getSwitchToClose().getId());
+        } else {
+            throw new OpenRaoException(String.format("Elementary action of type %s cannot be exported in binary format", elementaryAction.getClass().getSimpleName()));
+        }
+    }
+
+    private void writeOptionalDouble(Optional<Double> value) throws IOException {
+        body.writeBoolean(value.isPresent());
+        if (value.isPresent()) {
+            body.writeDouble(value.get());
+        }
+    }
+
+    private void writeEnum(Enum<?> value) throws IOException {
+        writeString(value == null ? null : value.name());
+    }
+
+    private void writeString(String string) throws IOException {
+        body.writeInt(string == null ? NULL_STRING : stringIndices.computeIfAbsent(string, s -> stringIndices.size()));
+    }
+}
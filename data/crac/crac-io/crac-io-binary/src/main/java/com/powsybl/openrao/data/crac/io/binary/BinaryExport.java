@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.io.Exporter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.BUSINESS_WARNS;
+import static com.powsybl.openrao.data.crac.io.binary.BinarySerializationConstants.BINARY_FORMAT;
+
+/**
+ * CRAC object export in a compact binary format, which is much faster to read back than JSON.
+ * It is meant to store CRACs which have already been imported, not to exchange them: the extensions of the CRAC
+ * are not exported.
+ */
+@AutoService(Exporter.class)
+public class BinaryExport implements Exporter {
+
+    private final boolean compressed;
+
+    public BinaryExport() {
+        this(false);
+    }
+
+    /**
+     * @param compressed whether the content of the file is deflated, which makes it smaller but slower to read
+     */
+    public BinaryExport(boolean compressed) {
+        this.compressed = compressed;
+    }
+
+    @Override
+    public String getFormat() {
+        return BINARY_FORMAT;
+    }
+
+    @Override
+    public void exportData(Crac crac, OutputStream outputStream) {
+        if (hasExtensions(crac)) {
+            BUSINESS_WARNS.warn("The extensions of CRAC {} are not exported in binary format", crac.getId());
+        }
+        try {
+            new BinaryCracWriter(crac).write(outputStream, compressed);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean hasExtensions(Crac crac) {
+        return !crac.getExtensions().isEmpty()
+            || Stream.concat(crac.getCnecs().stream(), crac.getRemedialActions().stream()).anyMatch(identifiable -> !identifiable.getExtensions().isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.google.auto.service.AutoService;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.api.io.Importer;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.OffsetDateTime;
+
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
+import static com.powsybl.openrao.data.crac.io.binary.BinarySerializationConstants.BINARY_FORMAT;
+
+/**
+ * Import of a CRAC written by {@link BinaryExport}. The file is recognized by its header, whatever its name.
+ * <p>
+ * The types of the contingency elements are stored in the file, so the network is not needed to import it.
+ */
+@AutoService(Importer.class)
+public class BinaryImport implements Importer {
+    @Override
+    public String getFormat() {
+        return BINARY_FORMAT;
+    }
+
+    @Override
+    public boolean exists(String filename, InputStream inputStream) {
+        try {
+            return BinaryCracReader.hasBinaryHeader(inputStream);
+        } catch (IOException e) {
+            TECHNICAL_LOGS.debug("File could not be processed as binary CRAC. Reason: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public CracCreationContext importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network, OffsetDateTime offsetDateTime) {
+        String networkName = network == null ? null : network.getNameOrId();
+        try {
+            Crac crac = new BinaryCracReader(cracCreationParameters.getCracFactory()).read(inputStream);
+            CracCreationContext cracCreationContext = new BinaryCracCreationContext(true, crac, networkName);
+            if (offsetDateTime != null) {
+                cracCreationContext.getCreationReport().warn("OffsetDateTime was ignored by the binary CRAC importer");
+            }
+            return cracCreationContext;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (OpenRaoException e) {
+            CracCreationContext cracCreationContext = new BinaryCracCreationContext(false, null, networkName);
+            cracCreationContext.getCreationReport().error(e.getMessage());
+            return cracCreationContext;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants of the binary CRAC format.
+ * <p>
+ * A binary CRAC starts with a header made of the {@link #MAGIC} bytes, the format version and a flags byte. If the
+ * {@link #COMPRESSED_FLAG} is set, the rest of the file is deflated. It then contains:
+ * <ul>
+ *     <li>the string table, which holds each distinct string once: the other blocks refer to strings by their
+ *     position in this table, -1 standing for null, and enums are stored by name,</li>
+ *     <li>the id and name of the CRAC, its instants, its RA usage limits, the names of its network elements and its
+ *     contingencies,</li>
+ *     <li>the flow, angle and voltage CNECs, stored column by column, followed by their thresholds which are also
+ *     stored column by column,</li>
+ *     <li>the usage rules of all the remedial actions, stored column by column,</li>
+ *     <li>the PST, HVDC, injection and counter-trade range actions, then the network actions.</li>
+ * </ul>
+ */
+public final class BinarySerializationConstants {
+
+    private BinarySerializationConstants() {
+    }
+
+    public static final String BINARY_FORMAT = "BINARY";
+
+    static final byte[] MAGIC = "ORAOCRAC".getBytes(StandardCharsets.US_ASCII);
+    static final int FORMAT_VERSION = 1;
+    static final byte COMPRESSED_FLAG = 1;
+
+    static final int NULL_STRING = -1;
+
+    // presence of the optional values of a threshold
+    static final byte MIN_PRESENT = 1;
+    static final byte MAX_PRESENT = 2;
+
+    // flags of a CNEC
+    static final byte OPTIMIZED = 1;
+    static final byte MONITORED = 2;
+
+    // usage rule types
+    static final byte ON_INSTANT = 0;
+    static final byte ON_CONTINGENCY_STATE = 1;
+    static final byte ON_CONSTRAINT = 2;
+    static final byte ON_FLOW_CONSTRAINT_IN_COUNTRY = 3;
+
+    // elementary action types
+    static final byte TERMINALS_CONNECTION_ACTION = 0;
+    static final byte SWITCH_ACTION = 1;
+    static final byte PHASE_TAP_CHANGER_TAP_POSITION_ACTION = 2;
+    static final byte GENERATOR_ACTION = 3;
+    static final byte LOAD_ACTION = 4;
+    static final byte DANGLING_LINE_ACTION = 5;
+    static final byte SHUNT_COMPENSATOR_POSITION_ACTION = 6;
+    static final byte SWITCH_PAIR = 7;
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.binary;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.ContingencyElementType;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracCreationContext;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.crac.api.usagerule.UsageMethod;
+import com.powsybl.openrao.data.crac.impl.CracImpl;
+import com.powsybl.openrao.data.crac.impl.utils.ExhaustiveCracCreation;
+import com.powsybl.openrao.data.crac.io.json.JsonImport;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryImportExportTest {
+
+    private static byte[] export(Crac crac, String format) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        crac.write(format, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] exportBinary(Crac crac, boolean compressed) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new BinaryExport(compressed).exportData(crac, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static CracCreationContext importBinary(byte[] bytes) {
+        return new BinaryImport().importData(new ByteArrayInputStream(bytes), new CracCreationParameters(), null, null);
+    }
+
+    private static void assertSameJsonExport(Crac expected, Crac actual) throws IOException {
+        ObjectMapper objectMapper = JsonMapper.builder().enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS).build();
+        JsonNode expectedJson = objectMapper.readTree(export(expected, "JSON"));
+        JsonNode actualJson = objectMapper.readTree(export(actual, "JSON"));
+        assertEquals(expectedJson, actualJson);
+    }
+
+    private static void assertSameContingencyElements(Crac expected, Crac actual) {
+        for (Contingency contingency : expected.getContingencies()) {
+            Contingency importedContingency = actual.getContingency(contingency.getId());
+            assertEquals(contingency.getElements(), importedContingency.getElements());
+        }
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        CracCreationContext context = importBinary(exportBinary(crac, false));
+        assertTrue(context.isCreationSuccessful());
+        assertTrue(context.getCreationReport().getReport().isEmpty());
+        assertNull(context.getNetworkName());
+        assertSameJsonExport(crac, context.getCrac());
+        assertSameContingencyElements(crac, context.getCrac());
+    }
+
+    @Test
+    void testCompressedRoundTrip() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        byte[] compressedBytes = exportBinary(crac, true);
+        assertTrue(compressedBytes.length < exportBinary(crac, false).length);
+        Crac importedCrac = importBinary(compressedBytes).getCrac();
+        assertSameJsonExport(crac, importedCrac);
+        assertSameContingencyElements(crac, importedCrac);
+    }
+
+    @Test
+    void testImplicitRoundTrip() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        Crac importedCrac = Crac.read("crac.bin", new ByteArrayInputStream(export(crac, "BINARY")), ExhaustiveCracCreation.createAssociatedNetwork());
+        assertSameJsonExport(crac, importedCrac);
+    }
+
+    @Test
+    void testExists() {
+        byte[] bytes = exportBinary(ExhaustiveCracCreation.create(), false);
+        assertTrue(new BinaryImport().exists("crac.bin", new ByteArrayInputStream(bytes)));
+        assertFalse(new BinaryImport().exists("crac.json", new ByteArrayInputStream(export(ExhaustiveCracCreation.create(), "JSON"))));
+        assertFalse(new BinaryImport().exists("empty.bin", new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    void testNonNullOffsetDateTime() {
+        byte[] bytes = exportBinary(ExhaustiveCracCreation.create(), false);
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        CracCreationContext context = new BinaryImport().importData(new ByteArrayInputStream(bytes), new CracCreationParameters(), network, Mockito.mock(OffsetDateTime.class));
+        assertTrue(context.isCreationSuccessful());
+        assertEquals(List.of("[WARN] OffsetDateTime was ignored by the binary CRAC importer"), context.getCreationReport().getReport());
+        assertNull(context.getTimeStamp());
+        assertEquals("test", context.getNetworkName());
+    }
+
+    @Test
+    void testImportFailures() {
+        byte[] bytes = exportBinary(ExhaustiveCracCreation.create(), false);
+        ByteBuffer.wrap(bytes).putInt(BinarySerializationConstants.MAGIC.length, 100);
+        CracCreationContext context = importBinary(bytes);
+        assertFalse(context.isCreationSuccessful());
+        assertNull(context.getCrac());
+        assertEquals(List.of("[ERROR] Binary CRAC version 100 is not supported, expected version 1"), context.getCreationReport().getReport());
+
+        context = importBinary(export(ExhaustiveCracCreation.create(), "JSON"));
+        assertFalse(context.isCreationSuccessful());
+        assertEquals(List.of("[ERROR] Input is not a binary CRAC"), context.getCreationReport().getReport());
+    }
+
+    @Test
+    void testLargeCracRoundTrip() throws IOException {
+        Crac crac = createLargeCrac();
+        Network network = ExhaustiveCracCreation.createAssociatedNetwork();
+        byte[] jsonBytes = export(crac, "JSON");
+        byte[] binaryBytes = exportBinary(crac, false);
+        Crac jsonCrac = new JsonImport().importData(new ByteArrayInputStream(jsonBytes), new CracCreationParameters(), network, null).getCrac();
+
+        assertTrue(binaryBytes.length < jsonBytes.length);
+        assertSameJsonExport(jsonCrac, importBinary(binaryBytes).getCrac());
+        assertSameJsonExport(jsonCrac, importBinary(exportBinary(crac, true)).getCrac());
+    }
+
+    @Test
+    void testTruncatedFile() {
+        for (boolean compressed : new boolean[]{false, true}) {
+            byte[] bytes = exportBinary(ExhaustiveCracCreation.create(), compressed);
+            CracCreationContext context = importBinary(Arrays.copyOf(bytes, bytes.length / 2));
+            assertFalse(context.isCreationSuccessful());
+            assertNull(context.getCrac());
+            assertEquals(List.of("[ERROR] Binary CRAC is truncated"), context.getCreationReport().getReport());
+        }
+    }
+
+    @Test
+    void testCorruptedStringIndex() {
+        byte[] bytes = exportBinary(ExhaustiveCracCreation.create(), false);
+        // the id of the CRAC is the first string index after the string table
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).position(BinarySerializationConstants.MAGIC.length + Integer.BYTES + 1);
+        int numberOfStrings = buffer.getInt();
+        for (int i = 0; i < numberOfStrings; i++) {
+            int length = buffer.getInt();
+            buffer.position(buffer.position() + length);
+        }
+        buffer.putInt(buffer.position(), numberOfStrings);
+
+        CracCreationContext context = importBinary(bytes);
+        assertFalse(context.isCreationSuccessful());
+        assertNull(context.getCrac());
+        assertEquals(List.of(String.format("[ERROR] String index %d is out of the string table of the binary CRAC (%d strings)", numberOfStrings, numberOfStrings)), context.getCreationReport().getReport());
+    }
+
+    @Test
+    void testCorruptedEnumValue() {
+        byte[] bytes = exportBinary(ExhaustiveCracCreation.create(), false);
+        String binaryContent = new String(bytes, StandardCharsets.ISO_8859_1);
+        int position = binaryContent.indexOf("PREVENTIVE");
+        bytes[position + "PREVENTIVE".length() - 1] = 'X';
+
+        CracCreationContext context = importBinary(bytes);
+        assertFalse(context.isCreationSuccessful());
+        assertEquals(List.of("[ERROR] Unknown InstantKind value PREVENTIVX in binary CRAC"), context.getCreationReport().getReport());
+    }
+
+    private static Crac createLargeCrac() {
+        Crac crac = new CracImpl("largeCrac")
+            .newInstant("preventive", InstantKind.PREVENTIVE)
+            .newInstant("outage", InstantKind.OUTAGE)
+            .newInstant("curative", InstantKind.CURATIVE);
+        int numberOfContingencies = 100;
+        int numberOfLines = 50;
+        for (int contingency = 0; contingency < numberOfContingencies; contingency++) {
+            crac.newContingency().withId("co" + contingency).withContingencyElement("ne" + (contingency % 3 + 1) + "Id", ContingencyElementType.LINE).add();
+        }
+        for (int line = 0; line < numberOfLines; line++) {
+            addFlowCnec(crac, "line" + line, "preventive", null);
+            for (int contingency = 0; contingency < numberOfContingencies; contingency++) {
+                addFlowCnec(crac, "line" + line, "outage", "co" + contingency);
+                addFlowCnec(crac, "line" + line, "curative", "co" + contingency);
+            }
+        }
+        for (int pst = 0; pst < 20; pst++) {
+            var adder = crac.newPstRangeAction().withId("pst" + pst).withNetworkElement("pstNe" + pst, "pst " + pst)
+                .withInitialTap(0).withTapToAngleConversionMap(Map.of(-1, -2.5, 0, 0., 1, 2.5))
+                .newOnInstantUsageRule().withInstant("preventive").withUsageMethod(UsageMethod.AVAILABLE).add();
+            for (int contingency = 0; contingency < numberOfContingencies; contingency++) {
+                adder.newOnContingencyStateUsageRule().withInstant("curative").withContingency("co" + contingency).withUsageMethod(UsageMethod.AVAILABLE).add();
+            }
+            adder.add();
+        }
+        return crac;
+    }
+
+    private static void addFlowCnec(Crac crac, String lineId, String instantId, String contingencyId) {
+        crac.newFlowCnec()
+            .withId(lineId + " - " + (contingencyId == null ? "" : contingencyId + " - ") + instantId)
+            .withNetworkElement(lineId)
+            .withInstant(instantId)
+            .withContingency(contingencyId)
+            .withOperator("FR")
+            .withOptimized(true)
+            .withNominalVoltage(400.)
+            .withIMax(5000.)
+            .newThreshold().withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).withMin(-1000.).withMax(1000.).add()
+            .newThreshold().withUnit(Unit.AMPERE).withSide(TwoSides.TWO).withMax(2000.).add()
+            .add();
+    }
+}
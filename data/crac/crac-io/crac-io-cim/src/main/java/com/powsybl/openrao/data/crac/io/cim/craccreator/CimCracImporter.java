@@ -14,83 +14,51 @@ import com.powsybl.openrao.data.crac.io.cim.xsd.CRACMarketDocument;
 import com.powsybl.openrao.data.crac.api.CracCreationContext;
 import com.powsybl.openrao.data.crac.api.io.Importer;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.crac.io.commons.XmlHeaderReader;
 import org.apache.commons.io.FilenameUtils;
-import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBException;
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-import java.io.IOException;
+import javax.xml.namespace.QName;
 import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.net.MalformedURLException;
 import java.time.OffsetDateTime;
-import java.util.Objects;
-
-import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.BUSINESS_LOGS;
-import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
 
 /**
  * @author Godelaine de Montmorillon {@literal <godelaine.demontmorillon at rte-france.com>}
  */
 @AutoService(Importer.class)
 public class CimCracImporter implements Importer {
-    private static final String CRAC_CIM_SCHEMA_FILE_LOCATION = "/xsd/iec62325-451-n-crac_v2_3.xsd";
-    private static final String ETSO_CODES_SCHEMA_FILE_LOCATION = "/xsd/urn-entsoe-eu-wgedi-codelists.xsd";
+    private static final QName CRAC_MARKET_DOCUMENT = new QName("urn:iec62325.351:tc57wg16:451-n:CRACdocument:2:3", "CRAC_MarketDocument");
 
     @Override
     public String getFormat() {
         return "CimCrac";
     }
 
-    private CRACMarketDocument importNativeCrac(InputStream inputStream) {
-        CRACMarketDocument cracDocumentType;
-        try {
-            cracDocumentType = JAXBContext.newInstance(CRACMarketDocument.class)
-                .createUnmarshaller()
-                .unmarshal(new StreamSource(inputStream), CRACMarketDocument.class)
-                .getValue();
-        } catch (JAXBException e) {
-            throw new OpenRaoException(e);
-        }
-        return cracDocumentType;
+    private CRACMarketDocument importNativeCrac(InputStream inputStream, OffsetDateTime offsetDateTime) {
+        return CimCracStreamReader.read(inputStream, offsetDateTime);
     }
 
     @Override
     public boolean exists(String s, InputStream inputStream) {
-        if (!FilenameUtils.getExtension(s).equals("xml")) {
-            return false;
-        }
-        Source xmlFile = new StreamSource(inputStream);
-        // The following line triggers sonar issue java:S2755 which prevents us from accessing XSD schema files
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI); //NOSONAR
-
-        try {
-            Schema schema = schemaFactory.newSchema(new Source[]{
-                new StreamSource(Objects.requireNonNull(CimCracImporter.class.getResource(ETSO_CODES_SCHEMA_FILE_LOCATION)).toExternalForm()),
-                new StreamSource(Objects.requireNonNull(CimCracImporter.class.getResource(CRAC_CIM_SCHEMA_FILE_LOCATION)).toExternalForm())
-            });
-
-            schema.newValidator().validate(xmlFile);
-            BUSINESS_LOGS.info("CIM CRAC document is valid");
-            return true;
-        } catch (MalformedURLException e) {
-            throw new OpenRaoException("URL error");
-        } catch (SAXException e) {
-            TECHNICAL_LOGS.debug("CIM CRAC document is NOT valid. Reason: {}", e.getMessage());
-            return false;
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        return FilenameUtils.getExtension(s).equals("xml")
+            && XmlHeaderReader.readRootElement(inputStream).filter(CRAC_MARKET_DOCUMENT::equals).isPresent();
     }
 
+    /**
+     * The document is validated against the CIM CRAC XSD while it is read: an invalid document gives a failed creation
+     * context
+     */
     @Override
     public CracCreationContext importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network, OffsetDateTime offsetDateTime) {
-        return new CimCracCreator().createCrac(importNativeCrac(inputStream), network, offsetDateTime, cracCreationParameters);
+        CRACMarketDocument cracMarketDocument;
+        try {
+            cracMarketDocument = importNativeCrac(inputStream, offsetDateTime);
+        } catch (OpenRaoException e) {
+            CimCracCreationContext creationContext = new CimCracCreationContext(null, offsetDateTime, network);
+            creationContext.getCreationReport().error(e.getMessage());
+            creationContext.setCreationFailure();
+            return creationContext;
+        }
+        return new CimCracCreator().createCrac(cracMarketDocument, network, offsetDateTime, cracCreationParameters);
     }
 
 }
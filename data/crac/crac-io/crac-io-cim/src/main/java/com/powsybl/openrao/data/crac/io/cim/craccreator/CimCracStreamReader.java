@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.cim.craccreator;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.io.commons.XmlCodecRegistry;
+import com.powsybl.openrao.data.crac.io.cim.xsd.CRACMarketDocument;
+import com.powsybl.openrao.data.crac.io.cim.xsd.ESMPDateTimeInterval;
+import com.powsybl.openrao.data.crac.io.cim.xsd.SeriesPeriod;
+import com.powsybl.openrao.data.crac.io.cim.xsd.TimeSeries;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+/**
+ * Streaming reader of a CIM CRAC document.
+ * <p>
+ * Instead of unmarshalling the whole document at once, the document is walked with StAX and each TimeSeries is
+ * unmarshalled on its own. When a timestamp is given, the points which are not valid at this timestamp are dropped as
+ * soon as their TimeSeries is read, so that only the series of the imported timestamp are kept in memory.
+ * <p>
+ * The returned document only holds the fields read by the {@link CimCracCreator}: its mRID, its time interval and its
+ * TimeSeries.
+ * <p>
+ * The whole document is validated against the CIM CRAC XSD while it is read.
+ */
+final class CimCracStreamReader {
+
+    private static final String MRID = "mRID";
+    private static final String TIME_PERIOD_TIME_INTERVAL = "time_Period.timeInterval";
+    private static final String TIME_SERIES = "TimeSeries";
+    private static final String CRAC_CIM_SCHEMA_FILE_LOCATION = "/xsd/iec62325-451-n-crac_v2_3.xsd";
+    private static final String ETSO_CODES_SCHEMA_FILE_LOCATION = "/xsd/urn-entsoe-eu-wgedi-codelists.xsd";
+
+    private CimCracStreamReader() {
+    }
+
+    /**
+     * @param offsetDateTime : timestamp of the points to keep, all the points are kept if it is null
+     */
+    static CRACMarketDocument read(InputStream inputStream, OffsetDateTime offsetDateTime) {
+        Instant timestamp = offsetDateTime == null ? null : offsetDateTime.toInstant();
+        XMLStreamReader xmlStreamReader = null;
+        try (XmlCodecRegistry.Lease<Unmarshaller> unmarshallerLease = XmlCodecRegistry.getUnmarshaller(CRACMarketDocument.class)) {
+            Unmarshaller unmarshaller = unmarshallerLease.get();
+            xmlStreamReader = new ValidatingXmlStreamReader(createXmlInputFactory().createXMLStreamReader(inputStream),
+                XmlCodecRegistry.getSchema(CimCracStreamReader.class, ETSO_CODES_SCHEMA_FILE_LOCATION, CRAC_CIM_SCHEMA_FILE_LOCATION));
+            xmlStreamReader.nextTag();
+            CRACMarketDocument cracMarketDocument = new CRACMarketDocument();
+            xmlStreamReader.nextTag();
+            while (xmlStreamReader.isStartElement()) {
+                switch (xmlStreamReader.getLocalName()) {
+                    case MRID -> cracMarketDocument.setMRID(xmlStreamReader.getElementText());
+                    case TIME_PERIOD_TIME_INTERVAL -> cracMarketDocument.setTimePeriodTimeInterval(unmarshaller.unmarshal(xmlStreamReader, ESMPDateTimeInterval.class).getValue());
+                    case TIME_SERIES -> cracMarketDocument.getTimeSeries().add(retainPointsAtTimestamp(unmarshaller.unmarshal(xmlStreamReader, TimeSeries.class).getValue(), timestamp));
+                    default -> skipElement(xmlStreamReader);
+                }
+                moveToNextTag(xmlStreamReader);
+            }
+            return cracMarketDocument;
+        } catch (JAXBException e) {
+            throw new OpenRaoException(String.format("CIM CRAC document is not valid: %s", XmlCodecRegistry.getMessage(e)), e);
+        } catch (XMLStreamException e) {
+            throw new OpenRaoException(String.format("CIM CRAC document is not valid: %s", e.getMessage()), e);
+        } finally {
+            close(xmlStreamReader);
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    private static TimeSeries retainPointsAtTimestamp(TimeSeries timeSeries, Instant timestamp) {
+        if (timestamp != null) {
+            for (SeriesPeriod period : timeSeries.getPeriod()) {
+                period.getPoint().retainAll(CimCracUtils.getPointsAtTimestamp(timeSeries, period, timestamp));
+            }
+        }
+        return timeSeries;
+    }
+
+    private static void skipElement(XMLStreamReader xmlStreamReader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = xmlStreamReader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Move to the next child of the root element, or to the end of the document if there is none. After an
+     * unmarshalling, the reader may already be on the next child.
+     */
+    private static void moveToNextTag(XMLStreamReader xmlStreamReader) throws XMLStreamException {
+        do {
+            if (xmlStreamReader.isStartElement()) {
+                return;
+            }
+            xmlStreamReader.next();
+        } while (xmlStreamReader.hasNext());
+    }
+
+    private static void close(XMLStreamReader xmlStreamReader) {
+        if (xmlStreamReader != null) {
+            try {
+                xmlStreamReader.close();
+            } catch (XMLStreamException e) {
+                throw new OpenRaoException(e);
+            }
+        }
+    }
+}
@@ -56,22 +56,30 @@ public final class CimCracUtils {
     public static void applyActionToEveryPoint(List<TimeSeries> cimTimeSeries, java.time.Instant timestamp, Consumer<? super Point> action) {
         cimTimeSeries.forEach(
             timeSerie -> timeSerie.getPeriod().forEach(
-                period -> {
-                    List<Point> points = period.getPoint();
-                    points.sort(REVERSE_POINT_COMPARATOR);
-                    Optional<Integer> previousPosition = Optional.empty();
-                    for (Point point : points) {
-                        final int currentPosition = point.getPosition();
-                        if (isTimestampInPeriod(timestamp, timeSerie, period, currentPosition, previousPosition)) {
-                            action.accept(point);
-                        }
-                        previousPosition = Optional.of(currentPosition);
-                    }
-                }
+                period -> getPointsAtTimestamp(timeSerie, period, timestamp).forEach(action)
             )
         );
     }
 
+    /**
+     * Get the points of a period that are valid at the given timestamp, the points of the period are sorted by
+     * decreasing position
+     */
+    static List<Point> getPointsAtTimestamp(TimeSeries timeSerie, SeriesPeriod period, Instant timestamp) {
+        List<Point> points = period.getPoint();
+        points.sort(REVERSE_POINT_COMPARATOR);
+        List<Point> pointsAtTimestamp = new ArrayList<>();
+        Optional<Integer> previousPosition = Optional.empty();
+        for (Point point : points) {
+            final int currentPosition = point.getPosition();
+            if (isTimestampInPeriod(timestamp, timeSerie, period, currentPosition, previousPosition)) {
+                pointsAtTimestamp.add(point);
+            }
+            previousPosition = Optional.of(currentPosition);
+        }
+        return pointsAtTimestamp;
+    }
+
     private static String getCurveTypeFromTimeSeries(TimeSeries cimTimeSerie) {
         String curveType = cimTimeSerie.getCurveType();
         if (StringUtils.isBlank(curveType)) {
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.cim.craccreator;
+
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.validation.Schema;
+import javax.xml.validation.ValidatorHandler;
+
+/**
+ * StAX reader which validates the document against a schema while it is read.
+ * <p>
+ * Each event read is forwarded to a {@link ValidatorHandler}, so that the whole document is validated in the same
+ * pass as the one which unmarshals it, without being kept in memory. A validation error is thrown as an
+ * {@link XMLStreamException} by the read which reaches it.
+ * <p>
+ * The document must only be read with {@link #next()}, {@link #nextTag()} and {@link #getElementText()}, which all
+ * go through {@link #next()}.
+ */
+final class ValidatingXmlStreamReader extends StreamReaderDelegate {
+
+    private final ValidatorHandler validatorHandler;
+
+    ValidatingXmlStreamReader(XMLStreamReader xmlStreamReader, Schema schema) throws XMLStreamException {
+        super(xmlStreamReader);
+        this.validatorHandler = schema.newValidatorHandler();
+        validatorHandler.setDocumentLocator(new StreamLocator());
+        forward(getEventType());
+    }
+
+    @Override
+    public int next() throws XMLStreamException {
+        int event = super.next();
+        forward(event);
+        return event;
+    }
+
+    @Override
+    public int nextTag() throws XMLStreamException {
+        int event = next();
+        while (isWhiteSpace() || event == COMMENT || event == PROCESSING_INSTRUCTION) {
+            event = next();
+        }
+        if (event != START_ELEMENT && event != END_ELEMENT) {
+            throw new XMLStreamException("Expected a start or end tag", getLocation());
+        }
+        return event;
+    }
+
+    @Override
+    public String getElementText() throws XMLStreamException {
+        if (getEventType() != START_ELEMENT) {
+            throw new XMLStreamException("Expected a start tag", getLocation());
+        }
+        StringBuilder text = new StringBuilder();
+        int event = next();
+        while (event != END_ELEMENT) {
+            if (event == CHARACTERS || event == CDATA || event == SPACE || event == ENTITY_REFERENCE) {
+                text.append(getText());
+            } else if (event == START_ELEMENT || event == END_DOCUMENT) {
+                throw new XMLStreamException("Expected a text-only element", getLocation());
+            }
+            event = next();
+        }
+        return text.toString();
+    }
+
+    private void forward(int event) throws XMLStreamException {
+        try {
+            switch (event) {
+                case START_DOCUMENT -> validatorHandler.startDocument();
+                case START_ELEMENT -> startElement();
+                case CHARACTERS, CDATA, SPACE -> validatorHandler.characters(getTextCharacters(), getTextStart(), getTextLength());
+                case END_ELEMENT -> endElement();
+                case END_DOCUMENT -> validatorHandler.endDocument();
+                default -> {
+                    // other events are not relevant for the validation
+                }
+            }
+        } catch (SAXException e) {
+            throw new XMLStreamException(e.getMessage(), getLocation(), e);
+        }
+    }
+
+    private void startElement() throws SAXException {
+        for (int i = 0; i < getNamespaceCount(); i++) {
+            validatorHandler.startPrefixMapping(nonNull(getNamespacePrefix(i)), nonNull(getNamespaceURI(i)));
+        }
+        AttributesImpl attributes = new AttributesImpl();
+        for (int i = 0; i < getAttributeCount(); i++) {
+            attributes.addAttribute(nonNull(getAttributeNamespace(i)), getAttributeLocalName(i), qualifiedName(getAttributePrefix(i), getAttributeLocalName(i)),
+                getAttributeType(i), getAttributeValue(i));
+        }
+        validatorHandler.startElement(nonNull(getNamespaceURI()), getLocalName(), qualifiedName(getPrefix(), getLocalName()), attributes);
+    }
+
+    private void endElement() throws SAXException {
+        validatorHandler.endElement(nonNull(getNamespaceURI()), getLocalName(), qualifiedName(getPrefix(), getLocalName()));
+        for (int i = 0; i < getNamespaceCount(); i++) {
+            validatorHandler.endPrefixMapping(nonNull(getNamespacePrefix(i)));
+        }
+    }
+
+    private static String qualifiedName(String prefix, String localName) {
+        return prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName;
+    }
+
+    private static String nonNull(String value) {
+        return value == null ? "" : value;
+    }
+
+    /**
+     * Location of the reader, given to the validator so that its errors tell where they occur
+     */
+    private final class StreamLocator implements Locator {
+        @Override
+        public String getPublicId() {
+            return getLocation().getPublicId();
+        }
+
+        @Override
+        public String getSystemId() {
+            return getLocation().getSystemId();
+        }
+
+        @Override
+        public int getLineNumber() {
+            return getLocation().getLineNumber();
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return getLocation().getColumnNumber();
+        }
+    }
+}
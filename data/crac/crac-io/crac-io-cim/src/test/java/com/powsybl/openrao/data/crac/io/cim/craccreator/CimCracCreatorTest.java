@@ -341,6 +341,14 @@ class CimCracCreatorTest {
         assertFalse(cracCreationContext.isCreationSuccessful());
     }
 
+    @Test
+    void cracCreationFailureNotXsdValid() throws IOException {
+        setUp("/cracs/CIM_21_1_1_not_xsd_valid.xml", baseNetwork, OffsetDateTime.parse("2021-04-01T22:00Z"), new CracCreationParameters());
+        assertFalse(cracCreationContext.isCreationSuccessful());
+        assertNull(cracCreationContext.getCrac());
+        assertTrue(cracCreationContext.getCreationReport().getReport().get(0).contains("CIM CRAC document is not valid"));
+    }
+
     @Test
     void cracCreationSuccessfulRightTime() throws IOException {
         setUp("/cracs/CIM_21_1_1.xml", baseNetwork, OffsetDateTime.parse("2021-04-01T22:00Z"), new CracCreationParameters());
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.cim.craccreator;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.io.cim.xsd.CRACMarketDocument;
+import com.powsybl.openrao.data.crac.io.cim.xsd.Point;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CimCracStreamReaderTest {
+
+    private static List<Integer> readPointPositions(OffsetDateTime offsetDateTime) {
+        InputStream inputStream = CimCracStreamReaderTest.class.getResourceAsStream("/cracs/CIM_21_1_1_multi_period.xml");
+        CRACMarketDocument cracMarketDocument = CimCracStreamReader.read(inputStream, offsetDateTime);
+        assertEquals("CIM_CRAC_DOCUMENT", cracMarketDocument.getMRID());
+        assertEquals("2021-04-01T22:00Z", cracMarketDocument.getTimePeriodTimeInterval().getStart());
+        assertEquals("2021-04-02T22:00Z", cracMarketDocument.getTimePeriodTimeInterval().getEnd());
+        assertEquals(1, cracMarketDocument.getTimeSeries().size());
+        return cracMarketDocument.getTimeSeries().get(0).getPeriod().get(0).getPoint().stream().map(Point::getPosition).sorted().toList();
+    }
+
+    @Test
+    void testOnlyPointsAtTimestampAreKept() {
+        assertEquals(List.of(), readPointPositions(OffsetDateTime.parse("2021-04-01T22:00Z")));
+        assertEquals(List.of(2), readPointPositions(OffsetDateTime.parse("2021-04-01T23:00Z")));
+        assertEquals(List.of(2), readPointPositions(OffsetDateTime.parse("2021-04-02T01:00Z")));
+        assertEquals(List.of(5), readPointPositions(OffsetDateTime.parse("2021-04-02T02:00Z")));
+    }
+
+    @Test
+    void testAllPointsAreKeptWithoutTimestamp() {
+        assertEquals(List.of(2, 5), readPointPositions(null));
+    }
+
+    @Test
+    void testDtdIsRejected() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE CRAC_MarketDocument [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]>"
+            + "<CRAC_MarketDocument xmlns=\"urn:iec62325.351:tc57wg16:451-n:CRACdocument:2:3\"><mRID>&xxe;</mRID></CRAC_MarketDocument>";
+        InputStream inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+        assertThrows(OpenRaoException.class, () -> CimCracStreamReader.read(inputStream, null));
+    }
+
+    @Test
+    void testDocumentIsValidatedAgainstXsd() {
+        InputStream inputStream = getClass().getResourceAsStream("/cracs/CIM_21_1_1_not_xsd_valid.xml");
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> CimCracStreamReader.read(inputStream, null));
+        assertTrue(exception.getMessage().contains("Value 'one' is not facet-valid"));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.io.commons;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Shared cache of the JAXB objects used to read and write XML documents.
+ * <p>
+ * JAXB contexts and compiled XSD schemas are thread-safe and costly to create: they are created on first use and
+ * shared by all the imports and exports of the JVM. Unmarshallers and marshallers are not thread-safe: they are lent
+ * to one caller at a time, and are kept in a pool when they are given back, so that they can be reused.
+ * <p>
+ * The schema and the event handler of a pooled unmarshaller or marshaller are reset when it is given back. The other
+ * properties are not, so a caller must set all the properties it relies on.
+ */
+public final class XmlCodecRegistry {
+
+    private static final int MAX_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private static final Map<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+    private static final Map<SchemaKey, Schema> SCHEMAS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Pool<Unmarshaller>> UNMARSHALLERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Pool<Marshaller>> MARSHALLERS = new ConcurrentHashMap<>();
+
+    private XmlCodecRegistry() {
+    }
+
+    private record SchemaKey(Class<?> resourceClass, List<String> schemaResources) {
+    }
+
+    /**
+     * Unmarshaller or marshaller lent by the registry, which is given back to the registry when it is closed
+     */
+    public static final class Lease<T> implements AutoCloseable {
+        private final T codec;
+        private final Pool<T> pool;
+
+        private Lease(T codec, Pool<T> pool) {
+            this.codec = codec;
+            this.pool = pool;
+        }
+
+        public T get() {
+            return codec;
+        }
+
+        @Override
+        public void close() {
+            pool.release(codec);
+        }
+    }
+
+    private interface CodecFactory<T> {
+        T create() throws JAXBException;
+    }
+
+    private interface CodecReset<T> {
+        void reset(T codec) throws JAXBException;
+    }
+
+    private static final class Pool<T> {
+        private final Queue<T> codecs = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final CodecFactory<T> factory;
+        private final CodecReset<T> reset;
+
+        private Pool(CodecFactory<T> factory, CodecReset<T> reset) {
+            this.factory = factory;
+            this.reset = reset;
+        }
+
+        private Lease<T> acquire() throws JAXBException {
+            T codec = codecs.poll();
+            if (codec == null) {
+                return new Lease<>(factory.create(), this);
+            }
+            size.decrementAndGet();
+            return new Lease<>(codec, this);
+        }
+
+        /**
+         * The codec is dropped if it cannot be reset, or if the pool is already full
+         */
+        private void release(T codec) {
+            try {
+                reset.reset(codec);
+            } catch (JAXBException e) {
+                return;
+            }
+            if (size.incrementAndGet() <= MAX_POOL_SIZE) {
+                codecs.offer(codec);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * JAXB context bound to the given document class
+     */
+    public static JAXBContext getContext(Class<?> documentClass) {
+        return CONTEXTS.computeIfAbsent(documentClass, XmlCodecRegistry::createContext);
+    }
+
+    /**
+     * Schema made of the given XSD resources of the given class
+     */
+    public static Schema getSchema(Class<?> resourceClass, String... schemaResources) {
+        return SCHEMAS.computeIfAbsent(new SchemaKey(resourceClass, List.of(schemaResources)), XmlCodecRegistry::createSchema);
+    }
+
+    /**
+     * Lend an unmarshaller of the documents of the given class, to be used in a try-with-resources statement
+     */
+    public static Lease<Unmarshaller> getUnmarshaller(Class<?> documentClass) throws JAXBException {
+        return UNMARSHALLERS.computeIfAbsent(documentClass, clazz -> new Pool<>(
+            () -> getContext(clazz).createUnmarshaller(),
+            unmarshaller -> {
+                unmarshaller.setSchema(null);
+                unmarshaller.setEventHandler(null);
+            })).acquire();
+    }
+
+    /**
+     * Lend a marshaller of the documents of the given class, to be used in a try-with-resources statement
+     */
+    public static Lease<Marshaller> getMarshaller(Class<?> documentClass) throws JAXBException {
+        return MARSHALLERS.computeIfAbsent(documentClass, clazz -> new Pool<>(
+            () -> getContext(clazz).createMarshaller(),
+            marshaller -> {
+                marshaller.setSchema(null);
+                marshaller.setEventHandler(null);
+            })).acquire();
+    }
+
+    /**
+     * Message of an exception thrown by JAXB, which is often only held by its linked exception
+     */
+    public static String getMessage(JAXBException exception) {
+        if (exception.getMessage() != null || exception.getLinkedException() == null) {
+            return exception.getMessage();
+        }
+        return exception.getLinkedException().getMessage();
+    }
+
+    private static JAXBContext createContext(Class<?> documentClass) {
+        try {
+            return JAXBContext.newInstance(documentClass);
+        } catch (JAXBException e) {
+            throw new OpenRaoException(e);
+        }
+    }
+
+    private static Schema createSchema(SchemaKey schemaKey) {
+        try {
+            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            // the XSD resources may import or include other resources of the classpath, but nothing else
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "file,jar");
+            Source[] sources = schemaKey.schemaResources().stream()
+                .map(schemaResource -> new StreamSource(Objects.requireNonNull(schemaKey.resourceClass().getResource(schemaResource)).toExternalForm()))
+                .toArray(Source[]::new);
+            return factory.newSchema(sources);
+        } catch (SAXException e) {
+            throw new OpenRaoException(String.format("Could not read XML schema %s.", schemaKey.schemaResources()), e);
+        }
+    }
+}
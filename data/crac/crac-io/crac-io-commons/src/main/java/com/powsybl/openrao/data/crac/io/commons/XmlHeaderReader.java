@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.io.commons;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Reader of the header of an XML document, used by the XML CRAC importers to detect their format without parsing the
+ * whole document.
+ */
+public final class XmlHeaderReader {
+
+    private XmlHeaderReader() {
+    }
+
+    /**
+     * Read the qualified name of the root element of an XML document. Only the beginning of the document is read, up to
+     * its root element. The name is empty if the data is not an XML document or if it declares a DTD.
+     */
+    public static Optional<QName> readRootElement(InputStream inputStream) {
+        XMLStreamReader xmlStreamReader = null;
+        try {
+            xmlStreamReader = createXmlInputFactory().createXMLStreamReader(inputStream);
+            xmlStreamReader.nextTag();
+            return Optional.of(xmlStreamReader.getName());
+        } catch (XMLStreamException e) {
+            return Optional.empty();
+        } finally {
+            close(xmlStreamReader);
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return xmlInputFactory;
+    }
+
+    private static void close(XMLStreamReader xmlStreamReader) {
+        if (xmlStreamReader != null) {
+            try {
+                xmlStreamReader.close();
+            } catch (XMLStreamException e) {
+                // nothing more is read from the document
+            }
+        }
+    }
+}
@@ -65,6 +65,14 @@ class UcteConnectable implements Comparable<UcteConnectable> {
         return matchSuffix(suffix) && matchFromTo(from, to) && matchType(connectableTypes);
     }
 
+    String getUcteFromNode() {
+        return ucteFromNode;
+    }
+
+    String getUcteToNode() {
+        return ucteToNode;
+    }
+
     UcteMatchingResult getUcteMatchingResult(String from, String to, String suffix, ConnectableType... connectableTypes) {
         if (!doesMatch(from, to, suffix, connectableTypes)) {
             return UcteMatchingResult.notFound();
@@ -16,27 +16,35 @@ import java.util.stream.Collectors;
 
 /**
  * A utility class that reads the network and stores UCTE information in order
- * to easily map UCTE connectables (from/to/suffix) to elements in the network
+ * to easily map UCTE connectables (from/to/suffix) to elements in the network.
+ * The network is read once when the collection is created: a collection can be shared by several
+ * {@link UcteNetworkAnalyzer}s of the same network, as long as the network is not modified.
  *
  * @author Baptiste Seguinot{@literal <baptiste.seguinot at rte-france.com>}
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
  */
-class UcteConnectableCollection {
+public class UcteConnectableCollection {
 
     /*
-        The key of the map is the fromNodeId of the Connectable
-        The TreeMultiMap is stored by alphabetical order of the fromNodeId
-        One key can be associated to several values, as several Connectables
-        can have the same fromNodeId.
+        Connectables indexed by the concatenation of their from and to node ids, used when the sought nodes contain no
+        wildcard, and by the concatenation of the 7 first characters of their from and to node ids, used when one of
+        the sought nodes ends with a wildcard. Lookups in the inverted direction use the same indexes, with the nodes
+        swapped.
+        Within each entry, the connectables are sorted as in the TreeMultimap they are read from.
      */
-    private TreeMultimap<String, UcteConnectable> connectables;
-
-    UcteConnectableCollection(Network network) {
-        connectables = TreeMultimap.create(Ordering.<String>natural().nullsFirst(), Ordering.<UcteConnectable>natural().nullsFirst());
-        addBranches(network);
-        addDanglingLines(network);
-        addSwitches(network);
-        addHvdcs(network);
+    private final Map<String, List<UcteConnectable>> connectablesByNodes = new HashMap<>();
+    private final Map<String, List<UcteConnectable>> connectablesByNodePrefixes = new HashMap<>();
+
+    public UcteConnectableCollection(Network network) {
+        TreeMultimap<String, UcteConnectable> connectables = TreeMultimap.create(Ordering.<String>natural().nullsFirst(), Ordering.<UcteConnectable>natural().nullsFirst());
+        addBranches(network, connectables);
+        addDanglingLines(network, connectables);
+        addSwitches(network, connectables);
+        addHvdcs(network, connectables);
+        connectables.values().forEach(ucteConnectable -> {
+            connectablesByNodes.computeIfAbsent(ucteConnectable.getUcteFromNode() + ucteConnectable.getUcteToNode(), k -> new ArrayList<>()).add(ucteConnectable);
+            connectablesByNodePrefixes.computeIfAbsent(getNodePrefix(ucteConnectable.getUcteFromNode()) + getNodePrefix(ucteConnectable.getUcteToNode()), k -> new ArrayList<>()).add(ucteConnectable);
+        });
     }
 
     UcteMatchingResult lookForConnectable(String fromNodeId, String toNodeId, String suffix, UcteNetworkAnalyzerProperties.BusIdMatchPolicy policy, ConnectableType... connectableTypes) {
@@ -71,8 +79,8 @@ class UcteConnectableCollection {
 
         // if no result has been found yet and busIdMatchPolicy is REPLACE_8TH_CHARACTER_WITH_WILDCARD, continue search
         // by replacing last character with wildcard
-        String fromWildcard = String.format("%1$-7s", fromNodeId).substring(0, 7) + UcteUtils.WILDCARD_CHARACTER;
-        String toWildcard = String.format("%1$-7s", toNodeId).substring(0, 7) + UcteUtils.WILDCARD_CHARACTER;
+        String fromWildcard = getNodePrefix(fromNodeId) + UcteUtils.WILDCARD_CHARACTER;
+        String toWildcard = getNodePrefix(toNodeId) + UcteUtils.WILDCARD_CHARACTER;
 
         // with the direction in argument ...
         ucteMatchingResult = lookForMatch(fromWildcard, toWildcard, suffix, connectableTypes);
@@ -88,58 +96,42 @@ class UcteConnectableCollection {
 
     private UcteMatchingResult lookForMatch(String fromNodeId, String toNodeId, String suffix, ConnectableType... types) {
 
-        if (!fromNodeId.endsWith(UcteUtils.WILDCARD_CHARACTER)) {
+        if (!fromNodeId.endsWith(UcteUtils.WILDCARD_CHARACTER) && !toNodeId.endsWith(UcteUtils.WILDCARD_CHARACTER)) {
 
-            // if the from node contains no wildcard, directly look for the entry of the TreeMultimap with the fromNode id
-            Collection<UcteConnectable> ucteElements = connectables.asMap().getOrDefault(fromNodeId, Collections.emptyList());
-            return lookForMatchWithinCollection(fromNodeId, toNodeId, suffix, ucteElements, types);
+            // if the nodes contain no wildcard, directly look for the connectables with these from and to nodes, and
+            // speed up the search by returning the first match instead of looking for all possible matches
+            for (UcteConnectable ucteConnectable : connectablesByNodes.getOrDefault(fromNodeId + toNodeId, Collections.emptyList())) {
+                if (ucteConnectable.doesMatch(fromNodeId, toNodeId, suffix, types)) {
+                    return ucteConnectable.getUcteMatchingResult(fromNodeId, toNodeId, suffix, types);
+                }
+            }
+            return UcteMatchingResult.notFound();
 
         } else {
 
-            // if the from node contains a wildcard, broad all entries of the map whose 7th first characters match the given id
-            // as the map is ordered in alphabetical order, the corresponding entries can be searched efficiently
-
-            String beforeFrom = fromNodeId.substring(0, UcteUtils.UCTE_NODE_LENGTH - 1) + Character.MIN_VALUE;
-            String afterFrom = fromNodeId.substring(0, UcteUtils.UCTE_NODE_LENGTH - 1) + Character.MAX_VALUE;
-
-            List<UcteConnectable> ucteElements = connectables.asMap().subMap(beforeFrom, afterFrom).values().stream()
-                .flatMap(Collection::stream)
-                .toList();
-
-            return lookForMatchWithinCollection(fromNodeId, toNodeId, suffix, ucteElements, types);
+            // if the nodes contain wildcards, look for all possible matches among the connectables whose from and to
+            // nodes have the same 7 first characters as the given ones
+            UcteMatchingResult matchingResult = UcteMatchingResult.notFound();
+            for (UcteConnectable ucteConnectable : connectablesByNodePrefixes.getOrDefault(getNodePrefix(fromNodeId) + getNodePrefix(toNodeId), Collections.emptyList())) {
+                if (ucteConnectable.doesMatch(fromNodeId, toNodeId, suffix, types)) {
+                    if (!matchingResult.getStatus().equals(UcteMatchingResult.MatchStatus.NOT_FOUND)) {
+                        return UcteMatchingResult.severalPossibleMatch();
+                    }
+                    matchingResult = ucteConnectable.getUcteMatchingResult(fromNodeId, toNodeId, suffix, types);
+                }
+            }
+            return matchingResult;
         }
     }
 
-    private UcteMatchingResult lookForMatchWithinCollection(String fromNodeId, String toNodeId, String suffix, Collection<UcteConnectable> ucteConnectables, ConnectableType... connectableTypes) {
-
-        if (fromNodeId.endsWith(UcteUtils.WILDCARD_CHARACTER) || toNodeId.endsWith(UcteUtils.WILDCARD_CHARACTER)) {
-            // if the nodes contains wildCards, we have to look for all possible match
-
-            List<UcteMatchingResult> matchedConnectables = ucteConnectables.stream()
-                .filter(ucteConnectable -> ucteConnectable.doesMatch(fromNodeId, toNodeId, suffix, connectableTypes))
-                .map(ucteConnectable -> ucteConnectable.getUcteMatchingResult(fromNodeId, toNodeId, suffix, connectableTypes))
-                .toList();
-
-            if (matchedConnectables.size() == 1) {
-                return matchedConnectables.get(0);
-            } else if (matchedConnectables.size() == 2) {
-                return UcteMatchingResult.severalPossibleMatch();
-            } else if (matchedConnectables.size() > 2) {
-                return UcteMatchingResult.severalPossibleMatch();
-            } else {
-                return UcteMatchingResult.notFound();
-            }
-        } else {
-
-            // if the nodes contains no wildCards, speed up the search by using findAny() instead of looking for all possible matches
-            return ucteConnectables.stream()
-                .filter(ucteConnectable -> ucteConnectable.doesMatch(fromNodeId, toNodeId, suffix, connectableTypes))
-                .map(ucteConnectable -> ucteConnectable.getUcteMatchingResult(fromNodeId, toNodeId, suffix, connectableTypes))
-                .findAny().orElse(UcteMatchingResult.notFound());
-        }
+    /**
+     * Get the 7 first characters of a node id, completed with whitespaces if it is shorter
+     */
+    private static String getNodePrefix(String nodeId) {
+        return String.format("%1$-7s", nodeId).substring(0, UcteUtils.UCTE_NODE_LENGTH - 1);
     }
 
-    private void addBranches(Network network) {
+    private static void addBranches(Network network, TreeMultimap<String, UcteConnectable> connectables) {
         network.getBranchStream().forEach(branch -> {
             String from = getNodeName(branch.getTerminal1().getBusBreakerView().getConnectableBus().getId());
             String to = getNodeName(branch.getTerminal2().getBusBreakerView().getConnectableBus().getId());
@@ -173,7 +165,7 @@ class UcteConnectableCollection {
         });
     }
 
-    private void addDanglingLines(Network network) {
+    private static void addDanglingLines(Network network, TreeMultimap<String, UcteConnectable> connectables) {
         network.getDanglingLineStream().filter(danglingLine -> !danglingLine.isPaired()).forEach(danglingLine -> {
             // A dangling line is an Injection with a generator convention.
             // After an UCTE import, the flow on the dangling line is therefore always from the X_NODE to the other node.
@@ -190,7 +182,7 @@ class UcteConnectableCollection {
         });
     }
 
-    private void addSwitches(Network network) {
+    private static void addSwitches(Network network, TreeMultimap<String, UcteConnectable> connectables) {
         network.getSwitchStream().forEach(switchElement -> {
             String from = getNodeName(switchElement.getVoltageLevel().getBusBreakerView().getBus1(switchElement.getId()).getId());
             String to = getNodeName(switchElement.getVoltageLevel().getBusBreakerView().getBus2(switchElement.getId()).getId());
@@ -198,7 +190,7 @@ class UcteConnectableCollection {
         });
     }
 
-    private void addHvdcs(Network network) {
+    private static void addHvdcs(Network network, TreeMultimap<String, UcteConnectable> connectables) {
         network.getHvdcLines().forEach(hvdcLine -> {
             String from = getNodeName(hvdcLine.getConverterStation1().getTerminal().getBusBreakerView().getBus().getId());
             String to = getNodeName(hvdcLine.getConverterStation2().getTerminal().getBusBreakerView().getBus().getId());
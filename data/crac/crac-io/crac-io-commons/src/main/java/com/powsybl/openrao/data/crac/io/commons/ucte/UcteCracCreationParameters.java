@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.io.commons.ucte;
+
+import com.powsybl.commons.extensions.AbstractExtension;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+
+/**
+ * Extension of the {@link CracCreationParameters} letting several imports of UCTE CRACs on the same network read
+ * the network only once.
+ * The {@link UcteConnectableCollection} of the last network given is kept, and given to the
+ * {@link UcteNetworkAnalyzer}s of the following imports on this network. The network must therefore not be modified
+ * between these imports. The collection of another network replaces it.
+ */
+public class UcteCracCreationParameters extends AbstractExtension<CracCreationParameters> {
+
+    private Network network;
+    private UcteConnectableCollection connectablesInNetwork;
+
+    @Override
+    public String getName() {
+        return "UcteCracCreatorParameters";
+    }
+
+    public synchronized UcteConnectableCollection getConnectablesInNetwork(Network network) {
+        if (this.network != network) {
+            this.connectablesInNetwork = new UcteConnectableCollection(network);
+            this.network = network;
+        }
+        return connectablesInNetwork;
+    }
+
+    /**
+     * Analyzer of the network, using the connectables shared through the extension of the parameters when there is one.
+     */
+    public static UcteNetworkAnalyzer createNetworkAnalyzer(Network network, UcteNetworkAnalyzerProperties properties, CracCreationParameters cracCreationParameters) {
+        UcteCracCreationParameters ucteCracCreationParameters = cracCreationParameters.getExtension(UcteCracCreationParameters.class);
+        if (ucteCracCreationParameters == null || !network.getSourceFormat().equals("UCTE")) {
+            return new UcteNetworkAnalyzer(network, properties);
+        }
+        return new UcteNetworkAnalyzer(network, properties, ucteCracCreationParameters.getConnectablesInNetwork(network));
+    }
+}
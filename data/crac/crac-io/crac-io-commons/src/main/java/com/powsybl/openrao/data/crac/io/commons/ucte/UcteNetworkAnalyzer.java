@@ -13,6 +13,8 @@ import com.powsybl.iidm.network.*;
 /**
  * A utility class, that stores network information so as to speed up
  * the identification of Ucte branches within a Iidm network.
+ * The connectables of the network can be read once and shared by several analyzers of the network, by giving them
+ * the same {@link UcteConnectableCollection}.
  *
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
  */
@@ -23,12 +25,20 @@ public class UcteNetworkAnalyzer {
     private final UcteNetworkAnalyzerProperties properties;
 
     public UcteNetworkAnalyzer(Network network, UcteNetworkAnalyzerProperties properties) {
+        this(network, properties, null);
+    }
+
+    /**
+     * Analyzer using connectables already read from the network, which must not have been modified since they were read.
+     * If no collection is given, the network is read by the analyzer.
+     */
+    public UcteNetworkAnalyzer(Network network, UcteNetworkAnalyzerProperties properties, UcteConnectableCollection connectablesInNetwork) {
         if (!network.getSourceFormat().equals("UCTE")) {
             throw new IllegalArgumentException("UcteNetworkHelper can only be used for an UCTE network");
         }
         this.network = network;
         this.properties = properties;
-        this.connectablesInNetwork = new UcteConnectableCollection(network);
+        this.connectablesInNetwork = connectablesInNetwork != null ? connectablesInNetwork : new UcteConnectableCollection(network);
     }
 
     public Network getNetwork() {
@@ -39,6 +49,10 @@ public class UcteNetworkAnalyzer {
         return properties;
     }
 
+    public UcteConnectableCollection getConnectablesInNetwork() {
+        return connectablesInNetwork;
+    }
+
     UcteMatchingResult findContingencyElement(String from, String to, String suffix) {
         return connectablesInNetwork.lookForConnectable(completeNodeName(from), completeNodeName(to), suffix, properties.getBusIdMatchPolicy(),
                 ConnectableType.INTERNAL_LINE, ConnectableType.TIE_LINE, ConnectableType.DANGLING_LINE, ConnectableType.VOLTAGE_TRANSFORMER, ConnectableType.PST, ConnectableType.HVDC);
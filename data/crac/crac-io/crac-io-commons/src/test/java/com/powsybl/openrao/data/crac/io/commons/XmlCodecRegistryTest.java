@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.io.commons;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlCodecRegistryTest {
+
+    @XmlRootElement(name = "testDocument")
+    public static class TestDocument {
+        public int value;
+    }
+
+    private static TestDocument read(String xml) throws JAXBException {
+        try (XmlCodecRegistry.Lease<Unmarshaller> unmarshaller = XmlCodecRegistry.getUnmarshaller(TestDocument.class)) {
+            return (TestDocument) unmarshaller.get().unmarshal(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    void testContextsAndSchemasAreCached() {
+        assertSame(XmlCodecRegistry.getContext(TestDocument.class), XmlCodecRegistry.getContext(TestDocument.class));
+        assertSame(XmlCodecRegistry.getSchema(XmlCodecRegistryTest.class, "/xsd/testDocument.xsd"), XmlCodecRegistry.getSchema(XmlCodecRegistryTest.class, "/xsd/testDocument.xsd"));
+        assertThrows(NullPointerException.class, () -> XmlCodecRegistry.getSchema(XmlCodecRegistryTest.class, "/xsd/unknown.xsd"));
+        assertThrows(OpenRaoException.class, () -> XmlCodecRegistry.getContext(Runnable.class));
+    }
+
+    @Test
+    void testMarshallersAreReusedAndReset() throws JAXBException {
+        TestDocument document = new TestDocument();
+        document.value = 3;
+        Marshaller firstMarshaller;
+        try (XmlCodecRegistry.Lease<Marshaller> marshaller = XmlCodecRegistry.getMarshaller(TestDocument.class)) {
+            firstMarshaller = marshaller.get();
+            firstMarshaller.setSchema(XmlCodecRegistry.getSchema(XmlCodecRegistryTest.class, "/xsd/testDocument.xsd"));
+            StringWriter writer = new StringWriter();
+            firstMarshaller.marshal(document, writer);
+            assertTrue(writer.toString().contains("<value>3</value>"));
+        }
+        try (XmlCodecRegistry.Lease<Marshaller> marshaller = XmlCodecRegistry.getMarshaller(TestDocument.class)) {
+            assertSame(firstMarshaller, marshaller.get());
+            assertNull(marshaller.get().getSchema());
+        }
+    }
+
+    @Test
+    void testUnmarshallersCanBeUsedConcurrently() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<TestDocument>> documents = IntStream.range(0, 100)
+                .mapToObj(i -> executorService.submit(() -> read("<testDocument><value>" + i + "</value></testDocument>")))
+                .toList();
+            for (int i = 0; i < documents.size(); i++) {
+                assertEquals(i, documents.get(i).get().value);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.io.commons;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.namespace.QName;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class XmlHeaderReaderTest {
+
+    private static Optional<QName> readRootElement(String xml) {
+        return XmlHeaderReader.readRootElement(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testReadRootElement() {
+        assertEquals(Optional.of(new QName("CRACDocument")), readRootElement("<?xml version=\"1.0\"?>\n<!-- comment -->\n<CRACDocument DtdVersion=\"4\"><DocumentIdentification v=\"id\"/>"));
+        assertEquals(Optional.of(new QName("flowbased", "FlowBasedConstraintDocument")), readRootElement("<FlowBasedConstraintDocument xmlns=\"flowbased\">"));
+    }
+
+    @Test
+    void testReadRootElementOfInvalidDocuments() {
+        assertEquals(Optional.empty(), readRootElement(""));
+        assertEquals(Optional.empty(), readRootElement("{\"type\": \"CRAC\"}"));
+        assertEquals(Optional.empty(), readRootElement("<!DOCTYPE CRACDocument [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><CRACDocument>&xxe;</CRACDocument>"));
+    }
+}
@@ -381,4 +381,37 @@ class UcteConnectableCollectionTest {
         assertTrue(result.hasMatched());
         assertEquals(UcteMatchingResult.MatchStatus.SEVERAL_MATCH, result.getStatus());
     }
+
+    @Test
+    void testCollectionSharedByAnalyzers() {
+        init("TestCase_severalVoltageLevels_Xnodes.uct");
+        UcteNetworkAnalyzer wildcardAnalyzer = new UcteNetworkAnalyzer(network, new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WILDCARDS), ucteConnectableCollection);
+        UcteNetworkAnalyzer whitespaceAnalyzer = new UcteNetworkAnalyzer(network, new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WHITESPACES), ucteConnectableCollection);
+        assertSame(ucteConnectableCollection, wildcardAnalyzer.getConnectablesInNetwork());
+        assertSame(ucteConnectableCollection, whitespaceAnalyzer.getConnectablesInNetwork());
+        assertSame(network.getIdentifiable("BBE1AA1  BBE2AA1  1"), wildcardAnalyzer.findFlowElement("BBE1AA1", "BBE2AA1", "1").getIidmIdentifiable());
+        assertSame(network.getIdentifiable("BBE1AA1  BBE2AA1  1"), whitespaceAnalyzer.findFlowElement("BBE1AA1", "BBE2AA1", "1").getIidmIdentifiable());
+
+        // without a given collection, each analyzer reads the network
+        UcteNetworkAnalyzer otherAnalyzer = new UcteNetworkAnalyzer(network, new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WILDCARDS));
+        assertNotSame(ucteConnectableCollection, otherAnalyzer.getConnectablesInNetwork());
+    }
+
+    @Test
+    void testReplace8thCharacterWithWildcard() {
+        init("TestCase_severalVoltageLevels_Xnodes_8characters.uct");
+
+        // no connectable with these exact nodes, found by replacing the 8th character with a wildcard, in both directions
+        UcteMatchingResult result = ucteConnectableCollection.lookForConnectable("BBE1AA19", "BBE2AA19", "1", UcteNetworkAnalyzerProperties.BusIdMatchPolicy.REPLACE_8TH_CHARACTER_WITH_WILDCARD, ConnectableType.INTERNAL_LINE);
+        assertTrue(result.hasMatched());
+        assertFalse(result.isInverted());
+        assertSame(network.getIdentifiable("BBE1AA11 BBE2AA11 1"), result.getIidmIdentifiable());
+
+        result = ucteConnectableCollection.lookForConnectable("BBE2AA19", "BBE1AA19", "1", UcteNetworkAnalyzerProperties.BusIdMatchPolicy.REPLACE_8TH_CHARACTER_WITH_WILDCARD, ConnectableType.INTERNAL_LINE);
+        assertTrue(result.hasMatched());
+        assertTrue(result.isInverted());
+        assertSame(network.getIdentifiable("BBE1AA11 BBE2AA11 1"), result.getIidmIdentifiable());
+
+        assertFalse(ucteConnectableCollection.lookForConnectable("BBE1AA19", "BBE2AA19", "1", UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WHITESPACES, ConnectableType.INTERNAL_LINE).hasMatched());
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.crac.io.commons.ucte;
+
+import com.powsybl.iidm.network.Network;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UcteCracCreationParametersTest {
+
+    private static final UcteNetworkAnalyzerProperties PROPERTIES = new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WILDCARDS);
+
+    private Network readNetwork() {
+        return Network.read("TestCase_severalVoltageLevels_Xnodes.uct", getClass().getResourceAsStream("/TestCase_severalVoltageLevels_Xnodes.uct"));
+    }
+
+    @Test
+    void testConnectablesAreSharedForSameNetwork() {
+        Network network = readNetwork();
+        UcteCracCreationParameters ucteCracCreationParameters = new UcteCracCreationParameters();
+
+        UcteConnectableCollection connectables = ucteCracCreationParameters.getConnectablesInNetwork(network);
+        assertSame(connectables, ucteCracCreationParameters.getConnectablesInNetwork(network));
+        UcteNetworkAnalyzer networkAnalyzer = new UcteNetworkAnalyzer(network, PROPERTIES, connectables);
+        assertTrue(networkAnalyzer.findFlowElement("FFR1AA1", "FFR2AA1", "1").hasMatched());
+    }
+
+    @Test
+    void testConnectablesAreReplacedForOtherNetwork() {
+        UcteCracCreationParameters ucteCracCreationParameters = new UcteCracCreationParameters();
+
+        UcteConnectableCollection connectables = ucteCracCreationParameters.getConnectablesInNetwork(readNetwork());
+        Network otherNetwork = readNetwork();
+        UcteConnectableCollection otherConnectables = ucteCracCreationParameters.getConnectablesInNetwork(otherNetwork);
+        assertNotSame(connectables, otherConnectables);
+        assertSame(otherConnectables, ucteCracCreationParameters.getConnectablesInNetwork(otherNetwork));
+    }
+}
@@ -7,6 +7,7 @@
 
 package com.powsybl.openrao.data.crac.io.csaprofiles;
 
+import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
 import com.powsybl.openrao.data.crac.io.csaprofiles.craccreator.CsaProfileCracUtils;
 import com.powsybl.openrao.data.crac.io.csaprofiles.craccreator.constants.CsaProfileKeyword;
@@ -39,16 +40,54 @@ import com.powsybl.openrao.data.crac.io.csaprofiles.nc.VoltageLimit;
 import com.powsybl.triplestore.api.PropertyBag;
 import com.powsybl.triplestore.api.PropertyBags;
 import com.powsybl.triplestore.api.QueryCatalog;
+import com.powsybl.openrao.util.ParallelUtils;
 import com.powsybl.triplestore.api.TripleStore;
 
 import java.time.OffsetDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
+ * The queries on the triple store are run once per import: their results are memoized per keyword, queries and
+ * contexts, until the content of the triple store or the overriding data changes. Since the triple store is only read
+ * once the profiles are loaded, independent queries are run concurrently by {@link #loadPropertyBags()}.
+ *
  * @author Jean-Pierre Arnould {@literal <jean-pierre.arnould at rte-france.com>}
  */
 public class CsaProfileCrac {
 
+    private static final NcQuery CONTINGENCIES = new NcQuery(CsaProfileKeyword.CONTINGENCY, OverridingObjectsFields.CONTINGENCY, CsaProfileConstants.REQUEST_ORDINARY_CONTINGENCY, CsaProfileConstants.REQUEST_EXCEPTIONAL_CONTINGENCY, CsaProfileConstants.REQUEST_OUT_OF_RANGE_CONTINGENCY);
+    private static final NcQuery CONTINGENCY_EQUIPMENTS = new NcQuery(CsaProfileKeyword.CONTINGENCY, null, CsaProfileConstants.REQUEST_CONTINGENCY_EQUIPMENT);
+    private static final NcQuery ASSESSED_ELEMENTS = new NcQuery(CsaProfileKeyword.ASSESSED_ELEMENT, OverridingObjectsFields.ASSESSED_ELEMENT, CsaProfileConstants.REQUEST_ASSESSED_ELEMENT);
+    private static final NcQuery ASSESSED_ELEMENTS_WITH_CONTINGENCY = new NcQuery(CsaProfileKeyword.ASSESSED_ELEMENT, OverridingObjectsFields.ASSESSED_ELEMENT_WITH_CONTINGENCY, CsaProfileConstants.REQUEST_ASSESSED_ELEMENT_WITH_CONTINGENCY);
+    private static final NcQuery ASSESSED_ELEMENTS_WITH_REMEDIAL_ACTION = new NcQuery(CsaProfileKeyword.ASSESSED_ELEMENT, OverridingObjectsFields.ASSESSED_ELEMENT_WITH_REMEDIAL_ACTION, CsaProfileConstants.REQUEST_ASSESSED_ELEMENT_WITH_REMEDIAL_ACTION);
+    private static final NcQuery CURRENT_LIMITS = new NcQuery(CsaProfileKeyword.CGMES, OverridingObjectsFields.CURRENT_LIMIT, CsaProfileConstants.REQUEST_CURRENT_LIMIT);
+    private static final NcQuery VOLTAGE_LIMITS = new NcQuery(CsaProfileKeyword.CGMES, OverridingObjectsFields.VOLTAGE_LIMIT, CsaProfileConstants.REQUEST_VOLTAGE_LIMIT);
+    private static final NcQuery VOLTAGE_ANGLE_LIMITS = new NcQuery(CsaProfileKeyword.EQUIPMENT_RELIABILITY, OverridingObjectsFields.VOLTAGE_ANGLE_LIMIT, CsaProfileConstants.REQUEST_VOLTAGE_ANGLE_LIMIT);
+    private static final NcQuery GRID_STATE_ALTERATION_REMEDIAL_ACTIONS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.GRID_STATE_ALTERATION_REMEDIAL_ACTION, CsaProfileConstants.GRID_STATE_ALTERATION_REMEDIAL_ACTION);
+    private static final NcQuery TOPOLOGY_ACTIONS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.TOPOLOGY_ACTION, CsaProfileConstants.TOPOLOGY_ACTION);
+    private static final NcQuery ROTATING_MACHINE_ACTIONS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.ROTATING_MACHINE_ACTION, CsaProfileConstants.ROTATING_MACHINE_ACTION);
+    private static final NcQuery SHUNT_COMPENSATOR_MODIFICATIONS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.SHUNT_COMPENSATOR_MODIFICATION, CsaProfileConstants.SHUNT_COMPENSATOR_MODIFICATION);
+    private static final NcQuery TAP_POSITION_ACTIONS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.TAP_POSITION_ACTION, CsaProfileConstants.TAP_POSITION_ACTION);
+    private static final NcQuery STATIC_PROPERTY_RANGES = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.STATIC_PROPERTY_RANGE, CsaProfileConstants.STATIC_PROPERTY_RANGE);
+    private static final NcQuery CONTINGENCIES_WITH_REMEDIAL_ACTION = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.CONTINGENCY_WITH_REMEDIAL_ACTION, CsaProfileConstants.REQUEST_CONTINGENCY_WITH_REMEDIAL_ACTION);
+    private static final NcQuery STAGES = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, null, CsaProfileConstants.STAGE);
+    private static final NcQuery GRID_STATE_ALTERATION_COLLECTIONS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, null, CsaProfileConstants.GRID_STATE_ALTERATION_COLLECTION);
+    private static final NcQuery REMEDIAL_ACTION_SCHEMES = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.REMEDIAL_ACTION_SCHEME, CsaProfileConstants.REMEDIAL_ACTION_SCHEME);
+    private static final NcQuery SCHEME_REMEDIAL_ACTIONS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.SCHEME_REMEDIAL_ACTION, CsaProfileConstants.REQUEST_SCHEME_REMEDIAL_ACTION);
+    private static final NcQuery REMEDIAL_ACTION_GROUPS = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, null, CsaProfileConstants.REQUEST_REMEDIAL_ACTION_GROUP);
+    private static final NcQuery REMEDIAL_ACTION_DEPENDENCIES = new NcQuery(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.SCHEME_REMEDIAL_ACTION_DEPENDENCY, CsaProfileConstants.REQUEST_REMEDIAL_ACTION_DEPENDENCY);
+    private static final NcQuery TAP_CHANGERS = new NcQuery(CsaProfileKeyword.CGMES, null, CsaProfileConstants.REQUEST_TAP_CHANGER);
+
+    private static final List<NcQuery> ALL_QUERIES = List.of(CONTINGENCIES, CONTINGENCY_EQUIPMENTS, ASSESSED_ELEMENTS, ASSESSED_ELEMENTS_WITH_CONTINGENCY,
+        ASSESSED_ELEMENTS_WITH_REMEDIAL_ACTION, CURRENT_LIMITS, VOLTAGE_LIMITS, VOLTAGE_ANGLE_LIMITS, GRID_STATE_ALTERATION_REMEDIAL_ACTIONS, TOPOLOGY_ACTIONS,
+        ROTATING_MACHINE_ACTIONS, SHUNT_COMPENSATOR_MODIFICATIONS, TAP_POSITION_ACTIONS, STATIC_PROPERTY_RANGES, CONTINGENCIES_WITH_REMEDIAL_ACTION, STAGES,
+        GRID_STATE_ALTERATION_COLLECTIONS, REMEDIAL_ACTION_SCHEMES, SCHEME_REMEDIAL_ACTIONS, REMEDIAL_ACTION_GROUPS, REMEDIAL_ACTION_DEPENDENCIES, TAP_CHANGERS);
+
     private final TripleStore tripleStoreCsaProfileCrac;
 
     private final QueryCatalog queryCatalogCsaProfileCrac;
@@ -56,15 +95,30 @@ public class CsaProfileCrac {
     private final Map<String, Set<String>> keywordMap;
     private Map<String, String> overridingData;
 
+    private final int queryParallelism;
+    private final Map<CachedQuery, PropertyBags> propertyBagsCache = new ConcurrentHashMap<>();
+
     public CsaProfileCrac(TripleStore tripleStoreCsaProfileCrac, Map<String, Set<String>> keywordMap) {
+        this(tripleStoreCsaProfileCrac, keywordMap, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param queryParallelism maximum number of queries run concurrently on the triple store
+     */
+    public CsaProfileCrac(TripleStore tripleStoreCsaProfileCrac, Map<String, Set<String>> keywordMap, int queryParallelism) {
+        if (queryParallelism < 1) {
+            throw new OpenRaoException("The number of queries run in parallel should be at least 1");
+        }
         this.tripleStoreCsaProfileCrac = tripleStoreCsaProfileCrac;
         this.queryCatalogCsaProfileCrac = new QueryCatalog(CsaProfileConstants.SPARQL_FILE_CSA_PROFILE);
         this.keywordMap = keywordMap;
         this.overridingData = new HashMap<>();
+        this.queryParallelism = queryParallelism;
     }
 
     public void clearContext(String context) {
         tripleStoreCsaProfileCrac.clear(context);
+        propertyBagsCache.clear();
     }
 
     public void clearKeywordMap(String context) {
@@ -74,6 +128,7 @@ public class CsaProfileCrac {
             if (contextNames.contains(context)) {
                 contextNames.remove(context);
                 keywordMap.put(keyword, contextNames);
+                propertyBagsCache.clear();
                 break;
             }
         }
@@ -84,116 +139,149 @@ public class CsaProfileCrac {
     }
 
     public Map<String, PropertyBags> getHeaders() {
-        Map<String, PropertyBags> returnMap = new HashMap<>();
-        tripleStoreCsaProfileCrac.contextNames().forEach(context -> returnMap.put(context, queryTripleStore(CsaProfileConstants.REQUEST_HEADER, Set.of(context))));
-        return returnMap;
+        return runConcurrently(() -> concurrentStream(tripleStoreCsaProfileCrac.contextNames())
+            .collect(Collectors.toMap(context -> context, context -> queryTripleStore(CsaProfileConstants.REQUEST_HEADER, Set.of(context)))));
     }
 
     public PropertyBags getPropertyBags(CsaProfileKeyword keyword, String... queries) {
-        Set<String> namesToRequest = getContextNamesToRequest(keyword);
-        if (namesToRequest.isEmpty()) {
-            return new PropertyBags();
-        }
-        return this.queryTripleStore(List.of(queries), namesToRequest);
+        return getPropertyBags(new NcQuery(keyword, null, queries));
     }
 
     public PropertyBags getPropertyBags(CsaProfileKeyword keyword, OverridingObjectsFields withOverride, String... queries) {
-        return withOverride == null ? getPropertyBags(keyword, queries) : CsaProfileCracUtils.overrideData(getPropertyBags(keyword, queries), overridingData, withOverride);
+        return getPropertyBags(new NcQuery(keyword, withOverride, queries));
+    }
+
+    /**
+     * Runs all the queries needed to create the CRAC concurrently, so that the getters then only read their memoized
+     * results
+     */
+    public void loadPropertyBags() {
+        runConcurrently(() -> {
+            concurrentStream(ALL_QUERIES).forEach(this::getPropertyBags);
+            return null;
+        });
+    }
+
+    private PropertyBags getPropertyBags(NcQuery ncQuery) {
+        Set<String> namesToRequest = getContextNamesToRequest(ncQuery.keyword());
+        if (namesToRequest.isEmpty()) {
+            return new PropertyBags();
+        }
+        CachedQuery cachedQuery = new CachedQuery(ncQuery, Set.copyOf(namesToRequest));
+        PropertyBags propertyBags = propertyBagsCache.get(cachedQuery);
+        if (propertyBags == null) {
+            propertyBags = queryTripleStore(ncQuery.queries(), namesToRequest);
+            if (ncQuery.withOverride() != null) {
+                CsaProfileCracUtils.overrideData(propertyBags, overridingData, ncQuery.withOverride());
+            }
+            PropertyBags concurrentlyQueriedPropertyBags = propertyBagsCache.putIfAbsent(cachedQuery, propertyBags);
+            if (concurrentlyQueriedPropertyBags != null) {
+                propertyBags = concurrentlyQueriedPropertyBags;
+            }
+        }
+        // the memoized bags are copied so that callers cannot alter them
+        return propertyBags.stream().map(PropertyBag::copy).collect(Collectors.toCollection(PropertyBags::new));
     }
 
     public Set<Contingency> getContingencies() {
-        return new NcPropertyBagsConverter<>(Contingency::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.CONTINGENCY, OverridingObjectsFields.CONTINGENCY, CsaProfileConstants.REQUEST_ORDINARY_CONTINGENCY, CsaProfileConstants.REQUEST_EXCEPTIONAL_CONTINGENCY, CsaProfileConstants.REQUEST_OUT_OF_RANGE_CONTINGENCY));
+        return new NcPropertyBagsConverter<>(Contingency::fromPropertyBag).convert(getPropertyBags(CONTINGENCIES));
     }
 
     public Set<ContingencyEquipment> getContingencyEquipments() {
-        return new NcPropertyBagsConverter<>(ContingencyEquipment::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.CONTINGENCY, CsaProfileConstants.REQUEST_CONTINGENCY_EQUIPMENT));
+        return new NcPropertyBagsConverter<>(ContingencyEquipment::fromPropertyBag).convert(getPropertyBags(CONTINGENCY_EQUIPMENTS));
     }
 
     public Set<AssessedElement> getAssessedElements() {
-        return new NcPropertyBagsConverter<>(AssessedElement::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.ASSESSED_ELEMENT, OverridingObjectsFields.ASSESSED_ELEMENT, CsaProfileConstants.REQUEST_ASSESSED_ELEMENT));
+        return new NcPropertyBagsConverter<>(AssessedElement::fromPropertyBag).convert(getPropertyBags(ASSESSED_ELEMENTS));
     }
 
     public Set<AssessedElementWithContingency> getAssessedElementWithContingencies() {
-        return new NcPropertyBagsConverter<>(AssessedElementWithContingency::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.ASSESSED_ELEMENT, OverridingObjectsFields.ASSESSED_ELEMENT_WITH_CONTINGENCY, CsaProfileConstants.REQUEST_ASSESSED_ELEMENT_WITH_CONTINGENCY));
+        return new NcPropertyBagsConverter<>(AssessedElementWithContingency::fromPropertyBag).convert(getPropertyBags(ASSESSED_ELEMENTS_WITH_CONTINGENCY));
     }
 
     public Set<AssessedElementWithRemedialAction> getAssessedElementWithRemedialActions() {
-        return new NcPropertyBagsConverter<>(AssessedElementWithRemedialAction::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.ASSESSED_ELEMENT, OverridingObjectsFields.ASSESSED_ELEMENT_WITH_REMEDIAL_ACTION, CsaProfileConstants.REQUEST_ASSESSED_ELEMENT_WITH_REMEDIAL_ACTION));
+        return new NcPropertyBagsConverter<>(AssessedElementWithRemedialAction::fromPropertyBag).convert(getPropertyBags(ASSESSED_ELEMENTS_WITH_REMEDIAL_ACTION));
     }
 
     public Set<CurrentLimit> getCurrentLimits() {
-        return new NcPropertyBagsConverter<>(CurrentLimit::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.CGMES, OverridingObjectsFields.CURRENT_LIMIT, CsaProfileConstants.REQUEST_CURRENT_LIMIT));
+        return new NcPropertyBagsConverter<>(CurrentLimit::fromPropertyBag).convert(getPropertyBags(CURRENT_LIMITS));
     }
 
     public Set<VoltageLimit> getVoltageLimits() {
-        return new NcPropertyBagsConverter<>(VoltageLimit::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.CGMES, OverridingObjectsFields.VOLTAGE_LIMIT, CsaProfileConstants.REQUEST_VOLTAGE_LIMIT));
+        return new NcPropertyBagsConverter<>(VoltageLimit::fromPropertyBag).convert(getPropertyBags(VOLTAGE_LIMITS));
     }
 
     public Set<VoltageAngleLimit> getVoltageAngleLimits() {
-        return new NcPropertyBagsConverter<>(VoltageAngleLimit::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.EQUIPMENT_RELIABILITY, OverridingObjectsFields.VOLTAGE_ANGLE_LIMIT, CsaProfileConstants.REQUEST_VOLTAGE_ANGLE_LIMIT));
+        return new NcPropertyBagsConverter<>(VoltageAngleLimit::fromPropertyBag).convert(getPropertyBags(VOLTAGE_ANGLE_LIMITS));
     }
 
     public Set<GridStateAlterationRemedialAction> getGridStateAlterationRemedialActions() {
-        return new NcPropertyBagsConverter<>(GridStateAlterationRemedialAction::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.GRID_STATE_ALTERATION_REMEDIAL_ACTION, CsaProfileConstants.GRID_STATE_ALTERATION_REMEDIAL_ACTION));
+        return new NcPropertyBagsConverter<>(GridStateAlterationRemedialAction::fromPropertyBag).convert(getPropertyBags(GRID_STATE_ALTERATION_REMEDIAL_ACTIONS));
     }
 
     public Set<TopologyAction> getTopologyActions() {
-        return new NcPropertyBagsConverter<>(TopologyAction::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.TOPOLOGY_ACTION, CsaProfileConstants.TOPOLOGY_ACTION));
+        return new NcPropertyBagsConverter<>(TopologyAction::fromPropertyBag).convert(getPropertyBags(TOPOLOGY_ACTIONS));
     }
 
     public Set<RotatingMachineAction> getRotatingMachineActions() {
-        return new NcPropertyBagsConverter<>(RotatingMachineAction::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.ROTATING_MACHINE_ACTION, CsaProfileConstants.ROTATING_MACHINE_ACTION));
+        return new NcPropertyBagsConverter<>(RotatingMachineAction::fromPropertyBag).convert(getPropertyBags(ROTATING_MACHINE_ACTIONS));
     }
 
     public Set<ShuntCompensatorModification> getShuntCompensatorModifications() {
-        return new NcPropertyBagsConverter<>(ShuntCompensatorModification::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.SHUNT_COMPENSATOR_MODIFICATION, CsaProfileConstants.SHUNT_COMPENSATOR_MODIFICATION));
+        return new NcPropertyBagsConverter<>(ShuntCompensatorModification::fromPropertyBag).convert(getPropertyBags(SHUNT_COMPENSATOR_MODIFICATIONS));
     }
 
     public Set<TapPositionAction> getTapPositionActions() {
-        return new NcPropertyBagsConverter<>(TapPositionAction::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.TAP_POSITION_ACTION, CsaProfileConstants.TAP_POSITION_ACTION));
+        return new NcPropertyBagsConverter<>(TapPositionAction::fromPropertyBag).convert(getPropertyBags(TAP_POSITION_ACTIONS));
     }
 
     public Set<StaticPropertyRange> getStaticPropertyRanges() {
-        return new NcPropertyBagsConverter<>(StaticPropertyRange::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.STATIC_PROPERTY_RANGE, CsaProfileConstants.STATIC_PROPERTY_RANGE));
+        return new NcPropertyBagsConverter<>(StaticPropertyRange::fromPropertyBag).convert(getPropertyBags(STATIC_PROPERTY_RANGES));
     }
 
     public Set<ContingencyWithRemedialAction> getContingencyWithRemedialActions() {
-        return new NcPropertyBagsConverter<>(ContingencyWithRemedialAction::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.CONTINGENCY_WITH_REMEDIAL_ACTION, CsaProfileConstants.REQUEST_CONTINGENCY_WITH_REMEDIAL_ACTION));
+        return new NcPropertyBagsConverter<>(ContingencyWithRemedialAction::fromPropertyBag).convert(getPropertyBags(CONTINGENCIES_WITH_REMEDIAL_ACTION));
     }
 
     public Set<Stage> getStages() {
-        return new NcPropertyBagsConverter<>(Stage::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, CsaProfileConstants.STAGE));
+        return new NcPropertyBagsConverter<>(Stage::fromPropertyBag).convert(getPropertyBags(STAGES));
     }
 
     public Set<GridStateAlterationCollection> getGridStateAlterationCollections() {
-        return new NcPropertyBagsConverter<>(GridStateAlterationCollection::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, CsaProfileConstants.GRID_STATE_ALTERATION_COLLECTION));
+        return new NcPropertyBagsConverter<>(GridStateAlterationCollection::fromPropertyBag).convert(getPropertyBags(GRID_STATE_ALTERATION_COLLECTIONS));
     }
 
     public Set<RemedialActionScheme> getRemedialActionSchemes() {
-        return new NcPropertyBagsConverter<>(RemedialActionScheme::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.REMEDIAL_ACTION_SCHEME, CsaProfileConstants.REMEDIAL_ACTION_SCHEME));
+        return new NcPropertyBagsConverter<>(RemedialActionScheme::fromPropertyBag).convert(getPropertyBags(REMEDIAL_ACTION_SCHEMES));
     }
 
     public Set<SchemeRemedialAction> getSchemeRemedialActions() {
-        return new NcPropertyBagsConverter<>(SchemeRemedialAction::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.SCHEME_REMEDIAL_ACTION, CsaProfileConstants.REQUEST_SCHEME_REMEDIAL_ACTION));
+        return new NcPropertyBagsConverter<>(SchemeRemedialAction::fromPropertyBag).convert(getPropertyBags(SCHEME_REMEDIAL_ACTIONS));
     }
 
     public Set<RemedialActionGroup> getRemedialActionGroups() {
-        return new NcPropertyBagsConverter<>(RemedialActionGroup::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, CsaProfileConstants.REQUEST_REMEDIAL_ACTION_GROUP));
-
+        return new NcPropertyBagsConverter<>(RemedialActionGroup::fromPropertyBag).convert(getPropertyBags(REMEDIAL_ACTION_GROUPS));
     }
 
     public Set<RemedialActionDependency> getRemedialActionDependencies() {
-        return new NcPropertyBagsConverter<>(RemedialActionDependency::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.REMEDIAL_ACTION, OverridingObjectsFields.SCHEME_REMEDIAL_ACTION_DEPENDENCY, CsaProfileConstants.REQUEST_REMEDIAL_ACTION_DEPENDENCY));
+        return new NcPropertyBagsConverter<>(RemedialActionDependency::fromPropertyBag).convert(getPropertyBags(REMEDIAL_ACTION_DEPENDENCIES));
     }
 
     public Set<TapChanger> getTapChangers() {
-        return new NcPropertyBagsConverter<>(TapChanger::fromPropertyBag).convert(getPropertyBags(CsaProfileKeyword.CGMES, CsaProfileConstants.REQUEST_TAP_CHANGER));
+        return new NcPropertyBagsConverter<>(TapChanger::fromPropertyBag).convert(getPropertyBags(TAP_CHANGERS));
     }
 
     private void setOverridingData(OffsetDateTime importTimestamp) {
+        // the fields are queried concurrently but merged in their declaration order, as if they were queried one after another
+        Map<OverridingObjectsFields, Map<String, String>> dataPerField = runConcurrently(() -> concurrentStream(List.of(OverridingObjectsFields.values()))
+            .collect(Collectors.toMap(overridingObject -> overridingObject, overridingObject -> {
+                Map<String, String> dataMap = new HashMap<>();
+                addDataFromTripleStoreToMap(dataMap, overridingObject.getRequestName(), overridingObject.getObjectName(), overridingObject.getOverridedFieldName(), overridingObject.getHeaderType(), importTimestamp);
+                return dataMap;
+            })));
         overridingData = new HashMap<>();
         for (OverridingObjectsFields overridingObject : OverridingObjectsFields.values()) {
-            addDataFromTripleStoreToMap(overridingData, overridingObject.getRequestName(), overridingObject.getObjectName(), overridingObject.getOverridedFieldName(), overridingObject.getHeaderType(), importTimestamp);
+            overridingData.putAll(dataPerField.get(overridingObject));
         }
     }
 
@@ -221,11 +309,10 @@ public class CsaProfileCrac {
     }
 
     private PropertyBags queryTripleStore(List<String> queryKeys, Set<String> contexts) {
-        PropertyBags mergedPropertyBags = new PropertyBags();
-        for (String queryKey : queryKeys) {
-            mergedPropertyBags.addAll(queryTripleStore(queryKey, contexts));
-        }
-        return mergedPropertyBags;
+        return concurrentStream(queryKeys)
+            .map(queryKey -> queryTripleStore(queryKey, contexts))
+            .flatMap(Collection::stream)
+            .collect(Collectors.toCollection(PropertyBags::new));
     }
 
     /**
@@ -245,17 +332,31 @@ public class CsaProfileCrac {
             return tripleStoreCsaProfileCrac.query(query);
         }
 
-        PropertyBags multiContextsPropertyBags = new PropertyBags();
-        for (String context : contexts) {
-            String contextQuery = String.format(query, context);
-            multiContextsPropertyBags.addAll(tripleStoreCsaProfileCrac.query(contextQuery));
+        return concurrentStream(contexts)
+            .map(context -> tripleStoreCsaProfileCrac.query(String.format(query, context)))
+            .flatMap(Collection::stream)
+            .collect(Collectors.toCollection(PropertyBags::new));
+    }
+
+    /**
+     * The stream is only parallel when called from {@link #runConcurrently(Supplier)}, so that the queries never run
+     * in the common pool, and it keeps the encounter order of the collection
+     */
+    private static <T> Stream<T> concurrentStream(Collection<T> collection) {
+        return ForkJoinTask.inForkJoinPool() ? collection.parallelStream() : collection.stream();
+    }
+
+    private <T> T runConcurrently(Supplier<T> task) {
+        if (ForkJoinTask.inForkJoinPool()) {
+            return task.get();
         }
-        return multiContextsPropertyBags;
+        return ParallelUtils.run(queryParallelism, task);
     }
 
     public void setForTimestamp(OffsetDateTime offsetDateTime) {
         clearTimewiseIrrelevantContexts(offsetDateTime);
         setOverridingData(offsetDateTime);
+        propertyBagsCache.clear();
     }
 
     private void clearTimewiseIrrelevantContexts(OffsetDateTime offsetDateTime) {
@@ -276,4 +377,13 @@ public class CsaProfileCrac {
         String endTime = header.getId(CsaProfileConstants.REQUEST_HEADER_END_DATE);
         return CsaProfileCracUtils.isValidInterval(offsetDateTime, startTime, endTime);
     }
+
+    private record NcQuery(CsaProfileKeyword keyword, OverridingObjectsFields withOverride, List<String> queries) {
+        private NcQuery(CsaProfileKeyword keyword, OverridingObjectsFields withOverride, String... queries) {
+            this(keyword, withOverride, List.of(queries));
+        }
+    }
+
+    private record CachedQuery(NcQuery ncQuery, Set<String> contexts) {
+    }
 }
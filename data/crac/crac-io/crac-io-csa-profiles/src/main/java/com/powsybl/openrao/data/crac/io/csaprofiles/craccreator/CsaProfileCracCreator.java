@@ -45,6 +45,7 @@ class CsaProfileCracCreator {
         RaUsageLimitsAdder.addRaUsageLimits(crac, cracCreationParameters);
 
         this.nativeCrac.setForTimestamp(offsetDateTime);
+        this.nativeCrac.loadPropertyBags();
 
         createContingencies();
         createCnecs(cracCreationParameters);
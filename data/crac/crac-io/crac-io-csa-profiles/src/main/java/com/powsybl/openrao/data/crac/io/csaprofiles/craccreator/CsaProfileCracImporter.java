@@ -135,9 +135,12 @@ public class CsaProfileCracImporter implements Importer {
         if (!FilenameUtils.getExtension(filename).equals(CsaProfileConstants.EXTENSION_FILE_CSA_PROFILE)) {
             return false;
         }
-        TripleStore tripleStoreCsaProfile = TripleStoreFactory.create(CsaProfileConstants.TRIPLESTORE_RDF4J_NAME);
-        tripleStoreCsaProfile.read(inputStream, CsaProfileConstants.RDF_BASE_URL, "");
-        return true;
+        // only the header of the first entry of the archive is read
+        try (ZipInputStream zipInputStream = new ZipInputStream(inputStream)) {
+            return zipInputStream.getNextEntry() != null;
+        } catch (IOException e) {
+            return false;
+        }
     }
 
     @Override
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.csaprofiles;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.io.csaprofiles.craccreator.constants.CsaProfileConstants;
+import com.powsybl.openrao.data.crac.io.csaprofiles.craccreator.constants.CsaProfileKeyword;
+import com.powsybl.openrao.data.crac.io.csaprofiles.craccreator.constants.OverridingObjectsFields;
+import com.powsybl.triplestore.api.PropertyBag;
+import com.powsybl.triplestore.api.PropertyBags;
+import com.powsybl.triplestore.api.TripleStore;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CsaProfileCracTest {
+
+    private static TripleStore mockTripleStore() {
+        TripleStore tripleStore = Mockito.mock(TripleStore.class);
+        Mockito.when(tripleStore.query(anyString())).thenAnswer(invocation -> {
+            PropertyBag propertyBag = new PropertyBag(List.of("query"), false);
+            propertyBag.put("query", invocation.getArgument(0));
+            return new PropertyBags(List.of(propertyBag));
+        });
+        return tripleStore;
+    }
+
+    private static Map<String, Set<String>> contingencyKeywordMap() {
+        Map<String, Set<String>> keywordMap = new HashMap<>();
+        keywordMap.put(CsaProfileKeyword.CONTINGENCY.toString(), new HashSet<>(Set.of("contexts:co1.xml", "contexts:co2.xml")));
+        return keywordMap;
+    }
+
+    private static PropertyBags getContingencies(CsaProfileCrac csaProfileCrac) {
+        return csaProfileCrac.getPropertyBags(CsaProfileKeyword.CONTINGENCY, OverridingObjectsFields.CONTINGENCY, CsaProfileConstants.REQUEST_ORDINARY_CONTINGENCY, CsaProfileConstants.REQUEST_EXCEPTIONAL_CONTINGENCY, CsaProfileConstants.REQUEST_OUT_OF_RANGE_CONTINGENCY);
+    }
+
+    @Test
+    void testEachQueryIsRunOnce() {
+        TripleStore tripleStore = mockTripleStore();
+        CsaProfileCrac csaProfileCrac = new CsaProfileCrac(tripleStore, contingencyKeywordMap(), 4);
+
+        // 3 contingency queries and 1 contingency equipment query, on 2 contexts
+        csaProfileCrac.loadPropertyBags();
+        verify(tripleStore, times(8)).query(anyString());
+
+        assertEquals(6, getContingencies(csaProfileCrac).size());
+        assertEquals(2, csaProfileCrac.getPropertyBags(CsaProfileKeyword.CONTINGENCY, CsaProfileConstants.REQUEST_CONTINGENCY_EQUIPMENT).size());
+        assertTrue(csaProfileCrac.getPropertyBags(CsaProfileKeyword.ASSESSED_ELEMENT, CsaProfileConstants.REQUEST_ASSESSED_ELEMENT).isEmpty());
+        verify(tripleStore, times(8)).query(anyString());
+    }
+
+    @Test
+    void testConcurrentQueriesKeepOrder() {
+        CsaProfileCrac sequentialCrac = new CsaProfileCrac(mockTripleStore(), contingencyKeywordMap(), 1);
+        CsaProfileCrac concurrentCrac = new CsaProfileCrac(mockTripleStore(), contingencyKeywordMap(), 4);
+        concurrentCrac.loadPropertyBags();
+        assertEquals(getContingencies(sequentialCrac), getContingencies(concurrentCrac));
+    }
+
+    @Test
+    void testMemoizedPropertyBagsCannotBeAltered() {
+        CsaProfileCrac csaProfileCrac = new CsaProfileCrac(mockTripleStore(), contingencyKeywordMap(), 4);
+        PropertyBags propertyBags = getContingencies(csaProfileCrac);
+        String query = propertyBags.get(0).get("query");
+        propertyBags.get(0).put("query", "altered");
+        propertyBags.clear();
+        assertEquals(6, getContingencies(csaProfileCrac).size());
+        assertEquals(query, getContingencies(csaProfileCrac).get(0).get("query"));
+    }
+
+    @Test
+    void testClearingContextInvalidatesMemoizedPropertyBags() {
+        TripleStore tripleStore = mockTripleStore();
+        CsaProfileCrac csaProfileCrac = new CsaProfileCrac(tripleStore, contingencyKeywordMap(), 4);
+        assertEquals(6, getContingencies(csaProfileCrac).size());
+        verify(tripleStore, times(6)).query(anyString());
+
+        csaProfileCrac.clearContext("contexts:co1.xml");
+        csaProfileCrac.clearKeywordMap("contexts:co1.xml");
+        assertEquals(3, getContingencies(csaProfileCrac).size());
+        verify(tripleStore, times(9)).query(anyString());
+    }
+
+    @Test
+    void testInvalidQueryParallelism() {
+        TripleStore tripleStore = mockTripleStore();
+        Map<String, Set<String>> keywordMap = contingencyKeywordMap();
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> new CsaProfileCrac(tripleStore, keywordMap, 0));
+        assertEquals("The number of queries run in parallel should be at least 1", exception.getMessage());
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.crac.io.csaprofiles.craccreator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsaProfileCracImporterTest {
+
+    @Test
+    void testExists() throws IOException {
+        byte[] profiles = getClass().getResourceAsStream("/profiles/cnecs/FlowCNECsWithFlowReliabilityMargin.zip").readAllBytes();
+        CsaProfileCracImporter importer = new CsaProfileCracImporter();
+        assertTrue(importer.exists("profiles.zip", new ByteArrayInputStream(profiles)));
+        // only the header of the archive is needed
+        assertTrue(importer.exists("profiles.zip", new ByteArrayInputStream(Arrays.copyOf(profiles, 1024))));
+        assertFalse(importer.exists("profiles.xml", new ByteArrayInputStream(profiles)));
+        assertFalse(importer.exists("profiles.zip", new ByteArrayInputStream("<rdf:RDF/>".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(importer.exists("profiles.zip", new ByteArrayInputStream(new byte[0])));
+    }
+}
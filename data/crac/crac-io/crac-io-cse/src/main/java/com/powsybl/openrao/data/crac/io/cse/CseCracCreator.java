@@ -19,6 +19,7 @@ import com.powsybl.openrao.data.crac.api.InstantKind;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.io.cse.xsd.TCRACSeries;
 import com.powsybl.openrao.data.crac.io.commons.RaUsageLimitsAdder;
+import com.powsybl.openrao.data.crac.io.commons.ucte.UcteCracCreationParameters;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteNetworkAnalyzer;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteNetworkAnalyzerProperties;
 import com.powsybl.openrao.data.crac.util.CracValidator;
@@ -58,7 +59,7 @@ class CseCracCreator {
 
         // Import elements from the CRAC
         try {
-            UcteNetworkAnalyzer ucteNetworkAnalyzer = new UcteNetworkAnalyzer(network, new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WILDCARDS));
+            UcteNetworkAnalyzer ucteNetworkAnalyzer = UcteCracCreationParameters.createNetworkAnalyzer(network, new UcteNetworkAnalyzerProperties(UcteNetworkAnalyzerProperties.BusIdMatchPolicy.COMPLETE_WITH_WILDCARDS), cracCreationParameters);
 
             TCRACSeries tcracSeries = getCracSeries(cseCrac);
             // Add outages
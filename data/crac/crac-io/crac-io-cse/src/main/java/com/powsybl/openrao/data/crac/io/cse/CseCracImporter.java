@@ -9,33 +9,27 @@ package com.powsybl.openrao.data.crac.io.cse;
 import com.google.auto.service.AutoService;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
-import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
+import com.powsybl.openrao.data.crac.io.commons.XmlCodecRegistry;
+import com.powsybl.openrao.data.crac.io.commons.XmlHeaderReader;
 import com.powsybl.openrao.data.crac.io.cse.xsd.CRACDocumentType;
 import com.powsybl.openrao.data.crac.api.CracCreationContext;
 import com.powsybl.openrao.data.crac.api.io.Importer;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import org.apache.commons.io.FilenameUtils;
-import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
-import javax.xml.transform.Source;
+import jakarta.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
 import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-import java.io.IOException;
 import java.io.InputStream;
-import java.io.UncheckedIOException;
-import java.net.MalformedURLException;
 import java.time.OffsetDateTime;
-import java.util.Objects;
 
 /**
  * @author Alexandre Montigny {@literal <alexandre.montigny at rte-france.com>}
  */
 @AutoService(Importer.class)
 public class CseCracImporter implements Importer {
+    private static final QName CRAC_DOCUMENT = new QName("CRACDocument");
     private static final String CRAC_CSE_SCHEMA_FILE_LOCATION = "/com/powsybl/openrao/data/crac/io/cse/xsd/crac-document_4_23.xsd";
     private static final String ETSO_CORE_SCHEMA_FILE_LOCATION = "/com/powsybl/openrao/data/crac/io/cse/xsd/etso-core-cmpts.xsd";
     private static final String ETSO_CODES_SCHEMA_FILE_LOCATION = "/com/powsybl/openrao/data/crac/io/cse/xsd/etso-code-lists.xsd";
@@ -47,48 +41,39 @@ public class CseCracImporter implements Importer {
 
     private CRACDocumentType importNativeCrac(InputStream inputStream) {
         CRACDocumentType cracDocumentType;
-        try {
-            cracDocumentType = JAXBContext.newInstance(CRACDocumentType.class)
-                .createUnmarshaller()
+        try (XmlCodecRegistry.Lease<Unmarshaller> unmarshaller = XmlCodecRegistry.getUnmarshaller(CRACDocumentType.class)) {
+            unmarshaller.get().setSchema(XmlCodecRegistry.getSchema(CseCracImporter.class, ETSO_CODES_SCHEMA_FILE_LOCATION, ETSO_CORE_SCHEMA_FILE_LOCATION, CRAC_CSE_SCHEMA_FILE_LOCATION));
+            // stop at the first validation error, which is reported by the thrown exception
+            unmarshaller.get().setEventHandler(event -> false);
+            cracDocumentType = unmarshaller.get()
                 .unmarshal(new StreamSource(inputStream), CRACDocumentType.class)
                 .getValue();
         } catch (JAXBException e) {
-            throw new OpenRaoException(e);
+            throw new OpenRaoException(String.format("CSE CRAC document is not valid: %s", XmlCodecRegistry.getMessage(e)), e);
         }
         return cracDocumentType;
     }
 
     @Override
     public boolean exists(String filename, InputStream inputStream) {
-        if (!FilenameUtils.getExtension(filename).equals("xml")) {
-            return false;
-        }
-        Source xmlFile = new StreamSource(inputStream);
-        // The following line triggers sonar issue java:S2755 which prevents us from accessing XSD schema files
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI); //NOSONAR
-
-        try {
-            Schema schema = schemaFactory.newSchema(new Source[]{
-                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(ETSO_CODES_SCHEMA_FILE_LOCATION)).toExternalForm()),
-                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(ETSO_CORE_SCHEMA_FILE_LOCATION)).toExternalForm()),
-                new StreamSource(Objects.requireNonNull(CseCracImporter.class.getResource(CRAC_CSE_SCHEMA_FILE_LOCATION)).toExternalForm())
-            });
-
-            schema.newValidator().validate(xmlFile);
-            OpenRaoLoggerProvider.BUSINESS_LOGS.info("CSE CRAC document is valid");
-            return true;
-        } catch (MalformedURLException e) {
-            throw new OpenRaoException("URL error");
-        } catch (SAXException e) {
-            OpenRaoLoggerProvider.TECHNICAL_LOGS.debug("CSE CRAC document is NOT valid. Reason: {}", e.getMessage());
-            return false;
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        return FilenameUtils.getExtension(filename).equals("xml")
+            && XmlHeaderReader.readRootElement(inputStream).filter(CRAC_DOCUMENT::equals).isPresent();
     }
 
+    /**
+     * The document is validated against the CSE CRAC XSD while it is read: an invalid document gives a failed creation
+     * context
+     */
     @Override
     public CracCreationContext importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network, OffsetDateTime offsetDateTime) {
-        return new CseCracCreator().createCrac(importNativeCrac(inputStream), network, offsetDateTime, cracCreationParameters);
+        CRACDocumentType cracDocumentType;
+        try {
+            cracDocumentType = importNativeCrac(inputStream);
+        } catch (OpenRaoException e) {
+            CseCracCreationContext creationContext = new CseCracCreationContext(null, offsetDateTime, network.getNameOrId());
+            creationContext.getCreationReport().error(e.getMessage());
+            return creationContext.creationFailure();
+        }
+        return new CseCracCreator().createCrac(cracDocumentType, network, offsetDateTime, cracCreationParameters);
     }
 }
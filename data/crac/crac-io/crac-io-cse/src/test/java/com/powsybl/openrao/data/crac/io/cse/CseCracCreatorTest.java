@@ -31,6 +31,8 @@ import com.powsybl.openrao.data.crac.io.commons.api.ElementaryCreationContext;
 import com.powsybl.openrao.data.crac.io.commons.api.ImportStatus;
 import com.powsybl.openrao.data.crac.io.commons.api.stdcreationcontext.BranchCnecCreationContext;
 import com.powsybl.openrao.data.crac.io.commons.api.stdcreationcontext.InjectionRangeActionCreationContext;
+import com.powsybl.openrao.data.crac.io.commons.ucte.UcteConnectableCollection;
+import com.powsybl.openrao.data.crac.io.commons.ucte.UcteCracCreationParameters;
 import com.powsybl.openrao.data.crac.io.cse.criticalbranch.CseCriticalBranchCreationContext;
 import com.powsybl.openrao.data.crac.io.cse.parameters.CseCracCreationParameters;
 import com.powsybl.openrao.data.crac.io.cse.remedialaction.CsePstCreationContext;
@@ -45,6 +47,9 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Alexandre Montigny {@literal <alexandre.montigny at rte-france.com>}
@@ -127,6 +132,32 @@ class CseCracCreatorTest {
         assertEquals("/networks/TestCase12Nodes_with_Xnodes", cracCreationContext.getNetworkName());
     }
 
+    @Test
+    void createCracFromNotXsdValidDocument() throws IOException {
+        Network network = Network.read("/networks/TestCase12Nodes_with_Xnodes.uct", getClass().getResourceAsStream("/networks/TestCase12Nodes_with_Xnodes.uct"));
+        InputStream is = getClass().getResourceAsStream("/cracs/cse_crac_not_xsd_valid.xml");
+        cracCreationContext = (CseCracCreationContext) Crac.readWithContext("cse_crac_not_xsd_valid.xml", is, network, offsetDateTime, parameters);
+        assertFalse(cracCreationContext.isCreationSuccessful());
+        assertNull(cracCreationContext.getCrac());
+        assertTrue(cracCreationContext.getCreationReport().getReport().get(0).contains("CSE CRAC document is not valid"));
+    }
+
+    @Test
+    void createCracsSharingUcteConnectables() throws IOException {
+        UcteCracCreationParameters ucteCracCreationParameters = spy(new UcteCracCreationParameters());
+        parameters.addExtension(UcteCracCreationParameters.class, ucteCracCreationParameters);
+        Network network = Network.read("/networks/TestCase12Nodes_with_Xnodes.uct", getClass().getResourceAsStream("/networks/TestCase12Nodes_with_Xnodes.uct"));
+        CseCracCreationContext firstContext = (CseCracCreationContext) Crac.readWithContext("cse_crac_1.xml", getClass().getResourceAsStream("/cracs/cse_crac_1.xml"), network, offsetDateTime, parameters);
+        UcteConnectableCollection connectables = ucteCracCreationParameters.getConnectablesInNetwork(network);
+        CseCracCreationContext secondContext = (CseCracCreationContext) Crac.readWithContext("cse_crac_2.xml", getClass().getResourceAsStream("/cracs/cse_crac_2.xml"), network, offsetDateTime, parameters);
+
+        assertTrue(firstContext.isCreationSuccessful());
+        assertTrue(secondContext.isCreationSuccessful());
+        // both imports read the connectables from the extension, which read the network only once
+        verify(ucteCracCreationParameters, times(3)).getConnectablesInNetwork(network);
+        assertSame(connectables, ucteCracCreationParameters.getConnectablesInNetwork(network));
+    }
+
     @Test
     void createCracWithParameters() throws IOException {
         RaUsageLimits raUsageLimits = new RaUsageLimits();
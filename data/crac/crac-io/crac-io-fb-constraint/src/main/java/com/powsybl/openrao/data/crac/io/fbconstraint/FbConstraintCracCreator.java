@@ -7,6 +7,8 @@
 package com.powsybl.openrao.data.crac.io.fbconstraint;
 
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.InstantKind;
 import com.powsybl.iidm.network.TwoSides;
@@ -17,14 +19,19 @@ import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.CriticalBranchType;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.IndependantComplexVariant;
 import com.powsybl.openrao.data.crac.io.commons.RaUsageLimitsAdder;
+import com.powsybl.openrao.data.crac.io.commons.ucte.UcteCracCreationParameters;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteNetworkAnalyzer;
 import com.powsybl.openrao.data.crac.io.commons.ucte.UcteNetworkAnalyzerProperties;
+import com.powsybl.openrao.util.InterTemporalPool;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.google.common.collect.Iterables.isEmpty;
@@ -43,6 +50,37 @@ class FbConstraintCracCreator {
     }
 
     FbConstraintCreationContext createCrac(FlowBasedConstraintDocument fbConstraintDocument, Network network, OffsetDateTime offsetDateTime, CracCreationParameters cracCreatorParameters) {
+        return createCrac(fbConstraintDocument, network, offsetDateTime, cracCreatorParameters, null);
+    }
+
+    /**
+     * Create one CRAC per timestamp from the same document, the CRACs being created in parallel.
+     * The network is only read: the UCTE network analyzer and the critical branch readers, which hold the network
+     * elements matched with the document, are created once and shared by all the timestamps.
+     */
+    TemporalData<FbConstraintCreationContext> createCracs(FlowBasedConstraintDocument fbConstraintDocument, Network network, Set<OffsetDateTime> offsetDateTimes, CracCreationParameters cracCreatorParameters, int numberOfThreads) {
+        NetworkReaders sharedNetworkReaders = null;
+        if (network.getSourceFormat().equals("UCTE")) {
+            NetworkReaders networkReaders = NetworkReaders.create(network, cracCreatorParameters);
+            Map<CriticalBranchType, CriticalBranchReader> criticalBranchReaders = new IdentityHashMap<>();
+            fbConstraintDocument.getCriticalBranches().getCriticalBranch().stream()
+                .filter(criticalBranch -> offsetDateTimes.stream().anyMatch(timestamp -> timestamp != null && isInTimeInterval(timestamp, criticalBranch.getTimeInterval().getV())))
+                .forEach(criticalBranch -> criticalBranchReaders.put(criticalBranch, networkReaders.criticalBranchReaderProvider().apply(criticalBranch)));
+            sharedNetworkReaders = new NetworkReaders(networkReaders.ucteNetworkAnalyzer(), criticalBranchReaders::get);
+        }
+        NetworkReaders finalNetworkReaders = sharedNetworkReaders;
+        InterTemporalPool pool = new InterTemporalPool(offsetDateTimes, numberOfThreads);
+        try {
+            return pool.runTasks(offsetDateTime -> createCrac(fbConstraintDocument, network, offsetDateTime, cracCreatorParameters, finalNetworkReaders));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenRaoException(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private FbConstraintCreationContext createCrac(FlowBasedConstraintDocument fbConstraintDocument, Network network, OffsetDateTime offsetDateTime, CracCreationParameters cracCreatorParameters, NetworkReaders sharedNetworkReaders) {
         FbConstraintCreationContext creationContext = new FbConstraintCreationContext(offsetDateTime, network.getNameOrId());
         Crac crac = cracCreatorParameters.getCracFactory().create(fbConstraintDocument.getDocumentIdentification().getV());
         addFbContraintInstants(crac);
@@ -59,13 +97,14 @@ class FbConstraintCracCreator {
             return creationContext.creationFailure();
         }
 
-        UcteNetworkAnalyzer ucteNetworkAnalyzer = new UcteNetworkAnalyzer(network, new UcteNetworkAnalyzerProperties(COMPLETE_WITH_WILDCARDS));
+        NetworkReaders networkReaders = sharedNetworkReaders != null ? sharedNetworkReaders : NetworkReaders.create(network, cracCreatorParameters);
+        UcteNetworkAnalyzer ucteNetworkAnalyzer = networkReaders.ucteNetworkAnalyzer();
 
         // Store all Outages while reading CriticalBranches and ComplexVariants
         List<OutageReader> outageReaders = new ArrayList<>();
 
         // read Critical Branches information
-        readCriticalBranches(fbConstraintDocument, offsetDateTime, crac, creationContext, ucteNetworkAnalyzer, outageReaders, cracCreatorParameters.getDefaultMonitoredSides());
+        readCriticalBranches(fbConstraintDocument, offsetDateTime, crac, creationContext, networkReaders.criticalBranchReaderProvider(), outageReaders);
 
         // read Complex Variants information
         readComplexVariants(fbConstraintDocument, offsetDateTime, crac, creationContext, ucteNetworkAnalyzer, outageReaders);
@@ -79,12 +118,12 @@ class FbConstraintCracCreator {
         outageReaders.forEach(or -> or.addContingency(crac));
     }
 
-    private void readCriticalBranches(FlowBasedConstraintDocument fbConstraintDocument, OffsetDateTime offsetDateTime, Crac crac, FbConstraintCreationContext creationContext, UcteNetworkAnalyzer ucteNetworkAnalyzer, List<OutageReader> outageReaders, Set<TwoSides> defaultMonitoredSides) {
+    private void readCriticalBranches(FlowBasedConstraintDocument fbConstraintDocument, OffsetDateTime offsetDateTime, Crac crac, FbConstraintCreationContext creationContext, Function<CriticalBranchType, CriticalBranchReader> criticalBranchReaderProvider, List<OutageReader> outageReaders) {
         List<CriticalBranchType> criticalBranchForTimeStamp = selectCriticalBranchesForTimeStamp(fbConstraintDocument, offsetDateTime);
 
         if (!isEmpty(criticalBranchForTimeStamp)) {
             List<CriticalBranchReader> criticalBranchReaders = criticalBranchForTimeStamp.stream()
-                .map(cb -> new CriticalBranchReader(cb, ucteNetworkAnalyzer, defaultMonitoredSides))
+                .map(criticalBranchReaderProvider)
                 .toList();
 
             outageReaders.addAll(criticalBranchReaders.stream()
@@ -218,4 +257,15 @@ class FbConstraintCracCreator {
         // Select valid critical branches
         return !offsetDateTime.isBefore(startTimeBranch) && offsetDateTime.isBefore(endTimeBranch);
     }
+
+    /**
+     * Readers interpreting the document with the network
+     */
+    private record NetworkReaders(UcteNetworkAnalyzer ucteNetworkAnalyzer, Function<CriticalBranchType, CriticalBranchReader> criticalBranchReaderProvider) {
+        private static NetworkReaders create(Network network, CracCreationParameters cracCreatorParameters) {
+            UcteNetworkAnalyzer ucteNetworkAnalyzer = UcteCracCreationParameters.createNetworkAnalyzer(network, new UcteNetworkAnalyzerProperties(COMPLETE_WITH_WILDCARDS), cracCreatorParameters);
+            Set<TwoSides> defaultMonitoredSides = cracCreatorParameters.getDefaultMonitoredSides();
+            return new NetworkReaders(ucteNetworkAnalyzer, criticalBranch -> new CriticalBranchReader(criticalBranch, ucteNetworkAnalyzer, defaultMonitoredSides));
+        }
+    }
 }
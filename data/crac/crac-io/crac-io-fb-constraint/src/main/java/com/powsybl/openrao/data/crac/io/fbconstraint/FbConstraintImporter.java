@@ -8,31 +8,30 @@ package com.powsybl.openrao.data.crac.io.fbconstraint;
 
 import com.google.auto.service.AutoService;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.FileHeader;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.TemporalData;
+import com.powsybl.openrao.commons.TemporalDataImpl;
 import com.powsybl.openrao.data.crac.api.CracCreationContext;
 import com.powsybl.openrao.data.crac.api.io.Importer;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
+import com.powsybl.openrao.data.crac.io.commons.XmlCodecRegistry;
+import com.powsybl.openrao.data.crac.io.commons.XmlHeaderReader;
 import com.powsybl.openrao.data.crac.io.fbconstraint.xsd.FlowBasedConstraintDocument;
 import org.apache.commons.io.FilenameUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Unmarshaller;
-import javax.xml.transform.Source;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
+import javax.xml.namespace.QName;
 import java.io.*;
-import java.net.MalformedURLException;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
-import java.util.Objects;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.lang.Integer.parseInt;
 
@@ -46,6 +45,7 @@ public class FbConstraintImporter implements Importer {
     private static final Logger LOGGER = LoggerFactory.getLogger(FbConstraintImporter.class);
     private static final String XML_EXTENSION = "xml";
     private static final String XML_SCHEMA_VERSION = "flowbasedconstraintdocument-";
+    private static final QName FLOW_BASED_CONSTRAINT_DOCUMENT = new QName("flowbased", "FlowBasedConstraintDocument");
     private static final String FLOWBASED_CONSTRAINT_V11_SCHEMA_FILE = "/xsd/validation/flowbasedconstraintdocument-11.xsd";
     private static final String FLOWBASED_CONSTRAINT_V18_SCHEMA_FILE = "/xsd/validation/flowbasedconstraintdocument-18.xsd";
     private static final String FLOWBASED_CONSTRAINT_V23_SCHEMA_FILE = "/xsd/flowbasedconstraintdocument-23.xsd";
@@ -57,14 +57,23 @@ public class FbConstraintImporter implements Importer {
         return "FlowBasedConstraintDocument";
     }
 
+    /**
+     * Read the document, and validate it against the XSD of its version while it is read
+     */
     private FlowBasedConstraintDocument importNativeCrac(InputStream inputStream) {
-        try {
-            byte[] bytes = getBytesFromInputStream(inputStream);
-            JAXBContext jaxbContext = JAXBContext.newInstance(FlowBasedConstraintDocument.class);
-            Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-            return (FlowBasedConstraintDocument) jaxbUnmarshaller.unmarshal(new ByteArrayInputStream(bytes));
-        } catch (JAXBException | IOException e) {
-            throw new OpenRaoException(e);
+        InputStream markableInputStream = new BufferedInputStream(inputStream, FileHeader.MAX_LENGTH);
+        try (XmlCodecRegistry.Lease<Unmarshaller> jaxbUnmarshaller = XmlCodecRegistry.getUnmarshaller(FlowBasedConstraintDocument.class)) {
+            markableInputStream.mark(FileHeader.MAX_LENGTH);
+            int version = flowBasedDocumentVersion(new ByteArrayInputStream(markableInputStream.readNBytes(FileHeader.MAX_LENGTH)));
+            markableInputStream.reset();
+            jaxbUnmarshaller.get().setSchema(XmlCodecRegistry.getSchema(FbConstraintImporter.class, schemaVersion(version), ETSO_CORE_CMPTS_SCHEMA_FILE, ETSO_CODE_LIST_SCHEMA_FILE));
+            // stop at the first validation error, which is reported by the thrown exception
+            jaxbUnmarshaller.get().setEventHandler(event -> false);
+            return (FlowBasedConstraintDocument) jaxbUnmarshaller.get().unmarshal(markableInputStream);
+        } catch (JAXBException e) {
+            throw new OpenRaoException(String.format("FlowBasedConstraintDocument is not valid: %s", XmlCodecRegistry.getMessage(e)), e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
@@ -74,42 +83,60 @@ public class FbConstraintImporter implements Importer {
             return false;
         }
         try {
-            byte[] bytes = getBytesFromInputStream(inputStream);
-            int flowBasedDocumentVersion = flowBasedDocumentVersion(new ByteArrayInputStream(bytes));
-            String schemaFile = schemaVersion(flowBasedDocumentVersion);
-
-            if (schemaFile != null) {
-                Source xmlFile = new StreamSource(new ByteArrayInputStream(bytes));
-                // The following line triggers sonar issue java:S2755 which prevents us from accessing XSD schema files
-                SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI); //NOSONAR
-
-                Schema schema = schemaFactory.newSchema(new Source[]{
-                    new StreamSource(Objects.requireNonNull(FbConstraintImporter.class.getResource(schemaFile)).toExternalForm()),
-                    new StreamSource(Objects.requireNonNull(FbConstraintImporter.class.getResource(ETSO_CORE_CMPTS_SCHEMA_FILE)).toExternalForm()),
-                    new StreamSource(Objects.requireNonNull(FbConstraintImporter.class.getResource(ETSO_CODE_LIST_SCHEMA_FILE)).toExternalForm())
-                });
-
-                Validator validator = schema.newValidator();
-                validator.validate(xmlFile);
-                LOGGER.info("FlowBased Constraint Document format is valid");
-                return true;
-            } else {
-                LOGGER.debug("The schema can't be validated because no xsd file is available. Validity check is skipped.");
+            byte[] header = inputStream.readNBytes(FileHeader.MAX_LENGTH);
+            if (XmlHeaderReader.readRootElement(new ByteArrayInputStream(header)).filter(FLOW_BASED_CONSTRAINT_DOCUMENT::equals).isEmpty()) {
+                LOGGER.debug("The document is not a flow-based constraint document.");
                 return false;
             }
-        } catch (MalformedURLException e) {
-            throw new OpenRaoException("URL error");
-        } catch (SAXException e) {
-            LOGGER.debug("FlowBased Constraint Document format is NOT valid. Reason: {}", e.getMessage());
-            return false;
+            return isSupportedVersion(flowBasedDocumentVersion(new ByteArrayInputStream(header)));
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * The document is validated against the XSD of its version while it is read: an invalid document gives a failed
+     * creation context
+     */
     @Override
     public CracCreationContext importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network, OffsetDateTime offsetDateTime) {
-        return new FbConstraintCracCreator().createCrac(importNativeCrac(inputStream), network, offsetDateTime, cracCreationParameters);
+        FlowBasedConstraintDocument document;
+        try {
+            document = importNativeCrac(inputStream);
+        } catch (OpenRaoException e) {
+            return creationFailure(offsetDateTime, network, e.getMessage());
+        }
+        return new FbConstraintCracCreator().createCrac(document, network, offsetDateTime, cracCreationParameters);
+    }
+
+    /**
+     * Parse the document once and create one CRAC per timestamp, with as many CRACs created in parallel as there are
+     * available processors.
+     */
+    public TemporalData<FbConstraintCreationContext> importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network, Set<OffsetDateTime> offsetDateTimes) {
+        return importData(inputStream, cracCreationParameters, network, offsetDateTimes, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Parse the document once and create one CRAC per timestamp, with at most numberOfThreads CRACs created in
+     * parallel. The network is only read while the CRACs are created.
+     */
+    public TemporalData<FbConstraintCreationContext> importData(InputStream inputStream, CracCreationParameters cracCreationParameters, Network network, Set<OffsetDateTime> offsetDateTimes, int numberOfThreads) {
+        FlowBasedConstraintDocument document;
+        try {
+            document = importNativeCrac(inputStream);
+        } catch (OpenRaoException e) {
+            Map<OffsetDateTime, FbConstraintCreationContext> creationFailures = new HashMap<>();
+            offsetDateTimes.forEach(offsetDateTime -> creationFailures.put(offsetDateTime, creationFailure(offsetDateTime, network, e.getMessage())));
+            return new TemporalDataImpl<>(creationFailures);
+        }
+        return new FbConstraintCracCreator().createCracs(document, network, offsetDateTimes, cracCreationParameters, numberOfThreads);
+    }
+
+    private static FbConstraintCreationContext creationFailure(OffsetDateTime offsetDateTime, Network network, String message) {
+        FbConstraintCreationContext creationContext = new FbConstraintCreationContext(offsetDateTime, network.getNameOrId());
+        creationContext.getCreationReport().error(message);
+        return creationContext.creationFailure();
     }
 
     private int flowBasedDocumentVersion(InputStream inputStream) {
@@ -136,14 +163,15 @@ public class FbConstraintImporter implements Importer {
         } else if (flowBasedDocumentVersion == 11) {
             return FLOWBASED_CONSTRAINT_V11_SCHEMA_FILE;
         } else {
-            LOGGER.debug("Flow-based constraint document with version {} are not handled by the FbConstraintImporter", flowBasedDocumentVersion);
-            return null;
+            throw new OpenRaoException(String.format("Flow-based constraint document with version %d are not handled by the FbConstraintImporter", flowBasedDocumentVersion));
         }
     }
 
-    private static byte[] getBytesFromInputStream(InputStream inputStream) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        org.apache.commons.io.IOUtils.copy(inputStream, baos);
-        return baos.toByteArray();
+    private boolean isSupportedVersion(int flowBasedDocumentVersion) {
+        if (flowBasedDocumentVersion >= 17 || flowBasedDocumentVersion == 11) {
+            return true;
+        }
+        LOGGER.debug("Flow-based constraint document with version {} are not handled by the FbConstraintImporter", flowBasedDocumentVersion);
+        return false;
     }
 }
@@ -8,9 +8,11 @@ package com.powsybl.openrao.data.crac.io.fbconstraint;
 
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.CracFactory;
+import com.powsybl.openrao.data.crac.api.Identifiable;
 import com.powsybl.openrao.data.crac.api.RaUsageLimits;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.iidm.network.TwoSides;
@@ -32,7 +34,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -606,5 +611,48 @@ class FbConstraintCracCreatorTest {
         assertHasThresholds(crac.getFlowCnec("CBCO_1 - preventive"), Set.of(TwoSides.TWO), Unit.PERCENT_IMAX, -1.0, null);
         assertHasThresholds(crac.getFlowCnec("CBCO_2 - preventive"), Set.of(TwoSides.ONE), Unit.AMPERE, -100., null);
     }
-}
 
+    private static Set<String> getIds(Collection<? extends Identifiable<?>> identifiables) {
+        return identifiables.stream().map(Identifiable::getId).collect(Collectors.toSet());
+    }
+
+    @Test
+    void importCracsForSeveralTimestamps() throws IOException {
+        Network network = Network.read("TestCase12Nodes_with_Xnodes.uct", getClass().getResourceAsStream("/network/TestCase12Nodes_with_Xnodes.uct"));
+        Set<OffsetDateTime> timestamps = new HashSet<>();
+        for (int hour = 0; hour < 24; hour++) {
+            timestamps.add(OffsetDateTime.parse("2019-01-07T23:30Z").plusHours(hour));
+        }
+        OffsetDateTime timestampOutOfDocument = OffsetDateTime.parse("2019-01-10T10:30Z");
+        timestamps.add(timestampOutOfDocument);
+
+        TemporalData<FbConstraintCreationContext> creationContexts = new FbConstraintImporter().importData(getClass().getResourceAsStream("/merged_cb/with_RA.xml"), parameters, network, timestamps, 4);
+
+        assertEquals(timestamps, new HashSet<>(creationContexts.getTimestamps()));
+        assertFalse(creationContexts.getData(timestampOutOfDocument).orElseThrow().isCreationSuccessful());
+        timestamps.remove(timestampOutOfDocument);
+        for (OffsetDateTime timestamp : timestamps) {
+            FbConstraintCreationContext context = creationContexts.getData(timestamp).orElseThrow();
+            FbConstraintCreationContext expectedContext = (FbConstraintCreationContext) Crac.readWithContext("with_RA.xml", getClass().getResourceAsStream("/merged_cb/with_RA.xml"), network, timestamp, parameters);
+            assertTrue(context.isCreationSuccessful());
+            assertEquals(timestamp, context.getTimeStamp());
+            assertEquals(expectedContext.getCrac().getContingencies().stream().map(Contingency::getId).collect(Collectors.toSet()), context.getCrac().getContingencies().stream().map(Contingency::getId).collect(Collectors.toSet()));
+            assertEquals(getIds(expectedContext.getCrac().getFlowCnecs()), getIds(context.getCrac().getFlowCnecs()));
+            assertEquals(getIds(expectedContext.getCrac().getRemedialActions()), getIds(context.getCrac().getRemedialActions()));
+            assertEquals(expectedContext.getCreationReport().getReport(), context.getCreationReport().getReport());
+        }
+    }
+
+    @Test
+    void testNotXsdValidDocumentIsRefused() throws IOException {
+        Network network = Network.read("TestCase12Nodes_with_Xnodes.uct", getClass().getResourceAsStream("/network/TestCase12Nodes_with_Xnodes.uct"));
+        OffsetDateTime timestamp = OffsetDateTime.parse("2019-01-08T10:30Z");
+        creationContext = (FbConstraintCreationContext) Crac.readWithContext("not_xsd_valid.xml", getClass().getResourceAsStream("/merged_cb/not_xsd_valid.xml"), network, timestamp, parameters);
+        assertFalse(creationContext.isCreationSuccessful());
+        assertNull(creationContext.getCrac());
+        assertTrue(creationContext.getCreationReport().getReport().get(0).contains("FlowBasedConstraintDocument is not valid"));
+
+        TemporalData<FbConstraintCreationContext> creationContexts = new FbConstraintImporter().importData(getClass().getResourceAsStream("/merged_cb/not_xsd_valid.xml"), parameters, network, Set.of(timestamp), 1);
+        assertFalse(creationContexts.getData(timestamp).orElseThrow().isCreationSuccessful());
+    }
+}
@@ -7,10 +7,14 @@
 
 package com.powsybl.openrao.data.crac.io.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.google.auto.service.AutoService;
-import com.networknt.schema.JsonSchema;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
@@ -19,13 +23,15 @@ import com.powsybl.openrao.data.crac.api.io.Importer;
 import com.powsybl.openrao.data.crac.api.parameters.CracCreationParameters;
 import com.powsybl.openrao.data.crac.io.json.deserializers.CracDeserializer;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
-import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,7 +39,12 @@ import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
 import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getSchema;
 import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.getValidationErrors;
-import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.isCracFile;
+import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.readTree;
+import static com.powsybl.openrao.data.crac.io.json.JsonSerializationConstants.CRAC_TYPE;
+import static com.powsybl.openrao.data.crac.io.json.JsonSerializationConstants.ID;
+import static com.powsybl.openrao.data.crac.io.json.JsonSerializationConstants.NAME;
+import static com.powsybl.openrao.data.crac.io.json.JsonSerializationConstants.TYPE;
+import static com.powsybl.openrao.data.crac.io.json.JsonSerializationConstants.VERSION;
 
 /**
  * @author Viktor Terrier {@literal <viktor.terrier at rte-france.com>}
@@ -41,6 +52,10 @@ import static com.powsybl.openrao.data.crac.io.json.JsonSchemaProvider.isCracFil
  */
 @AutoService(Importer.class)
 public class JsonImport implements Importer {
+    private static final Pattern VERSION_PATTERN = Pattern.compile("^([1-9]\\d*)\\.(\\d+)$");
+    private static final Set<String> HEADER_FIELDS = Set.of(TYPE, VERSION, ID, NAME);
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder().enable(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS).build();
+
     @Override
     public String getFormat() {
         return "JSON";
@@ -52,18 +67,13 @@ public class JsonImport implements Importer {
             return false;
         }
         try {
-            ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(inputStream.readAllBytes());
-            if (isCracFile(byteArrayInputStream)) {
-                byteArrayInputStream.reset();
-                Version cracVersion = readVersion(byteArrayInputStream);
-                JsonSchema jsonSchema = getSchema(cracVersion);
-                List<String> validationError = getValidationErrors(jsonSchema, byteArrayInputStream);
-                if (validationError.isEmpty()) {
-                    return true;
-                }
-                throw new OpenRaoException("JSON file is not a valid CRAC v%s.%s. Reasons: %s".formatted(cracVersion.majorVersion(), cracVersion.minorVersion(), String.join("; ", validationError)));
+            Optional<Version> cracVersion = readHeaderVersion(inputStream);
+            if (cracVersion.isEmpty()) {
+                return false;
             }
-            return false;
+            // throws if the version is unknown
+            getSchema(cracVersion.get());
+            return true;
         } catch (IOException e) {
             TECHNICAL_LOGS.debug("JSON file could not be processed as CRAC. Reason: {}", e.getMessage());
             return false;
@@ -76,11 +86,13 @@ public class JsonImport implements Importer {
             throw new OpenRaoException("Network object is null but it is needed to map contingency's elements");
         }
         try {
+            JsonNode cracNode = readTree(inputStream);
+            validate(cracNode);
             ObjectMapper objectMapper = createObjectMapper();
             SimpleModule module = new SimpleModule();
             module.addDeserializer(Crac.class, new CracDeserializer(cracCreationParameters.getCracFactory(), network));
             objectMapper.registerModule(module);
-            Crac crac = objectMapper.readValue(inputStream, Crac.class);
+            Crac crac = objectMapper.treeToValue(cracNode, Crac.class);
             CracCreationContext cracCreationContext = new JsonCracCreationContext(true, crac, network.getNameOrId());
             if (offsetDateTime != null) {
                 cracCreationContext.getCreationReport().warn("OffsetDateTime was ignored by the JSON CRAC importer");
@@ -95,12 +107,55 @@ public class JsonImport implements Importer {
         }
     }
 
-    private static Version readVersion(ByteArrayInputStream cracByteArrayInputStream) {
-        String cracContent = new String(cracByteArrayInputStream.readAllBytes(), StandardCharsets.UTF_8);
-        cracByteArrayInputStream.reset();
-        Pattern versionPattern = Pattern.compile("\"version\"\\s?:\\s?\"([1-9]\\d*)\\.(\\d+)\"");
-        Matcher versionMatcher = versionPattern.matcher(cracContent);
-        versionMatcher.find();
-        return new Version(Integer.parseInt(versionMatcher.group(1)), Integer.parseInt(versionMatcher.group(2)));
+    /**
+     * Read the version of a CRAC from the header of its JSON file, which must start with the type, version, id and
+     * name of the CRAC. Other top-level fields found before them are skipped.
+     */
+    private static Optional<Version> readHeaderVersion(InputStream inputStream) throws IOException {
+        try (JsonParser jsonParser = JSON_FACTORY.createParser(inputStream)) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            Map<String, String> headerFields = new HashMap<>();
+            while (headerFields.size() < HEADER_FIELDS.size() && jsonParser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = jsonParser.currentName();
+                JsonToken valueToken = jsonParser.nextToken();
+                if (HEADER_FIELDS.contains(fieldName)) {
+                    if (valueToken != JsonToken.VALUE_STRING) {
+                        return Optional.empty();
+                    }
+                    headerFields.put(fieldName, jsonParser.getText());
+                } else {
+                    jsonParser.skipChildren();
+                }
+            }
+            if (headerFields.size() < HEADER_FIELDS.size() || !CRAC_TYPE.equals(headerFields.get(TYPE))) {
+                return Optional.empty();
+            }
+            return readVersion(headerFields.get(VERSION));
+        }
+    }
+
+    private static Optional<Version> readVersion(String version) {
+        Matcher versionMatcher = VERSION_PATTERN.matcher(version);
+        if (!versionMatcher.matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Version(Integer.parseInt(versionMatcher.group(1)), Integer.parseInt(versionMatcher.group(2))));
+    }
+
+    /**
+     * Validate the CRAC against the JSON schema of its version. CRACs without a readable version are left to the
+     * deserializer, which reports the missing header fields.
+     */
+    private static void validate(JsonNode cracNode) {
+        Optional<Version> cracVersion = cracNode.path(VERSION).isTextual() ? readVersion(cracNode.get(VERSION).asText()) : Optional.empty();
+        if (cracVersion.isEmpty()) {
+            return;
+        }
+        List<String> validationErrors = getValidationErrors(getSchema(cracVersion.get()), cracNode);
+        if (!validationErrors.isEmpty()) {
+            throw new OpenRaoException("JSON file is not a valid CRAC v%s.%s. Reasons: %s".formatted(cracVersion.get().majorVersion(), cracVersion.get().minorVersion(), String.join("; ", validationErrors)));
+        }
     }
 }
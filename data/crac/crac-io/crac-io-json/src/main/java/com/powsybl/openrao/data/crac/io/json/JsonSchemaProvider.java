@@ -8,6 +8,7 @@
 package com.powsybl.openrao.data.crac.io.json;
 
 import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
@@ -36,7 +37,15 @@ public final class JsonSchemaProvider {
     private static final ObjectMapper MAPPER = new ObjectMapper().configure(JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS.mappedFeature(), true);
 
     public static List<String> getValidationErrors(JsonSchema schema, InputStream cracInputStream) throws IOException {
-        return schema.validate(MAPPER.readTree(cracInputStream)).stream().map(ValidationMessage::getMessage).toList();
+        return getValidationErrors(schema, readTree(cracInputStream));
+    }
+
+    public static List<String> getValidationErrors(JsonSchema schema, JsonNode cracNode) {
+        return schema.validate(cracNode).stream().map(ValidationMessage::getMessage).toList();
+    }
+
+    public static JsonNode readTree(InputStream cracInputStream) throws IOException {
+        return MAPPER.readTree(cracInputStream);
     }
 
     public static boolean isCracFile(InputStream cracInputStream) throws IOException {
@@ -43,9 +43,12 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -529,8 +532,21 @@ class CracImportExportTest {
 
     @Test
     void testImportCracWithErrors() {
-        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> new JsonImport().exists("cracWithErrors.json", CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json")));
-        assertEquals("JSON file is not a valid CRAC v2.5. Reasons: /instants/3/kind: does not have a value in the enumeration [\"PREVENTIVE\", \"OUTAGE\", \"AUTO\", \"CURATIVE\"]; /contingencies/1/networkElementsIds/0: integer found, string expected; /contingencies/1/networkElementsIds/1: integer found, string expected; /contingencies/2: required property 'networkElementsIds' not found", exception.getMessage());
+        assertTrue(new JsonImport().exists("cracWithErrors.json", CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json")));
+        CracCreationContext context = new JsonImport().importData(CracImportExportTest.class.getResourceAsStream("/cracWithErrors.json"), new CracCreationParameters(), Mockito.mock(Network.class), null);
+        assertFalse(context.isCreationSuccessful());
+        assertNull(context.getCrac());
+        assertEquals(List.of("[ERROR] JSON file is not a valid CRAC v2.5. Reasons: /instants/3/kind: does not have a value in the enumeration [\"PREVENTIVE\", \"OUTAGE\", \"AUTO\", \"CURATIVE\"]; /contingencies/1/networkElementsIds/0: integer found, string expected; /contingencies/1/networkElementsIds/1: integer found, string expected; /contingencies/2: required property 'networkElementsIds' not found"), context.getCreationReport().getReport());
+    }
+
+    @Test
+    void testExistsOnlyReadsHeader() throws IOException {
+        byte[] crac = CracImportExportTest.class.getResourceAsStream("/retrocompatibility/v2/crac-v2.5.json").readAllBytes();
+        // a truncated file is still detected from its header
+        assertTrue(new JsonImport().exists("crac.json", new ByteArrayInputStream(Arrays.copyOf(crac, 200))));
+        assertFalse(new JsonImport().exists("crac.json", new ByteArrayInputStream(Arrays.copyOf(crac, 20))));
+        assertFalse(new JsonImport().exists("crac.json", new ByteArrayInputStream("[\"CRAC\"]".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(new JsonImport().exists("crac.json", new ByteArrayInputStream("{\"type\": \"RAO_RESULT\", \"version\": \"1.0\", \"id\": \"id\", \"name\": \"name\"}".getBytes(StandardCharsets.UTF_8))));
     }
 
     private static ListAppender<ILoggingEvent> initLogger() {
@@ -6,20 +6,28 @@
  */
 package com.powsybl.openrao.data.flowbaseddomain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 import javax.validation.constraints.NotNull;
 import java.beans.ConstructorProperties;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Business Object of the FlowBased DataMonitoredBranch
+ * <p>
+ * The PTDFs are stored as a row of values, whose columns are given by a zone index which can be shared by all the
+ * branches of a domain. The list of {@link DataPtdfPerCountry} is only built on demand.
  *
  * @author Mohamed Zelmat {@literal <mohamed.zelmat at rte-france.com>}
  */
-@Builder
 @Data
 public class DataMonitoredBranch {
     @NotNull(message = "monitoredBranch.id.empty")
@@ -35,11 +43,21 @@ public class DataMonitoredBranch {
     @NotNull(message = "dataMonitoredBranch.fref.empty")
     private double fref;
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private DataZoneIndex zoneIndex;
     @NotNull(message = "dataMonitoredBranch.ptdfList.empty")
-    private List<DataPtdfPerCountry> ptdfList;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private double[] ptdfs;
 
+    @Builder
     @ConstructorProperties({"id", "name", "instantId", "branchId", "fmin", "fmax", "fref", "ptdfList"})
     public DataMonitoredBranch(final String id, final String name, final String instantId, final String branchId, final double fmin, final double fmax, final double fref, final List<DataPtdfPerCountry> ptdfList) {
+        this(id, name, instantId, branchId, fmin, fmax, fref, buildZoneIndex(ptdfList), buildPtdfs(ptdfList));
+    }
+
+    public DataMonitoredBranch(final String id, final String name, final String instantId, final String branchId, final double fmin, final double fmax, final double fref, final DataZoneIndex zoneIndex, final double[] ptdfs) {
         this.id = id;
         this.name = name;
         this.instantId = instantId;
@@ -47,13 +65,53 @@ public class DataMonitoredBranch {
         this.fmin = fmin;
         this.fmax = fmax;
         this.fref = fref;
-        this.ptdfList = Collections.unmodifiableList(ptdfList);
+        setPtdfs(zoneIndex, ptdfs);
+    }
+
+    private static DataZoneIndex buildZoneIndex(List<DataPtdfPerCountry> ptdfList) {
+        return new DataZoneIndex(ptdfList.stream().map(DataPtdfPerCountry::getCountry).toList());
+    }
+
+    private static double[] buildPtdfs(List<DataPtdfPerCountry> ptdfList) {
+        return ptdfList.stream().mapToDouble(DataPtdfPerCountry::getPtdf).toArray();
+    }
+
+    private void setPtdfs(DataZoneIndex zoneIndex, double[] ptdfs) {
+        Objects.requireNonNull(zoneIndex);
+        Objects.requireNonNull(ptdfs);
+        if (zoneIndex.size() != ptdfs.length) {
+            throw new IllegalArgumentException(String.format("Monitored branch %s has %d PTDFs but %d zones", id, ptdfs.length, zoneIndex.size()));
+        }
+        this.zoneIndex = zoneIndex;
+        this.ptdfs = ptdfs;
+    }
+
+    public List<DataPtdfPerCountry> getPtdfList() {
+        List<DataPtdfPerCountry> ptdfList = new ArrayList<>(ptdfs.length);
+        for (int zone = 0; zone < ptdfs.length; zone++) {
+            ptdfList.add(new DataPtdfPerCountry(zoneIndex.getZone(zone), ptdfs[zone]));
+        }
+        return Collections.unmodifiableList(ptdfList);
+    }
+
+    public void setPtdfList(List<DataPtdfPerCountry> ptdfList) {
+        setPtdfs(buildZoneIndex(ptdfList), buildPtdfs(ptdfList));
+    }
+
+    @JsonIgnore
+    public DataZoneIndex getZoneIndex() {
+        return zoneIndex;
+    }
+
+    /**
+     * Returns the PTDF in the given column of the zone index
+     */
+    public double getPtdf(int zone) {
+        return ptdfs[zone];
     }
 
     public DataPtdfPerCountry findPtdfByCountry(String country) {
-        return ptdfList.stream()
-                .filter(ptdf -> ptdf.getCountry().equals(country))
-                .findAny()
-                .orElse(null);
+        int zone = zoneIndex.indexOf(country);
+        return zone < 0 ? null : new DataPtdfPerCountry(country, ptdfs[zone]);
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.flowbaseddomain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered table of the zones of a flowbased domain, giving the column of each zone in the PTDF rows of the
+ * monitored branches. It is meant to be shared by all the monitored branches of a domain.
+ */
+public final class DataZoneIndex {
+    private final List<String> zones;
+    private final Map<String, Integer> indexPerZone;
+
+    public DataZoneIndex(List<String> zones) {
+        this.zones = List.copyOf(zones);
+        this.indexPerZone = new HashMap<>();
+        for (int index = 0; index < this.zones.size(); index++) {
+            // if a zone appears several times, the first column is used for the lookups
+            indexPerZone.putIfAbsent(this.zones.get(index), index);
+        }
+    }
+
+    public List<String> getZones() {
+        return zones;
+    }
+
+    public String getZone(int index) {
+        return zones.get(index);
+    }
+
+    public int size() {
+        return zones.size();
+    }
+
+    /**
+     * Returns the column of the zone, or -1 if the zone is not in the table
+     */
+    public int indexOf(String zone) {
+        return indexPerZone.getOrDefault(zone, -1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return zones.equals(((DataZoneIndex) o).zones);
+    }
+
+    @Override
+    public int hashCode() {
+        return zones.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return zones.toString();
+    }
+}
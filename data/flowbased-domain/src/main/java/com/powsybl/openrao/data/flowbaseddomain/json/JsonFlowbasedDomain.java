@@ -8,6 +8,7 @@ package com.powsybl.openrao.data.flowbaseddomain.json;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.powsybl.commons.json.JsonUtil;
 import com.powsybl.openrao.data.flowbaseddomain.DataDomain;
 
@@ -46,6 +47,7 @@ public final class JsonFlowbasedDomain {
     }
 
     private static ObjectMapper createObjectMapper() {
-        return JsonUtil.createObjectMapper();
+        return JsonUtil.createObjectMapper()
+            .registerModule(new SimpleModule().setSerializerModifier(new PtdfRowSerializerModifier()));
     }
 }
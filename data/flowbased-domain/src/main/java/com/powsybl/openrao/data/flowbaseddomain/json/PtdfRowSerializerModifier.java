@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.flowbaseddomain.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.powsybl.openrao.data.flowbaseddomain.DataMonitoredBranch;
+import com.powsybl.openrao.data.flowbaseddomain.DataPtdfPerCountry;
+import com.powsybl.openrao.data.flowbaseddomain.DataZoneIndex;
+
+import java.util.List;
+
+/**
+ * Serializes the "ptdfList" property of the {@link DataMonitoredBranch} directly from its row of PTDFs, without
+ * building the list of {@link DataPtdfPerCountry} of the branch. The other properties are serialized by Jackson.
+ */
+class PtdfRowSerializerModifier extends BeanSerializerModifier {
+
+    private static final String PTDF_LIST = "ptdfList";
+
+    @Override
+    public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+        if (DataMonitoredBranch.class.isAssignableFrom(beanDesc.getBeanClass())) {
+            beanProperties.replaceAll(property -> PTDF_LIST.equals(property.getName()) ? new PtdfRowPropertyWriter(property) : property);
+        }
+        return beanProperties;
+    }
+
+    private static final class PtdfRowPropertyWriter extends BeanPropertyWriter {
+
+        private PtdfRowPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            DataMonitoredBranch branch = (DataMonitoredBranch) bean;
+            DataZoneIndex zoneIndex = branch.getZoneIndex();
+            JsonSerializer<Object> ptdfSerializer = prov.findValueSerializer(DataPtdfPerCountry.class);
+            gen.writeFieldName(_name);
+            gen.writeStartArray();
+            for (int zone = 0; zone < zoneIndex.size(); zone++) {
+                ptdfSerializer.serialize(new DataPtdfPerCountry(zoneIndex.getZone(zone), branch.getPtdf(zone)), gen, prov);
+            }
+            gen.writeEndArray();
+        }
+    }
+}
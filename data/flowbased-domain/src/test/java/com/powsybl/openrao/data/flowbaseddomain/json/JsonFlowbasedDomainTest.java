@@ -9,16 +9,22 @@ package com.powsybl.openrao.data.flowbaseddomain.json;
 import com.powsybl.openrao.data.flowbaseddomain.DataGlskFactors;
 import com.powsybl.openrao.data.flowbaseddomain.DataMonitoredBranch;
 import com.powsybl.openrao.data.flowbaseddomain.DataPostContingency;
+import com.powsybl.openrao.data.flowbaseddomain.DataPreContingency;
+import com.powsybl.openrao.data.flowbaseddomain.DataPtdfPerCountry;
 import com.powsybl.openrao.data.flowbaseddomain.DataDomain;
+import com.powsybl.openrao.data.flowbaseddomain.DataZoneIndex;
 import com.powsybl.commons.test.AbstractSerDeTest;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -72,6 +78,71 @@ class JsonFlowbasedDomainTest extends AbstractSerDeTest {
         assertNull(flowbasedDomain.getDataPreContingency().findMonitoredBranchById("FLOWBASED_DATA_DOMAIN_BRANCH_1").findPtdfByCountry("Austria"));
     }
 
+    @Test
+    void testZoneIndexLookups() {
+        DataMonitoredBranch branch = JsonFlowbasedDomainTest.create().getDataPreContingency().findMonitoredBranchById("FLOWBASED_DATA_DOMAIN_BRANCH_1");
+        // France appears twice in the PTDF list: the first value is used
+        assertEquals(0., branch.findPtdfByCountry("France").getPtdf(), EPSILON);
+        assertEquals(3., branch.findPtdfByCountry("Belgium").getPtdf(), EPSILON);
+        assertEquals(0, branch.getZoneIndex().indexOf("France"));
+        assertEquals(-1, branch.getZoneIndex().indexOf("Austria"));
+        assertEquals(4., branch.getPtdf(4), EPSILON);
+
+        DataZoneIndex zoneIndex = new DataZoneIndex(List.of("FR", "BE"));
+        double[] ptdfs = {0.1, 0.2};
+        assertThrows(IllegalArgumentException.class, () -> new DataMonitoredBranch("id", "name", "preventive", "branch", -100., 100., 0., zoneIndex, new double[] {0.1}));
+        DataMonitoredBranch columnarBranch = new DataMonitoredBranch("id", "name", "preventive", "branch", -100., 100., 0., zoneIndex, ptdfs);
+        assertSame(zoneIndex, columnarBranch.getZoneIndex());
+        assertEquals(0.2, columnarBranch.findPtdfByCountry("BE").getPtdf(), EPSILON);
+        assertEquals(2, columnarBranch.getPtdfList().size());
+    }
+
+    @Test
+    void testWriteRowOfPtdfs() {
+        DataZoneIndex zoneIndex = new DataZoneIndex(List.of("FR", "BE"));
+        DataDomain domain = DataDomain.builder()
+            .id("id").name("name").sourceFormat("code").description("")
+            .dataPreContingency(DataPreContingency.builder()
+                .dataMonitoredBranches(List.of(new DataMonitoredBranch("cnec-n", "cnec-n", "preventive", "branch", -100., 100., 10., zoneIndex, new double[] {0.1, 0.2})))
+                .build())
+            .dataPostContingency(List.of(DataPostContingency.builder()
+                .contingencyId("co1")
+                .dataMonitoredBranches(List.of(new DataMonitoredBranch("cnec-co1", "cnec-co1", "outage", "branch", -200., 200., 20., zoneIndex, new double[] {0.3, 0.4})))
+                .build()))
+            .glskData(List.of())
+            .build();
+
+        DataDomain importedDomain = writeAndRead(domain);
+        assertEquals("id", importedDomain.getId());
+        assertEquals(0.2, importedDomain.getDataPreContingency().findMonitoredBranchById("cnec-n").findPtdfByCountry("BE").getPtdf(), EPSILON);
+        assertEquals(0.3, importedDomain.findContingencyById("co1").findMonitoredBranchByIdAndInstant("cnec-co1", "outage").findPtdfByCountry("FR").getPtdf(), EPSILON);
+        assertTrue(importedDomain.getGlskData().isEmpty());
+    }
+
+    @Test
+    void testWriteDomainWithoutContingencyData() {
+        DataDomain domain = DataDomain.builder().id("id").name("name").sourceFormat("code").description("").build();
+        DataDomain importedDomain = writeAndRead(domain);
+        assertEquals("id", importedDomain.getId());
+        assertNull(importedDomain.getDataPreContingency());
+        assertNull(importedDomain.getDataPostContingency());
+        assertNull(importedDomain.getGlskData());
+    }
+
+    @Test
+    void testPtdfListIsUnmodifiable() {
+        DataMonitoredBranch branch = JsonFlowbasedDomainTest.create().getDataPreContingency().findMonitoredBranchById("FLOWBASED_DATA_DOMAIN_BRANCH_1");
+        List<DataPtdfPerCountry> ptdfList = branch.getPtdfList();
+        DataPtdfPerCountry ptdf = new DataPtdfPerCountry("Austria", 1.);
+        assertThrows(UnsupportedOperationException.class, () -> ptdfList.add(ptdf));
+    }
+
+    private static DataDomain writeAndRead(DataDomain domain) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        JsonFlowbasedDomain.write(domain, os);
+        return JsonFlowbasedDomain.read(new ByteArrayInputStream(os.toByteArray()));
+    }
+
     @Test
     void testExceptionCases() {
         InputStream resource = getClass().getResourceAsStream("/notExistingFile.json");
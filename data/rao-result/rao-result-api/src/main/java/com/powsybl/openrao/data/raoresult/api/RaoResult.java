@@ -8,6 +8,7 @@
 package com.powsybl.openrao.data.raoresult.api;
 
 import com.powsybl.commons.util.ServiceLoaderCache;
+import com.powsybl.openrao.commons.FileHeader;
 import com.powsybl.openrao.commons.MinOrMax;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
@@ -28,7 +29,6 @@ import com.powsybl.openrao.data.raoresult.api.io.Exporter;
 import com.powsybl.openrao.data.raoresult.api.io.Importer;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -469,12 +469,13 @@ public interface RaoResult {
      * @return RaoResult object
      */
     private static RaoResult read(List<Importer> importers, InputStream inputStream, Crac crac) throws IOException {
-        byte[] bytes = getBytesFromInputStream(inputStream);
+        InputStream markableInputStream = FileHeader.markable(inputStream);
+        byte[] header = FileHeader.read(markableInputStream);
         return importers.stream()
-            .filter(importer -> importer.exists(new ByteArrayInputStream(bytes)))
+            .filter(importer -> importer.exists(new ByteArrayInputStream(header)))
             .findAny()
             .orElseThrow(() -> new OpenRaoException("No suitable RaoResult importer found."))
-            .importData(new ByteArrayInputStream(bytes), crac);
+            .importData(markableInputStream, crac);
     }
 
     /**
@@ -488,12 +489,6 @@ public interface RaoResult {
         return read(new ServiceLoaderCache<>(Importer.class).getServices(), inputStream, crac);
     }
 
-    private static byte[] getBytesFromInputStream(InputStream inputStream) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        org.apache.commons.io.IOUtils.copy(inputStream, baos);
-        return baos.toByteArray();
-    }
-
     /**
      * Write CRAC data into a file
      *
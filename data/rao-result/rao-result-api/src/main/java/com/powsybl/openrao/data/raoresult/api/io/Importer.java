@@ -21,6 +21,11 @@ public interface Importer {
      */
     String getFormat();
 
+    /**
+     * Check whether the data is a RaoResult of this format.
+     *
+     * @param inputStream header of the RaoResult data, made of its first {@link com.powsybl.openrao.commons.FileHeader#MAX_LENGTH} bytes at most
+     */
     boolean exists(InputStream inputStream);
 
     /**
@@ -6,103 +6,82 @@
  */
 package com.powsybl.openrao.data.raoresult.impl;
 
-import com.powsybl.openrao.commons.OpenRaoException;
-import com.powsybl.openrao.commons.PhysicalParameter;
 import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.iidm.network.TwoSides;
 
-import java.util.EnumMap;
-import java.util.Map;
-
 /**
+ * Results of a flow CNEC for a given optimized instant, read from and written to the {@link FlowCnecResultTable} of
+ * its RaoResult.
+ *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class ElementaryFlowCnecResult {
 
-    private static final FlowCnecResultPerUnit DEFAULT_RESULT = new FlowCnecResultPerUnit();
+    private final FlowCnecResultTable table;
+    private final Instant optimizedInstant;
+    private final int row;
 
-    private final Map<Unit, FlowCnecResultPerUnit> resultPerUnit;
-    private final Map<TwoSides, Double> ptdfZonalSum;
+    ElementaryFlowCnecResult() {
+        this(new FlowCnecResultTable(), null);
+    }
 
-    private static class FlowCnecResultPerUnit {
-        private final Map<TwoSides, Double> flow = new EnumMap<>(Map.of(TwoSides.ONE, Double.NaN, TwoSides.TWO, Double.NaN));
-        private double margin = Double.NaN;
-        private double relativeMargin = Double.NaN;
-        private final Map<TwoSides, Double> loopFlow = new EnumMap<>(Map.of(TwoSides.ONE, Double.NaN, TwoSides.TWO, Double.NaN));
-        private final Map<TwoSides, Double> commercialFlow = new EnumMap<>(Map.of(TwoSides.ONE, Double.NaN, TwoSides.TWO, Double.NaN));
+    private ElementaryFlowCnecResult(FlowCnecResultTable table, Instant optimizedInstant) {
+        this(table, optimizedInstant, table.addRow());
+        table.createResultsIfAbsent(optimizedInstant);
     }
 
-    ElementaryFlowCnecResult() {
-        this.resultPerUnit = new EnumMap<>(Unit.class);
-        this.ptdfZonalSum = new EnumMap<>(Map.of(TwoSides.ONE, Double.NaN, TwoSides.TWO, Double.NaN));
+    ElementaryFlowCnecResult(FlowCnecResultTable table, Instant optimizedInstant, int row) {
+        this.table = table;
+        this.optimizedInstant = optimizedInstant;
+        this.row = row;
     }
 
     public double getFlow(TwoSides side, Unit unit) {
-        if (!resultPerUnit.containsKey(unit)) {
-            return DEFAULT_RESULT.flow.get(side);
-        }
-        return resultPerUnit.get(unit).flow.getOrDefault(side, DEFAULT_RESULT.flow.get(side));
+        return table.getFlow(optimizedInstant, row, side, unit);
     }
 
     public double getMargin(Unit unit) {
-        return resultPerUnit.getOrDefault(unit, DEFAULT_RESULT).margin;
+        return table.getMargin(optimizedInstant, row, unit);
     }
 
     public double getRelativeMargin(Unit unit) {
-        return resultPerUnit.getOrDefault(unit, DEFAULT_RESULT).relativeMargin;
+        return table.getRelativeMargin(optimizedInstant, row, unit);
     }
 
     public double getLoopFlow(TwoSides side, Unit unit) {
-        if (!resultPerUnit.containsKey(unit)) {
-            return DEFAULT_RESULT.loopFlow.get(side);
-        }
-        return resultPerUnit.get(unit).loopFlow.getOrDefault(side, DEFAULT_RESULT.loopFlow.get(side));
+        return table.getLoopFlow(optimizedInstant, row, side, unit);
     }
 
     public double getCommercialFlow(TwoSides side, Unit unit) {
-        if (!resultPerUnit.containsKey(unit)) {
-            return DEFAULT_RESULT.commercialFlow.get(side);
-        }
-        return resultPerUnit.get(unit).commercialFlow.getOrDefault(side, DEFAULT_RESULT.commercialFlow.get(side));
+        return table.getCommercialFlow(optimizedInstant, row, side, unit);
     }
 
     public double getPtdfZonalSum(TwoSides side) {
-        return ptdfZonalSum.get(side);
+        return table.getPtdfZonalSum(optimizedInstant, row, side);
     }
 
     public void setFlow(TwoSides side, double flow, Unit unit) {
-        setMapForUnitIfNecessary(unit);
-        resultPerUnit.get(unit).flow.put(side, flow);
+        table.setFlow(optimizedInstant, row, side, flow, unit);
     }
 
     public void setMargin(double margin, Unit unit) {
-        setMapForUnitIfNecessary(unit);
-        resultPerUnit.get(unit).margin = margin;
+        table.setMargin(optimizedInstant, row, margin, unit);
     }
 
     public void setRelativeMargin(double relativeMargin, Unit unit) {
-        setMapForUnitIfNecessary(unit);
-        resultPerUnit.get(unit).relativeMargin = relativeMargin;
+        table.setRelativeMargin(optimizedInstant, row, relativeMargin, unit);
     }
 
     public void setLoopFlow(TwoSides side, double loopFlow, Unit unit) {
-        setMapForUnitIfNecessary(unit);
-        resultPerUnit.get(unit).loopFlow.put(side, loopFlow);
+        table.setLoopFlow(optimizedInstant, row, side, loopFlow, unit);
     }
 
     public void setCommercialFlow(TwoSides side, double commercialFlow, Unit unit) {
-        setMapForUnitIfNecessary(unit);
-        resultPerUnit.get(unit).commercialFlow.put(side, commercialFlow);
+        table.setCommercialFlow(optimizedInstant, row, side, commercialFlow, unit);
     }
 
     public void setPtdfZonalSum(TwoSides side, double ptdfZonalSum) {
-        this.ptdfZonalSum.put(side, ptdfZonalSum);
-    }
-
-    private void setMapForUnitIfNecessary(Unit unit) {
-        if (unit.getPhysicalParameter() != PhysicalParameter.FLOW) {
-            throw new OpenRaoException("FlowCnecResult can only be defined for a FLOW unit");
-        }
-        resultPerUnit.putIfAbsent(unit, new FlowCnecResultPerUnit());
+        table.setPtdfZonalSum(optimizedInstant, row, side, ptdfZonalSum);
     }
 }
@@ -12,23 +12,43 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
+ * Results of a flow CNEC, stored in a row of the {@link FlowCnecResultTable} of its RaoResult.
+ *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class FlowCnecResult {
 
     private static final ElementaryFlowCnecResult DEFAULT_RESULT = new ElementaryFlowCnecResult();
-    private final Map<Instant, ElementaryFlowCnecResult> results;
+    private final FlowCnecResultTable table;
+    private final int row;
+    private final Map<Instant, ElementaryFlowCnecResult> results = new HashMap<>(2);
 
     FlowCnecResult() {
-        results = new HashMap<>();
+        this(new FlowCnecResultTable());
     }
 
-    public ElementaryFlowCnecResult getResult(Instant optimizedInstant) {
-        return results.getOrDefault(optimizedInstant, DEFAULT_RESULT);
+    FlowCnecResult(FlowCnecResultTable table) {
+        this.table = table;
+        this.row = table.addRow();
     }
 
-    public ElementaryFlowCnecResult getAndCreateIfAbsentResultForOptimizationState(Instant optimizedInstant) {
-        results.putIfAbsent(optimizedInstant, new ElementaryFlowCnecResult());
-        return results.get(optimizedInstant);
+    public synchronized ElementaryFlowCnecResult getResult(Instant optimizedInstant) {
+        ElementaryFlowCnecResult result = results.get(optimizedInstant);
+        if (result != null) {
+            return result;
+        }
+        return table.hasResults(optimizedInstant) ? getOrCreateView(optimizedInstant) : DEFAULT_RESULT;
+    }
+
+    public synchronized ElementaryFlowCnecResult getAndCreateIfAbsentResultForOptimizationState(Instant optimizedInstant) {
+        table.createResultsIfAbsent(optimizedInstant);
+        return getOrCreateView(optimizedInstant);
+    }
+
+    /**
+     * The results of an optimized instant are a view on the row of the table, which is created once and then reused
+     */
+    private ElementaryFlowCnecResult getOrCreateView(Instant optimizedInstant) {
+        return results.computeIfAbsent(optimizedInstant, instant -> new ElementaryFlowCnecResult(table, instant, row));
     }
 }
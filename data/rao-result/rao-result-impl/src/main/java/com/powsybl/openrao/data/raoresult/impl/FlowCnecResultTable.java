@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.raoresult.impl;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.PhysicalParameter;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Instant;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Columnar storage of the results of flow CNECs.
+ * <p>
+ * Each flow CNEC is given a row. For each optimized instant, the results of a given flow unit are stored in a single
+ * array of doubles holding the rows one after the other, with a block of values per row (flow, margin, relative
+ * margin, loop flow and commercial flow, per side when relevant). The PTDF zonal sums of each side are stored the same
+ * way, in another array. An array is only allocated when a first value is set in it, so units for which no result is
+ * set take no memory. Absent values are NaN.
+ */
+final class FlowCnecResultTable {
+
+    private static final int FLOW = 0;
+    private static final int MARGIN = 2;
+    private static final int RELATIVE_MARGIN = 3;
+    private static final int LOOP_FLOW = 4;
+    private static final int COMMERCIAL_FLOW = 6;
+    private static final int VALUES_PER_UNIT = 8;
+    private static final int VALUES_PER_PTDF_ZONAL_SUM = 2;
+
+    private static final int[] UNIT_ARRAYS = new int[Unit.values().length];
+    private static final int PTDF_ZONAL_SUM_ARRAY;
+
+    static {
+        int array = 0;
+        for (Unit unit : Unit.values()) {
+            UNIT_ARRAYS[unit.ordinal()] = unit.getPhysicalParameter() == PhysicalParameter.FLOW ? array++ : -1;
+        }
+        PTDF_ZONAL_SUM_ARRAY = array;
+    }
+
+    private final Map<Instant, double[][]> columns = new HashMap<>();
+    private int rowCount;
+
+    int addRow() {
+        return rowCount++;
+    }
+
+    boolean hasResults(Instant optimizedInstant) {
+        return columns.containsKey(optimizedInstant);
+    }
+
+    void createResultsIfAbsent(Instant optimizedInstant) {
+        columns.computeIfAbsent(optimizedInstant, instant -> new double[PTDF_ZONAL_SUM_ARRAY + 1][]);
+    }
+
+    /**
+     * Whether values of the given unit were set for the given optimized instant, on any row
+     */
+    boolean hasValues(Instant optimizedInstant, Unit unit) {
+        double[][] column = columns.get(optimizedInstant);
+        int unitArray = UNIT_ARRAYS[unit.ordinal()];
+        return column != null && unitArray >= 0 && column[unitArray] != null;
+    }
+
+    double getFlow(Instant optimizedInstant, int row, TwoSides side, Unit unit) {
+        return getUnitValue(optimizedInstant, row, unit, FLOW + sideIndex(side));
+    }
+
+    double getMargin(Instant optimizedInstant, int row, Unit unit) {
+        return getUnitValue(optimizedInstant, row, unit, MARGIN);
+    }
+
+    double getRelativeMargin(Instant optimizedInstant, int row, Unit unit) {
+        return getUnitValue(optimizedInstant, row, unit, RELATIVE_MARGIN);
+    }
+
+    double getLoopFlow(Instant optimizedInstant, int row, TwoSides side, Unit unit) {
+        return getUnitValue(optimizedInstant, row, unit, LOOP_FLOW + sideIndex(side));
+    }
+
+    double getCommercialFlow(Instant optimizedInstant, int row, TwoSides side, Unit unit) {
+        return getUnitValue(optimizedInstant, row, unit, COMMERCIAL_FLOW + sideIndex(side));
+    }
+
+    double getPtdfZonalSum(Instant optimizedInstant, int row, TwoSides side) {
+        return get(optimizedInstant, PTDF_ZONAL_SUM_ARRAY, row * VALUES_PER_PTDF_ZONAL_SUM + sideIndex(side));
+    }
+
+    void setFlow(Instant optimizedInstant, int row, TwoSides side, double flow, Unit unit) {
+        setUnitValue(optimizedInstant, row, unit, FLOW + sideIndex(side), flow);
+    }
+
+    void setMargin(Instant optimizedInstant, int row, double margin, Unit unit) {
+        setUnitValue(optimizedInstant, row, unit, MARGIN, margin);
+    }
+
+    void setRelativeMargin(Instant optimizedInstant, int row, double relativeMargin, Unit unit) {
+        setUnitValue(optimizedInstant, row, unit, RELATIVE_MARGIN, relativeMargin);
+    }
+
+    void setLoopFlow(Instant optimizedInstant, int row, TwoSides side, double loopFlow, Unit unit) {
+        setUnitValue(optimizedInstant, row, unit, LOOP_FLOW + sideIndex(side), loopFlow);
+    }
+
+    void setCommercialFlow(Instant optimizedInstant, int row, TwoSides side, double commercialFlow, Unit unit) {
+        setUnitValue(optimizedInstant, row, unit, COMMERCIAL_FLOW + sideIndex(side), commercialFlow);
+    }
+
+    void setPtdfZonalSum(Instant optimizedInstant, int row, TwoSides side, double ptdfZonalSum) {
+        set(optimizedInstant, PTDF_ZONAL_SUM_ARRAY, row, VALUES_PER_PTDF_ZONAL_SUM, sideIndex(side), ptdfZonalSum);
+    }
+
+    private static int sideIndex(TwoSides side) {
+        return side == TwoSides.ONE ? 0 : 1;
+    }
+
+    private double getUnitValue(Instant optimizedInstant, int row, Unit unit, int offset) {
+        int unitArray = UNIT_ARRAYS[unit.ordinal()];
+        return unitArray < 0 ? Double.NaN : get(optimizedInstant, unitArray, row * VALUES_PER_UNIT + offset);
+    }
+
+    private void setUnitValue(Instant optimizedInstant, int row, Unit unit, int offset, double value) {
+        int unitArray = UNIT_ARRAYS[unit.ordinal()];
+        if (unitArray < 0) {
+            throw new OpenRaoException("FlowCnecResult can only be defined for a FLOW unit");
+        }
+        set(optimizedInstant, unitArray, row, VALUES_PER_UNIT, offset, value);
+    }
+
+    private double get(Instant optimizedInstant, int array, int index) {
+        double[][] column = columns.get(optimizedInstant);
+        double[] values = column == null ? null : column[array];
+        return values == null || index >= values.length ? Double.NaN : values[index];
+    }
+
+    private void set(Instant optimizedInstant, int array, int row, int valuesPerRow, int offset, double value) {
+        double[][] column = columns.get(optimizedInstant);
+        double[] values = column[array];
+        int index = row * valuesPerRow + offset;
+        if (values == null || values.length <= index) {
+            values = growValues(values, row + 1, valuesPerRow);
+            column[array] = values;
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Arrays are created for the rows which exist at that time, and are grown by doubling their capacity when a
+     * value is set on a row added afterward
+     */
+    private double[] growValues(double[] values, int minRowCount, int valuesPerRow) {
+        int currentLength = values == null ? 0 : values.length;
+        int newRowCount = Math.max(Math.max(minRowCount, rowCount), 2 * currentLength / valuesPerRow);
+        double[] grownValues = values == null ? new double[newRowCount * valuesPerRow] : Arrays.copyOf(values, newRowCount * valuesPerRow);
+        Arrays.fill(grownValues, currentLength, grownValues.length, Double.NaN);
+        return grownValues;
+    }
+}
@@ -44,6 +44,7 @@ public class RaoResultImpl implements RaoResult {
 
     private ComputationStatus computationStatus;
     private final Map<State, ComputationStatus> computationStatusPerState = new HashMap<>();
+    private final FlowCnecResultTable flowCnecResultTable = new FlowCnecResultTable();
     private final Map<FlowCnec, FlowCnecResult> flowCnecResults = new HashMap<>();
     private final Map<AngleCnec, AngleCnecResult> angleCnecResults = new HashMap<>();
     private final Map<VoltageCnec, VoltageCnecResult> voltageCnecResults = new HashMap<>();
@@ -140,8 +141,7 @@ public class RaoResultImpl implements RaoResult {
     }
 
     public FlowCnecResult getAndCreateIfAbsentFlowCnecResult(FlowCnec flowCnec) {
-        flowCnecResults.putIfAbsent(flowCnec, new FlowCnecResult());
-        return flowCnecResults.get(flowCnec);
+        return flowCnecResults.computeIfAbsent(flowCnec, cnec -> new FlowCnecResult(flowCnecResultTable));
     }
 
     public AngleCnecResult getAndCreateIfAbsentAngleCnecResult(AngleCnec angleCnec) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.data.raoresult.impl;
+
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Instant;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class FlowCnecResultTableTest {
+
+    @Test
+    void testValuesAreStoredPerRowAndInstant() {
+        Instant preventiveInstant = mock(Instant.class);
+        Instant curativeInstant = mock(Instant.class);
+        FlowCnecResultTable table = new FlowCnecResultTable();
+        int firstRow = table.addRow();
+        table.createResultsIfAbsent(null);
+        table.createResultsIfAbsent(preventiveInstant);
+        assertTrue(table.hasResults(preventiveInstant));
+        assertFalse(table.hasResults(curativeInstant));
+
+        table.setFlow(null, firstRow, TwoSides.ONE, 100., Unit.MEGAWATT);
+        table.setMargin(preventiveInstant, firstRow, 50., Unit.AMPERE);
+        table.setPtdfZonalSum(preventiveInstant, firstRow, TwoSides.TWO, 0.5);
+
+        // rows added after the creation of the columns
+        int lastRow = firstRow;
+        for (int i = 0; i < 100; i++) {
+            lastRow = table.addRow();
+            table.setLoopFlow(preventiveInstant, lastRow, TwoSides.TWO, i, Unit.MEGAWATT);
+        }
+        table.setCommercialFlow(null, lastRow, TwoSides.ONE, 200., Unit.PERCENT_IMAX);
+
+        assertEquals(100., table.getFlow(null, firstRow, TwoSides.ONE, Unit.MEGAWATT), 1e-6);
+        assertEquals(Double.NaN, table.getFlow(null, firstRow, TwoSides.TWO, Unit.MEGAWATT), 1e-6);
+        assertEquals(Double.NaN, table.getFlow(preventiveInstant, firstRow, TwoSides.ONE, Unit.MEGAWATT), 1e-6);
+        assertEquals(50., table.getMargin(preventiveInstant, firstRow, Unit.AMPERE), 1e-6);
+        assertEquals(Double.NaN, table.getRelativeMargin(preventiveInstant, firstRow, Unit.AMPERE), 1e-6);
+        assertEquals(0.5, table.getPtdfZonalSum(preventiveInstant, firstRow, TwoSides.TWO), 1e-6);
+        assertEquals(99., table.getLoopFlow(preventiveInstant, lastRow, TwoSides.TWO, Unit.MEGAWATT), 1e-6);
+        assertEquals(98., table.getLoopFlow(preventiveInstant, lastRow - 1, TwoSides.TWO, Unit.MEGAWATT), 1e-6);
+        assertEquals(200., table.getCommercialFlow(null, lastRow, TwoSides.ONE, Unit.PERCENT_IMAX), 1e-6);
+        assertEquals(Double.NaN, table.getCommercialFlow(null, lastRow - 1, TwoSides.ONE, Unit.PERCENT_IMAX), 1e-6);
+        assertEquals(Double.NaN, table.getMargin(curativeInstant, lastRow, Unit.MEGAWATT), 1e-6);
+        assertEquals(Double.NaN, table.getMargin(preventiveInstant, lastRow, Unit.KILOVOLT), 1e-6);
+    }
+
+    @Test
+    void testValuesAreOnlyAllocatedForUnitsSet() {
+        Instant preventiveInstant = mock(Instant.class);
+        FlowCnecResultTable table = new FlowCnecResultTable();
+        int row = table.addRow();
+        table.createResultsIfAbsent(preventiveInstant);
+        assertFalse(table.hasValues(preventiveInstant, Unit.MEGAWATT));
+
+        table.setFlow(preventiveInstant, row, TwoSides.ONE, 100., Unit.MEGAWATT);
+        table.setPtdfZonalSum(preventiveInstant, row, TwoSides.ONE, 0.2);
+        assertTrue(table.hasValues(preventiveInstant, Unit.MEGAWATT));
+        assertFalse(table.hasValues(preventiveInstant, Unit.AMPERE));
+        assertFalse(table.hasValues(preventiveInstant, Unit.PERCENT_IMAX));
+        assertFalse(table.hasValues(null, Unit.MEGAWATT));
+        assertFalse(table.hasValues(preventiveInstant, Unit.KILOVOLT));
+        assertEquals(Double.NaN, table.getFlow(preventiveInstant, row, TwoSides.ONE, Unit.AMPERE), 1e-6);
+        assertEquals(0.2, table.getPtdfZonalSum(preventiveInstant, row, TwoSides.ONE), 1e-6);
+    }
+
+    @Test
+    void testNotAFlowUnit() {
+        FlowCnecResultTable table = new FlowCnecResultTable();
+        int row = table.addRow();
+        table.createResultsIfAbsent(null);
+        assertThrows(OpenRaoException.class, () -> table.setMargin(null, row, 10., Unit.DEGREE));
+    }
+}
@@ -12,6 +12,8 @@ import com.powsybl.iidm.network.TwoSides;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -48,4 +50,17 @@ class FlowCnecResultTest {
         assertEquals(150., flowCnecResult.getResult(null).getMargin(Unit.MEGAWATT), 1e-3);
         assertEquals(Double.NaN, flowCnecResult.getResult(null).getMargin(Unit.AMPERE), 1e-3);
     }
+
+    @Test
+    void testResultsOfAnInstantAreReused() {
+        Instant preventiveInstant = mock(Instant.class);
+        FlowCnecResult flowCnecResult = new FlowCnecResult();
+        ElementaryFlowCnecResult defaultResult = flowCnecResult.getResult(preventiveInstant);
+
+        ElementaryFlowCnecResult result = flowCnecResult.getAndCreateIfAbsentResultForOptimizationState(preventiveInstant);
+        assertNotSame(defaultResult, result);
+        assertSame(result, flowCnecResult.getResult(preventiveInstant));
+        assertSame(result, flowCnecResult.getAndCreateIfAbsentResultForOptimizationState(preventiveInstant));
+        assertNotSame(result, flowCnecResult.getAndCreateIfAbsentResultForOptimizationState(null));
+    }
 }
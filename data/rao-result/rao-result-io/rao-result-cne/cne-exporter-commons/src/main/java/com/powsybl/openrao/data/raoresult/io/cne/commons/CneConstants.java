@@ -104,6 +104,8 @@ public final class CneConstants {
     public static final String RELATIVE_POSITIVE_MARGINS = "relative-positive-margins";
     public static final String WITH_LOOP_FLOWS = "with-loop-flows";
     public static final String MNEC_ACCEPTABLE_MARGIN_DIMINUTION = "mnec-acceptable-margin-diminution";
+    public static final String VALIDATE_SCHEMA = "validate-schema";
+    public static final String PARALLELISM = "parallelism";
     public static final String DOCUMENT_ID = "document-id";
     public static final String REVISION_NUMBER = "revision-number";
     public static final String DOMAIN_ID = "domain-id";
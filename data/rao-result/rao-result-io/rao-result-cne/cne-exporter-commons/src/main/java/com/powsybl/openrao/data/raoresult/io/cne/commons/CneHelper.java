@@ -9,6 +9,7 @@ package com.powsybl.openrao.data.raoresult.io.cne.commons;
 
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.util.ParallelUtils;
 
 import java.util.Properties;
 
@@ -52,6 +53,13 @@ public class CneHelper {
         return Double.parseDouble(properties.getProperty(propertiesPrefix + MNEC_ACCEPTABLE_MARGIN_DIMINUTION, "0"));
     }
 
+    /**
+     * Number of threads used to compute the results of the CNECs, 1 to compute them sequentially
+     */
+    public int getParallelism() {
+        return ParallelUtils.getParallelism(properties, propertiesPrefix + PARALLELISM);
+    }
+
     public String getDocumentId() {
         return properties.getProperty(propertiesPrefix + DOCUMENT_ID);
     }
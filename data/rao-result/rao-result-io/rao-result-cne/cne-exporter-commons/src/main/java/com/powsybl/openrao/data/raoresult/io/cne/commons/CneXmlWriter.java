@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.cne.commons;
+
+import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
+import com.powsybl.openrao.data.crac.io.commons.XmlCodecRegistry;
+import jakarta.xml.bind.JAXBElement;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.annotation.XmlSchema;
+import org.xml.sax.SAXException;
+
+import javax.xml.namespace.QName;
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.CNE_TAG;
+
+/**
+ * Writer of CNE market documents.
+ * <p>
+ * The document is marshalled directly to the output stream. When a schema is given, the document is validated while
+ * it is marshalled: the validation errors are logged and the document is written anyway.
+ */
+public final class CneXmlWriter {
+
+    private CneXmlWriter() {
+    }
+
+    /**
+     * @param schema : schema against which the document is validated, it is not validated if it is null
+     */
+    public static <T> void write(T marketDocument, Class<T> documentClass, String schemaLocation, Schema schema, OutputStream outputStream) throws JAXBException, IOException {
+        boolean[] isValid = {true};
+        try (XmlCodecRegistry.Lease<Marshaller> marshallerLease = XmlCodecRegistry.getMarshaller(documentClass)) {
+            Marshaller marshaller = marshallerLease.get();
+
+            // format the XML output
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            marshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation);
+
+            if (schema != null) {
+                marshaller.setSchema(schema);
+                marshaller.setEventHandler(event -> {
+                    isValid[0] = false;
+                    OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("Exception: {}", event.getMessage());
+                    return true;
+                });
+            }
+
+            String namespace = documentClass.getPackage().getAnnotation(XmlSchema.class).namespace();
+            // the document is written through a Writer, whose formatted output is indented at any depth
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            marshaller.marshal(new JAXBElement<>(new QName(namespace, CNE_TAG), documentClass, marketDocument), writer);
+            writer.flush();
+        }
+
+        if (!isValid[0]) {
+            OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("CNE output doesn't fit the xsd.");
+        }
+    }
+
+    /**
+     * Schema made of the given XSD files, read from the /xsd resources of the class. It is compiled on first use and
+     * shared by all exports.
+     */
+    public static Schema getSchema(Class<?> resourceClass, String... schemaNames) {
+        return XmlCodecRegistry.getSchema(resourceClass, Arrays.stream(schemaNames).map(schemaName -> "/xsd/" + schemaName).toArray(String[]::new));
+    }
+
+    /**
+     * Check that an XML document fits a schema
+     */
+    public static boolean isValid(Schema schema, Source source) {
+        try {
+            schema.newValidator().validate(source);
+        } catch (IOException | SAXException e) {
+            OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("Exception: {}", e.getMessage());
+            return false;
+        }
+        return true;
+    }
+}
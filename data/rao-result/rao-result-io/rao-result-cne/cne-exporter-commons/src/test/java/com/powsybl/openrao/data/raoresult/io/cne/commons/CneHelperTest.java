@@ -7,15 +7,18 @@
 
 package com.powsybl.openrao.data.raoresult.io.cne.commons;
 
+import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
 import java.util.Properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -31,6 +34,7 @@ class CneHelperTest {
         properties.setProperty("rao-result.export.core-cne.relative-positive-margins", "true");
         properties.setProperty("rao-result.export.core-cne.with-loop-flows", "false");
         properties.setProperty("rao-result.export.core-cne.mnec-acceptable-margin-diminution", "50");
+        properties.setProperty("rao-result.export.core-cne.parallelism", "4");
         properties.setProperty("rao-result.export.core-cne.document-id", "documentId");
         properties.setProperty("rao-result.export.core-cne.revision-number", "1");
         properties.setProperty("rao-result.export.core-cne.domain-id", "domainId");
@@ -48,6 +52,7 @@ class CneHelperTest {
         assertTrue(cneHelper.isRelativePositiveMargins());
         assertFalse(cneHelper.isWithLoopFlows());
         assertEquals(50d, cneHelper.getMnecAcceptableMarginDiminution());
+        assertEquals(4, cneHelper.getParallelism());
         assertEquals("documentId", cneHelper.getDocumentId());
         assertEquals(1, cneHelper.getRevisionNumber());
         assertEquals("Z01", cneHelper.getProcessType());
@@ -57,4 +62,17 @@ class CneHelperTest {
         assertEquals("A36", cneHelper.getReceiverRole());
         assertEquals("2021-04-02T12:00:00Z/2021-04-02T13:00:00Z", cneHelper.getTimeInterval());
     }
+
+    @Test
+    void testParallelism() {
+        Properties properties = new Properties();
+        CneHelper cneHelper = new CneHelper(Mockito.mock(Crac.class), Mockito.mock(RaoResult.class), properties, "rao-result.export.core-cne.");
+        assertEquals(1, cneHelper.getParallelism());
+
+        for (String parallelism : List.of("0", "two")) {
+            properties.setProperty("rao-result.export.core-cne.parallelism", parallelism);
+            OpenRaoException exception = assertThrows(OpenRaoException.class, cneHelper::getParallelism);
+            assertEquals("rao-result.export.core-cne.parallelism should be a positive integer.", exception.getMessage());
+        }
+    }
 }
@@ -11,6 +11,7 @@ import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
 import com.powsybl.openrao.data.raoresult.io.cne.commons.CneHelper;
+import com.powsybl.openrao.util.ParallelUtils;
 import com.powsybl.openrao.data.raoresult.io.cne.core.xsd.Analog;
 import com.powsybl.openrao.data.raoresult.io.cne.core.xsd.ConstraintSeries;
 import com.powsybl.openrao.data.raoresult.io.cne.core.xsd.ContingencySeries;
@@ -18,6 +19,7 @@ import com.powsybl.openrao.data.raoresult.io.cne.core.xsd.MonitoredRegisteredRes
 import com.powsybl.contingency.Contingency;
 import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.io.commons.api.stdcreationcontext.BranchCnecCreationContext;
@@ -25,6 +27,8 @@ import com.powsybl.openrao.data.crac.io.commons.api.stdcreationcontext.UcteCracC
 import com.powsybl.openrao.data.crac.loopflowextension.LoopFlowThreshold;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static com.powsybl.openrao.data.raoresult.io.cne.commons.CneConstants.*;
 import static com.powsybl.openrao.data.raoresult.io.cne.core.CoreCneClassCreator.*;
@@ -37,8 +41,14 @@ import static com.powsybl.openrao.data.raoresult.io.cne.core.CoreCneClassCreator
  */
 public final class CoreCneCnecsCreator {
 
+    private static final int MIN_CNECS_FOR_PARALLEL_GENERATION = 500;
+
     private CneHelper cneHelper;
     private UcteCracCreationContext cracCreationContext;
+    private Instant preventiveInstant;
+    private Instant outageInstant;
+    private Instant curativeInstant;
+    private final Map<String, Boolean> curativeRemedialActionsPerContingency = new ConcurrentHashMap<>();
 
     public CoreCneCnecsCreator(CneHelper cneHelper, UcteCracCreationContext cracCreationContext) {
         this.cneHelper = cneHelper;
@@ -49,12 +59,34 @@ public final class CoreCneCnecsCreator {
 
     }
 
+    /**
+     * The constraint series of the CNECs are returned in the order of the native ids of the CNECs. When there are many
+     * CNECs, they are created with the parallelism set in the export properties.
+     */
     public List<ConstraintSeries> generate() {
-        List<ConstraintSeries> constraintSeries = new ArrayList<>();
-        cracCreationContext.getBranchCnecCreationContexts().stream()
+        List<BranchCnecCreationContext> branchCnecCreationContexts = cracCreationContext.getBranchCnecCreationContexts().stream()
             .sorted(Comparator.comparing(BranchCnecCreationContext::getNativeObjectId))
-            .forEach(cnec -> constraintSeries.addAll(createConstraintSeriesOfACnec(cnec, cneHelper)));
-        return constraintSeries;
+            .map(BranchCnecCreationContext.class::cast)
+            .toList();
+        lookUpInstants(branchCnecCreationContexts);
+        int parallelism = branchCnecCreationContexts.size() >= MIN_CNECS_FOR_PARALLEL_GENERATION ? cneHelper.getParallelism() : 1;
+        return ParallelUtils.map(branchCnecCreationContexts, cnec -> createConstraintSeriesOfACnec(cnec, cneHelper), parallelism).stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * The instants are looked up once per export. They are only required, and looked up, when CNECs were imported, and
+     * the outage and curative instants only when post-contingency CNECs were imported.
+     */
+    private void lookUpInstants(List<BranchCnecCreationContext> branchCnecCreationContexts) {
+        if (branchCnecCreationContexts.stream().anyMatch(BranchCnecCreationContext::isImported)) {
+            preventiveInstant = cneHelper.getCrac().getPreventiveInstant();
+        }
+        if (branchCnecCreationContexts.stream().anyMatch(context -> context.isImported() && !context.isBaseCase())) {
+            outageInstant = cneHelper.getCrac().getOutageInstant();
+            curativeInstant = cneHelper.getCrac().getInstant(InstantKind.CURATIVE);
+        }
     }
 
     private List<ConstraintSeries> createConstraintSeriesOfACnec(BranchCnecCreationContext branchCnecCreationContext, CneHelper cneHelper) {
@@ -66,11 +98,11 @@ public final class CoreCneCnecsCreator {
         String outageBranchCnecId;
         String curativeBranchCnecId;
         if (branchCnecCreationContext.isBaseCase()) {
-            outageBranchCnecId = branchCnecCreationContext.getCreatedCnecsIds().get(cneHelper.getCrac().getPreventiveInstant().getId());
+            outageBranchCnecId = branchCnecCreationContext.getCreatedCnecsIds().get(preventiveInstant.getId());
             curativeBranchCnecId = outageBranchCnecId;
         } else {
-            outageBranchCnecId = branchCnecCreationContext.getCreatedCnecsIds().get(cneHelper.getCrac().getOutageInstant().getId());
-            curativeBranchCnecId = branchCnecCreationContext.getCreatedCnecsIds().get(cneHelper.getCrac().getInstant(InstantKind.CURATIVE).getId());
+            outageBranchCnecId = branchCnecCreationContext.getCreatedCnecsIds().get(outageInstant.getId());
+            curativeBranchCnecId = branchCnecCreationContext.getCreatedCnecsIds().get(curativeInstant.getId());
         }
 
         // A52 (CNEC)
@@ -128,10 +160,7 @@ public final class CoreCneCnecsCreator {
         constraintSeriesB57.getMonitoredSeries().add(newMonitoredSeries(nativeCnecId, outageCnec.getName() + contingencySuffix, monitoredRegisteredResourceB57));
         constraintSeriesOfCnec.add(constraintSeriesB57);
 
-        Instant curativeInstant = cneHelper.getCrac().getInstant(InstantKind.CURATIVE);
-        if (optionalContingency.isPresent() &&
-            (!cneHelper.getRaoResult().getActivatedNetworkActionsDuringState(cneHelper.getCrac().getState(optionalContingency.get(), curativeInstant)).isEmpty()
-                || !cneHelper.getRaoResult().getActivatedRangeActionsDuringState(cneHelper.getCrac().getState(optionalContingency.get(), curativeInstant)).isEmpty())) {
+        if (optionalContingency.isPresent() && hasCurativeRemedialActions(optionalContingency.get())) {
             // B54
             // TODO : remove the 'if' condition when we go back to exporting B54 series even if no CRAs are applied
             List<Analog> measurementsB54 = createB54MeasurementsOfCnec(curativeCnec, shouldInvertBranchDirection);
@@ -143,6 +172,17 @@ public final class CoreCneCnecsCreator {
         return constraintSeriesOfCnec;
     }
 
+    /**
+     * Whether remedial actions were activated in the curative state of the contingency, computed once per contingency
+     */
+    private boolean hasCurativeRemedialActions(Contingency contingency) {
+        return curativeRemedialActionsPerContingency.computeIfAbsent(contingency.getId(), contingencyId -> {
+            State curativeState = cneHelper.getCrac().getState(contingency, curativeInstant);
+            return !cneHelper.getRaoResult().getActivatedNetworkActionsDuringState(curativeState).isEmpty()
+                || !cneHelper.getRaoResult().getActivatedRangeActionsDuringState(curativeState).isEmpty();
+        });
+    }
+
     private static class AnalogComparator implements Comparator<Analog> {
         @Override
         public int compare(Analog o1, Analog o2) {
@@ -165,16 +205,16 @@ public final class CoreCneCnecsCreator {
 
     private List<Analog> createB57MeasurementsOfCnec(FlowCnec cnec, boolean shouldInvertBranchDirection) {
         List<Analog> measurements = new ArrayList<>();
-        measurements.addAll(createFlowMeasurementsOfFlowCnec(cnec, cracCreationContext.getCrac().getPreventiveInstant(), true, shouldInvertBranchDirection));
-        measurements.addAll(createMarginMeasurementsOfFlowCnec(cnec, cracCreationContext.getCrac().getPreventiveInstant(), true, shouldInvertBranchDirection));
+        measurements.addAll(createFlowMeasurementsOfFlowCnec(cnec, preventiveInstant, true, shouldInvertBranchDirection));
+        measurements.addAll(createMarginMeasurementsOfFlowCnec(cnec, preventiveInstant, true, shouldInvertBranchDirection));
         measurements.sort(new AnalogComparator());
         return measurements;
     }
 
     private List<Analog> createB54MeasurementsOfCnec(FlowCnec cnec, boolean shouldInvertBranchDirection) {
         List<Analog> measurements = new ArrayList<>();
-        measurements.addAll(createFlowMeasurementsOfFlowCnec(cnec, cracCreationContext.getCrac().getInstant(InstantKind.CURATIVE), true, shouldInvertBranchDirection));
-        measurements.addAll(createMarginMeasurementsOfFlowCnec(cnec, cracCreationContext.getCrac().getInstant(InstantKind.CURATIVE), false, shouldInvertBranchDirection));
+        measurements.addAll(createFlowMeasurementsOfFlowCnec(cnec, curativeInstant, true, shouldInvertBranchDirection));
+        measurements.addAll(createMarginMeasurementsOfFlowCnec(cnec, curativeInstant, false, shouldInvertBranchDirection));
         measurements.sort(new AnalogComparator());
         return measurements;
     }
@@ -216,7 +256,7 @@ public final class CoreCneCnecsCreator {
     private double getCnecFlow(FlowCnec cnec, TwoSides side, Instant optimizedInstant) {
         Instant resultState = optimizedInstant;
         if (resultState != null && resultState.isCurative() && cnec.getState().getInstant().isPreventive()) {
-            resultState = cracCreationContext.getCrac().getPreventiveInstant();
+            resultState = preventiveInstant;
         }
         return cneHelper.getRaoResult().getFlow(resultState, cnec, side, Unit.MEGAWATT);
     }
@@ -224,7 +264,7 @@ public final class CoreCneCnecsCreator {
     private double getCnecMargin(FlowCnec cnec, Instant optimizedInstant, Unit unit, boolean deductFrmFromThreshold) {
         Instant resultState = optimizedInstant;
         if (resultState != null && resultState.isCurative() && cnec.getState().getInstant().isPreventive()) {
-            resultState = cracCreationContext.getCrac().getPreventiveInstant();
+            resultState = preventiveInstant;
         }
         return getThresholdToMarginMap(cnec, resultState, unit, deductFrmFromThreshold).values().stream().min(Double::compareTo).orElseThrow();
     }
@@ -233,7 +273,7 @@ public final class CoreCneCnecsCreator {
         double absoluteMargin = getCnecMargin(cnec, optimizedInstant, unit, true);
         Instant resultState = optimizedInstant;
         if (resultState != null && resultState.isCurative() && cnec.getState().getInstant().isPreventive()) {
-            resultState = cracCreationContext.getCrac().getPreventiveInstant();
+            resultState = preventiveInstant;
         }
         return absoluteMargin > 0 ? absoluteMargin / cneHelper.getRaoResult().getPtdfZonalSum(resultState, cnec, getMonitoredSide(cnec)) : absoluteMargin;
     }
@@ -317,7 +357,7 @@ public final class CoreCneCnecsCreator {
     private List<Analog> createLoopflowMeasurements(FlowCnec cnec, Instant optimizedInstant, boolean shouldInvertBranchDirection) {
         Instant resultOptimState = optimizedInstant;
         if (resultOptimState != null && optimizedInstant.isCurative() && cnec.getState().isPreventive()) {
-            resultOptimState = cracCreationContext.getCrac().getPreventiveInstant();
+            resultOptimState = preventiveInstant;
         }
         List<Analog> measurements = new ArrayList<>();
         try {
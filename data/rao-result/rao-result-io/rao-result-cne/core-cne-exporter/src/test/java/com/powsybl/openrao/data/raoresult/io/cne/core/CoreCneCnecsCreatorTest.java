@@ -426,4 +426,84 @@ class CoreCneCnecsCreatorTest {
             null, null, 123., 321.);
                  */
     }
+
+    @Test
+    void testExportManyCnecsKeepsOrder() {
+        int nbCnecs = 600;
+        // the CNECs are created in the reverse order of their ids
+        for (int i = nbCnecs - 1; i >= 0; i--) {
+            crac.newFlowCnec()
+                .withId(String.format("cnec%04d", i))
+                .withNetworkElement("FFR2AA1  DDE3AA1  " + i)
+                .withOperator("FR")
+                .withInstant(PREVENTIVE_INSTANT_ID)
+                .withOptimized()
+                .withNominalVoltage(400.)
+                .withReliabilityMargin(0.)
+                .newThreshold().withUnit(Unit.MEGAWATT).withMax(1000.).withSide(TwoSides.TWO).add()
+                .add();
+        }
+        Mockito.when(raoResult.getFlow(any(), any(FlowCnec.class), any(), eq(Unit.MEGAWATT)))
+            .thenAnswer(invocation -> Double.parseDouble(invocation.getArgument(1, FlowCnec.class).getId().substring(4)));
+
+        properties.setProperty(CORE_CNE_EXPORT_PROPERTIES_PREFIX + "parallelism", "4");
+        CneHelper cneHelper = new CneHelper(crac, raoResult, properties, CORE_CNE_EXPORT_PROPERTIES_PREFIX);
+        List<ConstraintSeries> cnecsConstraintSeries = new CoreCneCnecsCreator(cneHelper, new MockCracCreationContext(crac)).generate();
+
+        assertEquals(2 * nbCnecs, cnecsConstraintSeries.size());
+        for (int i = 0; i < nbCnecs; i++) {
+            String cnecId = String.format("cnec%04d", i);
+            for (int j = 0; j < 2; j++) {
+                ConstraintSeries constraintSeries = cnecsConstraintSeries.get(2 * i + j);
+                assertEquals(j == 0 ? "B88" : "B57", constraintSeries.getBusinessType());
+                assertEquals(cnecId, constraintSeries.getMRID());
+                Analog flowMeasurement = constraintSeries.getMonitoredSeries().get(0).getRegisteredResource().get(0).getMeasurements().get(0);
+                assertEquals("A01", flowMeasurement.getMeasurementType());
+                assertEquals(i, flowMeasurement.getAnalogValuesValue(), 1e-3);
+            }
+        }
+    }
+
+    @Test
+    void testCracWithoutPostContingencyInstants() {
+        crac = CracFactory.findDefault().create("preventive-crac").newInstant(PREVENTIVE_INSTANT_ID, InstantKind.PREVENTIVE);
+        FlowCnec cnec = crac.newFlowCnec()
+            .withId("cnec")
+            .withNetworkElement("FFR2AA1  DDE3AA1  1")
+            .withOperator("FR")
+            .withInstant(PREVENTIVE_INSTANT_ID)
+            .withOptimized()
+            .withNominalVoltage(400.)
+            .withReliabilityMargin(0.)
+            .newThreshold().withUnit(Unit.MEGAWATT).withMax(100.).withSide(TwoSides.TWO).add()
+            .add();
+        mockCnecResult(cnec, 80, 20, 200, .1);
+
+        CneHelper cneHelper = new CneHelper(crac, raoResult, properties, CORE_CNE_EXPORT_PROPERTIES_PREFIX);
+        List<ConstraintSeries> cnecsConstraintSeries = new CoreCneCnecsCreator(cneHelper, new MockCracCreationContext(crac)).generate();
+        assertEquals(List.of("B88", "B57"), cnecsConstraintSeries.stream().map(ConstraintSeries::getBusinessType).toList());
+    }
+
+    @Test
+    void testPostContingencyCnecWithoutCurativeInstant() {
+        crac = CracFactory.findDefault().create("crac-without-curative-instant")
+            .newInstant(PREVENTIVE_INSTANT_ID, InstantKind.PREVENTIVE)
+            .newInstant(OUTAGE_INSTANT_ID, InstantKind.OUTAGE);
+        crac.newContingency().withId("contingency").withContingencyElement("BBE1AA1  BBE2AA1  1", ContingencyElementType.LINE).add();
+        crac.newFlowCnec()
+            .withId("cnec")
+            .withNetworkElement("FFR2AA1  DDE3AA1  1")
+            .withOperator("FR")
+            .withInstant(OUTAGE_INSTANT_ID)
+            .withContingency("contingency")
+            .withOptimized()
+            .withNominalVoltage(400.)
+            .newThreshold().withUnit(Unit.MEGAWATT).withMax(100.).withSide(TwoSides.TWO).add()
+            .add();
+
+        CneHelper cneHelper = new CneHelper(crac, raoResult, properties, CORE_CNE_EXPORT_PROPERTIES_PREFIX);
+        CoreCneCnecsCreator cneCnecsCreator = new CoreCneCnecsCreator(cneHelper, new MockCracCreationContext(crac));
+        OpenRaoException exception = assertThrows(OpenRaoException.class, cneCnecsCreator::generate);
+        assertEquals("Crac does not contain exactly one instant of kind 'CURATIVE'. It contains 0 instants of kind 'CURATIVE'", exception.getMessage());
+    }
 }
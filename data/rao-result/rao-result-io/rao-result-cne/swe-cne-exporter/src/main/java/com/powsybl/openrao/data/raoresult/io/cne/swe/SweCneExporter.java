@@ -9,32 +9,21 @@ package com.powsybl.openrao.data.raoresult.io.cne.swe;
 
 import com.google.auto.service.AutoService;
 import com.powsybl.openrao.commons.OpenRaoException;
-import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
 import com.powsybl.openrao.data.crac.api.CracCreationContext;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.api.io.Exporter;
+import com.powsybl.openrao.data.raoresult.io.cne.commons.CneXmlWriter;
 import com.powsybl.openrao.data.raoresult.io.cne.swe.xsd.CriticalNetworkElementMarketDocument;
 import com.powsybl.openrao.data.crac.api.Crac;
 import org.apache.commons.lang3.NotImplementedException;
-import org.xml.sax.SAXException;
 
-import javax.xml.XMLConstants;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.JAXBElement;
 import jakarta.xml.bind.JAXBException;
-import jakarta.xml.bind.Marshaller;
-import javax.xml.namespace.QName;
-import javax.xml.transform.Source;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
-import javax.xml.validation.SchemaFactory;
-import javax.xml.validation.Validator;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.StringReader;
-import java.io.StringWriter;
-import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -56,6 +45,13 @@ import static com.powsybl.openrao.data.raoresult.io.cne.swe.SweCneUtil.SWE_CNE_E
  *     <li>
  *         <i>mnec-acceptable-margin-diminution</i>: double (default is "0").
  *     </li>
+ *     <li>
+ *         <i>parallelism</i>: integer (default is "1"), number of threads used to compute the results of the CNECs.
+ *     </li>
+ *     <li>
+ *         <i>validate-schema</i>: boolean (default is "true"), whether the document is validated against the XSD
+ *         while it is written.
+ *     </li>
  * </ul>
  *
  * Required properties:
@@ -114,61 +110,29 @@ public class SweCneExporter implements Exporter {
         SweCne cne = new SweCne((CimCracCreationContext) cracCreationContext, raoResult, properties);
         cne.generate();
         CriticalNetworkElementMarketDocument marketDocument = cne.getMarketDocument();
-        StringWriter stringWriter = new StringWriter();
+        Schema schema = isSchemaValidated(properties) ? getSchema() : null;
 
         try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(CriticalNetworkElementMarketDocument.class);
-            Marshaller jaxbMarshaller = jaxbContext.createMarshaller();
-
-            // format the XML output
-            jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            jaxbMarshaller.setProperty(Marshaller.JAXB_SCHEMA_LOCATION, CNE_XSD_2_3);
-
-            QName qName = new QName(XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI, CNE_TAG);
-            JAXBElement<CriticalNetworkElementMarketDocument> root = new JAXBElement<>(qName, CriticalNetworkElementMarketDocument.class, marketDocument);
-
-            jaxbMarshaller.marshal(root, stringWriter);
-
-            String result = stringWriter.toString().replace("xsi:" + CNE_TAG, CNE_TAG);
-
-            if (!validateCNESchema(result)) {
-                OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("CNE output doesn't fit the xsd.");
-            }
-
-            outputStream.write(result.getBytes());
-
+            CneXmlWriter.write(marketDocument, CriticalNetworkElementMarketDocument.class, CNE_XSD_2_3, schema, outputStream);
         } catch (JAXBException | IOException e) {
             throw new OpenRaoException("Could not write SWE CNE file.");
         }
     }
 
+    private static boolean isSchemaValidated(Properties properties) {
+        return Boolean.parseBoolean(properties.getProperty(SWE_CNE_EXPORT_PROPERTIES_PREFIX + VALIDATE_SCHEMA, "true"));
+    }
+
     @Override
     public void exportData(RaoResult raoResult, Crac crac, Properties properties, OutputStream outputStream) {
         throw new NotImplementedException("CracCreationContext is required for CNE export.");
     }
 
-    private static String getSchemaFile(String schemaName) {
-        return Objects.requireNonNull(SweCneExporter.class.getResource("/xsd/" + schemaName)).toExternalForm();
-    }
-
     public static boolean validateCNESchema(String xmlContent) {
+        return CneXmlWriter.isValid(getSchema(), new StreamSource(new StringReader(xmlContent)));
+    }
 
-        try {
-            SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
-
-            Source[] source = {new StreamSource(getSchemaFile(CNE_XSD_2_3)),
-                               new StreamSource(getSchemaFile(CODELISTS_XSD)),
-                               new StreamSource(getSchemaFile(LOCALTYPES_XSD))};
-            Schema schema = factory.newSchema(source);
-            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
-
-            Validator validator = schema.newValidator();
-            validator.validate(new StreamSource(new StringReader(xmlContent)));
-        } catch (IOException | SAXException e) {
-            OpenRaoLoggerProvider.TECHNICAL_LOGS.warn("Exception: {}", e.getMessage());
-            return false;
-        }
-        return true;
+    private static Schema getSchema() {
+        return CneXmlWriter.getSchema(SweCneExporter.class, CNE_XSD_2_3, CODELISTS_XSD, LOCALTYPES_XSD);
     }
 }
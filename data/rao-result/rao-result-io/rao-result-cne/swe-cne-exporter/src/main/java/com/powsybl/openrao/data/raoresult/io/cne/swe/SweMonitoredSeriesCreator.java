@@ -18,6 +18,7 @@ import com.powsybl.openrao.data.crac.io.cim.craccreator.CimCracCreationContext;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.CnecCreationContext;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.MeasurementCreationContext;
 import com.powsybl.openrao.data.crac.io.cim.craccreator.MonitoredSeriesCreationContext;
+import com.powsybl.openrao.util.ParallelUtils;
 import com.powsybl.openrao.data.raoresult.io.cne.swe.xsd.Analog;
 import com.powsybl.openrao.data.raoresult.io.cne.swe.xsd.MonitoredRegisteredResource;
 import com.powsybl.openrao.data.raoresult.io.cne.swe.xsd.MonitoredSeries;
@@ -36,9 +37,12 @@ import static com.powsybl.openrao.data.raoresult.io.cne.swe.SweCneUtil.DEFAULT_D
  * @author Philippe Edwards {@literal <philippe.edwards at rte-france.com>}
  */
 public class SweMonitoredSeriesCreator {
+    private static final int MIN_CNECS_FOR_PARALLEL_COMPUTATION = 500;
+
     private final SweCneHelper sweCneHelper;
     private final CimCracCreationContext cracCreationContext;
     private Map<Contingency, Map<MonitoredSeriesCreationContext, Set<CnecCreationContext>>> cnecCreationContextsMap;
+    private Map<FlowCnec, Pair<Double, Double>> limitingFlowAndThresholdPerCnec;
 
     public SweMonitoredSeriesCreator(SweCneHelper sweCneHelper, CimCracCreationContext cracCreationContext) {
         this.sweCneHelper = sweCneHelper;
@@ -78,6 +82,9 @@ public class SweMonitoredSeriesCreator {
         if (!cnecCreationContextsMap.containsKey(contingency)) {
             return Collections.emptyList();
         }
+        if (limitingFlowAndThresholdPerCnec == null) {
+            computeLimitingFlowsAndThresholds();
+        }
         List<MonitoredSeries> monitoredSeriesList = new ArrayList<>();
         boolean includeMeasurements = !sweCneHelper.isContingencyDivergent(contingency);
         cnecCreationContextsMap.get(contingency).forEach(
@@ -86,6 +93,26 @@ public class SweMonitoredSeriesCreator {
         return monitoredSeriesList;
     }
 
+    /**
+     * The limiting flow and threshold of all the exported CNECs are read from the RaoResult once, with the parallelism
+     * set in the export properties when there are many CNECs
+     */
+    private void computeLimitingFlowsAndThresholds() {
+        Crac crac = sweCneHelper.getCrac();
+        List<FlowCnec> cnecs = cnecCreationContextsMap.values().stream()
+            .flatMap(cnecCreationContextsPerMonitoredSeries -> cnecCreationContextsPerMonitoredSeries.values().stream())
+            .flatMap(Set::stream)
+            .map(cnecCreationContext -> crac.getFlowCnec(cnecCreationContext.getCreatedCnecId()))
+            .distinct()
+            .toList();
+        int parallelism = cnecs.size() >= MIN_CNECS_FOR_PARALLEL_COMPUTATION ? sweCneHelper.getParallelism() : 1;
+        List<Pair<Double, Double>> limitingFlowsAndThresholds = ParallelUtils.map(cnecs, cnec -> getCnecLimitingFlowAndThreshold(cnec.getState().getInstant(), cnec), parallelism);
+        limitingFlowAndThresholdPerCnec = new HashMap<>();
+        for (int i = 0; i < cnecs.size(); i++) {
+            limitingFlowAndThresholdPerCnec.put(cnecs.get(i), limitingFlowsAndThresholds.get(i));
+        }
+    }
+
     private Pair<Double, Double> getCnecLimitingFlowAndThreshold(Instant optimizedInstant, FlowCnec cnec) {
         double flow = 0.0;
         double threshold = 0.0;
@@ -119,7 +146,7 @@ public class SweMonitoredSeriesCreator {
         Map<Double, MonitoredSeries> monitoredSeriesPerFlowValue = new LinkedHashMap<>();
         cnecCreationContexts.forEach(cnecCreationContext -> {
             FlowCnec cnec = crac.getFlowCnec(cnecCreationContext.getCreatedCnecId());
-            Pair<Double, Double> flowAndThreshold = getCnecLimitingFlowAndThreshold(cnec.getState().getInstant(), cnec);
+            Pair<Double, Double> flowAndThreshold = limitingFlowAndThresholdPerCnec.get(cnec);
             double flowValue = flowAndThreshold.getLeft();
             if (monitoredSeriesPerFlowValue.containsKey(flowValue) && includeMeasurements) {
                 mergeSeries(monitoredSeriesPerFlowValue.get(flowValue), cnec, flowAndThreshold.getRight());
@@ -150,7 +177,7 @@ public class SweMonitoredSeriesCreator {
         setInOutAggregateNodes(cnec.getNetworkElement().getId(), monitoredSeriesCreationContext.getNativeId(), registeredResource);
 
         if (includeMeasurements) {
-            Pair<Double, Double> flowAndThreshold = getCnecLimitingFlowAndThreshold(cnec.getState().getInstant(), cnec);
+            Pair<Double, Double> flowAndThreshold = limitingFlowAndThresholdPerCnec.get(cnec);
 
             Analog flow = new Analog();
             flow.setMeasurementType(FLOW_MEASUREMENT_TYPE);
@@ -127,6 +127,19 @@ class SweCneTest {
         }
     }
 
+    @Test
+    void testExportWithoutSchemaValidation() {
+        properties.setProperty("rao-result.export.swe-cne.validate-schema", "false");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new SweCneExporter().exportData(raoResultWithAngle, cracCreationContext, properties, outputStream);
+        try {
+            InputStream inputStream = new FileInputStream(SweCneTest.class.getResource("/SweCNE_Z01.xml").getFile());
+            compareCneFiles(inputStream, new ByteArrayInputStream(outputStream.toByteArray()));
+        } catch (IOException e) {
+            Assertions.fail();
+        }
+    }
+
     @Test
     void testValidateSchemaOk() {
         try {
@@ -16,6 +16,7 @@ import com.powsybl.openrao.data.crac.io.json.JsonCracCreationContext;
 import com.powsybl.openrao.data.raoresult.api.io.Exporter;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.io.json.serializers.RaoResultJsonSerializerModule;
+import com.powsybl.openrao.util.ParallelUtils;
 import com.powsybl.commons.json.JsonUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -39,6 +40,12 @@ import java.util.Set;
  *     <li>
  *         <i>flows-in-megawatts</i>: boolean (default is "false").
  *     </li>
+ *     <li>
+ *         <i>compact</i>: boolean (default is "false"), the JSON is written without indentation nor line breaks.
+ *     </li>
+ *     <li>
+ *         <i>parallelism</i>: integer (default is "1"), number of threads used to serialize the flow CNEC results.
+ *     </li>
  * </ul>
  *
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
@@ -48,6 +55,8 @@ public class RaoResultJsonExporter implements Exporter {
     private static final String JSON_EXPORT_PROPERTIES_PREFIX = "rao-result.export.json.";
     private static final String FLOWS_IN_AMPERES = "flows-in-amperes";
     private static final String FLOWS_IN_MEGAWATTS = "flows-in-megawatts";
+    private static final String COMPACT = "compact";
+    private static final String PARALLELISM = "parallelism";
 
     @Override
     public String getFormat() {
@@ -86,12 +95,17 @@ public class RaoResultJsonExporter implements Exporter {
         }
         try {
             ObjectMapper objectMapper = JsonUtil.createObjectMapper();
-            SimpleModule module = new RaoResultJsonSerializerModule(crac, flowUnits);
+            SimpleModule module = new RaoResultJsonSerializerModule(crac, flowUnits, getParallelism(properties));
             objectMapper.registerModule(module);
-            ObjectWriter writer = objectMapper.writerWithDefaultPrettyPrinter();
+            boolean compact = Boolean.parseBoolean(properties.getProperty(JSON_EXPORT_PROPERTIES_PREFIX + COMPACT, "false"));
+            ObjectWriter writer = compact ? objectMapper.writer() : objectMapper.writerWithDefaultPrettyPrinter();
             writer.writeValue(outputStream, raoResult);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
+
+    private static int getParallelism(Properties properties) {
+        return ParallelUtils.getParallelism(properties, JSON_EXPORT_PROPERTIES_PREFIX + PARALLELISM);
+    }
 }
@@ -11,13 +11,18 @@ import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.io.Importer;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
 import com.powsybl.openrao.data.raoresult.io.json.deserializers.RaoResultDeserializer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import static com.powsybl.commons.json.JsonUtil.createObjectMapper;
 
@@ -33,13 +38,11 @@ public class RaoResultJsonImporter implements Importer {
 
     @Override
     public boolean exists(InputStream inputStream) {
-        try {
-            ObjectMapper objectMapper = createObjectMapper();
-            SimpleModule module = new SimpleModule();
-            module.addDeserializer(RaoResult.class, new RaoResultDeserializer(true));
-            objectMapper.registerModule(module);
-            // TODO: replace this by a call to RaoResultDeserializer.isValid
-            objectMapper.readValue(inputStream, RaoResult.class);
+        try (JsonParser jsonParser = createObjectMapper().createParser(inputStream)) {
+            if (jsonParser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            RaoResultDeserializer.isValid(jsonParser, new RaoResultImpl(null));
             return true;
         } catch (OpenRaoException | IOException e) {
             return false;
@@ -58,4 +61,24 @@ public class RaoResultJsonImporter implements Importer {
             throw new UncheckedIOException(e);
         }
     }
+
+    /**
+     * Import a RaoResult whose CNEC results are only parsed when they are first queried. On import, the file is read
+     * once to index the position of each CNEC result and to read the other results; the JSON object of a CNEC
+     * result is then read again from the file the first time this CNEC is queried, which suits the uses which only
+     * query a few CNECs.
+     * <p>
+     * The file must therefore neither be modified nor deleted while the returned RaoResult is used.
+     */
+    public RaoResult importDataLazily(Path jsonFile, Crac crac) {
+        try (InputStream inputStream = Files.newInputStream(jsonFile)) {
+            ObjectMapper objectMapper = createObjectMapper();
+            SimpleModule module = new SimpleModule();
+            module.addDeserializer(RaoResult.class, new RaoResultDeserializer(crac, jsonFile));
+            objectMapper.registerModule(module);
+            return objectMapper.readValue(inputStream, RaoResult.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -33,19 +33,33 @@ final class AngleCnecResultArrayDeserializer {
     static void deserialize(JsonParser jsonParser, RaoResultImpl raoResult, Crac crac, String jsonFileVersion) throws IOException {
 
         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-            if (!jsonParser.nextFieldName().equals(ANGLECNEC_ID)) {
-                throw new OpenRaoException(String.format("Cannot deserialize RaoResult: each %s must start with an %s field", ANGLECNEC_RESULTS, ANGLECNEC_ID));
-            }
+            deserializeElement(jsonParser, raoResult, crac, jsonFileVersion);
+        }
+    }
+
+    /**
+     * Deserialize the result of a single AngleCnec, the parser being at the start of the result object
+     */
+    static void deserializeElement(JsonParser jsonParser, RaoResultImpl raoResult, Crac crac, String jsonFileVersion) throws IOException {
+        AngleCnecResult angleCnecResult = raoResult.getAndCreateIfAbsentAngleCnecResult(deserializeAngleCnec(jsonParser, crac));
+        deserializeAngleCnecResult(jsonParser, angleCnecResult, jsonFileVersion, crac);
+    }
+
+    /**
+     * Read the AngleCnec of a result, the parser being at the start of the result object
+     */
+    static AngleCnec deserializeAngleCnec(JsonParser jsonParser, Crac crac) throws IOException {
+        if (!ANGLECNEC_ID.equals(jsonParser.nextFieldName())) {
+            throw new OpenRaoException(String.format("Cannot deserialize RaoResult: each %s must start with an %s field", ANGLECNEC_RESULTS, ANGLECNEC_ID));
+        }
 
-            String angleCnecId = jsonParser.nextTextValue();
-            AngleCnec angleCnec = crac.getAngleCnec(angleCnecId);
+        String angleCnecId = jsonParser.nextTextValue();
+        AngleCnec angleCnec = crac.getAngleCnec(angleCnecId);
 
-            if (angleCnec == null) {
-                throw new OpenRaoException(String.format("Cannot deserialize RaoResult: angleCnec with id %s does not exist in the Crac", angleCnecId));
-            }
-            AngleCnecResult angleCnecResult = raoResult.getAndCreateIfAbsentAngleCnecResult(angleCnec);
-            deserializeAngleCnecResult(jsonParser, angleCnecResult, jsonFileVersion, crac);
+        if (angleCnec == null) {
+            throw new OpenRaoException(String.format("Cannot deserialize RaoResult: angleCnec with id %s does not exist in the Crac", angleCnecId));
         }
+        return angleCnec;
     }
 
     private static void deserializeAngleCnecResult(JsonParser jsonParser, AngleCnecResult angleCnecResult, String jsonFileVersion, Crac crac) throws IOException {
@@ -36,19 +36,33 @@ final class FlowCnecResultArrayDeserializer {
     static void deserialize(JsonParser jsonParser, RaoResultImpl raoResult, Crac crac, String jsonFileVersion) throws IOException {
 
         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-            if (!jsonParser.nextFieldName().equals(FLOWCNEC_ID)) {
-                throw new OpenRaoException(String.format("Cannot deserialize RaoResult: each %s must start with an %s field", FLOWCNEC_RESULTS, FLOWCNEC_ID));
-            }
+            deserializeElement(jsonParser, raoResult, crac, jsonFileVersion);
+        }
+    }
+
+    /**
+     * Deserialize the result of a single FlowCnec, the parser being at the start of the result object
+     */
+    static void deserializeElement(JsonParser jsonParser, RaoResultImpl raoResult, Crac crac, String jsonFileVersion) throws IOException {
+        FlowCnecResult flowCnecResult = raoResult.getAndCreateIfAbsentFlowCnecResult(deserializeFlowCnec(jsonParser, crac));
+        deserializeFlowCnecResult(jsonParser, flowCnecResult, jsonFileVersion, crac);
+    }
+
+    /**
+     * Read the FlowCnec of a result, the parser being at the start of the result object
+     */
+    static FlowCnec deserializeFlowCnec(JsonParser jsonParser, Crac crac) throws IOException {
+        if (!FLOWCNEC_ID.equals(jsonParser.nextFieldName())) {
+            throw new OpenRaoException(String.format("Cannot deserialize RaoResult: each %s must start with an %s field", FLOWCNEC_RESULTS, FLOWCNEC_ID));
+        }
 
-            String flowCnecId = jsonParser.nextTextValue();
-            FlowCnec flowCnec = crac.getFlowCnec(flowCnecId);
+        String flowCnecId = jsonParser.nextTextValue();
+        FlowCnec flowCnec = crac.getFlowCnec(flowCnecId);
 
-            if (flowCnec == null) {
-                throw new OpenRaoException(String.format("Cannot deserialize RaoResult: flowCnec with id %s does not exist in the Crac", flowCnecId));
-            }
-            FlowCnecResult flowCnecResult = raoResult.getAndCreateIfAbsentFlowCnecResult(flowCnec);
-            deserializeFlowCnecResult(jsonParser, flowCnecResult, jsonFileVersion, crac);
+        if (flowCnec == null) {
+            throw new OpenRaoException(String.format("Cannot deserialize RaoResult: flowCnec with id %s does not exist in the Crac", flowCnecId));
         }
+        return flowCnec;
     }
 
     private static void deserializeFlowCnecResult(JsonParser jsonParser, FlowCnecResult flowCnecResult, String jsonFileVersion, Crac crac) throws IOException {
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.data.raoresult.io.json.deserializers;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.MinOrMax;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.cnec.AngleCnec;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.cnec.VoltageCnec;
+import com.powsybl.openrao.data.raoresult.impl.AngleCnecResult;
+import com.powsybl.openrao.data.raoresult.impl.FlowCnecResult;
+import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
+import com.powsybl.openrao.data.raoresult.impl.VoltageCnecResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RaoResult read from a JSON file, whose CNEC results are only parsed when they are first queried.
+ * <p>
+ * When the file is read, the results of each CNEC are only indexed by the position of their JSON object in the file.
+ * The JSON object of a CNEC is read again from the file and parsed the first time its results are queried, so that
+ * the memory used by the CNEC results is proportional to the number of CNECs which are accessed. The other results
+ * are read with the file.
+ * <p>
+ * The CNEC results getters are synchronized, so that the results can be queried by several threads.
+ */
+class LazyRaoResultImpl extends RaoResultImpl {
+
+    /**
+     * Position of the JSON object of a CNEC result in the file
+     */
+    private record JsonSlice(long offset, int length) {
+    }
+
+    private final Crac crac;
+    private final Path jsonFile;
+    private final JsonFactory jsonFactory;
+    private String jsonFileVersion;
+    private final Map<String, JsonSlice> flowCnecResultSlices = new HashMap<>();
+    private final Map<String, JsonSlice> angleCnecResultSlices = new HashMap<>();
+    private final Map<String, JsonSlice> voltageCnecResultSlices = new HashMap<>();
+
+    LazyRaoResultImpl(Crac crac, Path jsonFile, JsonFactory jsonFactory) {
+        super(crac);
+        this.crac = crac;
+        this.jsonFile = jsonFile;
+        this.jsonFactory = jsonFactory;
+    }
+
+    void setJsonFileVersion(String jsonFileVersion) {
+        this.jsonFileVersion = jsonFileVersion;
+    }
+
+    void indexFlowCnecResults(JsonParser jsonParser) throws IOException {
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            long offset = getTokenOffset(jsonParser);
+            String flowCnecId = FlowCnecResultArrayDeserializer.deserializeFlowCnec(jsonParser, crac).getId();
+            flowCnecResultSlices.put(flowCnecId, createSlice(flowCnecId, offset, skipToEndOfObject(jsonParser)));
+        }
+    }
+
+    void indexAngleCnecResults(JsonParser jsonParser) throws IOException {
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            long offset = getTokenOffset(jsonParser);
+            String angleCnecId = AngleCnecResultArrayDeserializer.deserializeAngleCnec(jsonParser, crac).getId();
+            angleCnecResultSlices.put(angleCnecId, createSlice(angleCnecId, offset, skipToEndOfObject(jsonParser)));
+        }
+    }
+
+    void indexVoltageCnecResults(JsonParser jsonParser) throws IOException {
+        while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+            long offset = getTokenOffset(jsonParser);
+            String voltageCnecId = VoltageCnecResultArrayDeserializer.deserializeVoltageCnec(jsonParser, crac).getId();
+            voltageCnecResultSlices.put(voltageCnecId, createSlice(voltageCnecId, offset, skipToEndOfObject(jsonParser)));
+        }
+    }
+
+    private static long getTokenOffset(JsonParser jsonParser) {
+        return jsonParser.currentTokenLocation().getByteOffset();
+    }
+
+    private static JsonSlice createSlice(String cnecId, long offset, long endOffset) {
+        if (endOffset - offset > Integer.MAX_VALUE) {
+            throw new OpenRaoException(String.format("Cannot deserialize RaoResult: the results of CNEC %s are too large to be read lazily", cnecId));
+        }
+        return new JsonSlice(offset, (int) (endOffset - offset));
+    }
+
+    /**
+     * Skip the remaining fields of the current object, and return the offset following its end
+     */
+    private static long skipToEndOfObject(JsonParser jsonParser) throws IOException {
+        while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+            jsonParser.nextToken();
+            jsonParser.skipChildren();
+        }
+        return getTokenOffset(jsonParser) + 1;
+    }
+
+    private interface ElementDeserializer {
+        void deserialize(JsonParser jsonParser, RaoResultImpl raoResult, Crac crac, String jsonFileVersion) throws IOException;
+    }
+
+    /**
+     * Parse the result of a CNEC if it has not been parsed yet. The slice is removed from the index beforehand, so
+     * that the getters called while the result is parsed do not parse it again.
+     */
+    private void loadResult(Map<String, JsonSlice> slices, String cnecId, ElementDeserializer elementDeserializer) {
+        JsonSlice slice = slices.remove(cnecId);
+        if (slice == null) {
+            return;
+        }
+        try (JsonParser jsonParser = jsonFactory.createParser(readSlice(slice))) {
+            jsonParser.nextToken();
+            elementDeserializer.deserialize(jsonParser, this, crac, jsonFileVersion);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] readSlice(JsonSlice slice) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(slice.length());
+        try (FileChannel fileChannel = FileChannel.open(jsonFile, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining()) {
+                if (fileChannel.read(buffer, slice.offset() + buffer.position()) < 0) {
+                    throw new OpenRaoException(String.format("Cannot deserialize RaoResult: file %s was truncated after its import", jsonFile));
+                }
+            }
+        }
+        return buffer.array();
+    }
+
+    private void loadFlowCnecResult(FlowCnec flowCnec) {
+        loadResult(flowCnecResultSlices, flowCnec.getId(), FlowCnecResultArrayDeserializer::deserializeElement);
+    }
+
+    private void loadAngleCnecResult(AngleCnec angleCnec) {
+        loadResult(angleCnecResultSlices, angleCnec.getId(), AngleCnecResultArrayDeserializer::deserializeElement);
+    }
+
+    private void loadVoltageCnecResult(VoltageCnec voltageCnec) {
+        loadResult(voltageCnecResultSlices, voltageCnec.getId(), VoltageCnecResultArrayDeserializer::deserializeElement);
+    }
+
+    @Override
+    public synchronized double getFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        loadFlowCnecResult(flowCnec);
+        return super.getFlow(optimizedInstant, flowCnec, side, unit);
+    }
+
+    @Override
+    public synchronized double getMargin(Instant optimizedInstant, FlowCnec flowCnec, Unit unit) {
+        loadFlowCnecResult(flowCnec);
+        return super.getMargin(optimizedInstant, flowCnec, unit);
+    }
+
+    @Override
+    public synchronized double getRelativeMargin(Instant optimizedInstant, FlowCnec flowCnec, Unit unit) {
+        loadFlowCnecResult(flowCnec);
+        return super.getRelativeMargin(optimizedInstant, flowCnec, unit);
+    }
+
+    @Override
+    public synchronized double getLoopFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        loadFlowCnecResult(flowCnec);
+        return super.getLoopFlow(optimizedInstant, flowCnec, side, unit);
+    }
+
+    @Override
+    public synchronized double getCommercialFlow(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side, Unit unit) {
+        loadFlowCnecResult(flowCnec);
+        return super.getCommercialFlow(optimizedInstant, flowCnec, side, unit);
+    }
+
+    @Override
+    public synchronized double getPtdfZonalSum(Instant optimizedInstant, FlowCnec flowCnec, TwoSides side) {
+        loadFlowCnecResult(flowCnec);
+        return super.getPtdfZonalSum(optimizedInstant, flowCnec, side);
+    }
+
+    @Override
+    public synchronized FlowCnecResult getAndCreateIfAbsentFlowCnecResult(FlowCnec flowCnec) {
+        loadFlowCnecResult(flowCnec);
+        return super.getAndCreateIfAbsentFlowCnecResult(flowCnec);
+    }
+
+    @Override
+    public synchronized double getAngle(Instant optimizedInstant, AngleCnec angleCnec, Unit unit) {
+        loadAngleCnecResult(angleCnec);
+        return super.getAngle(optimizedInstant, angleCnec, unit);
+    }
+
+    @Override
+    public synchronized double getMargin(Instant optimizedInstant, AngleCnec angleCnec, Unit unit) {
+        loadAngleCnecResult(angleCnec);
+        return super.getMargin(optimizedInstant, angleCnec, unit);
+    }
+
+    @Override
+    public synchronized AngleCnecResult getAndCreateIfAbsentAngleCnecResult(AngleCnec angleCnec) {
+        loadAngleCnecResult(angleCnec);
+        return super.getAndCreateIfAbsentAngleCnecResult(angleCnec);
+    }
+
+    @Override
+    public synchronized double getVoltage(Instant optimizedInstant, VoltageCnec voltageCnec, MinOrMax minOrMax, Unit unit) {
+        loadVoltageCnecResult(voltageCnec);
+        return super.getVoltage(optimizedInstant, voltageCnec, minOrMax, unit);
+    }
+
+    @Override
+    public synchronized double getMargin(Instant optimizedInstant, VoltageCnec voltageCnec, Unit unit) {
+        loadVoltageCnecResult(voltageCnec);
+        return super.getMargin(optimizedInstant, voltageCnec, unit);
+    }
+
+    @Override
+    public synchronized VoltageCnecResult getAndCreateIfAbsentVoltageCnecResult(VoltageCnec voltageCnec) {
+        loadVoltageCnecResult(voltageCnec);
+        return super.getAndCreateIfAbsentVoltageCnecResult(voltageCnec);
+    }
+}
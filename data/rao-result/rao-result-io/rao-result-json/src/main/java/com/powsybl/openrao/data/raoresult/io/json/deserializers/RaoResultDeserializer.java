@@ -19,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import static com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonConstants.*;
 import static com.powsybl.openrao.data.raoresult.io.json.deserializers.Utils.*;
@@ -30,27 +31,32 @@ public class RaoResultDeserializer extends JsonDeserializer<RaoResult> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RaoResultDeserializer.class);
 
-    private Crac crac;
+    private final Crac crac;
+    private final Path jsonFile;
 
-    private final boolean checkHeaderOnly;
-
-    public RaoResultDeserializer(boolean checkHeaderOnly) {
-        this.checkHeaderOnly = checkHeaderOnly;
+    public RaoResultDeserializer(Crac crac) {
+        this(crac, null);
     }
 
-    public RaoResultDeserializer(Crac crac) {
+    /**
+     * Deserializer of a RaoResult whose CNEC results are only indexed, to be parsed when they are first queried.
+     *
+     * @param jsonFile the JSON file being deserialized, from which the CNEC results are read when they are queried
+     */
+    public RaoResultDeserializer(Crac crac, Path jsonFile) {
         this.crac = crac;
-        this.checkHeaderOnly = false;
+        this.jsonFile = jsonFile;
     }
 
     @Override
     public RaoResult deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
 
-        RaoResultImpl raoResult = new RaoResultImpl(crac);
+        LazyRaoResultImpl lazyRaoResult = jsonFile == null ? null : new LazyRaoResultImpl(crac, jsonFile, jsonParser.getCodec().getFactory());
+        RaoResultImpl raoResult = lazyRaoResult == null ? new RaoResultImpl(crac) : lazyRaoResult;
 
         String jsonFileVersion = isValid(jsonParser, raoResult);
-        if (checkHeaderOnly) {
-            return null;
+        if (lazyRaoResult != null) {
+            lazyRaoResult.setJsonFileVersion(jsonFileVersion);
         }
 
         while (jsonParser.nextToken() != JsonToken.END_OBJECT) {
@@ -85,17 +91,29 @@ public class RaoResultDeserializer extends JsonDeserializer<RaoResult> {
 
                 case FLOWCNEC_RESULTS:
                     jsonParser.nextToken();
-                    FlowCnecResultArrayDeserializer.deserialize(jsonParser, raoResult, crac, jsonFileVersion);
+                    if (lazyRaoResult != null) {
+                        lazyRaoResult.indexFlowCnecResults(jsonParser);
+                    } else {
+                        FlowCnecResultArrayDeserializer.deserialize(jsonParser, raoResult, crac, jsonFileVersion);
+                    }
                     break;
 
                 case ANGLECNEC_RESULTS:
                     jsonParser.nextToken();
-                    AngleCnecResultArrayDeserializer.deserialize(jsonParser, raoResult, crac, jsonFileVersion);
+                    if (lazyRaoResult != null) {
+                        lazyRaoResult.indexAngleCnecResults(jsonParser);
+                    } else {
+                        AngleCnecResultArrayDeserializer.deserialize(jsonParser, raoResult, crac, jsonFileVersion);
+                    }
                     break;
 
                 case VOLTAGECNEC_RESULTS:
                     jsonParser.nextToken();
-                    VoltageCnecResultArrayDeserializer.deserialize(jsonParser, raoResult, crac, jsonFileVersion);
+                    if (lazyRaoResult != null) {
+                        lazyRaoResult.indexVoltageCnecResults(jsonParser);
+                    } else {
+                        VoltageCnecResultArrayDeserializer.deserialize(jsonParser, raoResult, crac, jsonFileVersion);
+                    }
                     break;
 
                 case NETWORKACTION_RESULTS:
@@ -128,7 +146,7 @@ public class RaoResultDeserializer extends JsonDeserializer<RaoResult> {
         String firstFieldName = jsonParser.nextFieldName();
         String jsonFileVersion;
 
-        if (firstFieldName.equals(COMPUTATION_STATUS)) {
+        if (COMPUTATION_STATUS.equals(firstFieldName)) {
             /*
              it is assumed that the document version is 1.0
              at this time, there were not the headers with TYPE, VERSION and INFO of the document
@@ -136,10 +154,10 @@ public class RaoResultDeserializer extends JsonDeserializer<RaoResult> {
             jsonFileVersion = "1.0";
             raoResult.setComputationStatus(deserializeStatus(jsonParser.nextTextValue()));
         } else {
-            if (!jsonParser.nextTextValue().equals(RAO_RESULT_TYPE)) {
+            if (!RAO_RESULT_TYPE.equals(jsonParser.nextTextValue())) {
                 throw new OpenRaoException(String.format("type of document must be %s", RAO_RESULT_TYPE));
             }
-            if (!jsonParser.nextFieldName().equals(VERSION)) {
+            if (!VERSION.equals(jsonParser.nextFieldName())) {
                 throw new OpenRaoException(String.format("%s must contain a version in its second field", RAO_RESULT_TYPE));
             }
             jsonFileVersion = jsonParser.nextTextValue();
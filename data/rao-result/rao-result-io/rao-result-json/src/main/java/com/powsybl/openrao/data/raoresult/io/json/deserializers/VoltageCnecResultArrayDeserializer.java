@@ -33,19 +33,33 @@ final class VoltageCnecResultArrayDeserializer {
     static void deserialize(JsonParser jsonParser, RaoResultImpl raoResult, Crac crac, String jsonFileVersion) throws IOException {
 
         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-            if (!jsonParser.nextFieldName().equals(VOLTAGECNEC_ID)) {
-                throw new OpenRaoException(String.format("Cannot deserialize RaoResult: each %s must start with an %s field", VOLTAGECNEC_RESULTS, VOLTAGECNEC_ID));
-            }
+            deserializeElement(jsonParser, raoResult, crac, jsonFileVersion);
+        }
+    }
+
+    /**
+     * Deserialize the result of a single VoltageCnec, the parser being at the start of the result object
+     */
+    static void deserializeElement(JsonParser jsonParser, RaoResultImpl raoResult, Crac crac, String jsonFileVersion) throws IOException {
+        VoltageCnecResult voltageCnecResult = raoResult.getAndCreateIfAbsentVoltageCnecResult(deserializeVoltageCnec(jsonParser, crac));
+        deserializeVoltageCnecResult(jsonParser, voltageCnecResult, jsonFileVersion, crac);
+    }
+
+    /**
+     * Read the VoltageCnec of a result, the parser being at the start of the result object
+     */
+    static VoltageCnec deserializeVoltageCnec(JsonParser jsonParser, Crac crac) throws IOException {
+        if (!VOLTAGECNEC_ID.equals(jsonParser.nextFieldName())) {
+            throw new OpenRaoException(String.format("Cannot deserialize RaoResult: each %s must start with an %s field", VOLTAGECNEC_RESULTS, VOLTAGECNEC_ID));
+        }
 
-            String voltageCnecId = jsonParser.nextTextValue();
-            VoltageCnec voltageCnec = crac.getVoltageCnec(voltageCnecId);
+        String voltageCnecId = jsonParser.nextTextValue();
+        VoltageCnec voltageCnec = crac.getVoltageCnec(voltageCnecId);
 
-            if (voltageCnec == null) {
-                throw new OpenRaoException(String.format("Cannot deserialize RaoResult: voltageCnec with id %s does not exist in the Crac", voltageCnecId));
-            }
-            VoltageCnecResult voltageCnecResult = raoResult.getAndCreateIfAbsentVoltageCnecResult(voltageCnec);
-            deserializeVoltageCnecResult(jsonParser, voltageCnecResult, jsonFileVersion, crac);
+        if (voltageCnec == null) {
+            throw new OpenRaoException(String.format("Cannot deserialize RaoResult: voltageCnec with id %s does not exist in the Crac", voltageCnecId));
         }
+        return voltageCnec;
     }
 
     private static void deserializeVoltageCnecResult(JsonParser jsonParser, VoltageCnecResult voltageCnecResult, String jsonFileVersion, Crac crac) throws IOException {
@@ -16,11 +16,17 @@ import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.raoresult.io.json.RaoResultJsonConstants;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.powsybl.openrao.util.ParallelUtils;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.powsybl.openrao.commons.MeasurementRounding.roundValueBasedOnMargin;
 import static com.powsybl.openrao.commons.Unit.AMPERE;
@@ -31,62 +37,88 @@ import static com.powsybl.openrao.commons.Unit.MEGAWATT;
  */
 final class FlowCnecResultArraySerializer {
 
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int MIN_CNECS_FOR_PARALLEL_SERIALIZATION = 500;
+
     private FlowCnecResultArraySerializer() {
     }
 
-    static void serialize(RaoResult raoResult, Crac crac, Set<Unit> flowUnits, JsonGenerator jsonGenerator) throws IOException {
+    /**
+     * The results are serialized sequentially when the parallelism is 1. Otherwise, the results of the CNECs of a
+     * chunk are serialized in parallel in a dedicated pool of the given number of threads, then written in order.
+     */
+    static void serialize(RaoResult raoResult, Crac crac, Set<Unit> flowUnits, int parallelism, JsonGenerator jsonGenerator) throws IOException {
 
         List<FlowCnec> sortedListOfFlowCnecs = crac.getFlowCnecs().stream()
             .sorted(Comparator.comparing(FlowCnec::getId))
             .toList();
 
         jsonGenerator.writeArrayFieldStart(RaoResultJsonConstants.FLOWCNEC_RESULTS);
-        for (FlowCnec flowCnec : sortedListOfFlowCnecs) {
-            serializeFlowCnecResult(flowCnec, raoResult, crac, flowUnits, jsonGenerator);
+        if (parallelism == 1 || sortedListOfFlowCnecs.size() < MIN_CNECS_FOR_PARALLEL_SERIALIZATION) {
+            for (FlowCnec flowCnec : sortedListOfFlowCnecs) {
+                serializeFlowCnecResult(flowCnec, raoResult, crac, flowUnits, jsonGenerator);
+            }
+        } else {
+            for (int chunkStart = 0; chunkStart < sortedListOfFlowCnecs.size(); chunkStart += CHUNK_SIZE) {
+                List<FlowCnec> chunk = sortedListOfFlowCnecs.subList(chunkStart, Math.min(chunkStart + CHUNK_SIZE, sortedListOfFlowCnecs.size()));
+                List<TokenBuffer> flowCnecResults = ParallelUtils.map(chunk, flowCnec -> serializeFlowCnecResult(flowCnec, raoResult, crac, flowUnits, jsonGenerator.getCodec()), parallelism);
+                for (TokenBuffer flowCnecResult : flowCnecResults) {
+                    flowCnecResult.serialize(jsonGenerator);
+                }
+            }
         }
         jsonGenerator.writeEndArray();
     }
 
+    private static TokenBuffer serializeFlowCnecResult(FlowCnec flowCnec, RaoResult raoResult, Crac crac, Set<Unit> flowUnits, ObjectCodec objectCodec) {
+        // the token buffer records the JSON tokens of the result, to be replayed on the actual generator
+        TokenBuffer tokenBuffer = new TokenBuffer(objectCodec, false);
+        try {
+            serializeFlowCnecResult(flowCnec, raoResult, crac, flowUnits, tokenBuffer);
+            return tokenBuffer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static void serializeFlowCnecResult(FlowCnec flowCnec, RaoResult raoResult, Crac crac, Set<Unit> flowUnits, JsonGenerator jsonGenerator) throws IOException {
-        if (!containsAnyResultForFlowCnec(raoResult, flowCnec, crac, MEGAWATT) && !containsAnyResultForFlowCnec(raoResult, flowCnec, crac, AMPERE)) {
+        Set<Unit> unitsWithResults = Stream.of(MEGAWATT, AMPERE)
+            .filter(unit -> containsAnyResultForFlowCnec(raoResult, flowCnec, crac, unit))
+            .collect(Collectors.toSet());
+        if (unitsWithResults.isEmpty()) {
             return;
         }
         jsonGenerator.writeStartObject();
         jsonGenerator.writeStringField(RaoResultJsonConstants.FLOWCNEC_ID, flowCnec.getId());
 
-        serializeFlowCnecResultForOptimizationState(null, flowCnec, raoResult, crac, flowUnits, jsonGenerator);
-        serializeFlowCnecResultForOptimizationState(crac.getPreventiveInstant(), flowCnec, raoResult, crac, flowUnits, jsonGenerator);
+        serializeFlowCnecResultForOptimizationState(null, flowCnec, raoResult, flowUnits, unitsWithResults, jsonGenerator);
+        serializeFlowCnecResultForOptimizationState(crac.getPreventiveInstant(), flowCnec, raoResult, flowUnits, unitsWithResults, jsonGenerator);
         Instant instant = flowCnec.getState().getInstant();
         if (instant.isCurative() || instant.isAuto()) {
             if (crac.hasAutoInstant()) {
-                serializeFlowCnecResultForOptimizationState(crac.getInstant(InstantKind.AUTO), flowCnec, raoResult, crac, flowUnits, jsonGenerator);
+                serializeFlowCnecResultForOptimizationState(crac.getInstant(InstantKind.AUTO), flowCnec, raoResult, flowUnits, unitsWithResults, jsonGenerator);
+            }
+            for (Instant curativeInstant : crac.getInstants(InstantKind.CURATIVE)) {
+                serializeFlowCnecResultForOptimizationState(curativeInstant, flowCnec, raoResult, flowUnits, unitsWithResults, jsonGenerator);
             }
-            crac.getInstants(InstantKind.CURATIVE).forEach(curativeInstant -> {
-                try {
-                    serializeFlowCnecResultForOptimizationState(curativeInstant, flowCnec, raoResult, crac, flowUnits, jsonGenerator);
-                } catch (IOException e) {
-                    throw new OpenRaoException("An error occured when serializing Voltage Cnec results", e);
-                }
-            });
         }
         jsonGenerator.writeEndObject();
     }
 
-    private static void serializeFlowCnecResultForOptimizationState(Instant optInstant, FlowCnec flowCnec, RaoResult raoResult, Crac crac, Set<Unit> flowUnits, JsonGenerator jsonGenerator) throws IOException {
+    private static void serializeFlowCnecResultForOptimizationState(Instant optInstant, FlowCnec flowCnec, RaoResult raoResult, Set<Unit> flowUnits, Set<Unit> unitsWithResults, JsonGenerator jsonGenerator) throws IOException {
         if (!containsAnyResultForOptimizationState(raoResult, flowCnec, optInstant, MEGAWATT) && !containsAnyResultForOptimizationState(raoResult, flowCnec, optInstant, AMPERE)) {
             return;
         }
         jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeInstantId(optInstant));
         for (Unit flowUnit : flowUnits.stream().sorted().toList()) {
-            serializeFlowCnecResultForOptimizationStateAndUnit(optInstant, flowUnit, flowCnec, raoResult, crac, jsonGenerator);
+            if (unitsWithResults.contains(flowUnit)) {
+                serializeFlowCnecResultForOptimizationStateAndUnit(optInstant, flowUnit, flowCnec, raoResult, jsonGenerator);
+            }
         }
         jsonGenerator.writeEndObject();
     }
 
-    private static void serializeFlowCnecResultForOptimizationStateAndUnit(Instant optInstant, Unit unit, FlowCnec flowCnec, RaoResult raoResult, Crac crac, JsonGenerator jsonGenerator) throws IOException {
-        if (!containsAnyResultForFlowCnec(raoResult, flowCnec, crac, unit)) {
-            return;
-        }
+    private static void serializeFlowCnecResultForOptimizationStateAndUnit(Instant optInstant, Unit unit, FlowCnec flowCnec, RaoResult raoResult, JsonGenerator jsonGenerator) throws IOException {
         jsonGenerator.writeObjectFieldStart(RaoResultJsonConstants.serializeUnit(unit));
         serializeFlowCnecMargin(optInstant, unit, flowCnec, raoResult, jsonGenerator);
         for (TwoSides side : flowCnec.getMonitoredSides().stream().sorted(Comparator.comparing(TwoSides::toString)).toList()) {
@@ -20,7 +20,14 @@ import java.util.Set;
 public class RaoResultJsonSerializerModule extends SimpleModule {
 
     public RaoResultJsonSerializerModule(Crac crac, Set<Unit> flowUnits) {
+        this(crac, flowUnits, 1);
+    }
+
+    /**
+     * @param parallelism number of threads used to serialize the flow CNEC results, 1 to serialize them sequentially
+     */
+    public RaoResultJsonSerializerModule(Crac crac, Set<Unit> flowUnits, int parallelism) {
         super();
-        this.addSerializer(RaoResult.class, new RaoResultSerializer(crac, flowUnits));
+        this.addSerializer(RaoResult.class, new RaoResultSerializer(crac, flowUnits, parallelism));
     }
 }
@@ -26,10 +26,12 @@ class RaoResultSerializer extends AbstractJsonSerializer<RaoResult> {
 
     private final Crac crac;
     private final Set<Unit> flowUnits;
+    private final int parallelism;
 
-    RaoResultSerializer(Crac crac, Set<Unit> flowUnits) {
+    RaoResultSerializer(Crac crac, Set<Unit> flowUnits, int parallelism) {
         this.crac = crac;
         this.flowUnits = flowUnits;
+        this.parallelism = parallelism;
     }
 
     @Override
@@ -49,7 +51,7 @@ class RaoResultSerializer extends AbstractJsonSerializer<RaoResult> {
         if (!(raoResult instanceof FailedRaoResultImpl)) {
             CostResultMapSerializer.serialize(raoResult, crac, jsonGenerator);
             ComputationStatusMapSerializer.serialize(raoResult, crac, jsonGenerator);
-            FlowCnecResultArraySerializer.serialize(raoResult, crac, flowUnits, jsonGenerator);
+            FlowCnecResultArraySerializer.serialize(raoResult, crac, flowUnits, parallelism, jsonGenerator);
             AngleCnecResultArraySerializer.serialize(raoResult, crac, jsonGenerator);
             VoltageCnecResultArraySerializer.serialize(raoResult, crac, jsonGenerator);
             NetworkActionResultArraySerializer.serialize(raoResult, crac, jsonGenerator);
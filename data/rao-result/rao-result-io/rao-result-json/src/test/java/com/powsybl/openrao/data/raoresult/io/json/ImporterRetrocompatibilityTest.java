@@ -25,8 +25,13 @@ import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -79,6 +84,20 @@ class ImporterRetrocompatibilityTest {
         assertEquals("JSON", new RaoResultJsonImporter().getFormat());
     }
 
+    @Test
+    void testExists() throws IOException {
+        RaoResultJsonImporter importer = new RaoResultJsonImporter();
+        assertTrue(importer.exists(getClass().getResourceAsStream("/retrocompatibility/v1.0/rao-result-v1.0.json")));
+        assertTrue(importer.exists(getClass().getResourceAsStream("/retrocompatibility/v1.7/rao-result-v1.7.json")));
+        assertFalse(importer.exists(getClass().getResourceAsStream("/retrocompatibility/v1.7/crac-for-rao-result-v1.7.json")));
+        assertFalse(importer.exists(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8))));
+        assertFalse(importer.exists(new ByteArrayInputStream(new byte[0])));
+
+        // only the header of the file is read
+        byte[] raoResult = getClass().getResourceAsStream("/retrocompatibility/v1.7/rao-result-v1.7.json").readAllBytes();
+        assertTrue(importer.exists(new ByteArrayInputStream(Arrays.copyOf(raoResult, 100))));
+    }
+
     @Test
     void importV1Point0Test() throws IOException {
 
@@ -209,6 +228,19 @@ class ImporterRetrocompatibilityTest {
         testBaseContentOfV1Point7RaoResult(raoResult, crac);
     }
 
+    @Test
+    void importLazilyTest() throws IOException, URISyntaxException {
+        Path raoResultFile = Path.of(getClass().getResource("/retrocompatibility/v1.0/rao-result-v1.0.json").toURI());
+        InputStream cracFile = getClass().getResourceAsStream("/retrocompatibility/v1.0/crac-for-rao-result-v1.0.json");
+        Crac crac = Crac.read("crac-for-rao-result-v1.0.json", cracFile, getMockedNetwork());
+        testBaseContentOfV1RaoResult(new RaoResultJsonImporter().importDataLazily(raoResultFile, crac), crac);
+
+        raoResultFile = Path.of(getClass().getResource("/retrocompatibility/v1.7/rao-result-v1.7.json").toURI());
+        cracFile = getClass().getResourceAsStream("/retrocompatibility/v1.7/crac-for-rao-result-v1.7.json");
+        crac = Crac.read("crac-for-rao-result-v1.7.json", cracFile, getMockedNetwork());
+        testBaseContentOfV1Point7RaoResult(new RaoResultJsonImporter().importDataLazily(raoResultFile, crac), crac);
+    }
+
     @Test
     void importV1Point3TestFieldDeprecationTest() throws IOException {
         InputStream cracFile = getClass().getResourceAsStream("/retrocompatibility/v1.3/crac-for-rao-result-v1.3.json");
@@ -29,10 +29,14 @@ import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
 import com.powsybl.openrao.data.raoresult.impl.utils.ExhaustiveRaoResultCreation;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -78,6 +82,60 @@ class RaoResultRoundTripTest {
         checkContent(importedRaoResult, crac);
     }
 
+    @Test
+    void lazyJsonRoundTripTest(@TempDir Path tempDir) throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-amperes", "true");
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RaoResultJsonExporter().exportData(raoResult, crac, properties, outputStream);
+
+        Path jsonFile = Files.write(tempDir.resolve("rao-result.json"), outputStream.toByteArray());
+
+        RaoResult importedRaoResult = new RaoResultJsonImporter().importDataLazily(jsonFile, crac);
+        checkContent(importedRaoResult, crac);
+
+        ByteArrayOutputStream reExportedOutputStream = new ByteArrayOutputStream();
+        new RaoResultJsonExporter().exportData(importedRaoResult, crac, properties, reExportedOutputStream);
+        assertEquals(outputStream.toString(), reExportedOutputStream.toString());
+    }
+
+    @Test
+    void lazyJsonImportOnlyParsesQueriedCnecsTest(@TempDir Path tempDir) throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RaoResultJsonExporter().exportData(raoResult, crac, properties, outputStream);
+        // the results of one CNEC are corrupted
+        byte[] corruptedJson = outputStream.toString().replace("\"flowCnecId\" : \"cnec1outageId\",", "\"flowCnecId\" : \"cnec1outageId\", \"unknownInstant\" : {},").getBytes();
+
+        RaoResultJsonImporter importer = new RaoResultJsonImporter();
+        assertThrows(OpenRaoException.class, () -> importer.importData(new ByteArrayInputStream(corruptedJson), crac));
+
+        RaoResult importedRaoResult = importer.importDataLazily(Files.write(tempDir.resolve("rao-result.json"), corruptedJson), crac);
+        FlowCnec preventiveCnec = crac.getFlowCnec("cnec1prevId");
+        assertEquals(raoResult.getMargin(null, preventiveCnec, MEGAWATT), importedRaoResult.getMargin(null, preventiveCnec, MEGAWATT), 1e-6);
+        FlowCnec corruptedCnec = crac.getFlowCnec("cnec1outageId");
+        assertThrows(OpenRaoException.class, () -> importedRaoResult.getMargin(null, corruptedCnec, MEGAWATT));
+    }
+
+    @Test
+    void lazyJsonImportChecksSyntaxOnImportTest(@TempDir Path tempDir) throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RaoResultJsonExporter().exportData(ExhaustiveRaoResultCreation.create(crac), crac, properties, outputStream);
+        // a CNEC result which is not valid JSON is detected on import, even though it is not parsed yet
+        Path jsonFile = Files.write(tempDir.resolve("rao-result.json"), outputStream.toString().replace("\"flowCnecId\" : \"cnec1outageId\",", "\"flowCnecId\" : \"cnec1outageId\", {,").getBytes());
+        RaoResultJsonImporter importer = new RaoResultJsonImporter();
+        assertThrows(UncheckedIOException.class, () -> importer.importDataLazily(jsonFile, crac));
+    }
+
     @Test
     void implicitJsonRoundTripTest() throws IOException {
         // get exhaustive CRAC and RaoResult
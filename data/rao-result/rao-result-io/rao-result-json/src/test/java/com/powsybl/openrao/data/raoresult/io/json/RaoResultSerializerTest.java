@@ -6,9 +6,20 @@
  */
 package com.powsybl.openrao.data.raoresult.io.json;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.CracFactory;
+import com.powsybl.openrao.data.crac.api.InstantKind;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.openrao.data.crac.impl.utils.ExhaustiveCracCreation;
+import com.powsybl.openrao.data.raoresult.api.ComputationStatus;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.data.raoresult.impl.ElementaryFlowCnecResult;
+import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
 import com.powsybl.openrao.data.raoresult.impl.utils.ExhaustiveRaoResultCreation;
 import org.junit.jupiter.api.Test;
 
@@ -16,7 +27,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Properties;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -46,4 +59,79 @@ class RaoResultSerializerTest {
         assertEquals(inputString, outputString);
     }
 
+    @Test
+    void testCompactSerialize() throws IOException {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-amperes", "true");
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        properties.setProperty("rao-result.export.json.compact", "true");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RaoResultJsonExporter().exportData(raoResult, crac, properties, outputStream);
+        String outputString = outputStream.toString();
+
+        assertFalse(outputString.contains("\n"));
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertEquals(objectMapper.readTree(getClass().getResourceAsStream("/rao-result.json")), objectMapper.readTree(outputString));
+    }
+
+    @Test
+    void testSerializeManyFlowCnecsKeepsOrder() throws IOException {
+        Crac crac = CracFactory.findDefault().create("crac").newInstant("preventive", InstantKind.PREVENTIVE);
+        RaoResultImpl raoResult = new RaoResultImpl(crac);
+        raoResult.setComputationStatus(ComputationStatus.DEFAULT);
+        int numberOfFlowCnecs = 2000;
+        // CNECs are added in reverse order, and one CNEC out of three has no result
+        for (int i = numberOfFlowCnecs - 1; i >= 0; i--) {
+            FlowCnec flowCnec = crac.newFlowCnec().withId("cnec-%04d".formatted(i)).withInstant("preventive").withNetworkElement("ne" + i)
+                .newThreshold().withMax(1000.).withSide(TwoSides.ONE).withUnit(Unit.MEGAWATT).add()
+                .add();
+            if (i % 3 != 0) {
+                ElementaryFlowCnecResult result = raoResult.getAndCreateIfAbsentFlowCnecResult(flowCnec).getAndCreateIfAbsentResultForOptimizationState(null);
+                result.setFlow(TwoSides.ONE, i, Unit.MEGAWATT);
+                result.setMargin(1000. - i, Unit.MEGAWATT);
+            }
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        properties.setProperty("rao-result.export.json.parallelism", "4");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new RaoResultJsonExporter().exportData(raoResult, crac, properties, outputStream);
+
+        // the parallel export is identical to the sequential one
+        properties.setProperty("rao-result.export.json.parallelism", "1");
+        ByteArrayOutputStream sequentialOutputStream = new ByteArrayOutputStream();
+        new RaoResultJsonExporter().exportData(raoResult, crac, properties, sequentialOutputStream);
+        assertEquals(sequentialOutputStream.toString(), outputStream.toString());
+
+        JsonNode flowCnecResults = new ObjectMapper().readTree(outputStream.toByteArray()).get("flowCnecResults");
+        List<Integer> expectedIndices = IntStream.range(0, numberOfFlowCnecs).filter(i -> i % 3 != 0).boxed().toList();
+        assertEquals(expectedIndices.size(), flowCnecResults.size());
+        for (int i = 0; i < expectedIndices.size(); i++) {
+            int index = expectedIndices.get(i);
+            JsonNode flowCnecResult = flowCnecResults.get(i);
+            assertEquals("cnec-%04d".formatted(index), flowCnecResult.get("flowCnecId").asText());
+            assertEquals(index, flowCnecResult.get("initial").get("megawatt").get("side1").get("flow").asDouble(), 1e-6);
+            assertEquals(1000. - index, flowCnecResult.get("initial").get("megawatt").get("margin").asDouble(), 1e-6);
+        }
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        Crac crac = ExhaustiveCracCreation.create();
+        RaoResult raoResult = ExhaustiveRaoResultCreation.create(crac);
+        Properties properties = new Properties();
+        properties.setProperty("rao-result.export.json.flows-in-megawatts", "true");
+        RaoResultJsonExporter exporter = new RaoResultJsonExporter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        for (String parallelism : List.of("0", "two")) {
+            properties.setProperty("rao-result.export.json.parallelism", parallelism);
+            OpenRaoException exception = assertThrows(OpenRaoException.class, () -> exporter.exportData(raoResult, crac, properties, outputStream));
+            assertEquals("rao-result.export.json.parallelism should be a positive integer.", exception.getMessage());
+        }
+    }
+
 }
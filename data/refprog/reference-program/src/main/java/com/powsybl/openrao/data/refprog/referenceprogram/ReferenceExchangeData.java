@@ -39,19 +39,30 @@ public class ReferenceExchangeData {
         return flow;
     }
 
+    /**
+     * @deprecated a {@link ReferenceProgram} indexes its exchanges when it is created, so modifying them afterward
+     * is not reflected in its net positions and exchanges. Create a new ReferenceExchangeData instead.
+     */
+    @Deprecated(since = "6.4.0")
     public void setAreaOut(EICode areaOut) {
         this.areaOut = areaOut;
     }
 
+    /**
+     * @deprecated a {@link ReferenceProgram} indexes its exchanges when it is created, so modifying them afterward
+     * is not reflected in its net positions and exchanges. Create a new ReferenceExchangeData instead.
+     */
+    @Deprecated(since = "6.4.0")
     public void setAreaIn(EICode areaIn) {
         this.areaIn = areaIn;
     }
 
+    /**
+     * @deprecated a {@link ReferenceProgram} indexes its exchanges when it is created, so modifying them afterward
+     * is not reflected in its net positions and exchanges. Create a new ReferenceExchangeData instead.
+     */
+    @Deprecated(since = "6.4.0")
     public void setFlow(double flow) {
         this.flow = flow;
     }
-
-    boolean isAreaOutToAreaInExchange(EICode areaOut, EICode areaIn) {
-        return this.areaIn != null && this.areaOut != null && this.areaIn.equals(areaIn) && this.areaOut.equals(areaOut);
-    }
 }
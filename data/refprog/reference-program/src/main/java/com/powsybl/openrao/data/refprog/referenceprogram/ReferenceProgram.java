@@ -13,18 +13,48 @@ import com.powsybl.openrao.commons.EICode;
 import java.util.*;
 
 /**
+ * Reference program, whose net positions and exchanges are computed once from the exchanges given at creation.
+ * Modifications of these exchanges afterward are therefore not reflected.
+ *
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
  */
 public class ReferenceProgram {
     private final List<ReferenceExchangeData> referenceExchangeDataList;
     private final Set<EICode> referenceProgramAreas;
     private final Map<EICode, Double> netPositions;
+    /**
+     * Sum of the flows of the exchanges from an area to another, indexed by origin and by extremity area
+     */
+    private final Map<EICode, Map<EICode, Double>> exchanges;
+    /**
+     * Areas of the reference program, indexed by their code, so that they are not created again at each query
+     */
+    private final Map<String, EICode> areasByCode;
 
     public ReferenceProgram(List<ReferenceExchangeData> referenceExchangeDataList) {
-        this.referenceExchangeDataList = referenceExchangeDataList;
+        this.referenceExchangeDataList = Collections.unmodifiableList(new ArrayList<>(referenceExchangeDataList));
         this.referenceProgramAreas = buildReferenceProgramAreas(referenceExchangeDataList);
         netPositions = new HashMap<>();
-        referenceProgramAreas.forEach(country -> netPositions.put(country, computeGlobalNetPosition(country)));
+        referenceProgramAreas.forEach(country -> netPositions.put(country, 0.));
+        exchanges = new HashMap<>();
+        referenceExchangeDataList.forEach(this::addToIndexes);
+        areasByCode = new HashMap<>();
+        referenceProgramAreas.forEach(area -> areasByCode.put(area.getAreaCode(), area));
+    }
+
+    private void addToIndexes(ReferenceExchangeData referenceExchangeData) {
+        EICode areaOut = referenceExchangeData.getAreaOut();
+        EICode areaIn = referenceExchangeData.getAreaIn();
+        double flow = referenceExchangeData.getFlow();
+        if (areaOut != null) {
+            netPositions.merge(areaOut, flow, Double::sum);
+        }
+        if (areaIn != null) {
+            netPositions.merge(areaIn, -flow, Double::sum);
+        }
+        if (areaOut != null && areaIn != null) {
+            exchanges.computeIfAbsent(areaOut, area -> new HashMap<>()).merge(areaIn, flow, Double::sum);
+        }
     }
 
     public List<ReferenceExchangeData> getReferenceExchangeDataList() {
@@ -35,37 +65,24 @@ public class ReferenceProgram {
         return referenceProgramAreas;
     }
 
-    private double computeGlobalNetPosition(EICode area) {
-        double netPosition = 0.;
-        netPosition += referenceExchangeDataList.stream()
-            .filter(referenceExchangeData -> referenceExchangeData.getAreaOut() != null &&
-                referenceExchangeData.getAreaOut().equals(area))
-            .mapToDouble(ReferenceExchangeData::getFlow).sum();
-        netPosition -= referenceExchangeDataList.stream()
-            .filter(referenceExchangeData -> referenceExchangeData.getAreaIn() != null &&
-                referenceExchangeData.getAreaIn().equals(area))
-            .mapToDouble(ReferenceExchangeData::getFlow).sum();
-        return netPosition;
-    }
-
     public double getGlobalNetPosition(EICode area) {
         return netPositions.get(area);
     }
 
     public double getExchange(String areaOrigin, String areaExtremity) {
-        return getExchange(new EICode(areaOrigin), new EICode(areaExtremity));
+        return getExchange(getArea(areaOrigin), getArea(areaExtremity));
     }
 
     public double getGlobalNetPosition(String area) {
-        return getGlobalNetPosition(new EICode(area));
+        return getGlobalNetPosition(getArea(area));
     }
 
     public double getExchange(EICode areaOrigin, EICode areaExtremity) {
-        List<ReferenceExchangeData> entries = referenceExchangeDataList.stream().filter(referenceExchangeData -> referenceExchangeData.isAreaOutToAreaInExchange(areaOrigin, areaExtremity)).toList();
-        if (!entries.isEmpty()) {
-            return entries.stream().mapToDouble(ReferenceExchangeData::getFlow).sum();
+        Double exchange = exchanges.getOrDefault(areaOrigin, Map.of()).get(areaExtremity);
+        if (exchange != null) {
+            return exchange;
         } else {
-            return -referenceExchangeDataList.stream().filter(referenceExchangeData -> referenceExchangeData.isAreaOutToAreaInExchange(areaExtremity, areaOrigin)).mapToDouble(ReferenceExchangeData::getFlow).sum();
+            return -exchanges.getOrDefault(areaExtremity, Map.of()).getOrDefault(areaOrigin, 0.);
         }
     }
 
@@ -73,6 +90,11 @@ public class ReferenceProgram {
         return netPositions;
     }
 
+    private EICode getArea(String areaCode) {
+        EICode area = areasByCode.get(areaCode);
+        return area != null ? area : new EICode(areaCode);
+    }
+
     private Set<EICode> buildReferenceProgramAreas(List<ReferenceExchangeData> referenceExchangeDataList) {
         Set<EICode> setOfRefProgAreas = new HashSet<>();
 
@@ -11,11 +11,13 @@ import com.powsybl.iidm.network.Country;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
@@ -54,4 +56,35 @@ class ReferenceProgramTest {
         assertEquals(100, netPositions.get(eiCodeDk), DOUBLE_TOLERANCE);
         assertEquals(-100, netPositions.get(eiCodeSk), DOUBLE_TOLERANCE);
     }
+
+    @Test
+    void testExchanges() {
+        List<ReferenceExchangeData> list = Arrays.asList(
+                new ReferenceExchangeData(eiCodeFrance, eiCodeBelgium, 100),
+                new ReferenceExchangeData(eiCodeFrance, eiCodeBelgium, 50),
+                new ReferenceExchangeData(eiCodeBelgium, eiCodeFrance, 30),
+                new ReferenceExchangeData(eiCodeFrance, eiCodeGermany, -250),
+                new ReferenceExchangeData(eiCodeDk, null, 100));
+        ReferenceProgram referenceProgram = new ReferenceProgram(list);
+        assertEquals(150, referenceProgram.getExchange(eiCodeFrance, eiCodeBelgium), DOUBLE_TOLERANCE);
+        assertEquals(30, referenceProgram.getExchange(eiCodeBelgium, eiCodeFrance), DOUBLE_TOLERANCE);
+        assertEquals(250, referenceProgram.getExchange(eiCodeGermany, eiCodeFrance), DOUBLE_TOLERANCE);
+        assertEquals(-250, referenceProgram.getExchange("10YFR-RTE------C", "10YCB-GERMANY--8"), DOUBLE_TOLERANCE);
+        assertEquals(0, referenceProgram.getExchange(eiCodeDk, eiCodeSk), DOUBLE_TOLERANCE);
+        assertEquals(100, referenceProgram.getGlobalNetPosition(eiCodeDk.getAreaCode()), DOUBLE_TOLERANCE);
+        assertEquals(-130, referenceProgram.getGlobalNetPosition(eiCodeFrance), DOUBLE_TOLERANCE);
+    }
+
+    @Test
+    void testExchangesAreReadAtCreation() {
+        List<ReferenceExchangeData> list = new ArrayList<>(List.of(new ReferenceExchangeData(eiCodeFrance, eiCodeBelgium, 100)));
+        ReferenceProgram referenceProgram = new ReferenceProgram(list);
+        list.add(new ReferenceExchangeData(eiCodeFrance, eiCodeGermany, 50));
+
+        assertEquals(1, referenceProgram.getReferenceExchangeDataList().size());
+        assertEquals(100, referenceProgram.getGlobalNetPosition(eiCodeFrance), DOUBLE_TOLERANCE);
+        List<ReferenceExchangeData> exchangeDataList = referenceProgram.getReferenceExchangeDataList();
+        ReferenceExchangeData exchangeData = new ReferenceExchangeData(eiCodeDk, eiCodeSk, 10);
+        assertThrows(UnsupportedOperationException.class, () -> exchangeDataList.add(exchangeData));
+    }
 }
@@ -8,10 +8,12 @@ package com.powsybl.openrao.data.refprog.refprogxmlimporter;
 
 import com.powsybl.openrao.commons.EICode;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.TemporalData;
+import com.powsybl.openrao.commons.TemporalDataImpl;
+import com.powsybl.openrao.data.crac.io.commons.XmlCodecRegistry;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceExchangeData;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
 
-import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Unmarshaller;
 import java.io.FileInputStream;
@@ -22,7 +24,10 @@ import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.*;
 
@@ -35,23 +40,18 @@ public final class RefProgImporter {
     private RefProgImporter() {
     }
 
+    /**
+     * Exchange of a time series of the document, whose flows are indexed by the position of their interval
+     */
+    private record ExchangeTimeSeries(EICode outArea, EICode inArea, OffsetDateTime start, Duration resolution, Map<Long, Double> flowPerPosition) {
+    }
+
     public static ReferenceProgram importRefProg(InputStream inputStream, OffsetDateTime dateTime) {
         PublicationDocument document = importXmlDocument(inputStream);
-        if (!isValidDocumentInterval(document, dateTime)) {
-            BUSINESS_LOGS.error("RefProg file is not valid for this date {}", dateTime);
-            throw new OpenRaoException("RefProg file is not valid for this date " + dateTime);
-        }
-        List<ReferenceExchangeData> exchangeDataList = new ArrayList<>();
-        document.getPublicationTimeSeries().forEach(timeSeries -> {
-            String outAreaValue = timeSeries.getOutArea().getV();
-            EICode outArea = new EICode(outAreaValue);
-            String inAreaValue = timeSeries.getInArea().getV();
-            EICode inArea = new EICode(inAreaValue);
-            double flow = getFlow(dateTime, timeSeries);
-            exchangeDataList.add(new ReferenceExchangeData(outArea, inArea, flow));
-        });
+        checkDocumentInterval(document, Set.of(dateTime));
+        ReferenceProgram referenceProgram = createReferenceProgram(readExchangeTimeSeries(document), dateTime);
         TECHNICAL_LOGS.info("RefProg file was imported");
-        return new ReferenceProgram(exchangeDataList);
+        return referenceProgram;
     }
 
     public static ReferenceProgram importRefProg(Path inputPath, OffsetDateTime dateTime) {
@@ -62,50 +62,90 @@ public final class RefProgImporter {
         }
     }
 
+    /**
+     * Parse the document once and create the reference program of each timestamp
+     */
+    public static TemporalData<ReferenceProgram> importRefProg(InputStream inputStream, Set<OffsetDateTime> dateTimes) {
+        PublicationDocument document = importXmlDocument(inputStream);
+        checkDocumentInterval(document, dateTimes);
+        List<ExchangeTimeSeries> exchangeTimeSeries = readExchangeTimeSeries(document);
+        TemporalData<ReferenceProgram> referencePrograms = new TemporalDataImpl<>();
+        dateTimes.forEach(dateTime -> referencePrograms.add(dateTime, createReferenceProgram(exchangeTimeSeries, dateTime)));
+        TECHNICAL_LOGS.info("RefProg file was imported for {} timestamps", dateTimes.size());
+        return referencePrograms;
+    }
+
+    public static TemporalData<ReferenceProgram> importRefProg(Path inputPath, Set<OffsetDateTime> dateTimes) {
+        try (InputStream inputStream = new FileInputStream(inputPath.toFile())) {
+            return importRefProg(inputStream, dateTimes);
+        } catch (IOException e) {
+            throw new OpenRaoException(e);
+        }
+    }
+
     private static PublicationDocument importXmlDocument(InputStream inputStream) {
-        try {
-            JAXBContext jaxbContext = JAXBContext.newInstance(PublicationDocument.class);
-            Unmarshaller jaxbUnmarshaller = jaxbContext.createUnmarshaller();
-            return (PublicationDocument) jaxbUnmarshaller.unmarshal(inputStream);
+        try (XmlCodecRegistry.Lease<Unmarshaller> jaxbUnmarshaller = XmlCodecRegistry.getUnmarshaller(PublicationDocument.class)) {
+            return (PublicationDocument) jaxbUnmarshaller.get().unmarshal(inputStream);
         } catch (JAXBException e) {
             throw new OpenRaoException(e);
         }
     }
 
-    private static boolean isValidDocumentInterval(PublicationDocument document, OffsetDateTime dateTime) {
-        if (document.getPublicationTimeInterval() != null) {
-            String interval = document.getPublicationTimeInterval().getV();
-            int sepPosition = interval.indexOf("/");
-            OffsetDateTime startDateTime = OffsetDateTime.parse(interval.substring(0, sepPosition), DateTimeFormatter.ISO_DATE_TIME);
-            OffsetDateTime endDateTime = OffsetDateTime.parse(interval.substring(sepPosition + 1), DateTimeFormatter.ISO_DATE_TIME);
-            return !dateTime.isBefore(startDateTime) && dateTime.isBefore(endDateTime);
-        } else {
+    private static void checkDocumentInterval(PublicationDocument document, Set<OffsetDateTime> dateTimes) {
+        if (document.getPublicationTimeInterval() == null) {
             BUSINESS_LOGS.error("Cannot import RefProg file because its publication time interval is unknown");
             throw new OpenRaoException("Cannot import RefProg file because its publication time interval is unknown");
         }
+        String interval = document.getPublicationTimeInterval().getV();
+        int sepPosition = interval.indexOf("/");
+        OffsetDateTime startDateTime = OffsetDateTime.parse(interval.substring(0, sepPosition), DateTimeFormatter.ISO_DATE_TIME);
+        OffsetDateTime endDateTime = OffsetDateTime.parse(interval.substring(sepPosition + 1), DateTimeFormatter.ISO_DATE_TIME);
+        dateTimes.forEach(dateTime -> {
+            if (dateTime.isBefore(startDateTime) || !dateTime.isBefore(endDateTime)) {
+                BUSINESS_LOGS.error("RefProg file is not valid for this date {}", dateTime);
+                throw new OpenRaoException("RefProg file is not valid for this date " + dateTime);
+            }
+        });
     }
 
-    private static boolean isValidPeriodInterval(OffsetDateTime timeSeriesStart, Duration resolution, IntervalType interval, OffsetDateTime dateTime) {
-        OffsetDateTime startDateTime = timeSeriesStart.plus(resolution.multipliedBy(interval.getPos().getV() - 1L));
-        OffsetDateTime endDateTime = startDateTime.plus(resolution);
-        return !dateTime.isBefore(startDateTime) && dateTime.isBefore(endDateTime);
+    /**
+     * Read the areas and the flows of the time series, the areas being shared by all the time series
+     */
+    private static List<ExchangeTimeSeries> readExchangeTimeSeries(PublicationDocument document) {
+        Map<String, EICode> areas = new HashMap<>();
+        return document.getPublicationTimeSeries().stream().map(timeSeries -> {
+            EICode outArea = areas.computeIfAbsent(timeSeries.getOutArea().getV(), EICode::new);
+            EICode inArea = areas.computeIfAbsent(timeSeries.getInArea().getV(), EICode::new);
+            String timeSeriesInterval = timeSeries.getPeriod().get(0).getTimeInterval().getV();
+            OffsetDateTime timeSeriesStart = OffsetDateTime.parse(timeSeriesInterval.substring(0, timeSeriesInterval.indexOf("/")), DateTimeFormatter.ISO_DATE_TIME);
+            Duration resolution = Duration.parse(timeSeries.getPeriod().get(0).getResolution().getV().toString());
+            Map<Long, Double> flowPerPosition = new HashMap<>();
+            timeSeries.getPeriod().get(0).getInterval().forEach(interval ->
+                flowPerPosition.putIfAbsent((long) interval.getPos().getV(), interval.getQty().getV().doubleValue()));
+            return new ExchangeTimeSeries(outArea, inArea, timeSeriesStart, resolution, flowPerPosition);
+        }).toList();
     }
 
-    private static double getFlow(OffsetDateTime dateTime, PublicationTimeSeriesType timeSeries) {
-        String timeSeriesInterval = timeSeries.getPeriod().get(0).getTimeInterval().getV();
-        OffsetDateTime timeSeriesStart = OffsetDateTime.parse(timeSeriesInterval.substring(0, timeSeriesInterval.indexOf("/")), DateTimeFormatter.ISO_DATE_TIME);
-        Duration resolution = Duration.parse(timeSeries.getPeriod().get(0).getResolution().getV().toString());
-        List<IntervalType> validIntervals = timeSeries.getPeriod().get(0).getInterval().stream().filter(interval -> isValidPeriodInterval(timeSeriesStart, resolution, interval, dateTime)).toList();
-        double flow = 0;
-        if (validIntervals.isEmpty()) {
-            String outArea = timeSeries.getOutArea().getV();
-            String inArea = timeSeries.getInArea().getV();
-            BUSINESS_WARNS.warn("Flow value between {} and {} is not found for this date {}", outArea, inArea, dateTime);
-        } else {
-            IntervalType validInterval = validIntervals.get(0);
-            flow = validInterval.getQty().getV().doubleValue();
+    private static ReferenceProgram createReferenceProgram(List<ExchangeTimeSeries> exchangeTimeSeries, OffsetDateTime dateTime) {
+        List<ReferenceExchangeData> exchangeDataList = new ArrayList<>(exchangeTimeSeries.size());
+        exchangeTimeSeries.forEach(timeSeries ->
+            exchangeDataList.add(new ReferenceExchangeData(timeSeries.outArea(), timeSeries.inArea(), getFlow(dateTime, timeSeries))));
+        return new ReferenceProgram(exchangeDataList);
+    }
+
+    /**
+     * The flow of a timestamp is the one of the interval which contains it, positions starting at 1
+     */
+    private static double getFlow(OffsetDateTime dateTime, ExchangeTimeSeries timeSeries) {
+        Double flow = null;
+        if (!dateTime.isBefore(timeSeries.start())) {
+            long position = Duration.between(timeSeries.start(), dateTime).dividedBy(timeSeries.resolution()) + 1;
+            flow = timeSeries.flowPerPosition().get(position);
+        }
+        if (flow == null) {
+            BUSINESS_WARNS.warn("Flow value between {} and {} is not found for this date {}", timeSeries.outArea().getAreaCode(), timeSeries.inArea().getAreaCode(), dateTime);
+            return 0;
         }
         return flow;
     }
-
 }
@@ -7,6 +7,7 @@
 package com.powsybl.openrao.data.refprog.refprogxmlimporter;
 
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
 import com.powsybl.openrao.commons.EICode;
 import com.powsybl.iidm.network.Country;
@@ -17,6 +18,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -119,4 +122,26 @@ class RefProgImporterTest {
         assertEquals(-4249, referenceProgram.getGlobalNetPosition(areaEs), DOUBLE_TOLERANCE);
         assertEquals(11366, referenceProgram.getGlobalNetPosition(areaFr), DOUBLE_TOLERANCE);
     }
+
+    @Test
+    void testImportSeveralTimestamps() {
+        OffsetDateTime firstTimestamp = OffsetDateTime.of(2015, 1, 11, 6, 30, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime secondTimestamp = OffsetDateTime.of(2015, 1, 11, 19, 15, 0, 0, ZoneOffset.UTC);
+        TemporalData<ReferenceProgram> referencePrograms = RefProgImporter.importRefProg(getClass().getResourceAsStream("/large_refProg.xml"), Set.of(firstTimestamp, secondTimestamp));
+        assertEquals(List.of(firstTimestamp, secondTimestamp), referencePrograms.getTimestamps());
+
+        ReferenceProgram firstReferenceProgram = referencePrograms.getData(firstTimestamp).orElseThrow();
+        assertEquals(77, firstReferenceProgram.getReferenceExchangeDataList().size());
+        assertEquals(191, firstReferenceProgram.getExchange("10YFR-RTE------C", "10YCB-GERMANY--8"), DOUBLE_TOLERANCE);
+        assertEquals(10198, firstReferenceProgram.getGlobalNetPosition("10YFR-RTE------C"), DOUBLE_TOLERANCE);
+
+        ReferenceProgram secondReferenceProgram = referencePrograms.getData(secondTimestamp).orElseThrow();
+        assertEquals(288, secondReferenceProgram.getExchange("10YCS-CG-TSO---S", "10YCB-ALBANIA--1"), DOUBLE_TOLERANCE);
+        assertEquals(11366, secondReferenceProgram.getGlobalNetPosition(new EICode(Country.FR)), DOUBLE_TOLERANCE);
+        assertEquals(firstReferenceProgram.getListOfAreas(), secondReferenceProgram.getListOfAreas());
+
+        Set<OffsetDateTime> timestamps = Set.of(firstTimestamp, offsetDateTime);
+        InputStream inputStream = getClass().getResourceAsStream("/large_refProg.xml");
+        assertThrows(OpenRaoException.class, () -> RefProgImporter.importRefProg(inputStream, timestamps));
+    }
 }
@@ -7,6 +7,7 @@
 package com.powsybl.openrao.flowbasedcomputation;
 
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
@@ -16,8 +17,10 @@ import com.powsybl.commons.config.PlatformConfigNamedProvider;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
+import java.time.OffsetDateTime;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * FlowBased main API. It is a utility class (so with only static methods) used as an entry point for running
@@ -67,6 +70,13 @@ public final class FlowbasedComputation {
             return run(network, crac, glsk, raoResult, FlowbasedComputationParameters.load());
         }
 
+        public void run(TemporalData<FlowbasedComputationInput> inputs, FlowbasedComputationParameters parameters, BiConsumer<OffsetDateTime, FlowbasedComputationResult> resultConsumer) {
+            Objects.requireNonNull(inputs);
+            Objects.requireNonNull(parameters);
+            Objects.requireNonNull(resultConsumer);
+            provider.run(inputs, parameters, resultConsumer);
+        }
+
         @Override
         public String getName() {
             return provider.getName();
@@ -115,4 +125,8 @@ public final class FlowbasedComputation {
     public static FlowbasedComputationResult run(Network network, Crac crac, ZonalData<SensitivityVariableSet> glsk, RaoResult raoResult) {
         return find().run(network, crac, raoResult, glsk);
     }
+
+    public static void run(TemporalData<FlowbasedComputationInput> inputs, FlowbasedComputationParameters parameters, BiConsumer<OffsetDateTime, FlowbasedComputationResult> resultConsumer) {
+        find().run(inputs, parameters, resultConsumer);
+    }
 }
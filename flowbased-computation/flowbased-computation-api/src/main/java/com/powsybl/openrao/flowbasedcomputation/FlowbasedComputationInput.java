@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.flowbasedcomputation;
+
+import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.sensitivity.SensitivityVariableSet;
+
+import java.util.Objects;
+
+/**
+ * Inputs of the flowbased computation of one timestamp. The CRAC and the GLSK can be shared by several timestamps,
+ * in which case the implementations can re-use what they derive from them.
+ */
+public class FlowbasedComputationInput {
+    private final Network network;
+    private final Crac crac;
+    private final RaoResult raoResult;
+    private final ZonalData<SensitivityVariableSet> glsk;
+
+    public FlowbasedComputationInput(Network network, Crac crac, RaoResult raoResult, ZonalData<SensitivityVariableSet> glsk) {
+        this.network = Objects.requireNonNull(network);
+        this.crac = Objects.requireNonNull(crac);
+        this.raoResult = raoResult;
+        this.glsk = Objects.requireNonNull(glsk);
+    }
+
+    public FlowbasedComputationInput(Network network, Crac crac, ZonalData<SensitivityVariableSet> glsk) {
+        this(network, crac, null, glsk);
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    public Crac getCrac() {
+        return crac;
+    }
+
+    /**
+     * Result of the RAO whose remedial actions are applied, or null to apply all the available network actions
+     */
+    public RaoResult getRaoResult() {
+        return raoResult;
+    }
+
+    public ZonalData<SensitivityVariableSet> getGlsk() {
+        return glsk;
+    }
+}
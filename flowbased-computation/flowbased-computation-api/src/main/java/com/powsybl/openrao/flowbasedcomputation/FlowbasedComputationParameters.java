@@ -45,6 +45,10 @@ public class FlowbasedComputationParameters extends AbstractExtendable<Flowbased
 
     private String sensitivityProvider = "Sensi2";
 
+    private int contingenciesInParallel = 1;
+
+    private int timestampsInParallel = 1;
+
     public static FlowbasedComputationParameters load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -92,4 +96,37 @@ public class FlowbasedComputationParameters extends AbstractExtendable<Flowbased
     public void setSensitivityProvider(String sensitivityProvider) {
         this.sensitivityProvider = sensitivityProvider;
     }
+
+    /**
+     * Number of contingencies with curative remedial actions whose perimeters are computed in parallel, each one
+     * on its own copy of the network
+     */
+    public int getContingenciesInParallel() {
+        return contingenciesInParallel;
+    }
+
+    public FlowbasedComputationParameters setContingenciesInParallel(int contingenciesInParallel) {
+        if (contingenciesInParallel < 1) {
+            throw new IllegalArgumentException("The number of contingencies computed in parallel should be at least 1");
+        }
+        this.contingenciesInParallel = contingenciesInParallel;
+        return this;
+    }
+
+    /**
+     * Number of timestamps computed in parallel by a multi-timestamp computation. The contingenciesInParallel threads
+     * are then shared by these timestamps: each one computes up to contingenciesInParallel / timestampsInParallel
+     * contingencies in parallel, and at least one.
+     */
+    public int getTimestampsInParallel() {
+        return timestampsInParallel;
+    }
+
+    public FlowbasedComputationParameters setTimestampsInParallel(int timestampsInParallel) {
+        if (timestampsInParallel < 1) {
+            throw new IllegalArgumentException("The number of timestamps computed in parallel should be at least 1");
+        }
+        this.timestampsInParallel = timestampsInParallel;
+        return this;
+    }
 }
@@ -7,6 +7,7 @@
 package com.powsybl.openrao.flowbasedcomputation;
 
 import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.commons.Versionable;
@@ -14,11 +15,25 @@ import com.powsybl.commons.config.PlatformConfigNamedProvider;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
+import java.time.OffsetDateTime;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 
 /**
  * @author Sebastien Murgey {@literal <sebastien.murgey at rte-france.com>}
  */
 public interface FlowbasedComputationProvider extends Versionable, PlatformConfigNamedProvider {
     CompletableFuture<FlowbasedComputationResult> run(Network network, Crac crac, RaoResult raoResult, ZonalData<SensitivityVariableSet> glsk, FlowbasedComputationParameters parameters);
+
+    /**
+     * Runs the flowbased computation of several timestamps, and hands over the result of each timestamp to the
+     * resultConsumer as soon as it is available. The consumer is never called concurrently, but the order of the
+     * timestamps is only guaranteed by implementations which compute them sequentially, as this default one does.
+     */
+    default void run(TemporalData<FlowbasedComputationInput> inputs, FlowbasedComputationParameters parameters, BiConsumer<OffsetDateTime, FlowbasedComputationResult> resultConsumer) {
+        for (OffsetDateTime timestamp : inputs.getTimestamps()) {
+            FlowbasedComputationInput input = inputs.getData(timestamp).orElseThrow();
+            resultConsumer.accept(timestamp, run(input.getNetwork(), input.getCrac(), input.getRaoResult(), input.getGlsk(), parameters).join());
+        }
+    }
 }
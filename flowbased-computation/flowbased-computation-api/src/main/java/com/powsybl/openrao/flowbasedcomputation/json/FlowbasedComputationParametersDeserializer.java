@@ -49,6 +49,16 @@ public class FlowbasedComputationParametersDeserializer extends StdDeserializer<
                     JsonLoadFlowParameters.deserialize(parser, deserializationContext, parameters.getLoadFlowParameters());
                     break;
 
+                case "contingencies-in-parallel":
+                    parser.nextToken();
+                    parameters.setContingenciesInParallel(parser.getIntValue());
+                    break;
+
+                case "timestamps-in-parallel":
+                    parser.nextToken();
+                    parameters.setTimestampsInParallel(parser.getIntValue());
+                    break;
+
                 case "extensions":
                     parser.nextToken();
                     extensions = JsonUtil.readExtensions(parser, deserializationContext, JsonFlowbasedComputationParameters.getExtensionSerializers());
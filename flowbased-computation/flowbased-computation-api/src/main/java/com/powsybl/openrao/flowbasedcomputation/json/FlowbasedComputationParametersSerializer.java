@@ -34,6 +34,9 @@ public class FlowbasedComputationParametersSerializer extends StdSerializer<Flow
         jsonGenerator.writeFieldName("load-flow-parameters");
         JsonLoadFlowParameters.serialize(parameters.getLoadFlowParameters(), jsonGenerator, serializerProvider);
 
+        jsonGenerator.writeNumberField("contingencies-in-parallel", parameters.getContingenciesInParallel());
+        jsonGenerator.writeNumberField("timestamps-in-parallel", parameters.getTimestampsInParallel());
+
         JsonUtil.writeExtensions(parameters, jsonGenerator, serializerProvider, JsonFlowbasedComputationParameters.getExtensionSerializers());
 
         jsonGenerator.writeEndObject();
@@ -58,6 +58,17 @@ class FlowbasedComputationParametersTest {
         assertNotNull(parameters.getExtension(DummyExtension.class));
     }
 
+    @Test
+    void testContingenciesInParallel() {
+        FlowbasedComputationParameters parameters = new FlowbasedComputationParameters();
+        assertEquals(1, parameters.getContingenciesInParallel());
+        assertEquals(4, parameters.setContingenciesInParallel(4).getContingenciesInParallel());
+        assertThrows(IllegalArgumentException.class, () -> parameters.setContingenciesInParallel(0));
+        assertEquals(1, parameters.getTimestampsInParallel());
+        assertEquals(24, parameters.setTimestampsInParallel(24).getTimestampsInParallel());
+        assertThrows(IllegalArgumentException.class, () -> parameters.setTimestampsInParallel(0));
+    }
+
     private static class DummyExtension extends AbstractExtension<FlowbasedComputationParameters> {
 
         @Override
@@ -8,6 +8,8 @@ package com.powsybl.openrao.flowbasedcomputation;
 
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.glsk.commons.ZonalDataImpl;
+import com.powsybl.openrao.commons.TemporalData;
+import com.powsybl.openrao.commons.TemporalDataImpl;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityVariableSet;
@@ -15,7 +17,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,6 +56,22 @@ class FlowbasedComputationTest {
         assertNotNull(resultAsync);
     }
 
+    @Test
+    void testMultiTimestampRun() {
+        OffsetDateTime timestamp1 = OffsetDateTime.of(2025, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime timestamp2 = OffsetDateTime.of(2025, 1, 1, 1, 30, 0, 0, ZoneOffset.UTC);
+        TemporalData<FlowbasedComputationInput> inputs = new TemporalDataImpl<>(Map.of(
+            timestamp2, new FlowbasedComputationInput(network, crac, glsk),
+            timestamp1, new FlowbasedComputationInput(network, crac, glsk)));
+
+        List<OffsetDateTime> computedTimestamps = new ArrayList<>();
+        FlowbasedComputation.run(inputs, new FlowbasedComputationParameters(), (timestamp, result) -> {
+            assertNotNull(result);
+            computedTimestamps.add(timestamp);
+        });
+        assertEquals(List.of(timestamp1, timestamp2), computedTimestamps);
+    }
+
     static ZonalData<SensitivityVariableSet> glskProvider() {
         return new ZonalDataImpl<>(new HashMap<>());
     }
@@ -6,7 +6,9 @@
  */
 package com.powsybl.openrao.flowbasedcomputation.impl;
 
+import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.RandomizedString;
+import com.powsybl.openrao.commons.TemporalData;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.contingency.Contingency;
@@ -19,20 +21,30 @@ import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
 import com.powsybl.openrao.data.crac.api.usagerule.UsageMethod;
 import com.powsybl.openrao.data.flowbaseddomain.*;
 import com.powsybl.openrao.data.raoresult.api.RaoResult;
+import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationInput;
 import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationParameters;
 import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationProvider;
 import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationResult;
 import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationResultImpl;
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import com.powsybl.openrao.sensitivityanalysis.SensitivityFactorsCache;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityInterface;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
+import com.powsybl.openrao.util.AbstractNetworkPool;
+import com.powsybl.openrao.util.InterTemporalPool;
 import com.google.auto.service.AutoService;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 import com.powsybl.sensitivity.WeightedSensitivityVariable;
 
+import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.BUSINESS_WARNS;
@@ -64,7 +76,58 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
         Objects.requireNonNull(crac);
         Objects.requireNonNull(glsk);
         Objects.requireNonNull(parameters);
+        return CompletableFuture.completedFuture(run(network, crac, raoResult, glsk, buildGlskData(glsk), null, parameters.getContingenciesInParallel(), parameters));
+    }
+
+    /**
+     * The timestamps are computed in parallel, up to the timestamps-in-parallel parameter. The data derived from the
+     * GLSKs is built once per GLSK object, and the sensitivity factors are shared by all the timestamps through a
+     * {@link SensitivityFactorsCache}, so that the factors and contingencies of a CRAC used for several timestamps
+     * are only built once per network topology. The timestamps computed in parallel must not share the same network
+     * object.
+     * <p>
+     * The contingencies-in-parallel parameter is the number of threads shared by the timestamps computed in parallel:
+     * each timestamp computes up to contingenciesInParallel / timestampsInParallel contingencies in parallel, and at
+     * least one.
+     */
+    @Override
+    public void run(TemporalData<FlowbasedComputationInput> inputs, FlowbasedComputationParameters parameters, BiConsumer<OffsetDateTime, FlowbasedComputationResult> resultConsumer) {
+        run(inputs, parameters, resultConsumer, new SensitivityFactorsCache());
+    }
+
+    void run(TemporalData<FlowbasedComputationInput> inputs, FlowbasedComputationParameters parameters, BiConsumer<OffsetDateTime, FlowbasedComputationResult> resultConsumer, SensitivityFactorsCache factorsCache) {
+        Objects.requireNonNull(inputs);
+        Objects.requireNonNull(parameters);
+        Objects.requireNonNull(resultConsumer);
+        if (inputs.getTimestamps().isEmpty()) {
+            return;
+        }
+        Map<ZonalData<SensitivityVariableSet>, GlskData> glskDataPerGlsk = Collections.synchronizedMap(new IdentityHashMap<>());
+        int timestampsInParallel = Math.min(parameters.getTimestampsInParallel(), inputs.getTimestamps().size());
+        int contingenciesInParallel = Math.max(1, parameters.getContingenciesInParallel() / timestampsInParallel);
+        InterTemporalPool pool = new InterTemporalPool(new HashSet<>(inputs.getTimestamps()), parameters.getTimestampsInParallel());
+        try {
+            pool.runTasks(timestamp -> {
+                FlowbasedComputationInput input = inputs.getData(timestamp).orElseThrow();
+                TECHNICAL_LOGS.info("Flowbased computation for timestamp {} [start]", timestamp);
+                GlskData glskData = glskDataPerGlsk.computeIfAbsent(input.getGlsk(), this::buildGlskData);
+                FlowbasedComputationResult result = run(input.getNetwork(), input.getCrac(), input.getRaoResult(), input.getGlsk(), glskData, factorsCache, contingenciesInParallel, parameters);
+                TECHNICAL_LOGS.info("Flowbased computation for timestamp {} [end]", timestamp);
+                synchronized (resultConsumer) {
+                    resultConsumer.accept(timestamp, result);
+                }
+                return result.getStatus();
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenRaoException(e);
+        } finally {
+            pool.shutdown();
+        }
+    }
 
+    private FlowbasedComputationResult run(Network network, Crac crac, RaoResult raoResult, ZonalData<SensitivityVariableSet> glsk, GlskData glskData,
+                                           SensitivityFactorsCache factorsCache, int contingenciesInParallel, FlowbasedComputationParameters parameters) {
         AppliedRemedialActions appliedRemedialActions = new AppliedRemedialActions();
 
         if (raoResult == null) {
@@ -84,27 +147,25 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
             });
         }
 
-        SystematicSensitivityInterface systematicSensitivityInterface = SystematicSensitivityInterface.builder()
-                .withSensitivityProviderName(parameters.getSensitivityProvider())
-                .withParameters(parameters.getSensitivityAnalysisParameters())
-                .withPtdfSensitivities(glsk, crac.getFlowCnecs(), Collections.singleton(Unit.MEGAWATT))
-                .withAppliedRemedialActions(appliedRemedialActions)
-                .withOutageInstant(crac.getOutageInstant())
-                .build();
-
         // Preventive perimeter
         String initialNetworkId = network.getVariantManager().getWorkingVariantId();
         network.getVariantManager().cloneVariant(initialNetworkId, INITIAL_STATE_WITH_PRA);
         network.getVariantManager().setWorkingVariant(INITIAL_STATE_WITH_PRA);
         applyPreventiveRemedialActions(raoResult, crac, network);
-        SystematicSensitivityResult result = systematicSensitivityInterface.run(network);
-        FlowbasedComputationResult flowBasedComputationResult = new FlowbasedComputationResultImpl(FlowbasedComputationResult.Status.SUCCESS, buildFlowbasedDomain(crac, glsk, result));
+        DataDomain flowbasedDomain;
+        if (contingenciesInParallel > 1) {
+            flowbasedDomain = buildFlowbasedDomainInParallel(network, crac, glsk, glskData, appliedRemedialActions, factorsCache, contingenciesInParallel, parameters);
+        } else {
+            SystematicSensitivityResult result = buildSystematicSensitivityInterface(crac, glsk, crac.getFlowCnecs(), appliedRemedialActions, factorsCache, parameters).run(network);
+            flowbasedDomain = buildFlowbasedDomain(glskData, buildDataPreContingency(crac, glskData, result), buildDataPostContingencies(crac, glskData, result));
+        }
+        FlowbasedComputationResult flowBasedComputationResult = new FlowbasedComputationResultImpl(FlowbasedComputationResult.Status.SUCCESS, flowbasedDomain);
 
         // Restore initial variant at the end of the computation
         network.getVariantManager().setWorkingVariant(initialNetworkId);
         network.getVariantManager().removeVariant(INITIAL_STATE_WITH_PRA);
 
-        return CompletableFuture.completedFuture(flowBasedComputationResult);
+        return flowBasedComputationResult;
     }
 
     private void applyPreventiveRemedialActions(RaoResult raoResult, Crac crac, Network network) {
@@ -128,50 +189,133 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
         }
     }
 
-    private DataDomain buildFlowbasedDomain(Crac crac, ZonalData<SensitivityVariableSet> glsk, SystematicSensitivityResult result) {
+    private SystematicSensitivityInterface buildSystematicSensitivityInterface(Crac crac, ZonalData<SensitivityVariableSet> glsk, Set<FlowCnec> flowCnecs, AppliedRemedialActions appliedRemedialActions,
+                                                                               SensitivityFactorsCache factorsCache, FlowbasedComputationParameters parameters) {
+        return SystematicSensitivityInterface.builder()
+                .withSensitivityProviderName(parameters.getSensitivityProvider())
+                .withParameters(parameters.getSensitivityAnalysisParameters())
+                .withPtdfSensitivities(glsk, flowCnecs, Collections.singleton(Unit.MEGAWATT))
+                .withAppliedRemedialActions(appliedRemedialActions)
+                .withSensitivityFactorsCache(factorsCache)
+                .withOutageInstant(crac.getOutageInstant())
+                .build();
+    }
+
+    /**
+     * The perimeters of the contingencies with curative remedial actions are computed in parallel, each one on a copy
+     * of the network with its own sensitivity analysis. All the other perimeters are computed with a single sensitivity
+     * analysis on the network. The post-contingency data is then merged in the order of the contingencies of the CRAC,
+     * as in a sequential computation.
+     */
+    private DataDomain buildFlowbasedDomainInParallel(Network network, Crac crac, ZonalData<SensitivityVariableSet> glsk, GlskData glskData, AppliedRemedialActions appliedRemedialActions,
+                                                      SensitivityFactorsCache factorsCache, int contingenciesInParallel, FlowbasedComputationParameters parameters) {
+        Set<Contingency> contingenciesWithCra = appliedRemedialActions.getStatesWithRa(network).stream()
+                .map(State::getContingency)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toSet());
+
+        Set<FlowCnec> flowCnecsWithoutCra = crac.getFlowCnecs().stream()
+                .filter(flowCnec -> flowCnec.getState().getContingency().map(contingency -> !contingenciesWithCra.contains(contingency)).orElse(true))
+                .collect(Collectors.toSet());
+        SystematicSensitivityResult resultWithoutCra = buildSystematicSensitivityInterface(crac, glsk, flowCnecsWithoutCra, null, factorsCache, parameters).run(network);
+
+        Map<String, DataPostContingency> postContingencyPerId = new ConcurrentHashMap<>();
+        crac.getContingencies().stream()
+                .filter(contingency -> !contingenciesWithCra.contains(contingency))
+                .forEach(contingency -> postContingencyPerId.put(contingency.getId(), buildDataPostContingency(crac, contingency, glskData, resultWithoutCra)));
+
+        if (!contingenciesWithCra.isEmpty()) {
+            TECHNICAL_LOGS.debug("Computing the perimeters of {} contingencies with curative remedial actions in parallel", contingenciesWithCra.size());
+            try (AbstractNetworkPool networkPool = AbstractNetworkPool.create(network, network.getVariantManager().getWorkingVariantId(), Math.min(contingenciesInParallel, contingenciesWithCra.size()), true)) {
+                List<ForkJoinTask<Object>> tasks = contingenciesWithCra.stream().map(contingency ->
+                    networkPool.submit(() -> {
+                        Network networkClone = networkPool.getAvailableNetwork();
+                        try {
+                            Set<State> contingencyStates = crac.getStates(contingency);
+                            AppliedRemedialActions contingencyRemedialActions = new AppliedRemedialActions();
+                            contingencyStates.forEach(state -> {
+                                contingencyRemedialActions.addAppliedNetworkActions(state, appliedRemedialActions.getAppliedNetworkActions(state));
+                                contingencyRemedialActions.addAppliedRangeActions(state, appliedRemedialActions.getAppliedRangeActions(state));
+                            });
+                            Set<FlowCnec> contingencyFlowCnecs = contingencyStates.stream().flatMap(state -> crac.getFlowCnecs(state).stream()).collect(Collectors.toSet());
+                            SystematicSensitivityResult contingencyResult = buildSystematicSensitivityInterface(crac, glsk, contingencyFlowCnecs, contingencyRemedialActions, factorsCache, parameters).run(networkClone);
+                            postContingencyPerId.put(contingency.getId(), buildDataPostContingency(crac, contingency, glskData, contingencyResult));
+                        } finally {
+                            // the network is given back to the pool even if the computation fails, so that the other contingencies can still use it
+                            networkPool.releaseUsedNetwork(networkClone);
+                        }
+                        return null;
+                    })).toList();
+                for (ForkJoinTask<Object> task : tasks) {
+                    try {
+                        task.get();
+                    } catch (ExecutionException e) {
+                        throw new OpenRaoException(e);
+                    }
+                }
+                networkPool.shutdownAndAwaitTermination(24, TimeUnit.HOURS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OpenRaoException(e);
+            }
+        }
+
+        List<DataPostContingency> postContingencyList = crac.getContingencies().stream().map(contingency -> postContingencyPerId.get(contingency.getId())).toList();
+        return buildFlowbasedDomain(glskData, buildDataPreContingency(crac, glskData, resultWithoutCra), postContingencyList);
+    }
+
+    private DataDomain buildFlowbasedDomain(GlskData glskData, DataPreContingency dataPreContingency, List<DataPostContingency> dataPostContingencies) {
         return DataDomain.builder()
                 .id(RandomizedString.getRandomizedString())
                 .name("FlowBased results")
                 .description("")
                 .sourceFormat("code")
-                .dataPreContingency(buildDataPreContingency(crac, glsk, result))
-                .dataPostContingency(buildDataPostContingencies(crac, glsk, result))
-                .glskData(buildDataGlskFactors(glsk))
+                .dataPreContingency(dataPreContingency)
+                .dataPostContingency(dataPostContingencies)
+                .glskData(glskData.glskFactors())
                 .build();
     }
 
+    /**
+     * The zone index is shared by all the monitored branches of the domain
+     */
+    private GlskData buildGlskData(ZonalData<SensitivityVariableSet> glsk) {
+        List<SensitivityVariableSet> glsks = new ArrayList<>(glsk.getDataPerZone().values());
+        return new GlskData(new DataZoneIndex(glsks.stream().map(SensitivityVariableSet::getId).toList()), glsks, buildDataGlskFactors(glsk));
+    }
+
     private List<DataGlskFactors> buildDataGlskFactors(ZonalData<SensitivityVariableSet> glsk) {
         List<DataGlskFactors> glskFactors = new ArrayList<>();
         glsk.getDataPerZone().forEach((s, linearGlsk) -> glskFactors.add(new DataGlskFactors(s, linearGlsk.getVariables().stream().collect(Collectors.toMap(WeightedSensitivityVariable::getId, variable -> (float) variable.getWeight(), (o1, o2) -> o1)))));
         return glskFactors;
     }
 
-    private List<DataPostContingency> buildDataPostContingencies(Crac crac, ZonalData<SensitivityVariableSet> glsk, SystematicSensitivityResult result) {
+    private List<DataPostContingency> buildDataPostContingencies(Crac crac, GlskData glskData, SystematicSensitivityResult result) {
         List<DataPostContingency> postContingencyList = new ArrayList<>();
-        crac.getContingencies().forEach(contingency -> postContingencyList.add(buildDataPostContingency(crac, contingency, glsk, result)));
+        crac.getContingencies().forEach(contingency -> postContingencyList.add(buildDataPostContingency(crac, contingency, glskData, result)));
         return postContingencyList;
     }
 
-    private DataPostContingency buildDataPostContingency(Crac crac, Contingency contingency, ZonalData<SensitivityVariableSet> glsk, SystematicSensitivityResult result) {
+    private DataPostContingency buildDataPostContingency(Crac crac, Contingency contingency, GlskData glskData, SystematicSensitivityResult result) {
         return DataPostContingency.builder()
                 .contingencyId(contingency.getId())
-                .dataMonitoredBranches(buildDataMonitoredBranches(crac, crac.getStates(contingency), glsk, result))
+                .dataMonitoredBranches(buildDataMonitoredBranches(crac, crac.getStates(contingency), glskData, result))
                 .build();
     }
 
-    private DataPreContingency buildDataPreContingency(Crac crac, ZonalData<SensitivityVariableSet> glsk, SystematicSensitivityResult result) {
+    private DataPreContingency buildDataPreContingency(Crac crac, GlskData glskData, SystematicSensitivityResult result) {
         return DataPreContingency.builder()
-                .dataMonitoredBranches(buildDataMonitoredBranches(crac, Set.of(crac.getPreventiveState()), glsk, result))
+                .dataMonitoredBranches(buildDataMonitoredBranches(crac, Set.of(crac.getPreventiveState()), glskData, result))
                 .build();
     }
 
-    private List<DataMonitoredBranch> buildDataMonitoredBranches(Crac crac, Set<State> states, ZonalData<SensitivityVariableSet> glsk, SystematicSensitivityResult result) {
+    private List<DataMonitoredBranch> buildDataMonitoredBranches(Crac crac, Set<State> states, GlskData glskData, SystematicSensitivityResult result) {
         List<DataMonitoredBranch> branchResultList = new ArrayList<>();
-        states.forEach(state -> crac.getFlowCnecs(state).forEach(cnec -> branchResultList.add(buildDataMonitoredBranch(cnec, glsk, result))));
+        states.forEach(state -> crac.getFlowCnecs(state).forEach(cnec -> branchResultList.add(buildDataMonitoredBranch(cnec, glskData, result))));
         return branchResultList;
     }
 
-    private DataMonitoredBranch buildDataMonitoredBranch(FlowCnec cnec, ZonalData<SensitivityVariableSet> glsk, SystematicSensitivityResult result) {
+    private DataMonitoredBranch buildDataMonitoredBranch(FlowCnec cnec, GlskData glskData, SystematicSensitivityResult result) {
         double maxThreshold = cnec.getUpperBound(TwoSides.ONE, Unit.MEGAWATT).orElse(Double.POSITIVE_INFINITY);
         double minThreshold = cnec.getLowerBound(TwoSides.ONE, Unit.MEGAWATT).orElse(Double.NEGATIVE_INFINITY);
         return new DataMonitoredBranch(
@@ -182,19 +326,24 @@ public class FlowbasedComputationImpl implements FlowbasedComputationProvider {
                 minThreshold,
                 maxThreshold,
                 zeroIfNaN(result.getReferenceFlow(cnec, TwoSides.ONE)), // TODO : handle both sides if needed
-                buildDataPtdfPerCountry(cnec, glsk, result)
+                glskData.zoneIndex(),
+                buildPtdfs(cnec, glskData, result)
         );
     }
 
-    private List<DataPtdfPerCountry> buildDataPtdfPerCountry(FlowCnec cnec, ZonalData<SensitivityVariableSet> glskProvider, SystematicSensitivityResult result) {
-        Map<String, SensitivityVariableSet> glsks = glskProvider.getDataPerZone();
-        return glsks.values().stream()
-                .map(glsk ->
-                        new DataPtdfPerCountry(
-                                glsk.getId(),
-                                zeroIfNaN(result.getSensitivityOnFlow(glsk.getId(), cnec, TwoSides.ONE)) // TODO : handle both sides if needed
-                        )
-                ).toList();
+    private double[] buildPtdfs(FlowCnec cnec, GlskData glskData, SystematicSensitivityResult result) {
+        double[] ptdfs = new double[glskData.glsks().size()];
+        for (int zone = 0; zone < ptdfs.length; zone++) {
+            // TODO : handle both sides if needed
+            ptdfs[zone] = zeroIfNaN(result.getSensitivityOnFlow(glskData.glsks().get(zone), cnec, TwoSides.ONE));
+        }
+        return ptdfs;
+    }
+
+    /**
+     * GLSKs of the zones of the flowbased domain, in the order of its zone index, and their GLSK factors
+     */
+    private record GlskData(DataZoneIndex zoneIndex, List<SensitivityVariableSet> glsks, List<DataGlskFactors> glskFactors) {
     }
 
     /**
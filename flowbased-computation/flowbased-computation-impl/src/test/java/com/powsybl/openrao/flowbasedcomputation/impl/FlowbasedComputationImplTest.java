@@ -8,6 +8,8 @@ package com.powsybl.openrao.flowbasedcomputation.impl;
 
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.glsk.commons.ZonalData;
+import com.powsybl.openrao.commons.TemporalData;
+import com.powsybl.openrao.commons.TemporalDataImpl;
 import com.powsybl.openrao.data.crac.api.Crac;
 import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
@@ -17,15 +19,22 @@ import com.powsybl.openrao.data.raoresult.api.RaoResult;
 import com.powsybl.openrao.data.raoresult.impl.ElementaryFlowCnecResult;
 import com.powsybl.openrao.data.raoresult.impl.FlowCnecResult;
 import com.powsybl.openrao.data.raoresult.impl.RaoResultImpl;
+import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationInput;
 import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationParameters;
 import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationProvider;
 import com.powsybl.openrao.flowbasedcomputation.FlowbasedComputationResult;
+import com.powsybl.openrao.sensitivityanalysis.SensitivityFactorsCache;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static com.powsybl.openrao.commons.Unit.AMPERE;
@@ -83,6 +92,78 @@ class FlowbasedComputationImplTest {
         checkCurativeAssertions(result);
     }
 
+    @Test
+    void testRunWithCraInParallel() throws IOException {
+        Crac crac = ExampleGenerator.crac("crac.json", network);
+        parameters.setContingenciesInParallel(4);
+        String initialVariantId = network.getVariantManager().getWorkingVariantId();
+        FlowbasedComputationResult result = flowBasedComputationProvider.run(network, crac, null, glsk, parameters).join();
+        checkAssertions(result);
+        checkCurativeAssertions(result);
+        assertEquals(crac.getContingencies().size(), result.getFlowBasedDomain().getDataPostContingency().size());
+        assertEquals(initialVariantId, network.getVariantManager().getWorkingVariantId());
+        assertEquals(Set.of(initialVariantId), new HashSet<>(network.getVariantManager().getVariantIds()));
+    }
+
+    @Test
+    void testRunWithCraRaoResultInParallel() throws IOException {
+        Crac crac = ExampleGenerator.crac("crac_for_rao_result.json", network);
+        parameters.setContingenciesInParallel(2);
+        RaoResult raoResult = createRaoResult(crac, crac.getFlowCnecs(), crac.getNetworkAction("Open line FR-BE"));
+        FlowbasedComputationResult result = flowBasedComputationProvider.run(network, crac, raoResult, glsk, parameters).join();
+        checkAssertions(result);
+        checkCurativeAssertions(result);
+    }
+
+    @Test
+    void testRunMultiTimestamp() throws IOException {
+        OffsetDateTime timestamp1 = OffsetDateTime.of(2025, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime timestamp2 = OffsetDateTime.of(2025, 1, 1, 1, 30, 0, 0, ZoneOffset.UTC);
+        Network network2 = ExampleGenerator.network();
+        Crac crac = ExampleGenerator.crac("crac.json", network);
+        TemporalData<FlowbasedComputationInput> inputs = new TemporalDataImpl<>(Map.of(
+            timestamp1, new FlowbasedComputationInput(network, crac, glsk),
+            timestamp2, new FlowbasedComputationInput(network2, crac, glsk)));
+        parameters.setTimestampsInParallel(2);
+
+        Map<OffsetDateTime, FlowbasedComputationResult> resultPerTimestamp = new HashMap<>();
+        flowBasedComputationProvider.run(inputs, parameters, resultPerTimestamp::put);
+
+        assertEquals(Set.of(timestamp1, timestamp2), resultPerTimestamp.keySet());
+        resultPerTimestamp.values().forEach(result -> {
+            checkAssertions(result);
+            checkCurativeAssertions(result);
+        });
+        // the GLSK data is shared by the two timestamps
+        assertSame(resultPerTimestamp.get(timestamp1).getFlowBasedDomain().getGlskData(), resultPerTimestamp.get(timestamp2).getFlowBasedDomain().getGlskData());
+    }
+
+    @Test
+    void testSensitivityFactorsAreSharedByTimestamps() throws IOException {
+        OffsetDateTime timestamp1 = OffsetDateTime.of(2025, 1, 1, 0, 30, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime timestamp2 = OffsetDateTime.of(2025, 1, 1, 1, 30, 0, 0, ZoneOffset.UTC);
+        Crac crac = ExampleGenerator.crac("crac.json", network);
+
+        SensitivityFactorsCache singleTimestampCache = new SensitivityFactorsCache();
+        new FlowbasedComputationImpl().run(new TemporalDataImpl<>(Map.of(timestamp1, new FlowbasedComputationInput(network, crac, glsk))),
+            parameters, (timestamp, result) -> { }, singleTimestampCache);
+        assertTrue(singleTimestampCache.size() > 0);
+
+        // the second timestamp has the same CRAC and topology: its factors are all found in the cache
+        SensitivityFactorsCache factorsCache = new SensitivityFactorsCache();
+        TemporalData<FlowbasedComputationInput> inputs = new TemporalDataImpl<>(Map.of(
+            timestamp1, new FlowbasedComputationInput(ExampleGenerator.network(), crac, glsk),
+            timestamp2, new FlowbasedComputationInput(ExampleGenerator.network(), crac, glsk)));
+        Map<OffsetDateTime, FlowbasedComputationResult> resultPerTimestamp = new HashMap<>();
+        new FlowbasedComputationImpl().run(inputs, parameters, resultPerTimestamp::put, factorsCache);
+
+        assertEquals(singleTimestampCache.size(), factorsCache.size());
+        resultPerTimestamp.values().forEach(result -> {
+            checkAssertions(result);
+            checkCurativeAssertions(result);
+        });
+    }
+
     @Test
     void testRunPraWithForced() throws IOException {
         Crac crac = ExampleGenerator.crac("crac_with_forced.json", network);
@@ -21,7 +21,7 @@ import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 import static java.util.Objects.requireNonNull;
 
@@ -30,14 +30,30 @@ import static java.util.Objects.requireNonNull;
  * @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class LoopFlowComputationImpl implements LoopFlowComputation {
+    /**
+     * Below this number of CNECs, the commercial flows are computed sequentially
+     */
+    private static final int MIN_CNECS_FOR_PARALLEL_COMPUTATION = 500;
+
     protected ZonalData<SensitivityVariableSet> glsk;
     protected ReferenceProgram referenceProgram;
     protected Map<EICode, SensitivityVariableSet> glskMap;
+    // areas of the reference program with a GLSK, and their global net positions, in the same order
+    private final SensitivityVariableSet[] areaGlsks;
+    private final double[] areaNetPositions;
 
     public LoopFlowComputationImpl(ZonalData<SensitivityVariableSet> glsk, ReferenceProgram referenceProgram) {
         this.glsk = requireNonNull(glsk, "glskProvider should not be null");
         this.referenceProgram = requireNonNull(referenceProgram, "referenceProgram should not be null");
         this.glskMap = buildRefProgGlskMap();
+        this.areaGlsks = new SensitivityVariableSet[glskMap.size()];
+        this.areaNetPositions = new double[glskMap.size()];
+        int areaIndex = 0;
+        for (Map.Entry<EICode, SensitivityVariableSet> entry : glskMap.entrySet()) {
+            areaGlsks[areaIndex] = entry.getValue();
+            areaNetPositions[areaIndex] = referenceProgram.getGlobalNetPosition(entry.getKey());
+            areaIndex++;
+        }
     }
 
     @Override
@@ -56,24 +72,60 @@ public class LoopFlowComputationImpl implements LoopFlowComputation {
 
     @Override
     public LoopFlowResult buildLoopFlowsFromReferenceFlowAndPtdf(SystematicSensitivityResult alreadyCalculatedPtdfAndFlows, Set<FlowCnec> flowCnecs, Network network) {
+        double[] connectedNetPositions = computeConnectedNetPositions(network);
+        List<FlowCnec> flowCnecList = new ArrayList<>(flowCnecs);
+        double[][] commercialFlows = new double[flowCnecList.size()][];
+        IntStream cnecIndexes = IntStream.range(0, flowCnecList.size());
+        if (flowCnecList.size() >= MIN_CNECS_FOR_PARALLEL_COMPUTATION) {
+            cnecIndexes = cnecIndexes.parallel();
+        }
+        cnecIndexes.forEach(cnecIndex -> commercialFlows[cnecIndex] = computeCommercialFlows(flowCnecList.get(cnecIndex), alreadyCalculatedPtdfAndFlows, connectedNetPositions));
+
         LoopFlowResult results = new LoopFlowResult();
-        Map<SensitivityVariableSet, Boolean> isInMainComponentMap = computeIsInMainComponentMap(network);
-        for (FlowCnec flowCnec : flowCnecs) {
-            flowCnec.getMonitoredSides().forEach(side -> {
+        for (int cnecIndex = 0; cnecIndex < flowCnecList.size(); cnecIndex++) {
+            FlowCnec flowCnec = flowCnecList.get(cnecIndex);
+            int sideIndex = 0;
+            for (TwoSides side : flowCnec.getMonitoredSides()) {
                 double refFlow = alreadyCalculatedPtdfAndFlows.getReferenceFlow(flowCnec, side);
-                double commercialFLow = getGlskStream().filter(entry -> isInMainComponentMap.get(entry.getValue()))
-                    .mapToDouble(entry -> alreadyCalculatedPtdfAndFlows.getSensitivityOnFlow(entry.getValue(), flowCnec, side) * referenceProgram.getGlobalNetPosition(entry.getKey()))
-                    .sum();
-                results.addCnecResult(flowCnec, side, refFlow - commercialFLow, commercialFLow, refFlow);
-            });
+                double commercialFlow = commercialFlows[cnecIndex][sideIndex++];
+                results.addCnecResult(flowCnec, side, refFlow - commercialFlow, commercialFlow, refFlow);
+            }
         }
         return results;
     }
 
-    private Map<SensitivityVariableSet, Boolean> computeIsInMainComponentMap(Network network) {
-        Map<SensitivityVariableSet, Boolean> map = new HashMap<>();
-        glskMap.values().forEach(linearGlsk -> map.putIfAbsent(linearGlsk, isInMainComponent(linearGlsk, network)));
-        return map;
+    /**
+     * Commercial flows on each monitored side of the CNEC (in the iteration order of its monitored sides), computed as
+     * the scalar product of its zone-to-slack PTDFs with the net positions of the areas.
+     */
+    private double[] computeCommercialFlows(FlowCnec flowCnec, SystematicSensitivityResult ptdfs, double[] connectedNetPositions) {
+        double[] commercialFlows = new double[flowCnec.getMonitoredSides().size()];
+        int sideIndex = 0;
+        for (TwoSides side : flowCnec.getMonitoredSides()) {
+            double commercialFlow = 0;
+            for (int areaIndex = 0; areaIndex < areaGlsks.length; areaIndex++) {
+                if (connectedNetPositions[areaIndex] != 0) {
+                    commercialFlow += ptdfs.getSensitivityOnFlow(areaGlsks[areaIndex], flowCnec, side) * connectedNetPositions[areaIndex];
+                }
+            }
+            commercialFlows[sideIndex++] = commercialFlow;
+        }
+        return commercialFlows;
+    }
+
+    /**
+     * Net positions of the areas, set to zero for the areas whose GLSK is not in the main connected component of the
+     * network. The connectivity of a GLSK shared by several areas is only computed once.
+     */
+    private double[] computeConnectedNetPositions(Network network) {
+        Map<SensitivityVariableSet, Boolean> isInMainComponentMap = new HashMap<>();
+        double[] connectedNetPositions = new double[areaGlsks.length];
+        for (int areaIndex = 0; areaIndex < areaGlsks.length; areaIndex++) {
+            if (isInMainComponentMap.computeIfAbsent(areaGlsks[areaIndex], linearGlsk -> isInMainComponent(linearGlsk, network))) {
+                connectedNetPositions[areaIndex] = areaNetPositions[areaIndex];
+            }
+        }
+        return connectedNetPositions;
     }
 
     static boolean isInMainComponent(SensitivityVariableSet linearGlsk, Network network) {
@@ -103,10 +155,6 @@ public class LoopFlowComputationImpl implements LoopFlowComputation {
         return network.getDanglingLine(injectionId);
     }
 
-    protected Stream<Map.Entry<EICode, SensitivityVariableSet>> getGlskStream() {
-        return glskMap.entrySet().stream();
-    }
-
     protected Map<EICode, SensitivityVariableSet> buildRefProgGlskMap() {
 
         Map<EICode, SensitivityVariableSet> refProgGlskMap = new HashMap<>();
@@ -239,6 +239,9 @@ class LoopFlowComputationImplTest {
         assertEquals(30., loopFlowResult.getReferenceFlow(crac.getFlowCnec("BE2-NL"), TwoSides.ONE), DOUBLE_TOLERANCE);
         assertEquals(170., loopFlowResult.getReferenceFlow(crac.getFlowCnec("FR-DE"), TwoSides.TWO), DOUBLE_TOLERANCE);
         assertEquals(170., loopFlowResult.getReferenceFlow(crac.getFlowCnec("DE-NL"), TwoSides.TWO), DOUBLE_TOLERANCE);
+
+        // the connectivity of the GLSKs is checked once per area, not once per CNEC
+        Mockito.verify(network, Mockito.times(1)).getGenerator("Generator DE");
     }
 
     @Test
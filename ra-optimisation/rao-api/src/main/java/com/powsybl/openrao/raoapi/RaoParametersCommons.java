@@ -44,6 +44,7 @@ public final class RaoParametersCommons {
     public static final String HVDC_SENSITIVITY_THRESHOLD = "hvdc-sensitivity-threshold";
     public static final String INJECTION_RA_MIN_IMPACT_THRESHOLD = "injection-ra-min-impact-threshold";
     public static final String INJECTION_RA_SENSITIVITY_THRESHOLD = "injection-ra-sensitivity-threshold";
+    public static final String RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD = "range-action-sensitivity-pruning-threshold";
     public static final String LINEAR_OPTIMIZATION_SOLVER = "linear-optimization-solver";
     public static final String LINEAR_OPTIMIZATION_SOLVER_SECTION = "search-tree-linear-optimization-solver";
     public static final String SOLVER = "solver";
@@ -88,6 +89,7 @@ public final class RaoParametersCommons {
     public static final String LOAD_FLOW_PROVIDER = "load-flow-provider";
     public static final String SENSITIVITY_PROVIDER = "sensitivity-provider";
     public static final String SENSITIVITY_FAILURE_OVERCOST = "sensitivity-failure-overcost";
+    public static final String SENSITIVITY_RESULT_CACHE_CAPACITY = "sensitivity-result-cache-capacity";
     public static final String SENSITIVITY_PARAMETERS = "sensitivity-parameters";
 
     // EXTENSIONS
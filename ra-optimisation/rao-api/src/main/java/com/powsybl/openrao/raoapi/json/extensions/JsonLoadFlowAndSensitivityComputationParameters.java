@@ -30,6 +30,7 @@ final class JsonLoadFlowAndSensitivityComputationParameters {
         jsonGenerator.writeStringField(LOAD_FLOW_PROVIDER, parameters.getLoadFlowAndSensitivityParameters().getLoadFlowProvider());
         jsonGenerator.writeStringField(SENSITIVITY_PROVIDER, parameters.getLoadFlowAndSensitivityParameters().getSensitivityProvider());
         jsonGenerator.writeNumberField(SENSITIVITY_FAILURE_OVERCOST, parameters.getLoadFlowAndSensitivityParameters().getSensitivityFailureOvercost());
+        jsonGenerator.writeNumberField(SENSITIVITY_RESULT_CACHE_CAPACITY, parameters.getLoadFlowAndSensitivityParameters().getSensitivityResultCacheCapacity());
         jsonGenerator.writeFieldName(SENSITIVITY_PARAMETERS);
         serializerProvider.defaultSerializeValue(parameters.getLoadFlowAndSensitivityParameters().getSensitivityWithLoadFlowParameters(), jsonGenerator);
         jsonGenerator.writeEndObject();
@@ -50,6 +51,10 @@ final class JsonLoadFlowAndSensitivityComputationParameters {
                     jsonParser.nextToken();
                     searchTreeParameters.getLoadFlowAndSensitivityParameters().setSensitivityFailureOvercost(jsonParser.getValueAsDouble());
                     break;
+                case SENSITIVITY_RESULT_CACHE_CAPACITY:
+                    jsonParser.nextToken();
+                    searchTreeParameters.getLoadFlowAndSensitivityParameters().setSensitivityResultCacheCapacity(jsonParser.getIntValue());
+                    break;
                 case SENSITIVITY_PARAMETERS:
                     jsonParser.nextToken();
                     searchTreeParameters.getLoadFlowAndSensitivityParameters().setSensitivityWithLoadFlowParameters(JsonSensitivityAnalysisParameters.createObjectMapper().readerForUpdating(searchTreeParameters.getLoadFlowAndSensitivityParameters().getSensitivityWithLoadFlowParameters()).readValue(jsonParser));
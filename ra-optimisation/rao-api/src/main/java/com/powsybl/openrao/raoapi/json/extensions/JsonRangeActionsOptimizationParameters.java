@@ -32,6 +32,7 @@ final class JsonRangeActionsOptimizationParameters {
         jsonGenerator.writeObjectField(PST_MODEL, parameters.getRangeActionsOptimizationParameters().getPstModel());
         jsonGenerator.writeNumberField(HVDC_SENSITIVITY_THRESHOLD, parameters.getRangeActionsOptimizationParameters().getHvdcSensitivityThreshold());
         jsonGenerator.writeNumberField(INJECTION_RA_SENSITIVITY_THRESHOLD, parameters.getRangeActionsOptimizationParameters().getInjectionRaSensitivityThreshold());
+        jsonGenerator.writeNumberField(RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD, parameters.getRangeActionsOptimizationParameters().getRangeActionSensitivityPruningThreshold());
         jsonGenerator.writeObjectField(RA_RANGE_SHRINKING, parameters.getRangeActionsOptimizationParameters().getRaRangeShrinking());
         jsonGenerator.writeObjectFieldStart(LINEAR_OPTIMIZATION_SOLVER);
         jsonGenerator.writeObjectField(SOLVER, parameters.getRangeActionsOptimizationParameters().getLinearOptimizationSolver().getSolver());
@@ -63,6 +64,10 @@ final class JsonRangeActionsOptimizationParameters {
                     jsonParser.nextToken();
                     searchTreeParameters.getRangeActionsOptimizationParameters().setInjectionRaSensitivityThreshold(jsonParser.getDoubleValue());
                     break;
+                case RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD:
+                    jsonParser.nextToken();
+                    searchTreeParameters.getRangeActionsOptimizationParameters().setRangeActionSensitivityPruningThreshold(jsonParser.getDoubleValue());
+                    break;
                 case LINEAR_OPTIMIZATION_SOLVER:
                     jsonParser.nextToken();
                     deserializeLinearOptimizationSolver(jsonParser, searchTreeParameters);
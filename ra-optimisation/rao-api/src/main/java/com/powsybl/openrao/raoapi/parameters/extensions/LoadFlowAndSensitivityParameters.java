@@ -9,6 +9,7 @@ package com.powsybl.openrao.raoapi.parameters.extensions;
 
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 
@@ -26,10 +27,12 @@ public class LoadFlowAndSensitivityParameters {
     private static final String DEFAULT_LOADFLOW_PROVIDER = "OpenLoadFlow";
     private static final String DEFAULT_SENSITIVITY_PROVIDER = "OpenLoadFlow";
     private static final double DEFAULT_SENSITIVITY_FAILURE_OVERCOST = 10000;
+    private static final int DEFAULT_SENSITIVITY_RESULT_CACHE_CAPACITY = 0;
     private String loadFlowProvider = DEFAULT_LOADFLOW_PROVIDER;
     private String sensitivityProvider = DEFAULT_SENSITIVITY_PROVIDER;
 
     private double sensitivityFailureOvercost = DEFAULT_SENSITIVITY_FAILURE_OVERCOST;
+    private int sensitivityResultCacheCapacity = DEFAULT_SENSITIVITY_RESULT_CACHE_CAPACITY;
     private SensitivityAnalysisParameters sensitivityWithLoadFlowParameters = cleanLoadFlowParameters(new SensitivityAnalysisParameters());
 
     // Getters and setters
@@ -68,6 +71,17 @@ public class LoadFlowAndSensitivityParameters {
         this.sensitivityFailureOvercost = Math.abs(sensitivityFailureOvercost);
     }
 
+    public int getSensitivityResultCacheCapacity() {
+        return sensitivityResultCacheCapacity;
+    }
+
+    public void setSensitivityResultCacheCapacity(int sensitivityResultCacheCapacity) {
+        if (sensitivityResultCacheCapacity < 0) {
+            throw new OpenRaoException("sensitivityResultCacheCapacity should be positive.");
+        }
+        this.sensitivityResultCacheCapacity = sensitivityResultCacheCapacity;
+    }
+
     public static LoadFlowAndSensitivityParameters load(PlatformConfig platformConfig) {
         Objects.requireNonNull(platformConfig);
         LoadFlowAndSensitivityParameters parameters = new LoadFlowAndSensitivityParameters();
@@ -76,6 +90,7 @@ public class LoadFlowAndSensitivityParameters {
                     parameters.setLoadFlowProvider(config.getStringProperty(LOAD_FLOW_PROVIDER, DEFAULT_LOADFLOW_PROVIDER));
                     parameters.setSensitivityProvider(config.getStringProperty(SENSITIVITY_PROVIDER, DEFAULT_SENSITIVITY_PROVIDER));
                     parameters.setSensitivityFailureOvercost(config.getDoubleProperty(SENSITIVITY_FAILURE_OVERCOST, DEFAULT_SENSITIVITY_FAILURE_OVERCOST));
+                    parameters.setSensitivityResultCacheCapacity(config.getIntProperty(SENSITIVITY_RESULT_CACHE_CAPACITY, DEFAULT_SENSITIVITY_RESULT_CACHE_CAPACITY));
                 });
         parameters.setSensitivityWithLoadFlowParameters(SensitivityAnalysisParameters.load(platformConfig));
         return parameters;
@@ -95,6 +110,13 @@ public class LoadFlowAndSensitivityParameters {
         return DEFAULT_SENSITIVITY_FAILURE_OVERCOST;
     }
 
+    public static int getSensitivityResultCacheCapacity(RaoParameters raoParameters) {
+        if (raoParameters.hasExtension(OpenRaoSearchTreeParameters.class)) {
+            return raoParameters.getExtension(OpenRaoSearchTreeParameters.class).getLoadFlowAndSensitivityParameters().getSensitivityResultCacheCapacity();
+        }
+        return DEFAULT_SENSITIVITY_RESULT_CACHE_CAPACITY;
+    }
+
     public static String getSensitivityProvider(RaoParameters raoParameters) {
         if (raoParameters.hasExtension(OpenRaoSearchTreeParameters.class)) {
             return raoParameters.getExtension(OpenRaoSearchTreeParameters.class).getLoadFlowAndSensitivityParameters().getSensitivityProvider();
@@ -30,6 +30,7 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
     private static final PstModel DEFAULT_PST_MODEL = PstModel.CONTINUOUS;
     private static final double DEFAULT_HVDC_SENSITIVITY_THRESHOLD = 1e-6;
     private static final double DEFAULT_INJECTION_RA_SENSITIVITY_THRESHOLD = 1e-6;
+    private static final double DEFAULT_RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD = 0;
     private static final RaRangeShrinking DEFAULT_RA_RANGE_SHRINKING = RaRangeShrinking.DISABLED;
     // Attributes
     private int maxMipIterations = DEFAULT_MAX_MIP_ITERATIONS;
@@ -37,6 +38,7 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
     private PstModel pstModel = DEFAULT_PST_MODEL;
     private double hvdcSensitivityThreshold = DEFAULT_HVDC_SENSITIVITY_THRESHOLD;
     private double injectionRaSensitivityThreshold = DEFAULT_INJECTION_RA_SENSITIVITY_THRESHOLD;
+    private double rangeActionSensitivityPruningThreshold = DEFAULT_RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD;
     private LinearOptimizationSolver linearOptimizationSolver = new LinearOptimizationSolver();
     private RaRangeShrinking raRangeShrinking = DEFAULT_RA_RANGE_SHRINKING;
 
@@ -144,6 +146,17 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
         this.injectionRaSensitivityThreshold = injectionRaSensitivityThreshold;
     }
 
+    public double getRangeActionSensitivityPruningThreshold() {
+        return rangeActionSensitivityPruningThreshold;
+    }
+
+    public void setRangeActionSensitivityPruningThreshold(double rangeActionSensitivityPruningThreshold) {
+        if (rangeActionSensitivityPruningThreshold < 0) {
+            throw new OpenRaoException("rangeActionSensitivityPruningThreshold should be positive.");
+        }
+        this.rangeActionSensitivityPruningThreshold = rangeActionSensitivityPruningThreshold;
+    }
+
     public LinearOptimizationSolver getLinearOptimizationSolver() {
         return linearOptimizationSolver;
     }
@@ -178,6 +191,7 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
                 parameters.setPstModel(config.getEnumProperty(PST_MODEL, PstModel.class, DEFAULT_PST_MODEL));
                 parameters.setHvdcSensitivityThreshold(config.getDoubleProperty(HVDC_SENSITIVITY_THRESHOLD, DEFAULT_HVDC_SENSITIVITY_THRESHOLD));
                 parameters.setInjectionRaSensitivityThreshold(config.getDoubleProperty(INJECTION_RA_SENSITIVITY_THRESHOLD, DEFAULT_INJECTION_RA_SENSITIVITY_THRESHOLD));
+                parameters.setRangeActionSensitivityPruningThreshold(config.getDoubleProperty(RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD, DEFAULT_RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD));
                 parameters.setRaRangeShrinking(config.getEnumProperty(RA_RANGE_SHRINKING, RaRangeShrinking.class, DEFAULT_RA_RANGE_SHRINKING));
             });
         parameters.setLinearOptimizationSolver(LinearOptimizationSolver.load(platformConfig));
@@ -214,6 +228,13 @@ public class SearchTreeRaoRangeActionsOptimizationParameters {
         return DEFAULT_MAX_MIP_ITERATIONS;
     }
 
+    public static double getRangeActionSensitivityPruningThreshold(RaoParameters parameters) {
+        if (parameters.hasExtension(OpenRaoSearchTreeParameters.class)) {
+            return parameters.getExtension(OpenRaoSearchTreeParameters.class).getRangeActionsOptimizationParameters().getRangeActionSensitivityPruningThreshold();
+        }
+        return DEFAULT_RANGE_ACTION_SENSITIVITY_PRUNING_THRESHOLD;
+    }
+
     public static PstModel getPstModel(SearchTreeRaoRangeActionsOptimizationParameters rangeActionsOptimizationParameters) {
         if (!Objects.isNull(rangeActionsOptimizationParameters)) {
             return rangeActionsOptimizationParameters.getPstModel();
@@ -64,6 +64,7 @@ class JsonRaoParametersTest extends AbstractSerDeTest {
         searchTreeParameters.getRangeActionsOptimizationParameters().setHvdcSensitivityThreshold(0.3);
         parameters.getRangeActionsOptimizationParameters().setInjectionRAMinImpactThreshold(1.2);
         searchTreeParameters.getRangeActionsOptimizationParameters().setInjectionRaSensitivityThreshold(0.7);
+        searchTreeParameters.getRangeActionsOptimizationParameters().setRangeActionSensitivityPruningThreshold(0.05);
         searchTreeParameters.getRangeActionsOptimizationParameters().getLinearOptimizationSolver().setSolverSpecificParameters("TREEMEMORYLIMIT 20");
         searchTreeParameters.getRangeActionsOptimizationParameters().getLinearOptimizationSolver().setSolver(SearchTreeRaoRangeActionsOptimizationParameters.Solver.SCIP);
         searchTreeParameters.getRangeActionsOptimizationParameters().getLinearOptimizationSolver().setRelativeMipGap(1e-5);
@@ -87,6 +88,7 @@ class JsonRaoParametersTest extends AbstractSerDeTest {
         // LoadFlow and sensitivity parameters
         searchTreeParameters.getLoadFlowAndSensitivityParameters().setLoadFlowProvider("OpenLoadFlowProvider");
         searchTreeParameters.getLoadFlowAndSensitivityParameters().setSensitivityProvider("OpenSensitivityAnalysis");
+        searchTreeParameters.getLoadFlowAndSensitivityParameters().setSensitivityResultCacheCapacity(5);
         // Extensions
         // -- LoopFlow parameters
         com.powsybl.openrao.raoapi.parameters.LoopFlowParameters loopFlowParameters = new com.powsybl.openrao.raoapi.parameters.LoopFlowParameters();
@@ -68,6 +68,7 @@ class RaoParametersConfigTest {
         rangeActionsOptimizationModuleConfigExt.setStringProperty("pst-model", "APPROXIMATED_INTEGERS");
         rangeActionsOptimizationModuleConfigExt.setStringProperty("hvdc-sensitivity-threshold", Objects.toString(8));
         rangeActionsOptimizationModuleConfigExt.setStringProperty("injection-ra-sensitivity-threshold", Objects.toString(9));
+        rangeActionsOptimizationModuleConfigExt.setStringProperty("range-action-sensitivity-pruning-threshold", Objects.toString(0.5));
         MapModuleConfig linearOptimizationSolverModuleConfig = platformCfg.createModuleConfig("search-tree-linear-optimization-solver");
         linearOptimizationSolverModuleConfig.setStringProperty("solver", "XPRESS");
         linearOptimizationSolverModuleConfig.setStringProperty("relative-mip-gap", Objects.toString(22));
@@ -84,6 +85,7 @@ class RaoParametersConfigTest {
         assertEquals(8, paramsExt.getHvdcSensitivityThreshold(), DOUBLE_TOLERANCE);
         assertEquals(22, params.getInjectionRAMinImpactThreshold(), DOUBLE_TOLERANCE);
         assertEquals(9, paramsExt.getInjectionRaSensitivityThreshold(), DOUBLE_TOLERANCE);
+        assertEquals(0.5, paramsExt.getRangeActionSensitivityPruningThreshold(), DOUBLE_TOLERANCE);
         assertEquals(SearchTreeRaoRangeActionsOptimizationParameters.Solver.XPRESS, paramsExt.getLinearOptimizationSolver().getSolver());
         assertEquals(22, paramsExt.getLinearOptimizationSolver().getRelativeMipGap(), DOUBLE_TOLERANCE);
         assertEquals("blabla", paramsExt.getLinearOptimizationSolver().getSolverSpecificParameters());
@@ -151,11 +153,13 @@ class RaoParametersConfigTest {
         loadFlowModuleConfig.setStringProperty("load-flow-provider", "Bonjour");
         loadFlowModuleConfig.setStringProperty("sensitivity-provider", "Au revoir");
         loadFlowModuleConfig.setStringProperty("sensitivity-failure-overcost", Objects.toString(32));
+        loadFlowModuleConfig.setStringProperty("sensitivity-result-cache-capacity", Objects.toString(4));
         RaoParameters parameters = RaoParameters.load(platformCfg);
         LoadFlowAndSensitivityParameters paramsExt = parameters.getExtension(OpenRaoSearchTreeParameters.class).getLoadFlowAndSensitivityParameters();
         assertEquals("Bonjour", paramsExt.getLoadFlowProvider());
         assertEquals("Au revoir", paramsExt.getSensitivityProvider());
         assertEquals(32, paramsExt.getSensitivityFailureOvercost(), DOUBLE_TOLERANCE);
+        assertEquals(4, paramsExt.getSensitivityResultCacheCapacity());
     }
 
     @Test
@@ -8,6 +8,7 @@ package com.powsybl.openrao.raoapi.parameters;
 
 import com.powsybl.openrao.commons.EICode;
 import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters;
 import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
 import com.powsybl.iidm.network.Country;
 import org.junit.jupiter.api.BeforeEach;
@@ -108,6 +109,13 @@ class RaoParametersConsistencyTest {
         assertEquals(20000, stParameters.getLoadFlowAndSensitivityParameters().getSensitivityFailureOvercost(), 1e-6);
     }
 
+    @Test
+    void testNegativeSensitivityResultCacheCapacity() {
+        LoadFlowAndSensitivityParameters loadFlowAndSensitivityParameters = stParameters.getLoadFlowAndSensitivityParameters();
+        OpenRaoException e = assertThrows(OpenRaoException.class, () -> loadFlowAndSensitivityParameters.setSensitivityResultCacheCapacity(-1));
+        assertEquals("sensitivityResultCacheCapacity should be positive.", e.getMessage());
+    }
+
     @Test
     void testFailsOnLowSensitivityThreshold() {
         Exception e = assertThrows(OpenRaoException.class, () -> stParameters.getRangeActionsOptimizationParameters().setPstSensitivityThreshold(0.));
@@ -118,5 +126,8 @@ class RaoParametersConsistencyTest {
 
         e = assertThrows(OpenRaoException.class, () -> stParameters.getRangeActionsOptimizationParameters().setInjectionRaSensitivityThreshold(0.));
         assertEquals("injectionRaSensitivityThreshold should be greater than 1e-6, to avoid numerical issues.", e.getMessage());
+
+        e = assertThrows(OpenRaoException.class, () -> stParameters.getRangeActionsOptimizationParameters().setRangeActionSensitivityPruningThreshold(-1.));
+        assertEquals("rangeActionSensitivityPruningThreshold should be positive.", e.getMessage());
     }
 }
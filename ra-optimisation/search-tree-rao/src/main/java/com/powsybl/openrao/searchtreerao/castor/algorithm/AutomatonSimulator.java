@@ -194,7 +194,7 @@ public final class AutomatonSimulator {
     }
 
     private PrePerimeterSensitivityAnalysis getPreAutoPerimeterSensitivityAnalysis(State automatonState, Set<State> curativeStates) {
-        Set<FlowCnec> flowCnecsInSensi = crac.getFlowCnecs(automatonState);
+        Set<FlowCnec> flowCnecsInSensi = new HashSet<>(crac.getFlowCnecs(automatonState));
         Set<RangeAction<?>> rangeActionsInSensi = new HashSet<>(crac.getRangeActions(automatonState, UsageMethod.FORCED));
         for (State curativeState : curativeStates) {
             flowCnecsInSensi.addAll(crac.getFlowCnecs(curativeState));
@@ -438,7 +438,7 @@ public final class AutomatonSimulator {
         // -- Get curative range actions
         Set<RangeAction<?>> curativeRangeActions = new HashSet<>();
         // Get cnecs
-        Set<FlowCnec> flowCnecs = crac.getFlowCnecs(automatonState);
+        Set<FlowCnec> flowCnecs = new HashSet<>(crac.getFlowCnecs(automatonState));
         for (State curativeState : curativeStates) {
             curativeRangeActions.addAll(crac.getRangeActions(curativeState, UsageMethod.AVAILABLE));
             flowCnecs.addAll(crac.getFlowCnecs(curativeState));
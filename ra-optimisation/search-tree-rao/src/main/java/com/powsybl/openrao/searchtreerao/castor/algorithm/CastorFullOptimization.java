@@ -92,6 +92,7 @@ public class CastorFullOptimization {
                 BUSINESS_LOGS.error("Initial sensitivity analysis failed");
                 return CompletableFuture.completedFuture(new FailedRaoResultImpl("Initial sensitivity analysis failed"));
             }
+            toolProvider.screenRangeActionSensitivities(initialOutput, crac.getFlowCnecs(), crac.getRangeActions());
             RaoLogger.logSensitivityAnalysisResults("Initial sensitivity analysis: ",
                 prePerimeterSensitivityAnalysis.getObjectiveFunction(),
                 RemedialActionActivationResultImpl.empty(initialOutput),
@@ -76,6 +76,7 @@ public class CastorOneStateOnly {
             BUSINESS_LOGS.error("Initial sensitivity analysis failed");
             return CompletableFuture.completedFuture(new FailedRaoResultImpl("Initial sensitivity analysis failed"));
         }
+        toolProvider.screenRangeActionSensitivities(initialResults, raoInput.getCrac().getFlowCnecs(raoInput.getOptimizedState()), raoInput.getCrac().getRangeActions(raoInput.getOptimizedState(), UsageMethod.AVAILABLE));
 
         // run search-tree optimization, on the required preventive or curative state
         OptimizationPerimeter optPerimeter;
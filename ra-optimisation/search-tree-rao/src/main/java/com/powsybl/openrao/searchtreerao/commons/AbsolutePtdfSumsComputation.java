@@ -15,60 +15,82 @@ import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  *  This class computes the absolute PTDF sums on a given set of CNECs
  *  It requires that the sensitivity values be already computed
+ *  <p>
+ *  The zone-to-zone PTDF definitions are compiled once into a weight matrix, whose rows are the boundaries and whose
+ *  columns are the zones with a GLSK. The absolute PTDF sum of a CNEC side is then the sum of the absolute values of
+ *  the product of this matrix with the vector of its zone-to-slack PTDFs.
  *
  *  @author Peter Mitri {@literal <peter.mitri at rte-france.com>}
  *  @author Baptiste Seguinot {@literal <baptiste.seguinot at rte-france.com>}
  */
 public class AbsolutePtdfSumsComputation {
-    private final ZonalData<SensitivityVariableSet> glskProvider;
-    private final List<ZoneToZonePtdfDefinition> zTozPtdfs;
+    /**
+     * Below this number of CNECs, the PTDF sums are computed sequentially
+     */
+    private static final int MIN_CNECS_FOR_PARALLEL_COMPUTATION = 500;
 
-    public AbsolutePtdfSumsComputation(ZonalData<SensitivityVariableSet> glskProvider, List<ZoneToZonePtdfDefinition> zTozPtdfs) {
-        this.glskProvider = glskProvider;
-        this.zTozPtdfs = zTozPtdfs;
-    }
+    private final SensitivityVariableSet[] zoneGlsks;
+    private final double[][] boundaryWeights;
 
-    public Map<FlowCnec, Map<TwoSides, Double>> computeAbsolutePtdfSums(Set<FlowCnec> flowCnecs, SystematicSensitivityResult sensitivityResult) {
-        Map<FlowCnec, Map<TwoSides, Double>> ptdfSums = new HashMap<>();
-        List<EICode> eiCodesInPtdfs = zTozPtdfs.stream().flatMap(zToz -> zToz.getEiCodes().stream()).toList();
-
-        for (FlowCnec flowCnec : flowCnecs) {
-            flowCnec.getMonitoredSides().forEach(side -> {
-                Map<EICode, Double> ptdfMap = buildZoneToSlackPtdfMap(flowCnec, side, glskProvider, eiCodesInPtdfs, sensitivityResult);
-                double sumOfZToZPtdf = zTozPtdfs.stream().mapToDouble(zToz -> Math.abs(computeZToZPtdf(zToz, ptdfMap))).sum();
-                ptdfSums.computeIfAbsent(flowCnec, k -> new EnumMap<>(TwoSides.class)).put(side, sumOfZToZPtdf);
-            });
-        }
-        return ptdfSums;
-    }
-
-    private Map<EICode, Double> buildZoneToSlackPtdfMap(FlowCnec flowCnec, TwoSides side, ZonalData<SensitivityVariableSet> glsks, List<EICode> eiCodesInBoundaries, SystematicSensitivityResult sensitivityResult) {
-        Map<EICode, Double> ptdfs = new HashMap<>();
-        for (EICode eiCode : eiCodesInBoundaries) {
-            SensitivityVariableSet linearGlsk = glsks.getData(eiCode.getAreaCode());
+    public AbsolutePtdfSumsComputation(ZonalData<SensitivityVariableSet> glskProvider, List<ZoneToZonePtdfDefinition> zTozPtdfs) {
+        Map<EICode, Integer> zoneIndexes = new LinkedHashMap<>();
+        List<SensitivityVariableSet> glsks = new ArrayList<>();
+        zTozPtdfs.stream().flatMap(zToz -> zToz.getEiCodes().stream()).distinct().forEach(eiCode -> {
+            SensitivityVariableSet linearGlsk = glskProvider.getData(eiCode.getAreaCode());
             if (linearGlsk != null) {
-                ptdfs.put(eiCode, sensitivityResult.getSensitivityOnFlow(linearGlsk, flowCnec, side));
+                zoneIndexes.put(eiCode, glsks.size());
+                glsks.add(linearGlsk);
+            }
+        });
+        this.zoneGlsks = glsks.toArray(new SensitivityVariableSet[0]);
+
+        List<double[]> weights = new ArrayList<>();
+        for (ZoneToZonePtdfDefinition zToz : zTozPtdfs) {
+            double[] boundaryWeight = new double[zoneGlsks.length];
+            int nZoneToSlackPtdfs = 0;
+            for (ZoneToZonePtdfDefinition.WeightedZoneToSlackPtdf zToS : zToz.getZoneToSlackPtdfs()) {
+                Integer zoneIndex = zoneIndexes.get(zToS.getEiCode());
+                if (zoneIndex != null) {
+                    boundaryWeight[zoneIndex] += zToS.getWeight();
+                    nZoneToSlackPtdfs++;
+                }
+            }
+            // the boundary should at least contain two zoneToSlack PTDFs
+            if (nZoneToSlackPtdfs >= 2) {
+                weights.add(boundaryWeight);
             }
         }
-        return ptdfs;
+        this.boundaryWeights = weights.toArray(new double[0][]);
     }
 
-    private double computeZToZPtdf(ZoneToZonePtdfDefinition zToz, Map<EICode, Double> zToSlackPtdfMap) {
-
-        List<Double> zoneToSlackPtdf = zToz.getZoneToSlackPtdfs().stream()
-            .filter(zToS -> zToSlackPtdfMap.containsKey(zToS.getEiCode()))
-            .map(zToS -> zToS.getWeight() * zToSlackPtdfMap.get(zToS.getEiCode()))
-            .toList();
+    public Map<FlowCnec, Map<TwoSides, Double>> computeAbsolutePtdfSums(Set<FlowCnec> flowCnecs, SystematicSensitivityResult sensitivityResult) {
+        Stream<FlowCnec> flowCnecStream = flowCnecs.size() >= MIN_CNECS_FOR_PARALLEL_COMPUTATION ? flowCnecs.parallelStream() : flowCnecs.stream();
+        return flowCnecStream.collect(Collectors.toMap(flowCnec -> flowCnec, flowCnec -> computeAbsolutePtdfSums(flowCnec, sensitivityResult)));
+    }
 
-        if (zoneToSlackPtdf.size() < 2) {
-            // the boundary should at least contains two zoneToSlack PTDFs
-            return 0.0;
-        } else {
-            return zoneToSlackPtdf.stream().mapToDouble(v -> v).sum();
+    private Map<TwoSides, Double> computeAbsolutePtdfSums(FlowCnec flowCnec, SystematicSensitivityResult sensitivityResult) {
+        Map<TwoSides, Double> ptdfSums = new EnumMap<>(TwoSides.class);
+        double[] zoneToSlackPtdfs = new double[zoneGlsks.length];
+        for (TwoSides side : flowCnec.getMonitoredSides()) {
+            for (int zone = 0; zone < zoneGlsks.length; zone++) {
+                zoneToSlackPtdfs[zone] = sensitivityResult.getSensitivityOnFlow(zoneGlsks[zone], flowCnec, side);
+            }
+            double sumOfZToZPtdf = 0;
+            for (double[] boundaryWeight : boundaryWeights) {
+                double zToZPtdf = 0;
+                for (int zone = 0; zone < zoneToSlackPtdfs.length; zone++) {
+                    zToZPtdf += boundaryWeight[zone] * zoneToSlackPtdfs[zone];
+                }
+                sumOfZToZPtdf += Math.abs(zToZPtdf);
+            }
+            ptdfSums.put(side, sumOfZToZPtdf);
         }
+        return ptdfSums;
     }
 }
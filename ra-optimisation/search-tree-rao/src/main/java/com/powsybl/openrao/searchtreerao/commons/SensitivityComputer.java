@@ -31,13 +31,26 @@ public final class SensitivityComputer {
     private SystematicSensitivityInterface systematicSensitivityInterface;
     private BranchResultAdapter branchResultAdapter;
     private SystematicSensitivityResult result;
+    private SensitivityResultCache sensitivityResultCache;
+    private Set<FlowCnec> flowCnecs;
+    private Set<RangeAction<?>> rangeActions;
+    private Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec;
+    private boolean computePtdfs;
+    private boolean computeLoopFlows;
+    private AppliedRemedialActions appliedRemedialActions;
+    private Instant outageInstant;
 
     private SensitivityComputer() {
         // Should not be used
     }
 
     public void compute(Network network) {
-        result = systematicSensitivityInterface.run(network);
+        if (sensitivityResultCache == null) {
+            result = systematicSensitivityInterface.run(network);
+        } else {
+            String fingerprint = SensitivityResultCache.computeFingerprint(network, flowCnecs, rangeActions, influentialRangeActionsPerCnec, computePtdfs, computeLoopFlows, appliedRemedialActions, outageInstant);
+            result = sensitivityResultCache.getOrCompute(fingerprint, () -> systematicSensitivityInterface.run(network));
+        }
     }
 
     public FlowResult getBranchResult(Network network) {
@@ -129,6 +142,14 @@ public final class SensitivityComputer {
                     computeLoopFlows,
                     appliedRemedialActions,
                     outageInstant);
+            sensitivityComputer.sensitivityResultCache = toolProvider.getSensitivityResultCache();
+            sensitivityComputer.flowCnecs = flowCnecs;
+            sensitivityComputer.rangeActions = rangeActions;
+            sensitivityComputer.influentialRangeActionsPerCnec = toolProvider.getInfluentialRangeActionsPerCnec();
+            sensitivityComputer.computePtdfs = computePtdfs;
+            sensitivityComputer.computeLoopFlows = computeLoopFlows;
+            sensitivityComputer.appliedRemedialActions = appliedRemedialActions;
+            sensitivityComputer.outageInstant = outageInstant;
             BranchResultAdapterImpl.BranchResultAdpaterBuilder builder = BranchResultAdapterImpl.create();
             if (loopFlowComputation != null) {
                 builder.withCommercialFlowsResults(loopFlowComputation, loopFlowCnecs);
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.commons;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.HvdcAngleDroopActivePowerControl;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Identifiable;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
+
+/**
+ * Bounded cache of the results of the systematic sensitivity analyses run during a RAO.
+ * <p>
+ * The same network state is analysed several times along a RAO (root leaves of the second preventive and curative
+ * perimeters, verification of the best taps, final post-check...). Results are therefore stored with a fingerprint
+ * of everything they depend on: the state of the network elements which can be modified by a remedial action
+ * (switches, connection of terminals, taps, injection, HVDC, VSC and static var compensator set-points), the remedial
+ * actions applied on post-contingency states during the sensitivity analysis, the CNECs, the range actions whose
+ * sensitivities are requested on each CNEC and the factor configuration.
+ * <p>
+ * Only successful results are stored, and the least recently used results are evicted first.
+ */
+public class SensitivityResultCache {
+
+    private final int capacity;
+    private final Map<String, SystematicSensitivityResult> results;
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+
+    public SensitivityResultCache(int capacity) {
+        if (capacity <= 0) {
+            throw new OpenRaoException("The capacity of the sensitivity result cache must be strictly positive");
+        }
+        this.capacity = capacity;
+        this.results = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached result associated to the given fingerprint, or computes it with the given supplier.
+     */
+    public SystematicSensitivityResult getOrCompute(String fingerprint, Supplier<SystematicSensitivityResult> sensitivityAnalysis) {
+        synchronized (results) {
+            SystematicSensitivityResult cachedResult = results.get(fingerprint);
+            if (cachedResult != null) {
+                TECHNICAL_LOGS.debug("Systematic sensitivity analysis result retrieved from cache ({} hit(s), {} miss(es))", hits.incrementAndGet(), misses.get());
+                return cachedResult;
+            }
+        }
+        misses.incrementAndGet();
+        SystematicSensitivityResult result = sensitivityAnalysis.get();
+        if (result.getStatus() == SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS) {
+            synchronized (results) {
+                results.put(fingerprint, result);
+                if (results.size() > capacity) {
+                    Iterator<String> iterator = results.keySet().iterator();
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+        return result;
+    }
+
+    public int getHitCount() {
+        return hits.get();
+    }
+
+    public int getMissCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    /**
+     * Computes the fingerprint of a systematic sensitivity analysis on the current variant of the network.
+     */
+    public static String computeFingerprint(Network network,
+                                            Set<FlowCnec> flowCnecs,
+                                            Set<RangeAction<?>> rangeActions,
+                                            Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec,
+                                            boolean computePtdfs,
+                                            boolean computeLoopFlows,
+                                            AppliedRemedialActions appliedRemedialActions,
+                                            Instant outageInstant) {
+        Fingerprint fingerprint = new Fingerprint();
+        fingerprint.add(network.getId());
+        fingerprint.add(outageInstant.getId());
+        fingerprint.add(computePtdfs);
+        fingerprint.add(computeLoopFlows);
+        fingerprint.addSortedIds(flowCnecs);
+        fingerprint.addSortedIds(rangeActions);
+        addInfluentialRangeActions(fingerprint, influentialRangeActionsPerCnec);
+        addAppliedRemedialActions(fingerprint, network, appliedRemedialActions);
+        addNetworkState(fingerprint, network);
+        return fingerprint.digest();
+    }
+
+    private static void addInfluentialRangeActions(Fingerprint fingerprint, Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec) {
+        // without pruning, all the range action sensitivities are requested
+        fingerprint.add(influentialRangeActionsPerCnec != null);
+        if (influentialRangeActionsPerCnec == null) {
+            return;
+        }
+        fingerprint.add(influentialRangeActionsPerCnec.size());
+        influentialRangeActionsPerCnec.entrySet().stream()
+            .sorted(Comparator.comparing(entry -> entry.getKey().getId()))
+            .forEach(entry -> {
+                fingerprint.add(entry.getKey().getId());
+                fingerprint.addSortedIds(entry.getValue());
+            });
+    }
+
+    private static void addAppliedRemedialActions(Fingerprint fingerprint, Network network, AppliedRemedialActions appliedRemedialActions) {
+        if (appliedRemedialActions == null) {
+            return;
+        }
+        // only the states with remedial actions which actually modify the network have their own sensitivity computation
+        appliedRemedialActions.getStatesWithRa(network).stream().sorted(Comparator.comparing(State::getId)).forEach(state -> {
+            fingerprint.add(state.getId());
+            fingerprint.addSortedIds(appliedRemedialActions.getAppliedNetworkActions(state));
+            appliedRemedialActions.getAppliedRangeActions(state).entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getKey().getId()))
+                .forEach(entry -> {
+                    fingerprint.add(entry.getKey().getId());
+                    fingerprint.add(entry.getValue());
+                });
+        });
+    }
+
+    private static void addNetworkState(Fingerprint fingerprint, Network network) {
+        network.getSwitches().forEach(sw -> fingerprint.add(sw.isOpen()));
+        for (Connectable<?> connectable : network.getConnectables()) {
+            connectable.getTerminals().forEach(terminal -> fingerprint.add(terminal.isConnected()));
+            if (connectable instanceof TwoWindingsTransformer twoWindingsTransformer) {
+                twoWindingsTransformer.getOptionalPhaseTapChanger().ifPresent(ptc -> fingerprint.add(ptc.getTapPosition()));
+                twoWindingsTransformer.getOptionalRatioTapChanger().ifPresent(rtc -> fingerprint.add(rtc.getTapPosition()));
+            } else if (connectable instanceof ThreeWindingsTransformer threeWindingsTransformer) {
+                threeWindingsTransformer.getLegStream().forEach(leg -> {
+                    leg.getOptionalPhaseTapChanger().ifPresent(ptc -> fingerprint.add(ptc.getTapPosition()));
+                    leg.getOptionalRatioTapChanger().ifPresent(rtc -> fingerprint.add(rtc.getTapPosition()));
+                });
+            } else if (connectable instanceof Generator generator) {
+                fingerprint.add(generator.getTargetP());
+                fingerprint.add(generator.getTargetV());
+                fingerprint.add(generator.isVoltageRegulatorOn());
+            } else if (connectable instanceof Load load) {
+                fingerprint.add(load.getP0());
+                fingerprint.add(load.getQ0());
+            } else if (connectable instanceof DanglingLine danglingLine) {
+                fingerprint.add(danglingLine.getP0());
+                fingerprint.add(danglingLine.getQ0());
+            } else if (connectable instanceof ShuntCompensator shuntCompensator) {
+                fingerprint.add(shuntCompensator.getSectionCount());
+            } else if (connectable instanceof Battery battery) {
+                fingerprint.add(battery.getTargetP());
+            } else if (connectable instanceof VscConverterStation vscConverterStation) {
+                fingerprint.add(vscConverterStation.isVoltageRegulatorOn());
+                fingerprint.add(vscConverterStation.getVoltageSetpoint());
+                fingerprint.add(vscConverterStation.getReactivePowerSetpoint());
+            } else if (connectable instanceof StaticVarCompensator staticVarCompensator) {
+                fingerprint.add(String.valueOf(staticVarCompensator.getRegulationMode()));
+                fingerprint.add(staticVarCompensator.getVoltageSetpoint());
+                fingerprint.add(staticVarCompensator.getReactivePowerSetpoint());
+            }
+        }
+        network.getHvdcLines().forEach(hvdcLine -> {
+            fingerprint.add(hvdcLine.getActivePowerSetpoint());
+            fingerprint.add(hvdcLine.getConvertersMode().ordinal());
+            HvdcAngleDroopActivePowerControl angleDroopActivePowerControl = hvdcLine.getExtension(HvdcAngleDroopActivePowerControl.class);
+            fingerprint.add(angleDroopActivePowerControl != null && angleDroopActivePowerControl.isEnabled());
+        });
+    }
+
+    private static final class Fingerprint {
+        private final MessageDigest messageDigest;
+        private final ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+
+        private Fingerprint() {
+            try {
+                messageDigest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new OpenRaoException("Unable to compute the fingerprint of the sensitivity analysis", e);
+            }
+        }
+
+        private void add(String value) {
+            messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+            // separator, so that consecutive strings cannot be confused
+            messageDigest.update((byte) 0);
+        }
+
+        private void add(boolean value) {
+            messageDigest.update(value ? (byte) 1 : (byte) 0);
+        }
+
+        private void add(double value) {
+            add(Double.doubleToLongBits(value));
+        }
+
+        private void add(long value) {
+            buffer.clear();
+            messageDigest.update(buffer.putLong(value).array());
+        }
+
+        private void addSortedIds(Collection<? extends Identifiable<?>> identifiables) {
+            add(identifiables.size());
+            identifiables.stream().map(Identifiable::getId).sorted().forEach(this::add);
+        }
+
+        private String digest() {
+            return HexFormat.of().formatHex(messageDigest.digest());
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider;
 import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.cnec.Cnec;
 import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.CounterTradeRangeAction;
 import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
 import com.powsybl.openrao.data.crac.loopflowextension.LoopFlowThreshold;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
@@ -22,18 +23,23 @@ import com.powsybl.openrao.raoapi.parameters.RaoParameters;
 import com.powsybl.openrao.raoapi.parameters.LoopFlowParameters;
 import com.powsybl.openrao.raoapi.parameters.RelativeMarginsParameters;
 import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import com.powsybl.openrao.sensitivityanalysis.SensitivityFactorsCache;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityInterface;
+import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 import com.powsybl.glsk.commons.ZonalData;
 import com.powsybl.glsk.commons.ZonalDataImpl;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters.getSensitivityProvider;
+import static com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters.getSensitivityResultCacheCapacity;
 import static com.powsybl.openrao.raoapi.parameters.extensions.LoadFlowAndSensitivityParameters.getSensitivityWithLoadFlowParameters;
+import static com.powsybl.openrao.raoapi.parameters.extensions.SearchTreeRaoRangeActionsOptimizationParameters.getRangeActionSensitivityPruningThreshold;
 
 /**
  * @author Joris Mancini {@literal <joris.mancini at rte-france.com>}
@@ -45,6 +51,10 @@ public final class ToolProvider {
     private ZonalData<SensitivityVariableSet> glskProvider;
     private AbsolutePtdfSumsComputation absolutePtdfSumsComputation;
     private LoopFlowComputation loopFlowComputation;
+    private SensitivityResultCache sensitivityResultCache;
+    private boolean sensitivityResultCacheInitialized = false;
+    private SensitivityFactorsCache sensitivityFactorsCache;
+    private Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec;
 
     private ToolProvider() {
         // Should not be used
@@ -58,6 +68,64 @@ public final class ToolProvider {
         return loopFlowComputation;
     }
 
+    /**
+     * Cache of the systematic sensitivity analysis results of the RAO, null if no result should be kept
+     * (see the sensitivity-result-cache-capacity parameter). It is created with the first sensitivity computation, and
+     * dropped with the tool provider at the end of the RAO.
+     */
+    public synchronized SensitivityResultCache getSensitivityResultCache() {
+        if (!sensitivityResultCacheInitialized) {
+            int sensitivityResultCacheCapacity = getSensitivityResultCacheCapacity(raoParameters);
+            sensitivityResultCache = sensitivityResultCacheCapacity > 0 ? new SensitivityResultCache(sensitivityResultCacheCapacity) : null;
+            sensitivityResultCacheInitialized = true;
+        }
+        return sensitivityResultCache;
+    }
+
+    /**
+     * If a range action sensitivity pruning threshold is defined in the RAO parameters, stores the range actions whose
+     * sensitivity on each CNEC is above this threshold on at least one side. The sensitivities of the other range actions
+     * are not requested anymore by the systematic sensitivity interfaces created afterward.
+     */
+    public void screenRangeActionSensitivities(SensitivityResult sensitivityResult, Set<FlowCnec> cnecs, Set<RangeAction<?>> rangeActions) {
+        double pruningThreshold = getRangeActionSensitivityPruningThreshold(raoParameters);
+        if (pruningThreshold <= 0) {
+            return;
+        }
+        Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActions = new HashMap<>();
+        int prunedPairs = 0;
+        for (FlowCnec cnec : cnecs) {
+            Set<RangeAction<?>> cnecInfluentialRangeActions = new HashSet<>();
+            for (RangeAction<?> rangeAction : rangeActions) {
+                if (isInfluential(sensitivityResult, cnec, rangeAction, pruningThreshold)) {
+                    cnecInfluentialRangeActions.add(rangeAction);
+                } else {
+                    prunedPairs++;
+                }
+            }
+            influentialRangeActions.put(cnec, cnecInfluentialRangeActions);
+        }
+        OpenRaoLoggerProvider.TECHNICAL_LOGS.info("{} (CNEC, range action) sensitivities out of {} are below the pruning threshold and will not be computed anymore", prunedPairs, cnecs.size() * rangeActions.size());
+        influentialRangeActionsPerCnec = influentialRangeActions;
+    }
+
+    Map<FlowCnec, Set<RangeAction<?>>> getInfluentialRangeActionsPerCnec() {
+        return influentialRangeActionsPerCnec;
+    }
+
+    private static boolean isInfluential(SensitivityResult sensitivityResult, FlowCnec cnec, RangeAction<?> rangeAction, double pruningThreshold) {
+        if (rangeAction instanceof CounterTradeRangeAction) {
+            // no sensitivity is computed for counter-trade range actions
+            return true;
+        }
+        for (TwoSides side : cnec.getMonitoredSides()) {
+            if (Math.abs(sensitivityResult.getSensitivityValue(cnec, side, rangeAction, Unit.MEGAWATT)) >= pruningThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean hasLoopFlowExtension(FlowCnec cnec) {
         return !Objects.isNull(cnec.getExtension(LoopFlowThreshold.class));
     }
@@ -96,8 +164,9 @@ public final class ToolProvider {
         SystematicSensitivityInterface.SystematicSensitivityInterfaceBuilder builder = SystematicSensitivityInterface.builder()
             .withSensitivityProviderName(getSensitivityProvider(raoParameters))
             .withParameters(getSensitivityWithLoadFlowParameters(raoParameters))
-            .withRangeActionSensitivities(rangeActions, cnecs, Collections.singleton(Unit.MEGAWATT))
+            .withRangeActionSensitivities(rangeActions, cnecs, Collections.singleton(Unit.MEGAWATT), influentialRangeActionsPerCnec)
             .withAppliedRemedialActions(appliedRemedialActions)
+            .withSensitivityFactorsCache(sensitivityFactorsCache)
             .withOutageInstant(outageInstant);
 
         if (!getSensitivityWithLoadFlowParameters(raoParameters).getLoadFlowParameters().isDc()) {
@@ -195,6 +264,8 @@ public final class ToolProvider {
             toolProvider.glskProvider = glskProvider;
             toolProvider.loopFlowComputation = loopFlowComputation;
             toolProvider.absolutePtdfSumsComputation = absolutePtdfSumsComputation;
+            // the sensitivity factors built on a perimeter are shared by the sensitivity analyses of the RAO, and dropped with it
+            toolProvider.sensitivityFactorsCache = new SensitivityFactorsCache();
             return toolProvider;
         }
     }
@@ -7,7 +7,6 @@
 
 package com.powsybl.openrao.searchtreerao.result.impl;
 
-import com.powsybl.contingency.Contingency;
 import com.powsybl.openrao.commons.OpenRaoException;
 import com.powsybl.openrao.commons.PhysicalParameter;
 import com.powsybl.openrao.commons.Unit;
@@ -49,7 +48,12 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
     private String executionDetails = OptimizationStepsExecuted.FIRST_PREVENTIVE_ONLY;
     private final ObjectiveFunctionParameters objectiveFunctionParameters;
 
-    private final Map<Instant, Map<State, State>> optimizedStateForInstantAndState = new HashMap<>();
+    /**
+     * For each contingency, the post-contingency states indexed by instant order: the entry of an instant is the last
+     * optimized state of the contingency whose instant does not come after it, or null if there is none
+     */
+    private final Map<String, State[]> optimizedStatesPerContingency;
+    private final boolean hasAutomatonResults;
 
     /**
      * Constructor used when no post-contingency RAO has been run. Then the post-contingency results will be the
@@ -131,6 +135,23 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
         this.finalCostEvaluator = finalCostEvaluator;
         this.crac = crac;
         this.objectiveFunctionParameters = objectiveFunctionParameters;
+        this.optimizedStatesPerContingency = buildOptimizedStatesPerContingency(postContingencyPerimeterResults.keySet());
+        this.hasAutomatonResults = postContingencyPerimeterResults.keySet().stream().anyMatch(state -> state.getInstant().isAuto());
+    }
+
+    private static Map<String, State[]> buildOptimizedStatesPerContingency(Set<State> postContingencyStates) {
+        int numberOfInstants = postContingencyStates.stream().mapToInt(state -> state.getInstant().getOrder()).max().orElse(-1) + 1;
+        Map<String, State[]> optimizedStates = new HashMap<>();
+        postContingencyStates.forEach(state -> state.getContingency().ifPresent(contingency ->
+            optimizedStates.computeIfAbsent(contingency.getId(), id -> new State[numberOfInstants])[state.getInstant().getOrder()] = state));
+        optimizedStates.values().forEach(states -> {
+            for (int order = 1; order < numberOfInstants; order++) {
+                if (states[order] == null) {
+                    states[order] = states[order - 1];
+                }
+            }
+        });
+        return optimizedStates;
     }
 
     private static Map<State, OptimizationResult> buildPostContingencyResults(StateTree stateTree, Map<State, OptimizationResult> postContingencyResults) {
@@ -232,9 +253,8 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
             return secondPreventivePerimeterResult;
         }
         if (optimizedInstant.isAuto()) {
-            return postContingencyResults.keySet().stream()
-                .filter(optimizedState -> optimizedState.getInstant().isAuto() && optimizedState.getContingency().equals(state.getContingency()))
-                .findAny().map(postContingencyResults::get).orElse(null);
+            State automatonState = findStateOptimizedFor(optimizedInstant.getOrder(), state);
+            return automatonState != null && automatonState.getInstant().isAuto() ? postContingencyResults.get(automatonState) : null;
         }
         if (optimizedInstant.isCurative()) {
             return postContingencyResults.get(state);
@@ -249,8 +269,7 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
         }
         if (optimizedInstant == null) {
             return initialResult.getFunctionalCost();
-        } else if (optimizedInstant.isPreventive() || optimizedInstant.isOutage() || postContingencyResults.isEmpty() ||
-            optimizedInstant.isAuto() && postContingencyResults.keySet().stream().noneMatch(state -> state.getInstant().isAuto())) {
+        } else if (usesResultsWithPrasForAllCnecs(optimizedInstant)) {
             // using postPreventiveResult would exclude curative CNECs
             return objectiveFunctionParameters.getType().costOptimization() ? getTotalFunctionalCostForInstant(optimizedInstant) : resultsWithPrasForAllCnecs.getFunctionalCost();
         } else if (optimizedInstant.isCurative() && finalCostEvaluator != null) {
@@ -328,36 +347,30 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
             return initialResult;
         } else if (flowCnec.getState().getInstant().comesBefore(optimizedInstant)) {
             throw new OpenRaoException(String.format("Trying to access results for instant %s at optimization state %s is not allowed", flowCnec.getState().getInstant(), optimizedInstant));
-        } else if (optimizedInstant.isPreventive() || optimizedInstant.isOutage() || postContingencyResults.isEmpty() ||
-            optimizedInstant.isAuto() && postContingencyResults.keySet().stream().noneMatch(state -> state.getInstant().isAuto())) {
+        } else if (usesResultsWithPrasForAllCnecs(optimizedInstant)) {
             // using postPreventiveResult would exclude curative CNECs
             return resultsWithPrasForAllCnecs;
-        } else if (Objects.nonNull(findStateOptimizedFor(optimizedInstant, flowCnec))) {
-            // if cnec has been optimized during a post contingency instant
-            return postContingencyResults.get(findStateOptimizedFor(optimizedInstant, flowCnec));
-        } else {
-            return secondPreventivePerimeterResult;
         }
+        State optimizedState = findStateOptimizedFor(optimizedInstant.getOrder(), flowCnec.getState());
+        // if cnec has been optimized during a post contingency instant
+        return Objects.nonNull(optimizedState) ? postContingencyResults.get(optimizedState) : secondPreventivePerimeterResult;
     }
 
-    private State findStateOptimizedFor(Instant optimizedInstant, FlowCnec flowCnec) {
-        if (optimizedInstant.isPreventive()) {
+    private boolean usesResultsWithPrasForAllCnecs(Instant optimizedInstant) {
+        return optimizedInstant.isPreventive() || optimizedInstant.isOutage() || postContingencyResults.isEmpty() ||
+            optimizedInstant.isAuto() && !hasAutomatonResults;
+    }
+
+    /**
+     * Last post-contingency state of the contingency of the given state which has been optimized at or before the
+     * instant of the given order, or null if there is none
+     */
+    private State findStateOptimizedFor(int instantOrder, State state) {
+        State[] optimizedStates = state.getContingency().map(contingency -> optimizedStatesPerContingency.get(contingency.getId())).orElse(null);
+        if (optimizedStates == null || instantOrder < 0) {
             return null;
         }
-        optimizedStateForInstantAndState.putIfAbsent(optimizedInstant, new HashMap<>());
-        Map<State, State> optimizedStateForState = optimizedStateForInstantAndState.get(optimizedInstant);
-        State cnecState = flowCnec.getState();
-        if (optimizedStateForState.containsKey(cnecState)) {
-            return optimizedStateForState.get(cnecState);
-        } else {
-            State optimizedState = postContingencyResults.keySet().stream().filter(state ->
-                !state.getInstant().comesAfter(cnecState.getInstant())
-                    && state.getInstant().equals(optimizedInstant)
-                    && state.getContingency().equals(cnecState.getContingency())
-            ).findAny().orElseGet(() -> findStateOptimizedFor(crac.getInstantBefore(optimizedInstant), flowCnec));
-            optimizedStateForState.put(cnecState, optimizedState);
-            return optimizedState;
-        }
+        return optimizedStates[Math.min(instantOrder, optimizedStates.length - 1)];
     }
 
     private double getHighestFunctionalForInstant(Instant instant) {
@@ -403,8 +416,7 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
     public double getVirtualCost(Instant optimizedInstant) {
         if (optimizedInstant == null) {
             return initialResult.getVirtualCost();
-        } else if (optimizedInstant.isPreventive() || optimizedInstant.isOutage() || postContingencyResults.isEmpty() ||
-            optimizedInstant.isAuto() && postContingencyResults.keySet().stream().noneMatch(state -> state.getInstant().isAuto())) {
+        } else if (usesResultsWithPrasForAllCnecs(optimizedInstant)) {
             return resultsWithPrasForAllCnecs.getVirtualCost();
         } else if (optimizedInstant.isCurative() && finalCostEvaluator != null) {
             return finalCostEvaluator.getVirtualCost();
@@ -440,8 +452,7 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
     public double getVirtualCost(Instant optimizedInstant, String virtualCostName) {
         if (optimizedInstant == null) {
             return initialResult.getVirtualCost(virtualCostName);
-        } else if (optimizedInstant.isPreventive() || optimizedInstant.isOutage() || postContingencyResults.isEmpty() ||
-            optimizedInstant.isAuto() && postContingencyResults.keySet().stream().noneMatch(state -> state.getInstant().isAuto())) {
+        } else if (usesResultsWithPrasForAllCnecs(optimizedInstant)) {
             return resultsWithPrasForAllCnecs.getVirtualCost(virtualCostName);
         } else if (optimizedInstant.isCurative() && finalCostEvaluator != null) {
             return finalCostEvaluator.getVirtualCost(virtualCostName);
@@ -457,8 +468,7 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
     public List<FlowCnec> getCostlyElements(Instant optimizedInstant, String virtualCostName, int number) {
         if (optimizedInstant == null) {
             return initialResult.getCostlyElements(virtualCostName, number);
-        } else if (optimizedInstant.isPreventive() || optimizedInstant.isOutage() || postContingencyResults.isEmpty() ||
-            optimizedInstant.isAuto() && postContingencyResults.keySet().stream().noneMatch(state -> state.getInstant().isAuto())) {
+        } else if (usesResultsWithPrasForAllCnecs(optimizedInstant)) {
             return resultsWithPrasForAllCnecs.getCostlyElements(virtualCostName, number);
         } else if (optimizedInstant.isCurative() && finalCostEvaluator != null) {
             return finalCostEvaluator.getCostlyElements(virtualCostName, number);
@@ -614,13 +624,8 @@ public class PreventiveAndCurativesRaoResultImpl extends AbstractFlowRaoResult {
             return preventiveState;
         } else {
             // curative
-            Contingency contingency = state.getContingency().orElseThrow();
-            return postContingencyResults.keySet().stream()
-                .filter(mapState -> mapState.getContingency().equals(Optional.of(contingency)))
-                .filter(mapState -> mapState.getInstant().isAuto() || mapState.getInstant().isCurative())
-                .filter(mapState -> mapState.getInstant().comesBefore(state.getInstant()))
-                .max(Comparator.comparingInt(mapState -> mapState.getInstant().getOrder()))
-                .orElse(preventiveState);
+            State optimizedState = findStateOptimizedFor(state.getInstant().getOrder() - 1, state);
+            return Objects.nonNull(optimizedState) ? optimizedState : preventiveState;
         }
     }
 
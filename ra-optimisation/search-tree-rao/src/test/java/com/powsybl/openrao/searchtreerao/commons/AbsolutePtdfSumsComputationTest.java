@@ -25,6 +25,7 @@ import org.mockito.stubbing.Answer;
 
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -117,4 +118,31 @@ class AbsolutePtdfSumsComputationTest {
         assertEquals(0.5, ptdfSums.get(crac.getFlowCnec("cnec1basecase")).get(TwoSides.TWO), DOUBLE_TOLERANCE); // abs(0.1 - 0.2) + abs(0.1 - 0.3) + abs(0.3 - 0.2) + abs(0.2 - 0.3) = 0.1 + 0.2 + 0.1 + 0.1
         assertEquals(0.3, ptdfSums.get(crac.getFlowCnec("cnec2basecase")).get(TwoSides.ONE), DOUBLE_TOLERANCE); // abs(0.3 - 0.3) + abs(0.3 - 0.2) + abs(0.2 - 0.3) + abs(0.3 - 0.2) = 0 + 0.1 + 0.1 + 0.1
     }
+
+    private AbsolutePtdfSumsComputation createComputationWithFourBoundaries() {
+        Network network = NetworkImportsUtil.import12NodesNetwork();
+        ZonalData<SensitivityVariableSet> glskProvider = UcteGlskDocument.importGlsk(getClass().getResourceAsStream("/glsk/glsk_proportional_12nodes_with_alegro.xml"))
+                .getZonalGlsks(network, Instant.parse("2016-07-28T22:30:00Z"));
+        List<ZoneToZonePtdfDefinition> boundaries = Arrays.asList(
+                new ZoneToZonePtdfDefinition("{FR}-{BE}"),
+                new ZoneToZonePtdfDefinition("{FR}-{DE}"),
+                new ZoneToZonePtdfDefinition("{DE}-{BE}"),
+                new ZoneToZonePtdfDefinition("{BE}-{22Y201903144---9}-{DE}+{22Y201903145---4}"));
+        return new AbsolutePtdfSumsComputation(glskProvider, boundaries);
+    }
+
+    @Test
+    void testComputationOnManyCnecs() {
+        Set<FlowCnec> flowCnecs = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            FlowCnec flowCnec = Mockito.mock(FlowCnec.class);
+            Mockito.when(flowCnec.getId()).thenReturn((i % 2 == 0 ? "cnec1-" : "cnec2-") + i);
+            Mockito.when(flowCnec.getMonitoredSides()).thenReturn(Set.of(TwoSides.ONE));
+            flowCnecs.add(flowCnec);
+        }
+        Map<FlowCnec, Map<TwoSides, Double>> ptdfSums = createComputationWithFourBoundaries().computeAbsolutePtdfSums(flowCnecs, systematicSensitivityResult);
+
+        assertEquals(1000, ptdfSums.size());
+        flowCnecs.forEach(flowCnec -> assertEquals(flowCnec.getId().startsWith("cnec1") ? 0.6 : 0.9, ptdfSums.get(flowCnec).get(TwoSides.ONE), DOUBLE_TOLERANCE));
+    }
 }
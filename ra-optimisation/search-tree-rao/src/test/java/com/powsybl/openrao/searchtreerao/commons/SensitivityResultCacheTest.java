@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.searchtreerao.commons;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.StaticVarCompensator;
+import com.powsybl.iidm.network.VoltageLevel;
+import com.powsybl.iidm.network.VscConverterStation;
+import com.powsybl.openrao.commons.OpenRaoException;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.Instant;
+import com.powsybl.openrao.data.crac.api.State;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.crac.impl.utils.NetworkImportsUtil;
+import com.powsybl.openrao.sensitivityanalysis.AppliedRemedialActions;
+import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SensitivityResultCacheTest {
+
+    private Network network;
+    private Crac crac;
+    private Instant outageInstant;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        network = NetworkImportsUtil.import12NodesNetwork();
+        crac = Crac.read("small-crac.json", getClass().getResourceAsStream("/crac/small-crac.json"), network);
+        outageInstant = crac.getOutageInstant();
+    }
+
+    private String computeFingerprint(AppliedRemedialActions appliedRemedialActions) {
+        return SensitivityResultCache.computeFingerprint(network, crac.getFlowCnecs(), crac.getRangeActions(), null, false, false, appliedRemedialActions, outageInstant);
+    }
+
+    @Test
+    void testHitsAndMisses() {
+        SensitivityResultCache cache = new SensitivityResultCache(2);
+        SystematicSensitivityResult result1 = new SystematicSensitivityResult();
+        SystematicSensitivityResult result2 = new SystematicSensitivityResult();
+
+        assertSame(result1, cache.getOrCompute("fingerprint1", () -> result1));
+        assertSame(result1, cache.getOrCompute("fingerprint1", () -> result2));
+        assertSame(result2, cache.getOrCompute("fingerprint2", () -> result2));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedResultIsEvicted() {
+        SensitivityResultCache cache = new SensitivityResultCache(2);
+        SystematicSensitivityResult result1 = new SystematicSensitivityResult();
+        cache.getOrCompute("fingerprint1", () -> result1);
+        cache.getOrCompute("fingerprint2", SystematicSensitivityResult::new);
+        cache.getOrCompute("fingerprint1", SystematicSensitivityResult::new);
+        cache.getOrCompute("fingerprint3", SystematicSensitivityResult::new);
+
+        assertEquals(2, cache.size());
+        assertSame(result1, cache.getOrCompute("fingerprint1", SystematicSensitivityResult::new));
+        assertEquals(3, cache.getMissCount());
+        cache.getOrCompute("fingerprint2", SystematicSensitivityResult::new);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    void testFailedResultsAreNotCached() {
+        SensitivityResultCache cache = new SensitivityResultCache(2);
+        cache.getOrCompute("fingerprint", () -> new SystematicSensitivityResult(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE));
+        assertEquals(0, cache.size());
+        assertThrows(OpenRaoException.class, () -> new SensitivityResultCache(0));
+    }
+
+    @Test
+    void testFingerprintDependsOnNetworkState() {
+        String initialFingerprint = computeFingerprint(null);
+        assertEquals(initialFingerprint, computeFingerprint(null));
+
+        PstRangeAction pstRangeAction = crac.getPstRangeActions().iterator().next();
+        pstRangeAction.apply(network, pstRangeAction.convertTapToAngle(5));
+        String fingerprintWithTap = computeFingerprint(null);
+        assertNotEquals(initialFingerprint, fingerprintWithTap);
+
+        network.getLine("BBE1AA1  BBE2AA1  1").getTerminal1().disconnect();
+        assertNotEquals(fingerprintWithTap, computeFingerprint(null));
+
+        network.getLine("BBE1AA1  BBE2AA1  1").getTerminal1().connect();
+        pstRangeAction.apply(network, pstRangeAction.convertTapToAngle(0));
+        assertEquals(initialFingerprint, computeFingerprint(null));
+    }
+
+    @Test
+    void testFingerprintDependsOnConfiguration() {
+        String initialFingerprint = computeFingerprint(null);
+        assertNotEquals(initialFingerprint, SensitivityResultCache.computeFingerprint(network, crac.getFlowCnecs(), crac.getRangeActions(), null, true, false, null, outageInstant));
+        assertNotEquals(initialFingerprint, SensitivityResultCache.computeFingerprint(network, crac.getFlowCnecs(), Set.of(), null, false, false, null, outageInstant));
+        assertNotEquals(initialFingerprint, SensitivityResultCache.computeFingerprint(network, Set.of(), crac.getRangeActions(), null, false, false, null, outageInstant));
+    }
+
+    @Test
+    void testFingerprintDependsOnAppliedRemedialActions() {
+        String initialFingerprint = computeFingerprint(null);
+        assertEquals(initialFingerprint, computeFingerprint(new AppliedRemedialActions()));
+
+        State curativeState = crac.getStates(crac.getLastInstant()).iterator().next();
+        PstRangeAction pstRangeAction = crac.getPstRangeActions().iterator().next();
+        AppliedRemedialActions appliedRemedialActions = new AppliedRemedialActions();
+        appliedRemedialActions.addAppliedRangeAction(curativeState, pstRangeAction, pstRangeAction.convertTapToAngle(5));
+        assertNotEquals(initialFingerprint, computeFingerprint(appliedRemedialActions));
+
+        // range action already at its set-point in the network: no additional sensitivity computation
+        AppliedRemedialActions appliedRemedialActionsWithoutEffect = new AppliedRemedialActions();
+        appliedRemedialActionsWithoutEffect.addAppliedRangeAction(curativeState, pstRangeAction, pstRangeAction.getCurrentSetpoint(network));
+        assertEquals(initialFingerprint, computeFingerprint(appliedRemedialActionsWithoutEffect));
+    }
+
+    @Test
+    void testFingerprintDependsOnInfluentialRangeActions() {
+        String initialFingerprint = computeFingerprint(null);
+        FlowCnec flowCnec = crac.getFlowCnecs().iterator().next();
+        Set<RangeAction<?>> rangeActions = crac.getRangeActions();
+        String fingerprintWithAllRangeActions = SensitivityResultCache.computeFingerprint(network, crac.getFlowCnecs(), rangeActions, Map.of(flowCnec, rangeActions), false, false, null, outageInstant);
+        String fingerprintWithPrunedRangeActions = SensitivityResultCache.computeFingerprint(network, crac.getFlowCnecs(), rangeActions, Map.of(flowCnec, Set.of()), false, false, null, outageInstant);
+
+        assertNotEquals(initialFingerprint, fingerprintWithAllRangeActions);
+        assertNotEquals(fingerprintWithAllRangeActions, fingerprintWithPrunedRangeActions);
+        assertEquals(fingerprintWithPrunedRangeActions, SensitivityResultCache.computeFingerprint(network, crac.getFlowCnecs(), rangeActions, Map.of(flowCnec, Set.of()), false, false, null, outageInstant));
+
+        // a result computed without pruning is not reused once the range actions have been pruned
+        SensitivityResultCache cache = new SensitivityResultCache(2);
+        cache.getOrCompute(fingerprintWithAllRangeActions, SystematicSensitivityResult::new);
+        cache.getOrCompute(fingerprintWithPrunedRangeActions, SystematicSensitivityResult::new);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void testFingerprintDependsOnVscAndStaticVarCompensatorSetpoints() {
+        VoltageLevel voltageLevel = network.getBusBreakerView().getBus("BBE1AA1 ").getVoltageLevel();
+        StaticVarCompensator staticVarCompensator = voltageLevel.newStaticVarCompensator()
+            .setId("SVC").setBus("BBE1AA1 ").setConnectableBus("BBE1AA1 ")
+            .setBmin(-0.01).setBmax(0.01)
+            .setRegulationMode(StaticVarCompensator.RegulationMode.VOLTAGE).setVoltageSetpoint(400.)
+            .add();
+        VscConverterStation vscConverterStation = voltageLevel.newVscConverterStation()
+            .setId("VSC").setBus("BBE1AA1 ").setConnectableBus("BBE1AA1 ")
+            .setLossFactor(0.01f).setVoltageRegulatorOn(false).setReactivePowerSetpoint(0.)
+            .add();
+        String initialFingerprint = computeFingerprint(null);
+
+        staticVarCompensator.setVoltageSetpoint(405.);
+        String fingerprintWithSvcSetpoint = computeFingerprint(null);
+        assertNotEquals(initialFingerprint, fingerprintWithSvcSetpoint);
+
+        vscConverterStation.setReactivePowerSetpoint(50.);
+        assertNotEquals(fingerprintWithSvcSetpoint, computeFingerprint(null));
+
+        staticVarCompensator.setVoltageSetpoint(400.);
+        vscConverterStation.setReactivePowerSetpoint(0.);
+        assertEquals(initialFingerprint, computeFingerprint(null));
+    }
+}
@@ -8,6 +8,7 @@
 package com.powsybl.openrao.searchtreerao.commons;
 
 import com.powsybl.openrao.commons.EICode;
+import com.powsybl.openrao.commons.Unit;
 import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.raoapi.parameters.LoopFlowParameters;
@@ -20,9 +21,12 @@ import com.powsybl.openrao.data.crac.loopflowextension.LoopFlowThreshold;
 import com.powsybl.openrao.data.refprog.referenceprogram.ReferenceProgram;
 import com.powsybl.openrao.loopflowcomputation.LoopFlowComputation;
 import com.powsybl.openrao.raoapi.parameters.RaoParameters;
+import com.powsybl.openrao.raoapi.parameters.extensions.OpenRaoSearchTreeParameters;
+import com.powsybl.openrao.searchtreerao.result.api.SensitivityResult;
 import com.powsybl.openrao.sensitivityanalysis.SystematicSensitivityInterface;
 import com.powsybl.iidm.network.Country;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,6 +78,24 @@ class ToolProviderTest {
         assertNotNull(sensitivityInterface);
     }
 
+    @Test
+    void testSensitivityResultCacheIsOnlyCreatedWithPositiveCapacity() {
+        ToolProvider toolProvider = ToolProvider.create()
+                .withNetwork(network)
+                .withRaoParameters(raoParameters)
+                .build();
+        assertNull(toolProvider.getSensitivityResultCache());
+
+        OpenRaoSearchTreeParameters searchTreeParameters = new OpenRaoSearchTreeParameters();
+        searchTreeParameters.getLoadFlowAndSensitivityParameters().setSensitivityResultCacheCapacity(3);
+        raoParameters.addExtension(OpenRaoSearchTreeParameters.class, searchTreeParameters);
+        toolProvider = ToolProvider.create()
+                .withNetwork(network)
+                .withRaoParameters(raoParameters)
+                .build();
+        assertNotNull(toolProvider.getSensitivityResultCache());
+    }
+
     @Test
     void testCnecInCountry() {
         assertTrue(ToolProvider.cnecIsInCountryList(cnec1, network, Set.of(Country.FR, Country.DE)));
@@ -159,4 +181,28 @@ class ToolProviderTest {
         assertEquals(Set.of(cnec1), toolProvider.getLoopFlowCnecs(Set.of(cnec1, cnec2)));
     }
 
+    @Test
+    void testScreenRangeActionSensitivities() {
+        RangeAction<?> rangeAction1 = Mockito.mock(RangeAction.class);
+        RangeAction<?> rangeAction2 = Mockito.mock(RangeAction.class);
+        Mockito.when(cnec1.getMonitoredSides()).thenReturn(Set.of(TwoSides.ONE, TwoSides.TWO));
+        Mockito.when(cnec2.getMonitoredSides()).thenReturn(Set.of(TwoSides.ONE));
+        SensitivityResult sensitivityResult = Mockito.mock(SensitivityResult.class);
+        Mockito.when(sensitivityResult.getSensitivityValue(cnec1, TwoSides.ONE, rangeAction1, Unit.MEGAWATT)).thenReturn(0.1);
+        Mockito.when(sensitivityResult.getSensitivityValue(cnec1, TwoSides.TWO, rangeAction1, Unit.MEGAWATT)).thenReturn(-2.);
+        Mockito.when(sensitivityResult.getSensitivityValue(cnec1, TwoSides.ONE, rangeAction2, Unit.MEGAWATT)).thenReturn(0.4);
+        Mockito.when(sensitivityResult.getSensitivityValue(cnec2, TwoSides.ONE, rangeAction2, Unit.MEGAWATT)).thenReturn(0.6);
+
+        // no pruning threshold by default
+        ToolProvider toolProvider = ToolProvider.create().withNetwork(network).withRaoParameters(raoParameters).build();
+        toolProvider.screenRangeActionSensitivities(sensitivityResult, Set.of(cnec1, cnec2), Set.of(rangeAction1, rangeAction2));
+        assertNull(toolProvider.getInfluentialRangeActionsPerCnec());
+
+        OpenRaoSearchTreeParameters searchTreeParameters = new OpenRaoSearchTreeParameters();
+        searchTreeParameters.getRangeActionsOptimizationParameters().setRangeActionSensitivityPruningThreshold(0.5);
+        raoParameters.addExtension(OpenRaoSearchTreeParameters.class, searchTreeParameters);
+        toolProvider.screenRangeActionSensitivities(sensitivityResult, Set.of(cnec1, cnec2), Set.of(rangeAction1, rangeAction2));
+        assertEquals(Set.of(rangeAction1), toolProvider.getInfluentialRangeActionsPerCnec().get(cnec1));
+        assertEquals(Set.of(rangeAction2), toolProvider.getInfluentialRangeActionsPerCnec().get(cnec2));
+    }
 }
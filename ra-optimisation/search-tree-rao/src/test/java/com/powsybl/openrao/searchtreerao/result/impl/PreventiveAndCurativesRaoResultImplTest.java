@@ -654,6 +654,22 @@ class PreventiveAndCurativesRaoResultImplTest {
         flowResultThrows(curativeInstant, cnec1auto);
     }
 
+    @Test
+    void testFlowResultRoutingByContingency() {
+        // contingency-1 has an automaton state: its results at auto instant come from the automaton optimization
+        assertEquals(5050., output.getMargin(preventiveInstant, cnec1, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(525., output.getMargin(autoInstant, cnec1, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(1525., output.getRelativeMargin(autoInstant, cnec1, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(530., output.getMargin(curativeInstant, cnec1, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(780., output.getRelativeMargin(curativeInstant, cnec1, AMPERE), DOUBLE_TOLERANCE);
+
+        // contingency-2 has no automaton state: its results at auto instant are the post-preventive ones
+        assertEquals(1020., output.getMargin(autoInstant, cnec2, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(1020., output.getRelativeMargin(autoInstant, cnec2, AMPERE), DOUBLE_TOLERANCE);
+        assertEquals(1040., output.getMargin(curativeInstant, cnec2, MEGAWATT), DOUBLE_TOLERANCE);
+        assertEquals(540., output.getMargin(curativeInstant, cnec2, AMPERE), DOUBLE_TOLERANCE);
+    }
+
     @Test
     void testGetPerimeter() {
         State outageState = mock(State.class);
@@ -15,6 +15,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityFactor;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * @author Philippe Edwards {@literal <philippe.edwards at rte-france.com>}
@@ -25,9 +26,16 @@ public abstract class AbstractSimpleSensitivityProvider implements CnecSensitivi
     protected boolean factorsInMegawatt = false;
     protected boolean factorsInAmpere = false;
     protected boolean afterContingencyOnly = false;
+    private final List<Contingency> contingencies;
+    private SensitivityFactorsCache factorsCache;
 
     AbstractSimpleSensitivityProvider(Set<FlowCnec> cnecs, Set<Unit> requestedUnits) {
         this.cnecs = cnecs;
+        this.contingencies = cnecs.stream()
+            .filter(cnec -> cnec.getState().getContingency().isPresent())
+            .map(cnec -> cnec.getState().getContingency().get())
+            .distinct()
+            .toList();
         for (FlowCnec cnec : cnecs) {
             if (cnec.getState().isPreventive()) {
                 cnecsPerContingencyId.computeIfAbsent(null, string -> new ArrayList<>());
@@ -72,17 +80,46 @@ public abstract class AbstractSimpleSensitivityProvider implements CnecSensitivi
         return new ArrayList<>(factors);
     }
 
+    void setFactorsCache(SensitivityFactorsCache factorsCache) {
+        this.factorsCache = factorsCache;
+    }
+
+    /**
+     * Get the factors of the CNECs of a given contingency (null for the basecase) which are connected in the network.
+     * The factors are retrieved from the {@link SensitivityFactorsCache} of the provider, if any, if they were already
+     * built on the same perimeter, otherwise they are built with the given function, which takes the connected CNECs
+     * as input. The returned list is immutable.
+     */
+    protected List<SensitivityFactor> getCachedFactors(Network network, String contingencyId, String variablesSignature, Function<List<FlowCnec>, List<SensitivityFactor>> factorsBuilder) {
+        return getCachedFactors(network, contingencyId, variablesSignature, null, factorsBuilder);
+    }
+
+    /**
+     * Same as {@link #getCachedFactors(Network, String, String, Function)}, for factors which are filtered by the
+     * provider. The filter is part of the cache key, so the filtered factors are only shared by providers using the same
+     * filter object.
+     */
+    protected List<SensitivityFactor> getCachedFactors(Network network, String contingencyId, String variablesSignature, Object factorsFilter, Function<List<FlowCnec>, List<SensitivityFactor>> factorsBuilder) {
+        List<FlowCnec> connectedCnecs = cnecsPerContingencyId.getOrDefault(contingencyId, new ArrayList<>()).stream()
+            .filter(cnec -> cnec.isConnected(network))
+            .toList();
+        if (factorsCache == null) {
+            return List.copyOf(factorsBuilder.apply(connectedCnecs));
+        }
+        SensitivityFactorsCache.Key key = new SensitivityFactorsCache.Key(getClass(), factorsInMegawatt, factorsInAmpere, variablesSignature, contingencyId, connectedCnecs, factorsFilter);
+        return factorsCache.getOrBuild(key, () -> factorsBuilder.apply(connectedCnecs));
+    }
+
     public Set<FlowCnec> getFlowCnecs() {
         return cnecs;
     }
 
+    /**
+     * The contingencies of the CNECs, which are only listed once when the provider is created
+     */
     @Override
     public List<Contingency> getContingencies(Network network) {
-        return cnecs.stream()
-            .filter(cnec -> cnec.getState().getContingency().isPresent())
-            .map(cnec -> cnec.getState().getContingency().get())
-            .distinct()
-            .toList();
+        return contingencies;
     }
 
     @Override
@@ -22,7 +22,6 @@ import com.powsybl.sensitivity.SensitivityVariableType;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * To run a systematic sensitivity analysis and evaluate the flows in all states at once,
@@ -42,41 +41,43 @@ public class LoadflowProvider extends AbstractSimpleSensitivityProvider {
 
     @Override
     public List<SensitivityFactor> getBasecaseFactors(Network network) {
-        List<SensitivityFactor> factors = new ArrayList<>();
         if (afterContingencyOnly) {
-            return factors;
+            return new ArrayList<>();
         }
         Map<String, SensitivityVariableType> sensitivityVariables = new LinkedHashMap<>();
         addDefaultSensitivityVariable(network, sensitivityVariables);
 
-        List<Pair<String, SensitivityFunctionType>> sensitivityFunctions = getSensitivityFunctions(network, null);
-
         //According to ContingencyContext doc, contingencyId should be null for preContingency context
         ContingencyContext preContingencyContext = new ContingencyContext(null, ContingencyContextType.NONE);
-        sensitivityFunctions.forEach(function ->
-            sensitivityVariables.forEach((key, value) -> factors.add(new SensitivityFactor(function.getValue(), function.getKey(), value, key, false, preContingencyContext)))
-        );
-        return factors;
+        return new ArrayList<>(getCachedFactors(network, null, sensitivityVariables.toString(),
+            connectedCnecs -> buildFactors(network, connectedCnecs, sensitivityVariables, Collections.emptySet(), preContingencyContext)));
     }
 
     @Override
     public List<SensitivityFactor> getContingencyFactors(Network network, List<Contingency> contingencies) {
         List<SensitivityFactor> factors = new ArrayList<>();
+        Map<String, SensitivityVariableType> sensitivityVariables = new LinkedHashMap<>();
+        addDefaultSensitivityVariable(network, sensitivityVariables);
+        String variablesSignature = sensitivityVariables.toString();
         for (Contingency contingency : contingencies) {
             String contingencyId = contingency.getId();
-            Map<String, SensitivityVariableType> sensitivityVariables = new LinkedHashMap<>();
-            addDefaultSensitivityVariable(network, sensitivityVariables);
-
-            List<Pair<String, SensitivityFunctionType>> sensitivityFunctions = getSensitivityFunctions(network, contingencyId);
-
             ContingencyContext contingencyContext = new ContingencyContext(contingencyId, ContingencyContextType.SPECIFIC);
-            sensitivityFunctions.forEach(function ->
-                sensitivityVariables.forEach((key, value) -> factors.add(new SensitivityFactor(function.getValue(), function.getKey(), value, key, false, contingencyContext)))
-            );
+            factors.addAll(getCachedFactors(network, contingencyId, variablesSignature,
+                connectedCnecs -> buildFactors(network, connectedCnecs, sensitivityVariables, Collections.emptySet(), contingencyContext)));
         }
         return factors;
     }
 
+    List<SensitivityFactor> buildFactors(Network network, List<FlowCnec> flowCnecs, Map<String, SensitivityVariableType> sensitivityVariables, Set<String> glskIds, ContingencyContext contingencyContext) {
+        List<SensitivityFactor> factors = new ArrayList<>();
+        List<Pair<String, SensitivityFunctionType>> sensitivityFunctions = getSensitivityFunctions(network, flowCnecs);
+        sensitivityFunctions.forEach(function ->
+            sensitivityVariables.forEach((key, value) -> factors.add(new SensitivityFactor(function.getValue(), function.getKey(), value, key,
+                glskIds.contains(key), contingencyContext)))
+        );
+        return factors;
+    }
+
     @Override
     public List<SensitivityVariableSet> getVariableSets() {
         return new ArrayList<>();
@@ -127,18 +128,7 @@ public class LoadflowProvider extends AbstractSimpleSensitivityProvider {
         throw new OpenRaoException(String.format("Unable to create sensitivity factors. Did not find any varying element in network '%s'.", network.getId()));
     }
 
-    List<Pair<String, SensitivityFunctionType>> getSensitivityFunctions(Network network, String contingencyId) {
-        Set<FlowCnec> flowCnecs;
-        if (Objects.isNull(contingencyId)) {
-            flowCnecs = cnecsPerContingencyId.getOrDefault(null, new ArrayList<>()).stream()
-                .filter(cnec -> cnec.isConnected(network))
-                .collect(Collectors.toSet());
-        } else {
-            flowCnecs = cnecsPerContingencyId.getOrDefault(contingencyId, new ArrayList<>()).stream()
-                .filter(cnec -> cnec.isConnected(network))
-                .collect(Collectors.toSet());
-        }
-
+    List<Pair<String, SensitivityFunctionType>> getSensitivityFunctions(Network network, List<FlowCnec> flowCnecs) {
         Map<String, Set<TwoSides>> networkElementsAndSides = new HashMap<>();
         flowCnecs.forEach(flowCnec ->
             networkElementsAndSides.computeIfAbsent(flowCnec.getNetworkElement().getId(), k -> new HashSet<>()).addAll(flowCnec.getMonitoredSides())
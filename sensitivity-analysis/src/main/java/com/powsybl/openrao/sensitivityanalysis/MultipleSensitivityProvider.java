@@ -21,6 +21,7 @@ import java.util.*;
  */
 public class MultipleSensitivityProvider implements CnecSensitivityProvider {
     private final List<CnecSensitivityProvider> cnecSensitivityProviders;
+    private List<Contingency> contingencies;
 
     MultipleSensitivityProvider() {
         cnecSensitivityProviders = new ArrayList<>();
@@ -28,6 +29,16 @@ public class MultipleSensitivityProvider implements CnecSensitivityProvider {
 
     void addProvider(CnecSensitivityProvider cnecSensitivityProvider) {
         cnecSensitivityProviders.add(cnecSensitivityProvider);
+        contingencies = null;
+    }
+
+    /**
+     * Share the given cache of sensitivity factors between the providers which can use it
+     */
+    void setFactorsCache(SensitivityFactorsCache factorsCache) {
+        cnecSensitivityProviders.stream()
+            .filter(AbstractSimpleSensitivityProvider.class::isInstance)
+            .forEach(cnecSensitivityProvider -> ((AbstractSimpleSensitivityProvider) cnecSensitivityProvider).setFactorsCache(factorsCache));
     }
 
     @Override
@@ -99,14 +110,19 @@ public class MultipleSensitivityProvider implements CnecSensitivityProvider {
         return hvdcs;
     }
 
+    /**
+     * The contingencies of all the providers, which are only merged once, unless a provider is added afterward
+     */
     @Override
     public List<Contingency> getContingencies(Network network) {
-        //using a set to avoid duplicates
-        Set<Contingency> contingencies = new TreeSet<>(Comparator.comparing(Contingency::getId));
-        for (CnecSensitivityProvider cnecSensitivityProvider : cnecSensitivityProviders) {
-            contingencies.addAll(cnecSensitivityProvider.getContingencies(network));
+        if (contingencies == null) {
+            //using a set to avoid duplicates
+            Set<Contingency> allContingencies = new TreeSet<>(Comparator.comparing(Contingency::getId));
+            for (CnecSensitivityProvider cnecSensitivityProvider : cnecSensitivityProviders) {
+                allContingencies.addAll(cnecSensitivityProvider.getContingencies(network));
+            }
+            contingencies = List.copyOf(allContingencies);
         }
         return new ArrayList<>(contingencies);
-
     }
 }
@@ -23,7 +23,6 @@ import com.powsybl.sensitivity.SensitivityVariableSet;
 import com.powsybl.sensitivity.SensitivityVariableType;
 
 import java.util.*;
-import java.util.stream.Stream;
 
 /**
  * @author Philippe Edwards {@literal <philippe.edwards at rte-france.com>}
@@ -45,41 +44,38 @@ public class PtdfSensitivityProvider extends AbstractSimpleSensitivityProvider {
 
     @Override
     public List<SensitivityFactor> getBasecaseFactors(Network network) {
-        List<SensitivityFactor> factors = new ArrayList<>();
-
         if (afterContingencyOnly) {
-            return factors;
+            return new ArrayList<>();
         }
 
         //According to ContingencyContext doc, contingencyId should be null for preContingency context
         ContingencyContext preContingencyContext = new ContingencyContext(null, ContingencyContextType.NONE);
-
-        return getFactors(
-            preContingencyContext,
-            cnecsPerContingencyId.getOrDefault(null, new ArrayList<>()).stream().filter(cnec -> cnec.isConnected(network))
-        );
+        return new ArrayList<>(getCachedFactors(network, null, getVariablesSignature(),
+            connectedCnecs -> getFactors(preContingencyContext, connectedCnecs)));
     }
 
     @Override
     public List<SensitivityFactor> getContingencyFactors(Network network, List<Contingency> contingencies) {
         List<SensitivityFactor> factors = new ArrayList<>();
+        String variablesSignature = getVariablesSignature();
         for (Contingency contingency : contingencies) {
             String contingencyId = contingency.getId();
             ContingencyContext postContingencyContext = new ContingencyContext(contingencyId, ContingencyContextType.SPECIFIC);
-            factors.addAll(
-                getFactors(
-                    postContingencyContext,
-                    cnecsPerContingencyId.getOrDefault(contingencyId, new ArrayList<>()).stream().filter(cnec -> cnec.isConnected(network))
-                ));
+            factors.addAll(getCachedFactors(network, contingencyId, variablesSignature,
+                connectedCnecs -> getFactors(postContingencyContext, connectedCnecs)));
         }
         return factors;
     }
 
-    private List<SensitivityFactor> getFactors(ContingencyContext contingencyContext, Stream<FlowCnec> flowCnecsStream) {
+    private String getVariablesSignature() {
+        return new TreeSet<>(glsk.getDataPerZone().values().stream().map(SensitivityVariableSet::getId).toList()).toString();
+    }
+
+    private List<SensitivityFactor> getFactors(ContingencyContext contingencyContext, List<FlowCnec> flowCnecs) {
         Map<String, SensitivityVariableSet> mapCountryLinearGlsk = glsk.getDataPerZone();
         List<SensitivityFactor> factors = new ArrayList<>();
         Map<NetworkElement, Set<TwoSides>> networkElementsAndSides = new HashMap<>();
-        flowCnecsStream.forEach(cnec -> networkElementsAndSides.computeIfAbsent(cnec.getNetworkElement(), k -> new HashSet<>()).addAll(cnec.getMonitoredSides()));
+        flowCnecs.forEach(cnec -> networkElementsAndSides.computeIfAbsent(cnec.getNetworkElement(), k -> new HashSet<>()).addAll(cnec.getMonitoredSides()));
         networkElementsAndSides
             .forEach((ne, sides) ->
                 sides.forEach(side ->
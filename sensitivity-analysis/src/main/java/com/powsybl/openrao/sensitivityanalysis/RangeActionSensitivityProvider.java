@@ -33,57 +33,114 @@ import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_L
 public class RangeActionSensitivityProvider extends LoadflowProvider {
     private final Set<RangeAction<?>> rangeActions;
     private final Map<String, SensitivityVariableSet> glsks;
+    private final Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec;
 
     RangeActionSensitivityProvider(Set<RangeAction<?>> rangeActions, Set<FlowCnec> cnecs, Set<Unit> units) {
+        this(rangeActions, cnecs, units, null);
+    }
+
+    /**
+     * The sensitivity of a range action is only requested on the CNECs for which it is among the influential range
+     * actions. CNECs which are not keys of influentialRangeActionsPerCnec, or a null map, keep all their factors.
+     */
+    RangeActionSensitivityProvider(Set<RangeAction<?>> rangeActions, Set<FlowCnec> cnecs, Set<Unit> units, Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec) {
         super(cnecs, units);
         this.rangeActions = rangeActions;
+        this.influentialRangeActionsPerCnec = influentialRangeActionsPerCnec;
         glsks = new HashMap<>();
     }
 
     @Override
     public List<SensitivityFactor> getBasecaseFactors(Network network) {
-        List<SensitivityFactor> factors = new ArrayList<>();
-
         if (afterContingencyOnly) {
-            return factors;
+            return new ArrayList<>();
         }
 
         Map<String, SensitivityVariableType> sensitivityVariables = new HashMap<>();
         Set<String> glskIds = new HashSet<>();
         fillSensitivityVariablesAndGlskIds(network, sensitivityVariables, glskIds);
 
-        List<Pair<String, SensitivityFunctionType>> sensitivityFunctions = getSensitivityFunctions(network, null);
-
         //According to ContingencyContext doc, contingencyId should be null for preContingency context
         ContingencyContext preContingencyContext = new ContingencyContext(null, ContingencyContextType.NONE);
-        sensitivityFunctions.forEach(function ->
-            sensitivityVariables.forEach((key, value) -> factors.add(new SensitivityFactor(function.getValue(), function.getKey(), value, key,
-                glskIds.contains(key), preContingencyContext)))
-        );
-        return factors;
+        return new ArrayList<>(getCachedFactors(network, null, getVariablesSignature(sensitivityVariables, glskIds), influentialRangeActionsPerCnec,
+            connectedCnecs -> pruneFactors(buildFactors(network, connectedCnecs, sensitivityVariables, glskIds, preContingencyContext), null)));
     }
 
     @Override
     public List<SensitivityFactor> getContingencyFactors(Network network, List<Contingency> contingencies) {
         List<SensitivityFactor> factors = new ArrayList<>();
+        Map<String, SensitivityVariableType> sensitivityVariables = new HashMap<>();
+        Set<String> glskIds = new HashSet<>();
+        fillSensitivityVariablesAndGlskIds(network, sensitivityVariables, glskIds);
+        String variablesSignature = getVariablesSignature(sensitivityVariables, glskIds);
         for (Contingency contingency : contingencies) {
             String contingencyId = contingency.getId();
-            Map<String, SensitivityVariableType> sensitivityVariables = new HashMap<>();
-            Set<String> glskIds = new HashSet<>();
-            fillSensitivityVariablesAndGlskIds(network, sensitivityVariables, glskIds);
-
-            List<Pair<String, SensitivityFunctionType> > sensitivityFunctions = getSensitivityFunctions(network, contingencyId);
-
-            //According to ContingencyContext doc, contingencyId should be null for preContingency context
             ContingencyContext contingencyContext = new ContingencyContext(contingencyId, ContingencyContextType.SPECIFIC);
-            sensitivityFunctions.forEach(function ->
-                sensitivityVariables.forEach((key, value) -> factors.add(new SensitivityFactor(function.getValue(), function.getKey(), value, key,
-                    glskIds.contains(key), contingencyContext)))
-            );
+            factors.addAll(getCachedFactors(network, contingencyId, variablesSignature, influentialRangeActionsPerCnec,
+                connectedCnecs -> pruneFactors(buildFactors(network, connectedCnecs, sensitivityVariables, glskIds, contingencyContext), contingencyId)));
         }
         return factors;
     }
 
+    /**
+     * Removes the factors of the range actions which are not influential on any of the CNECs defined on the function
+     * of the factor. The first factor of each function is always kept, so that its reference flow is still computed.
+     * The factors are pruned before being cached, the map of the influential range actions being part of the cache key.
+     */
+    private List<SensitivityFactor> pruneFactors(List<SensitivityFactor> factors, String contingencyId) {
+        if (influentialRangeActionsPerCnec == null) {
+            return factors;
+        }
+        Map<String, List<FlowCnec>> cnecsPerNetworkElement = cnecsPerContingencyId.getOrDefault(contingencyId, new ArrayList<>()).stream()
+            .collect(Collectors.groupingBy(cnec -> cnec.getNetworkElement().getId()));
+        Map<String, Set<RangeAction<?>>> rangeActionsPerVariableId = getRangeActionsPerVariableId();
+
+        List<SensitivityFactor> prunedFactors = new ArrayList<>();
+        Map<Pair<SensitivityFunctionType, String>, SensitivityFactor> firstFactorPerFunction = new LinkedHashMap<>();
+        Set<Pair<SensitivityFunctionType, String>> functionsWithFactors = new HashSet<>();
+        for (SensitivityFactor factor : factors) {
+            Pair<SensitivityFunctionType, String> function = Pair.of(factor.getFunctionType(), factor.getFunctionId());
+            firstFactorPerFunction.putIfAbsent(function, factor);
+            Set<RangeAction<?>> variableRangeActions = rangeActionsPerVariableId.get(factor.getVariableId());
+            if (variableRangeActions == null || cnecsPerNetworkElement.getOrDefault(factor.getFunctionId(), List.of()).stream()
+                .anyMatch(cnec -> isInfluential(cnec, variableRangeActions))) {
+                prunedFactors.add(factor);
+                functionsWithFactors.add(function);
+            }
+        }
+        firstFactorPerFunction.forEach((function, factor) -> {
+            if (!functionsWithFactors.contains(function)) {
+                prunedFactors.add(factor);
+            }
+        });
+        return prunedFactors;
+    }
+
+    private boolean isInfluential(FlowCnec cnec, Set<RangeAction<?>> variableRangeActions) {
+        Set<RangeAction<?>> influentialRangeActions = influentialRangeActionsPerCnec.get(cnec);
+        return influentialRangeActions == null || variableRangeActions.stream().anyMatch(influentialRangeActions::contains);
+    }
+
+    private Map<String, Set<RangeAction<?>>> getRangeActionsPerVariableId() {
+        Map<String, Set<RangeAction<?>>> rangeActionsPerVariableId = new HashMap<>();
+        for (RangeAction<?> ra : rangeActions) {
+            if (ra instanceof PstRangeAction pstRangeAction) {
+                rangeActionsPerVariableId.computeIfAbsent(pstRangeAction.getNetworkElement().getId(), id -> new HashSet<>()).add(ra);
+            } else if (ra instanceof HvdcRangeAction hvdcRangeAction) {
+                rangeActionsPerVariableId.computeIfAbsent(hvdcRangeAction.getNetworkElement().getId(), id -> new HashSet<>()).add(ra);
+            } else if (ra instanceof InjectionRangeAction injectionRangeAction) {
+                InjectionRangeActionSensiHandler injectionRangeActionSensiHandler = new InjectionRangeActionSensiHandler(injectionRangeAction);
+                rangeActionsPerVariableId.computeIfAbsent(injectionRangeActionSensiHandler.getPositiveGlskMapId(), id -> new HashSet<>()).add(ra);
+                rangeActionsPerVariableId.computeIfAbsent(injectionRangeActionSensiHandler.getNegativeGlskMapId(), id -> new HashSet<>()).add(ra);
+            }
+        }
+        return rangeActionsPerVariableId;
+    }
+
+    private static String getVariablesSignature(Map<String, SensitivityVariableType> sensitivityVariables, Set<String> glskIds) {
+        return new TreeMap<>(sensitivityVariables) + ";" + new TreeSet<>(glskIds);
+    }
+
     private void fillSensitivityVariablesAndGlskIds(Network network, Map<String, SensitivityVariableType> sensitivityVariables, Set<String> glskIds) {
         for (RangeAction<?> ra : rangeActions) {
             if (ra instanceof PstRangeAction pstRangeAction) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.sensitivityanalysis;
+
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.sensitivity.SensitivityFactor;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the sensitivity factors built by the {@link AbstractSimpleSensitivityProvider} implementations of the
+ * systematic sensitivity interfaces it is given to (see
+ * {@link SystematicSensitivityInterface.SystematicSensitivityInterfaceBuilder#withSensitivityFactorsCache}).
+ * <p>
+ * Factors only depend on the kind of provider, on its requested units and variables, on the filter it applies to
+ * them, if any, on the contingency and on the CNECs which are connected in the network variant. This is exactly what is used as key, so that two providers
+ * built on the same perimeter (e.g. two leaves of the search tree optimized in parallel) share the same immutable
+ * factor lists, and so that a topological change in the network leads to a new set of factors.
+ * <p>
+ * The cache is meant to be owned by a single computation, such as a RAO, and dropped with it: the CNECs used as
+ * keys are the ones of its CRAC. It is bounded by the total number of cached factors, the least recently used lists
+ * being evicted first.
+ */
+public final class SensitivityFactorsCache {
+
+    static final int MAX_CACHED_FACTORS = 1_000_000;
+
+    private final Map<Key, List<SensitivityFactor>> factors = new LinkedHashMap<>(16, 0.75f, true);
+    private int cachedFactorsCount = 0;
+
+    /**
+     * CNECs are compared by identity: two CNECs with the same id can be defined on different sides in two CRACs,
+     * whereas the CNEC objects of a given CRAC are shared by all the perimeters of a RAO.
+     * The factors filter, which is null if the factors are not filtered, is also compared by identity.
+     */
+    record Key(Class<?> providerClass, boolean factorsInMegawatt, boolean factorsInAmpere, String variablesSignature, String contingencyId, List<FlowCnec> connectedCnecs, Object factorsFilter) {
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            if (providerClass != key.providerClass || factorsInMegawatt != key.factorsInMegawatt || factorsInAmpere != key.factorsInAmpere
+                || !variablesSignature.equals(key.variablesSignature) || !Objects.equals(contingencyId, key.contingencyId)
+                || factorsFilter != key.factorsFilter || connectedCnecs.size() != key.connectedCnecs.size()) {
+                return false;
+            }
+            for (int i = 0; i < connectedCnecs.size(); i++) {
+                if (connectedCnecs.get(i) != key.connectedCnecs.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hash(providerClass, factorsInMegawatt, factorsInAmpere, variablesSignature, contingencyId);
+            result = 31 * result + System.identityHashCode(factorsFilter);
+            for (FlowCnec cnec : connectedCnecs) {
+                result = 31 * result + System.identityHashCode(cnec);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Returns the cached factors for the given key, building them with the given supplier if they are not cached yet.
+     * The returned list is immutable.
+     */
+    List<SensitivityFactor> getOrBuild(Key key, Supplier<List<SensitivityFactor>> factorsBuilder) {
+        synchronized (factors) {
+            List<SensitivityFactor> cachedFactors = factors.get(key);
+            if (cachedFactors != null) {
+                return cachedFactors;
+            }
+        }
+        // factors are built outside the lock, so that several threads can build factors of different perimeters at the same time
+        List<SensitivityFactor> builtFactors = List.copyOf(factorsBuilder.get());
+        if (builtFactors.size() > MAX_CACHED_FACTORS) {
+            return builtFactors;
+        }
+        synchronized (factors) {
+            List<SensitivityFactor> previousFactors = factors.putIfAbsent(key, builtFactors);
+            if (previousFactors != null) {
+                return previousFactors;
+            }
+            cachedFactorsCount += builtFactors.size();
+            evictIfNeeded();
+        }
+        return builtFactors;
+    }
+
+    private void evictIfNeeded() {
+        Iterator<List<SensitivityFactor>> iterator = factors.values().iterator();
+        while (cachedFactorsCount > MAX_CACHED_FACTORS && iterator.hasNext()) {
+            cachedFactorsCount -= iterator.next().size();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Number of factor lists currently cached
+     */
+    public int size() {
+        synchronized (factors) {
+            return factors.size();
+        }
+    }
+}
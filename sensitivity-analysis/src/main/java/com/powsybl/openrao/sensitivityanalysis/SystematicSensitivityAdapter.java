@@ -13,10 +13,14 @@ import com.powsybl.openrao.data.crac.api.Instant;
 import com.powsybl.openrao.data.crac.api.State;
 import com.powsybl.openrao.data.crac.api.cnec.Cnec;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.sensitivity.SensitivityAnalysis;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.SensitivityAnalysisResult;
 import com.powsybl.sensitivity.SensitivityFactor;
+import com.powsybl.sensitivity.SensitivityFactorModelReader;
+import com.powsybl.sensitivity.SensitivityVariableSet;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -37,20 +41,46 @@ final class SystematicSensitivityAdapter {
                                                       String sensitivityProvider,
                                                       Instant outageInstant) {
         TECHNICAL_LOGS.debug("Systematic sensitivity analysis [start]");
-        SensitivityAnalysisResult result;
+        SystematicSensitivityResult result = new SystematicSensitivityResult();
         try {
-            result = SensitivityAnalysis.find(sensitivityProvider).run(network,
-                network.getVariantManager().getWorkingVariantId(),
+            runAndCompleteData(result, network,
                 cnecSensitivityProvider.getAllFactors(network),
                 cnecSensitivityProvider.getContingencies(network),
                 cnecSensitivityProvider.getVariableSets(),
-                sensitivityComputationParameters);
+                sensitivityComputationParameters,
+                sensitivityProvider,
+                outageInstant.getOrder());
         } catch (Exception e) {
             TECHNICAL_LOGS.error(String.format("Systematic sensitivity analysis failed: %s", e.getMessage()));
             return new SystematicSensitivityResult(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE);
         }
         TECHNICAL_LOGS.debug("Systematic sensitivity analysis [end]");
-        return new SystematicSensitivityResult().completeData(result, outageInstant.getOrder()).postTreatIntensities().postTreatHvdcs(network, cnecSensitivityProvider.getHvdcs());
+        return result.postTreatIntensities().postTreatHvdcs(network, cnecSensitivityProvider.getHvdcs());
+    }
+
+    /**
+     * Run the sensitivity analysis and stream its values directly into the given SystematicSensitivityResult,
+     * so that no intermediate SensitivityAnalysisResult holding all the SensitivityValue objects is built.
+     */
+    private static void runAndCompleteData(SystematicSensitivityResult result,
+                                           Network network,
+                                           List<SensitivityFactor> factors,
+                                           List<Contingency> contingencies,
+                                           List<SensitivityVariableSet> variableSets,
+                                           SensitivityAnalysisParameters sensitivityComputationParameters,
+                                           String sensitivityProvider,
+                                           Integer instantOrder) {
+        SystematicSensitivityResult.ResultWriter resultWriter = result.getResultWriter(factors, contingencies.stream().map(Contingency::getId).toList(), instantOrder);
+        SensitivityAnalysis.find(sensitivityProvider).run(network,
+            network.getVariantManager().getWorkingVariantId(),
+            new SensitivityFactorModelReader(factors, network),
+            resultWriter,
+            contingencies,
+            variableSets,
+            sensitivityComputationParameters,
+            LocalComputationManager.getDefault(),
+            ReportNode.NO_OP);
+        resultWriter.complete();
     }
 
     static SystematicSensitivityResult runSensitivity(Network network,
@@ -85,12 +115,13 @@ final class SystematicSensitivityAdapter {
         List<SensitivityFactor> allFactorsWithoutRa = cnecSensitivityProvider.getBasecaseFactors(network);
         allFactorsWithoutRa.addAll(cnecSensitivityProvider.getContingencyFactors(network, contingenciesWithoutRa));
         try {
-            result.completeData(SensitivityAnalysis.find(sensitivityProvider).run(network,
-                network.getVariantManager().getWorkingVariantId(),
+            runAndCompleteData(result, network,
                 allFactorsWithoutRa,
                 contingenciesWithoutRa,
                 cnecSensitivityProvider.getVariableSets(),
-                sensitivityComputationParameters), outageInstant.getOrder());
+                sensitivityComputationParameters,
+                sensitivityProvider,
+                outageInstant.getOrder());
         } catch (Exception e) {
             TECHNICAL_LOGS.error(String.format("Systematic sensitivity analysis failed: %s", e.getMessage()));
             return new SystematicSensitivityResult(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE);
@@ -123,12 +154,13 @@ final class SystematicSensitivityAdapter {
             List<Contingency> contingencyList = Collections.singletonList(optContingency.get());
 
             try {
-                result.completeData(SensitivityAnalysis.find(sensitivityProvider).run(network,
-                    network.getVariantManager().getWorkingVariantId(),
+                runAndCompleteData(result, network,
                     cnecSensitivityProvider.getContingencyFactors(network, contingencyList),
                     contingencyList,
                     cnecSensitivityProvider.getVariableSets(),
-                    sensitivityComputationParameters), state.getInstant().getOrder());
+                    sensitivityComputationParameters,
+                    sensitivityProvider,
+                    state.getInstant().getOrder());
             } catch (Exception e) {
                 TECHNICAL_LOGS.error(String.format("Systematic sensitivity analysis failed for state %s : %s", state.getId(), e.getMessage()));
                 SensitivityAnalysisResult failedResult = new SensitivityAnalysisResult(
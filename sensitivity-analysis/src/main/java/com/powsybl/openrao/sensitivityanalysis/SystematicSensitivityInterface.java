@@ -17,6 +17,7 @@ import com.powsybl.iidm.network.Network;
 import com.powsybl.sensitivity.SensitivityAnalysisParameters;
 import com.powsybl.sensitivity.SensitivityVariableSet;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -61,6 +62,7 @@ public final class SystematicSensitivityInterface {
         private AppliedRemedialActions appliedRemedialActions;
         private boolean providerInitialised = false;
         private Instant outageInstant;
+        private SensitivityFactorsCache sensitivityFactorsCache;
 
         private SystematicSensitivityInterfaceBuilder() {
 
@@ -93,10 +95,27 @@ public final class SystematicSensitivityInterface {
             return this.withSensitivityProvider(new RangeActionSensitivityProvider(rangeActions, cnecs, units));
         }
 
+        /**
+         * Only requests the sensitivities of the influential range actions of each CNEC. The sensitivities which are
+         * not computed are considered equal to zero.
+         */
+        public SystematicSensitivityInterfaceBuilder withRangeActionSensitivities(Set<RangeAction<?>> rangeActions, Set<FlowCnec> cnecs, Set<Unit> units, Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec) {
+            return this.withSensitivityProvider(new RangeActionSensitivityProvider(rangeActions, cnecs, units, influentialRangeActionsPerCnec));
+        }
+
         public SystematicSensitivityInterfaceBuilder withLoadflow(Set<FlowCnec> cnecs, Set<Unit> units) {
             return this.withSensitivityProvider(new LoadflowProvider(cnecs, units));
         }
 
+        /**
+         * The sensitivity factors of the providers are stored in the given cache, and retrieved from it when they
+         * were already built on the same perimeter by another interface sharing the cache
+         */
+        public SystematicSensitivityInterfaceBuilder withSensitivityFactorsCache(SensitivityFactorsCache sensitivityFactorsCache) {
+            this.sensitivityFactorsCache = sensitivityFactorsCache;
+            return this;
+        }
+
         public SystematicSensitivityInterfaceBuilder withAppliedRemedialActions(AppliedRemedialActions appliedRemedialActions) {
             this.appliedRemedialActions = appliedRemedialActions;
             return this;
@@ -123,6 +142,9 @@ public final class SystematicSensitivityInterface {
             if (Objects.isNull(outageInstant)) {
                 throw new OpenRaoException("Outage instant has not been defined in the systematic sensitivity interface");
             }
+            if (!Objects.isNull(sensitivityFactorsCache)) {
+                multipleSensitivityProvider.setFactorsCache(sensitivityFactorsCache);
+            }
             SystematicSensitivityInterface systematicSensitivityInterface = new SystematicSensitivityInterface();
             systematicSensitivityInterface.sensitivityProvider = sensitivityProvider;
             systematicSensitivityInterface.parameters = defaultParameters;
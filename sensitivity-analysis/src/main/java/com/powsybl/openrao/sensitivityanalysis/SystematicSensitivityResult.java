@@ -23,6 +23,8 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import static com.powsybl.openrao.commons.logs.OpenRaoLoggerProvider.TECHNICAL_LOGS;
+
 /**
  * @author Pengbo Wang {@literal <pengbo.wang at rte-international.com>}
  */
@@ -58,6 +60,13 @@ public class SystematicSensitivityResult {
         private boolean isEmpty() {
             return referenceFlows.isEmpty() && referenceIntensities.isEmpty() && flowSensitivities.isEmpty() && intensitySensitivities.isEmpty();
         }
+
+        private void invalidateValues() {
+            referenceFlows.values().forEach(sideToValue -> sideToValue.replaceAll((side, value) -> Double.NaN));
+            referenceIntensities.values().forEach(sideToValue -> sideToValue.replaceAll((side, value) -> Double.NaN));
+            flowSensitivities.values().forEach(variableToValues -> variableToValues.values().forEach(sideToValue -> sideToValue.replaceAll((side, value) -> Double.NaN)));
+            intensitySensitivities.values().forEach(variableToValues -> variableToValues.values().forEach(sideToValue -> sideToValue.replaceAll((side, value) -> Double.NaN)));
+        }
     }
 
     public enum SensitivityComputationStatus {
@@ -81,34 +90,117 @@ public class SystematicSensitivityResult {
     }
 
     public SystematicSensitivityResult completeData(SensitivityAnalysisResult results, Integer instantOrder) {
-        postContingencyResults.putIfAbsent(instantOrder, new HashMap<>());
-        // if a failing perimeter was already run, then the status would be set to PARTIAL_FAILURE
-        boolean anyContingencyFailure = this.status == SensitivityComputationStatus.PARTIAL_FAILURE;
-        // status set to failure initially, and set to success if we find at least one non NaN value
-        this.status = SensitivityComputationStatus.FAILURE;
         if (results == null) {
+            postContingencyResults.putIfAbsent(instantOrder, new HashMap<>());
+            this.status = SensitivityComputationStatus.FAILURE;
             return this;
         }
+        List<String> contingencyIds = results.getContingencyStatuses().stream().map(SensitivityAnalysisResult.SensitivityContingencyStatus::getContingencyId).toList();
+        ResultWriter resultWriter = getResultWriter(results.getFactors(), contingencyIds, instantOrder);
+        results.getValues().forEach(sensitivityValue ->
+            resultWriter.writeSensitivityValue(sensitivityValue.getFactorIndex(), sensitivityValue.getContingencyIndex(), sensitivityValue.getValue(), sensitivityValue.getFunctionReference())
+        );
+        for (int contingencyIndex = 0; contingencyIndex < contingencyIds.size(); contingencyIndex++) {
+            resultWriter.writeContingencyStatus(contingencyIndex, results.getContingencyStatuses().get(contingencyIndex).getStatus());
+        }
+        return resultWriter.complete();
+    }
 
-        results.getPreContingencyValues().forEach(sensitivityValue -> fillIndividualValue(sensitivityValue, nStateResult, results.getFactors(), SensitivityAnalysisResult.Status.SUCCESS));
-        for (SensitivityAnalysisResult.SensitivityContingencyStatus contingencyStatus : results.getContingencyStatuses()) {
-            if (contingencyStatus.getStatus() == SensitivityAnalysisResult.Status.FAILURE) {
-                anyContingencyFailure = true;
+    /**
+     * Get a {@link SensitivityResultWriter} which directly stores the values written by a sensitivity analysis
+     * provider in this result, without materializing an intermediate {@link SensitivityAnalysisResult}.
+     * {@link ResultWriter#complete()} must be called once the sensitivity analysis is over.
+     *
+     * @param factors: the factors of the sensitivity analysis, in the order used by the provider
+     * @param contingencyIds: the ids of the contingencies of the sensitivity analysis, in the order used by the provider
+     * @param instantOrder: order of the instant the post-contingency results are associated to
+     */
+    public ResultWriter getResultWriter(List<SensitivityFactor> factors, List<String> contingencyIds, Integer instantOrder) {
+        return new ResultWriter(factors, contingencyIds, instantOrder);
+    }
+
+    public final class ResultWriter implements SensitivityResultWriter {
+        private final List<SensitivityFactor> factors;
+        private final List<String> contingencyIds;
+        private final Integer instantOrder;
+        // if a failing perimeter was already run, then the status would be set to PARTIAL_FAILURE
+        private final boolean anyPreviousContingencyFailure;
+        private final StateResult[] contingencyStateResults;
+        private final SensitivityAnalysisResult.Status[] contingencyStatuses;
+        private final boolean[] anyValidValueInContingency;
+        private boolean anyPreContingencyValue = false;
+        private boolean anyValidPreContingencyValue = false;
+
+        private ResultWriter(List<SensitivityFactor> factors, List<String> contingencyIds, Integer instantOrder) {
+            this.factors = factors;
+            this.contingencyIds = contingencyIds;
+            this.instantOrder = instantOrder;
+            this.anyPreviousContingencyFailure = status == SensitivityComputationStatus.PARTIAL_FAILURE;
+            this.contingencyStateResults = new StateResult[contingencyIds.size()];
+            this.contingencyStatuses = new SensitivityAnalysisResult.Status[contingencyIds.size()];
+            this.anyValidValueInContingency = new boolean[contingencyIds.size()];
+        }
+
+        @Override
+        public void writeSensitivityValue(int factorIndex, int contingencyIndex, double value, double functionReference) {
+            SensitivityFactor factor = factors.get(factorIndex);
+            if (contingencyIndex < 0) {
+                anyPreContingencyValue = true;
+                anyValidPreContingencyValue |= fillIndividualValue(factor, functionReference, value, nStateResult);
+            } else {
+                // the status of the contingency may only be known once all its values are written, values are
+                // therefore stored as if it succeeded, and invalidated in complete() if it did not
+                anyValidValueInContingency[contingencyIndex] |= fillIndividualValue(factor, functionReference, value, getContingencyStateResult(contingencyIndex));
             }
-            StateResult contingencyStateResult = new StateResult();
-            contingencyStateResult.status = contingencyStatus.getStatus().equals(SensitivityAnalysisResult.Status.FAILURE) ? SensitivityComputationStatus.FAILURE : SensitivityComputationStatus.SUCCESS;
-            results.getValues(contingencyStatus.getContingencyId()).forEach(sensitivityValue ->
-                fillIndividualValue(sensitivityValue, contingencyStateResult, results.getFactors(), contingencyStatus.getStatus())
-            );
-            postContingencyResults.get(instantOrder).put(contingencyStatus.getContingencyId(), contingencyStateResult);
         }
-        if (!results.getPreContingencyValues().isEmpty()) {
-            nStateResult.status = this.status;
+
+        @Override
+        public void writeContingencyStatus(int contingencyIndex, SensitivityAnalysisResult.Status contingencyStatus) {
+            contingencyStatuses[contingencyIndex] = contingencyStatus;
+            getContingencyStateResult(contingencyIndex);
         }
-        if (nStateResult.status != SensitivityComputationStatus.FAILURE && anyContingencyFailure && !nStateResult.isEmpty()) {
-            this.status = SensitivityComputationStatus.PARTIAL_FAILURE;
+
+        private StateResult getContingencyStateResult(int contingencyIndex) {
+            if (contingencyStateResults[contingencyIndex] == null) {
+                contingencyStateResults[contingencyIndex] = new StateResult();
+            }
+            return contingencyStateResults[contingencyIndex];
+        }
+
+        /**
+         * Store the post-contingency results and update the statuses, once all values have been written
+         */
+        public SystematicSensitivityResult complete() {
+            postContingencyResults.putIfAbsent(instantOrder, new HashMap<>());
+            boolean anyContingencyFailure = anyPreviousContingencyFailure;
+            // status set to failure initially, and set to success if we find at least one non NaN value
+            boolean anyValidValue = anyValidPreContingencyValue;
+            for (int contingencyIndex = 0; contingencyIndex < contingencyStatuses.length; contingencyIndex++) {
+                SensitivityAnalysisResult.Status contingencyStatus = contingencyStatuses[contingencyIndex];
+                if (contingencyStatus == null) {
+                    // a contingency without status has no reliable result
+                    TECHNICAL_LOGS.warn("No sensitivity status was written for contingency {}, it is considered as failed", contingencyIds.get(contingencyIndex));
+                }
+                StateResult contingencyStateResult = getContingencyStateResult(contingencyIndex);
+                if (contingencyStatus == null || contingencyStatus == SensitivityAnalysisResult.Status.FAILURE) {
+                    anyContingencyFailure = true;
+                    contingencyStateResult.status = SensitivityComputationStatus.FAILURE;
+                    contingencyStateResult.invalidateValues();
+                } else {
+                    contingencyStateResult.status = SensitivityComputationStatus.SUCCESS;
+                    anyValidValue |= anyValidValueInContingency[contingencyIndex];
+                }
+                postContingencyResults.get(instantOrder).put(contingencyIds.get(contingencyIndex), contingencyStateResult);
+            }
+            status = anyValidValue ? SensitivityComputationStatus.SUCCESS : SensitivityComputationStatus.FAILURE;
+            if (anyPreContingencyValue) {
+                nStateResult.status = status;
+            }
+            if (nStateResult.status != SensitivityComputationStatus.FAILURE && anyContingencyFailure && !nStateResult.isEmpty()) {
+                status = SensitivityComputationStatus.PARTIAL_FAILURE;
+            }
+            return SystematicSensitivityResult.this;
         }
-        return this;
     }
 
     public SystematicSensitivityResult postTreatIntensities() {
@@ -174,15 +266,14 @@ public class SystematicSensitivityResult {
         return invertedMap;
     }
 
-    private void fillIndividualValue(SensitivityValue value, StateResult stateResult, List<SensitivityFactor> factors, SensitivityAnalysisResult.Status status) {
-        double reference = status.equals(SensitivityAnalysisResult.Status.FAILURE) ? Double.NaN : value.getFunctionReference();
-        double sensitivity = status.equals(SensitivityAnalysisResult.Status.FAILURE) ? Double.NaN : value.getValue();
-        SensitivityFactor factor = factors.get(value.getFactorIndex());
-
-        if (!Double.isNaN(reference) && !Double.isNaN(sensitivity)) {
-            this.status = SensitivityComputationStatus.SUCCESS;
-        }
-        if (Double.isNaN(reference) && status != SensitivityAnalysisResult.Status.FAILURE) {
+    /**
+     * Returns true if the value is a valid (non NaN) result of the sensitivity analysis
+     */
+    private static boolean fillIndividualValue(SensitivityFactor factor, double functionReference, double value, StateResult stateResult) {
+        double reference = functionReference;
+        double sensitivity = value;
+        boolean isValid = !Double.isNaN(reference) && !Double.isNaN(sensitivity);
+        if (Double.isNaN(reference)) {
             reference = 0;
             sensitivity = 0;
         }
@@ -210,6 +301,7 @@ public class SystematicSensitivityResult {
                 .computeIfAbsent(factor.getFunctionId(), k -> new EnumMap<>(TwoSides.class))
                 .putIfAbsent(side, reference);
         }
+        return isValid;
     }
 
     public boolean isSuccess() {
@@ -17,6 +17,7 @@ import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
 import com.powsybl.iidm.network.TwoSides;
 import com.powsybl.openrao.data.crac.api.rangeaction.CounterTradeRangeAction;
 import com.powsybl.openrao.data.crac.api.rangeaction.HvdcRangeAction;
+import com.powsybl.openrao.data.crac.api.rangeaction.PstRangeAction;
 import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
 import com.powsybl.openrao.data.crac.impl.utils.CommonCracCreation;
 import com.powsybl.openrao.data.crac.impl.utils.NetworkImportsUtil;
@@ -307,4 +308,56 @@ class RangeActionSensitivityProviderTest {
         }
 
     }
+
+    @Test
+    void testFactorsOfNonInfluentialRangeActionsArePruned() {
+        Crac crac = CracFactory.findDefault().create("test-crac")
+            .newInstant(PREVENTIVE_INSTANT_ID, InstantKind.PREVENTIVE);
+        FlowCnec cnec1 = crac.newFlowCnec()
+            .withId("cnec1")
+            .withNetworkElement("BBE1AA11 FFR5AA11 1")
+            .withInstant(PREVENTIVE_INSTANT_ID)
+            .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).add()
+            .add();
+        FlowCnec cnec2 = crac.newFlowCnec()
+            .withId("cnec2")
+            .withNetworkElement("BBE1AA11 BBE2AA11 1")
+            .withInstant(PREVENTIVE_INSTANT_ID)
+            .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).add()
+            .add();
+        FlowCnec cnec3 = crac.newFlowCnec()
+            .withId("cnec3")
+            .withNetworkElement("FFR1AA11 FFR2AA11 1")
+            .withInstant(PREVENTIVE_INSTANT_ID)
+            .newThreshold().withMax(1000.).withUnit(Unit.MEGAWATT).withSide(TwoSides.ONE).add()
+            .add();
+
+        Network network = Network.read("TestCase16NodesWithHvdc.xiidm", getClass().getResourceAsStream("/TestCase16NodesWithHvdc.xiidm"));
+
+        NetworkElement hvdc = Mockito.mock(NetworkElement.class);
+        Mockito.when(hvdc.getId()).thenReturn("BBE2AA11 FFR3AA11 1");
+        HvdcRangeAction hvdcRangeAction = Mockito.mock(HvdcRangeAction.class);
+        Mockito.when(hvdcRangeAction.getNetworkElement()).thenReturn(hvdc);
+        NetworkElement pst = Mockito.mock(NetworkElement.class);
+        Mockito.when(pst.getId()).thenReturn("pst");
+        PstRangeAction pstRangeAction = Mockito.mock(PstRangeAction.class);
+        Mockito.when(pstRangeAction.getNetworkElement()).thenReturn(pst);
+
+        Set<RangeAction<?>> rangeActions = Set.of(hvdcRangeAction, pstRangeAction);
+        Set<FlowCnec> cnecs = Set.of(cnec1, cnec2, cnec3);
+        assertEquals(6, new RangeActionSensitivityProvider(rangeActions, cnecs, Set.of(Unit.MEGAWATT)).getBasecaseFactors(network).size());
+
+        // cnec3 is not screened, so all its factors are kept
+        Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec = Map.of(cnec1, Set.of(hvdcRangeAction), cnec2, Set.of());
+        RangeActionSensitivityProvider provider = new RangeActionSensitivityProvider(rangeActions, cnecs, Set.of(Unit.MEGAWATT), influentialRangeActionsPerCnec);
+        List<SensitivityFactor> factorList = provider.getBasecaseFactors(network);
+        assertEquals(4, factorList.size());
+
+        List<SensitivityFactor> cnec1Factors = factorList.stream().filter(factor -> factor.getFunctionId().equals("BBE1AA11 FFR5AA11 1")).toList();
+        assertEquals(1, cnec1Factors.size());
+        assertEquals("BBE2AA11 FFR3AA11 1", cnec1Factors.get(0).getVariableId());
+        // no range action is influential on cnec2, but one factor is kept to compute its reference flow
+        assertEquals(1, factorList.stream().filter(factor -> factor.getFunctionId().equals("BBE1AA11 BBE2AA11 1")).count());
+        assertEquals(2, factorList.stream().filter(factor -> factor.getFunctionId().equals("FFR1AA11 FFR2AA11 1")).count());
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package com.powsybl.openrao.sensitivityanalysis;
+
+import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.openrao.commons.Unit;
+import com.powsybl.openrao.data.crac.api.Crac;
+import com.powsybl.openrao.data.crac.api.cnec.FlowCnec;
+import com.powsybl.openrao.data.crac.api.rangeaction.RangeAction;
+import com.powsybl.openrao.data.crac.impl.utils.CommonCracCreation;
+import com.powsybl.openrao.data.crac.impl.utils.NetworkImportsUtil;
+import com.powsybl.sensitivity.SensitivityFactor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SensitivityFactorsCacheTest {
+
+    private Crac crac;
+    private Network network;
+    private Set<RangeAction<?>> rangeActions;
+    private SensitivityFactorsCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new SensitivityFactorsCache();
+        crac = CommonCracCreation.createWithPreventivePstRange();
+        network = NetworkImportsUtil.import12NodesNetwork();
+        rangeActions = Set.of(crac.getRangeAction("pst"));
+    }
+
+    private <T extends AbstractSimpleSensitivityProvider> T withCache(T provider) {
+        provider.setFactorsCache(cache);
+        return provider;
+    }
+
+    @Test
+    void factorsAreSharedBetweenProvidersOfSamePerimeter() {
+        RangeActionSensitivityProvider provider1 = withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT)));
+        RangeActionSensitivityProvider provider2 = withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT)));
+
+        List<SensitivityFactor> factors1 = provider1.getAllFactors(network);
+        int cacheSize = cache.size();
+        assertTrue(cacheSize > 0);
+
+        List<SensitivityFactor> factors2 = provider2.getAllFactors(network);
+        assertEquals(cacheSize, cache.size());
+        assertEquals(factors1.size(), factors2.size());
+        for (int i = 0; i < factors1.size(); i++) {
+            assertSame(factors1.get(i), factors2.get(i));
+        }
+
+        // returned lists can still be modified by the caller
+        assertDoesNotThrow(() -> provider1.getBasecaseFactors(network).clear());
+        assertEquals(factors1.size(), provider1.getAllFactors(network).size());
+    }
+
+    @Test
+    void factorsDependOnUnitsAndProviderType() {
+        withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT))).getBasecaseFactors(network);
+        assertEquals(1, cache.size());
+        withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT, Unit.AMPERE))).getBasecaseFactors(network);
+        assertEquals(2, cache.size());
+        withCache(new LoadflowProvider(crac.getFlowCnecs(), Set.of(Unit.MEGAWATT))).getBasecaseFactors(network);
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void prunedFactorsAreSharedBetweenProvidersOfSameInfluentialRangeActions() {
+        Map<FlowCnec, Set<RangeAction<?>>> influentialRangeActionsPerCnec = crac.getFlowCnecs().stream()
+            .collect(Collectors.toMap(Function.identity(), cnec -> Set.of()));
+        RangeActionSensitivityProvider provider1 = withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT), influentialRangeActionsPerCnec));
+        RangeActionSensitivityProvider provider2 = withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT), influentialRangeActionsPerCnec));
+
+        List<SensitivityFactor> prunedFactors = provider1.getBasecaseFactors(network);
+        assertEquals(1, cache.size());
+        List<SensitivityFactor> sharedFactors = provider2.getBasecaseFactors(network);
+        assertEquals(1, cache.size());
+        assertEquals(prunedFactors.size(), sharedFactors.size());
+        for (int i = 0; i < prunedFactors.size(); i++) {
+            assertSame(prunedFactors.get(i), sharedFactors.get(i));
+        }
+
+        // a provider without pruning does not get the pruned factors
+        List<SensitivityFactor> allFactors = withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT))).getBasecaseFactors(network);
+        assertEquals(2, cache.size());
+        assertNotSame(prunedFactors.get(0), allFactors.get(0));
+    }
+
+    @Test
+    void factorsDependOnNetworkTopology() {
+        RangeActionSensitivityProvider provider = withCache(new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT)));
+        int nFactorsBeforeDisconnection = provider.getBasecaseFactors(network).size();
+
+        network.getBranch("BBE2AA1  FFR3AA1  1").getTerminal1().disconnect();
+        int nFactorsAfterDisconnection = provider.getBasecaseFactors(network).size();
+
+        assertEquals(2, cache.size());
+        assertTrue(nFactorsAfterDisconnection < nFactorsBeforeDisconnection);
+    }
+
+    @Test
+    void factorsDependOnMonitoredSides() {
+        Crac crac1 = CommonCracCreation.create(Set.of(TwoSides.ONE));
+        Crac crac2 = CommonCracCreation.create(Set.of(TwoSides.ONE, TwoSides.TWO));
+        assertEquals(2, withCache(new LoadflowProvider(crac1.getFlowCnecs(), Set.of(Unit.MEGAWATT))).getBasecaseFactors(network).size());
+        assertEquals(4, withCache(new LoadflowProvider(crac2.getFlowCnecs(), Set.of(Unit.MEGAWATT))).getBasecaseFactors(network).size());
+    }
+
+    @Test
+    void factorsAreNotSharedWithoutCache() {
+        RangeActionSensitivityProvider provider1 = new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT));
+        RangeActionSensitivityProvider provider2 = new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT));
+        List<SensitivityFactor> factors1 = provider1.getBasecaseFactors(network);
+        List<SensitivityFactor> factors2 = provider2.getBasecaseFactors(network);
+        assertEquals(factors1.size(), factors2.size());
+        assertNotSame(factors1.get(0), factors2.get(0));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void factorsCacheIsGivenByTheSystematicSensitivityInterface() {
+        RangeActionSensitivityProvider provider = new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT));
+        SystematicSensitivityInterface.builder()
+            .withSensitivityProviderName("OpenLoadFlow")
+            .withSensitivityProvider(provider)
+            .withSensitivityFactorsCache(cache)
+            .withOutageInstant(crac.getOutageInstant())
+            .build();
+        provider.getBasecaseFactors(network);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void contingenciesAreOnlyListedOnce() {
+        RangeActionSensitivityProvider provider = new RangeActionSensitivityProvider(rangeActions, crac.getFlowCnecs(), Set.of(Unit.MEGAWATT));
+        List<Contingency> contingencies = provider.getContingencies(network);
+        assertFalse(contingencies.isEmpty());
+        assertSame(contingencies, provider.getContingencies(network));
+    }
+}
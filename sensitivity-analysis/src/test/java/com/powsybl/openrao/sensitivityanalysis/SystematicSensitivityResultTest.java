@@ -6,6 +6,8 @@
  */
 package com.powsybl.openrao.sensitivityanalysis;
 
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.computation.local.LocalComputationManager;
 import com.powsybl.contingency.*;
 import com.powsybl.openrao.commons.Unit;
 import com.powsybl.iidm.network.TwoSides;
@@ -440,4 +442,84 @@ class SystematicSensitivityResultTest {
         assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE, result.getStatus());
     }
 
+    @Test
+    void testStreamedResultsAreIdenticalToMaterializedResults() {
+        setUpWith12Nodes();
+        List<SensitivityFactor> factors = rangeActionSensitivityProvider.getAllFactors(network);
+        List<Contingency> contingencies = rangeActionSensitivityProvider.getContingencies(network);
+
+        SensitivityAnalysisResult sensitivityAnalysisResult = SensitivityAnalysis.find().run(network, factors, contingencies, new ArrayList<>(), SensitivityAnalysisParameters.load());
+        SystematicSensitivityResult materializedResult = new SystematicSensitivityResult().completeData(sensitivityAnalysisResult, outageInstantOrder).postTreatIntensities();
+
+        SystematicSensitivityResult streamedResult = new SystematicSensitivityResult();
+        SystematicSensitivityResult.ResultWriter resultWriter = streamedResult.getResultWriter(factors, contingencies.stream().map(Contingency::getId).toList(), outageInstantOrder);
+        SensitivityAnalysis.find().run(network, network.getVariantManager().getWorkingVariantId(), new SensitivityFactorModelReader(factors, network), resultWriter,
+            contingencies, new ArrayList<>(), SensitivityAnalysisParameters.load(), LocalComputationManager.getDefault(), ReportNode.NO_OP);
+        resultWriter.complete().postTreatIntensities();
+
+        assertEquals(materializedResult.getStatus(), streamedResult.getStatus());
+        for (FlowCnec flowCnec : crac.getFlowCnecs()) {
+            for (TwoSides side : flowCnec.getMonitoredSides()) {
+                assertEquals(materializedResult.getReferenceFlow(flowCnec, side), streamedResult.getReferenceFlow(flowCnec, side), EPSILON);
+                assertEquals(materializedResult.getReferenceIntensity(flowCnec, side), streamedResult.getReferenceIntensity(flowCnec, side), EPSILON);
+                assertEquals(materializedResult.getSensitivityOnFlow(rangeAction, flowCnec, side), streamedResult.getSensitivityOnFlow(rangeAction, flowCnec, side), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    void testFailureStatusStreamedAfterValues() {
+        setUpWith12Nodes();
+        SensitivityFactor sensitivityFactor = new SensitivityFactor(
+            SensitivityFunctionType.BRANCH_ACTIVE_POWER_1,
+            "BBE2AA1  FFR3AA1  1",
+            SensitivityVariableType.TRANSFORMER_PHASE,
+            "BBE2AA1  BBE3AA1  1",
+            false,
+            new ContingencyContext("Contingency FR1 FR3", ContingencyContextType.SPECIFIC)
+        );
+
+        SystematicSensitivityResult result = new SystematicSensitivityResult();
+        SystematicSensitivityResult.ResultWriter resultWriter = result.getResultWriter(List.of(sensitivityFactor), List.of("Contingency FR1 FR3"), outageInstantOrder);
+        resultWriter.writeSensitivityValue(0, 0, 0.5, 100.);
+        resultWriter.writeContingencyStatus(0, SensitivityAnalysisResult.Status.FAILURE);
+        resultWriter.complete();
+
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE, result.getStatus());
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE, result.getStatus(contingencyCnec.getState()));
+        assertTrue(Double.isNaN(result.getReferenceFlow(contingencyCnec, TwoSides.ONE)));
+    }
+
+    @Test
+    void testContingencyWithoutStatusIsFailed() {
+        setUpWith12Nodes();
+        SensitivityFactor basecaseFactor = new SensitivityFactor(
+            SensitivityFunctionType.BRANCH_ACTIVE_POWER_1,
+            "BBE2AA1  FFR3AA1  1",
+            SensitivityVariableType.TRANSFORMER_PHASE,
+            "BBE2AA1  BBE3AA1  1",
+            false,
+            ContingencyContext.none()
+        );
+        SensitivityFactor contingencyFactor = new SensitivityFactor(
+            SensitivityFunctionType.BRANCH_ACTIVE_POWER_1,
+            "BBE2AA1  FFR3AA1  1",
+            SensitivityVariableType.TRANSFORMER_PHASE,
+            "BBE2AA1  BBE3AA1  1",
+            false,
+            new ContingencyContext("Contingency FR1 FR3", ContingencyContextType.SPECIFIC)
+        );
+
+        SystematicSensitivityResult result = new SystematicSensitivityResult();
+        SystematicSensitivityResult.ResultWriter resultWriter = result.getResultWriter(List.of(basecaseFactor, contingencyFactor), List.of("Contingency FR1 FR3"), outageInstantOrder);
+        resultWriter.writeSensitivityValue(0, -1, 0.5, 100.);
+        resultWriter.writeSensitivityValue(1, 0, 0.5, 100.);
+        resultWriter.complete();
+
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.PARTIAL_FAILURE, result.getStatus());
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.SUCCESS, result.getStatus(nStateCnec.getState()));
+        assertEquals(SystematicSensitivityResult.SensitivityComputationStatus.FAILURE, result.getStatus(contingencyCnec.getState()));
+        assertEquals(100., result.getReferenceFlow(nStateCnec, TwoSides.ONE), EPSILON);
+        assertTrue(Double.isNaN(result.getReferenceFlow(contingencyCnec, TwoSides.ONE)));
+    }
 }
@@ -317,7 +317,7 @@ public class CracImportSteps {
             boolean optimized = expectedCnec.get("Optimized").equalsIgnoreCase("yes");
             boolean monitored = expectedCnec.get("Monitored").equalsIgnoreCase("yes");
 
-            Set<AngleCnec> cnecs = crac.getAngleCnecs(crac.getPreventiveState());
+            Set<AngleCnec> cnecs = new HashSet<>(crac.getAngleCnecs(crac.getPreventiveState()));
             cnecs.addAll(crac.getAngleCnecs(crac.getState(contingency, crac.getInstant(InstantKind.CURATIVE))));
 
             AngleCnec angleCnec = cnecs.stream()
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.util;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs computations in a {@link ForkJoinPool} dedicated to the call, so that they never run in the common pool and
+ * their number of threads is bounded by the given parallelism
+ */
+public final class ParallelUtils {
+
+    private ParallelUtils() {
+    }
+
+    /**
+     * Runs the task in a pool of the given number of threads, dedicated to this call. The parallel streams of the
+     * task run in this pool. With a parallelism of 1, the task is run in the calling thread.
+     */
+    public static <T> T run(int parallelism, Supplier<T> task) {
+        if (parallelism <= 1) {
+            return task.get();
+        }
+        ForkJoinPool forkJoinPool = new ForkJoinPool(parallelism);
+        try {
+            return forkJoinPool.submit(task::get).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenRaoException("Interrupted while running a parallel computation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new OpenRaoException("Error while running a parallel computation", e.getCause());
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Applies the mapper to the elements in a pool of the given number of threads, and returns the results in the
+     * order of the elements
+     */
+    public static <T, R> List<R> map(List<T> elements, Function<? super T, ? extends R> mapper, int parallelism) {
+        if (parallelism <= 1) {
+            return elements.stream().<R>map(mapper).toList();
+        }
+        return run(parallelism, () -> elements.parallelStream().<R>map(mapper).toList());
+    }
+
+    /**
+     * Reads a number of threads from the properties, 1 if the property is not set
+     */
+    public static int getParallelism(Properties properties, String parallelismProperty) {
+        try {
+            int parallelism = Integer.parseInt(properties.getProperty(parallelismProperty, "1"));
+            if (parallelism > 0) {
+                return parallelism;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new OpenRaoException(String.format("%s should be a positive integer.", parallelismProperty));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package com.powsybl.openrao.util;
+
+import com.powsybl.openrao.commons.OpenRaoException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelUtilsTest {
+
+    @Test
+    void testMapKeepsOrder() {
+        List<Integer> elements = IntStream.range(0, 1000).boxed().toList();
+        List<Integer> expected = elements.stream().map(i -> 2 * i).toList();
+        assertEquals(expected, ParallelUtils.map(elements, i -> 2 * i, 1));
+        assertEquals(expected, ParallelUtils.map(elements, i -> 2 * i, 4));
+    }
+
+    @Test
+    void testRunInDedicatedPool() {
+        boolean sequentialTaskInPool = ParallelUtils.run(1, ForkJoinTask::inForkJoinPool);
+        assertFalse(sequentialTaskInPool);
+        boolean parallelTaskInPool = ParallelUtils.run(2, ForkJoinTask::inForkJoinPool);
+        assertTrue(parallelTaskInPool);
+        assertNotSame(ForkJoinPool.commonPool(), ParallelUtils.run(2, ForkJoinTask::getPool));
+        assertEquals(2, ParallelUtils.run(2, () -> ForkJoinTask.getPool().getParallelism()));
+    }
+
+    @Test
+    void testErrorsAreRethrown() {
+        List<Integer> elements = IntStream.range(0, 100).boxed().toList();
+        assertThrows(OpenRaoException.class, () -> ParallelUtils.map(elements, i -> {
+            if (i == 50) {
+                throw new OpenRaoException("error");
+            }
+            return i;
+        }, 4));
+    }
+
+    @Test
+    void testGetParallelism() {
+        Properties properties = new Properties();
+        assertEquals(1, ParallelUtils.getParallelism(properties, "parallelism"));
+        properties.setProperty("parallelism", "4");
+        assertEquals(4, ParallelUtils.getParallelism(properties, "parallelism"));
+
+        properties.setProperty("parallelism", "0");
+        OpenRaoException exception = assertThrows(OpenRaoException.class, () -> ParallelUtils.getParallelism(properties, "parallelism"));
+        assertEquals("parallelism should be a positive integer.", exception.getMessage());
+        properties.setProperty("parallelism", "four");
+        assertThrows(OpenRaoException.class, () -> ParallelUtils.getParallelism(properties, "parallelism"));
+    }
+}